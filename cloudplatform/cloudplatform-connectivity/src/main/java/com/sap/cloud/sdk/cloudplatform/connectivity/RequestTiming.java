@@ -0,0 +1,69 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import lombok.Value;
+
+/**
+ * The timings of a single outbound request, as passed to a {@link RequestTimingListener}.
+ * <p>
+ * Only phases that were measured for the request are contained. For example, a request without body has no
+ * {@link RequestTimingPhase#SERIALIZATION} duration, and a response that is consumed lazily by the caller has no
+ * {@link RequestTimingPhase#BODY_READ} duration.
+ *
+ * @since 5.33.0
+ */
+@Value
+public class RequestTiming
+{
+    /**
+     * The name of the destination the request was sent to, if known.
+     */
+    @Nullable
+    String destinationName;
+
+    /**
+     * The operation, e.g. the type of the OData request or the generated API method of an OpenAPI request.
+     */
+    @Nonnull
+    String operation;
+
+    /**
+     * The total duration of the request, including phases that are not reported separately.
+     */
+    @Nonnull
+    Duration totalDuration;
+
+    /**
+     * The durations of the measured phases.
+     */
+    @Nonnull
+    Map<RequestTimingPhase, Duration> phaseDurations;
+
+    /**
+     * The size of the response body in bytes, as announced by the server, or {@code -1} if unknown.
+     */
+    long responseSize;
+
+    /**
+     * Whether the request failed with an exception.
+     */
+    boolean failed;
+
+    /**
+     * Get the duration of the given phase.
+     *
+     * @param phase
+     *            The phase.
+     * @return The duration of the phase, or {@code null} if the phase was not measured for the request.
+     */
+    @Nullable
+    public Duration getDuration( @Nonnull final RequestTimingPhase phase )
+    {
+        return phaseDurations.get(phase);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for an outbound request, as recorded by a {@link RequestTimingRecorder}. The duration of
+ * the event is the total duration of the request.
+ */
+@Name( "com.sap.cloud.sdk.Request" )
+@Label( "Outbound Request" )
+@Category( { "SAP Cloud SDK", "Connectivity" } )
+@Description( "An outbound request, e.g. of the OData or OpenAPI client, with the durations of its phases." )
+@StackTrace( false )
+class RequestTimingEvent extends Event
+{
+    @Label( "Destination" )
+    String destinationName;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "Operation" )
+    String operation;
+
+    @Label( "Failed" )
+    boolean failed;
+
+    @Label( "Serialization" )
+    @Timespan
+    long serialization;
+
+    @Label( "Time To First Byte" )
+    @Timespan
+    long timeToFirstByte;
+
+    @Label( "Body Read" )
+    @Timespan
+    long bodyRead;
+
+    @Label( "Deserialization" )
+    @Timespan
+    long deserialization;
+
+    @Label( "Response Size" )
+    @Description( "The size of the response body as announced by the server, or -1 if unknown." )
+    @DataAmount
+    long responseSize;
+
+    /**
+     * Commits this event with the attributes of the given timing, if the event is enabled in a running recording and
+     * exceeds its threshold.
+     */
+    void commit( @Nonnull final RequestTiming timing )
+    {
+        end();
+        if( !shouldCommit() ) {
+            return;
+        }
+        destinationName = timing.getDestinationName();
+        tenantId = TenantAccessor.tryGetCurrentTenant().map(Tenant::getTenantId).getOrNull();
+        operation = timing.getOperation();
+        failed = timing.isFailed();
+        serialization = toNanos(timing.getDuration(RequestTimingPhase.SERIALIZATION));
+        timeToFirstByte = toNanos(timing.getDuration(RequestTimingPhase.TIME_TO_FIRST_BYTE));
+        bodyRead = toNanos(timing.getDuration(RequestTimingPhase.BODY_READ));
+        deserialization = toNanos(timing.getDuration(RequestTimingPhase.DESERIALIZATION));
+        responseSize = timing.getResponseSize();
+        commit();
+    }
+
+    private static long toNanos( @Nullable final Duration duration )
+    {
+        return duration == null ? 0L : duration.toNanos();
+    }
+}
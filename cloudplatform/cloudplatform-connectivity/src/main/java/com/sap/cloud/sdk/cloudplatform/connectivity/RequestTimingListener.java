@@ -0,0 +1,38 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the timings of outbound requests, e.g. to record them as metrics or as JDK Flight Recorder events.
+ * <p>
+ * Listeners are registered via {@link RequestTimingRecorder#addListener(RequestTimingListener)} or via the
+ * {@link java.util.ServiceLoader} mechanism, by listing the implementation in
+ * {@code META-INF/services/com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingListener}.
+ * <p>
+ * Listeners are invoked synchronously on the thread that executed the request, so they should return quickly. For
+ * example, a Micrometer based listener records the durations as timers tagged with the destination name and the
+ * operation:
+ *
+ * <pre>
+ * <code>RequestTimingRecorder.addListener(timing -&gt; timing.getPhaseDurations().forEach(( phase, duration ) -&gt;
+ *     Timer.builder("sdk.request." + phase.name().toLowerCase())
+ *         .tag("destination", String.valueOf(timing.getDestinationName()))
+ *         .tag("operation", timing.getOperation())
+ *         .register(registry)
+ *         .record(duration)));
+ * </code>
+ * </pre>
+ *
+ * @since 5.33.0
+ */
+@FunctionalInterface
+public interface RequestTimingListener
+{
+    /**
+     * Invoked after an outbound request completed, successfully or not.
+     *
+     * @param timing
+     *            The timings of the request.
+     */
+    void onRequestCompleted( @Nonnull final RequestTiming timing );
+}
@@ -0,0 +1,31 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+/**
+ * Phases of an outbound request, as reported by a {@link RequestTiming}.
+ *
+ * @since 5.33.0
+ */
+public enum RequestTimingPhase
+{
+    /**
+     * Serializing the request body, e.g. into JSON or XML.
+     */
+    SERIALIZATION,
+
+    /**
+     * From sending the request until the response headers were received. This includes leasing a connection from the
+     * connection pool, a potential TLS handshake, and streaming the request body to the connection.
+     */
+    TIME_TO_FIRST_BYTE,
+
+    /**
+     * Reading the response body from the connection.
+     */
+    BODY_READ,
+
+    /**
+     * Deserializing the response body into the result. If the response body is deserialized directly from the
+     * connection, this includes reading the response body.
+     */
+    DESERIALIZATION
+}
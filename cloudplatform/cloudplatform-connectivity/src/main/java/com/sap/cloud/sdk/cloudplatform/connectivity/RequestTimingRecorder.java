@@ -0,0 +1,211 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.util.FacadeLocator;
+
+import jdk.jfr.EventType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the durations of the phases of a single outbound request and reports them to all registered
+ * {@link RequestTimingListener listeners} once the request is finished.
+ * <p>
+ * A recorder is confined to the thread executing the request and must not be shared. The timings are also committed as
+ * {@code com.sap.cloud.sdk.Request} event to the JDK Flight Recorder. If no listener is registered and the event is not
+ * enabled in a running recording, {@link #start(String, String)} returns a recorder that does not record anything.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>final RequestTimingRecorder timing = RequestTimingRecorder.start("MyDestination", "MyRequest");
+ * try {
+ *     final long beginExecute = System.nanoTime();
+ *     final HttpResponse response = httpClient.execute(request);
+ *     timing.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, beginExecute);
+ *     // ...
+ *     timing.finish(false);
+ * }
+ * finally {
+ *     timing.finish(true);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @since 5.33.0
+ */
+@Slf4j
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+public final class RequestTimingRecorder
+{
+    private static final List<RequestTimingListener> LISTENERS =
+        new CopyOnWriteArrayList<>(FacadeLocator.getFacades(RequestTimingListener.class));
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(RequestTimingEvent.class);
+
+    private static final RequestTimingRecorder DISABLED = new RequestTimingRecorder(null, "", 0L, null);
+
+    @Nullable
+    private final String destinationName;
+
+    @Nonnull
+    private final String operation;
+
+    private final long beginNanos;
+
+    @Nullable
+    private final RequestTimingEvent event;
+
+    private final Map<RequestTimingPhase, Duration> phaseDurations = new EnumMap<>(RequestTimingPhase.class);
+
+    private long responseSize = -1L;
+
+    private boolean finished;
+
+    /**
+     * Registers a listener, in addition to the listeners registered via the {@link java.util.ServiceLoader}
+     * mechanism.
+     *
+     * @param listener
+     *            The listener to register.
+     */
+    public static void addListener( @Nonnull final RequestTimingListener listener )
+    {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener
+     *            The listener to unregister.
+     */
+    public static void removeListener( @Nonnull final RequestTimingListener listener )
+    {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Starts recording a request to the destination with the given name.
+     *
+     * @param destinationName
+     *            The name of the destination the request is sent to, if known.
+     * @param operation
+     *            The operation, which should have a low cardinality, e.g. the type of the request.
+     * @return The recorder of the request.
+     */
+    @Nonnull
+    public static RequestTimingRecorder start( @Nullable final String destinationName, @Nonnull final String operation )
+    {
+        return start(destinationName, () -> operation);
+    }
+
+    /**
+     * Starts recording a request to the destination with the given name. The operation is only determined if the
+     * request is actually recorded, which allows to skip determining it otherwise.
+     *
+     * @param destinationName
+     *            The name of the destination the request is sent to, if known.
+     * @param operation
+     *            The supplier of the operation, which should have a low cardinality, e.g. the type of the request.
+     * @return The recorder of the request.
+     */
+    @Nonnull
+    public static RequestTimingRecorder start(
+        @Nullable final String destinationName,
+        @Nonnull final Supplier<String> operation )
+    {
+        if( LISTENERS.isEmpty() && !EVENT_TYPE.isEnabled() ) {
+            return DISABLED;
+        }
+        final RequestTimingEvent event = new RequestTimingEvent();
+        event.begin();
+        return new RequestTimingRecorder(destinationName, operation.get(), System.nanoTime(), event);
+    }
+
+    /**
+     * Returns whether this recorder still records, i.e. it is neither disabled nor finished. This allows to skip any
+     * preparation that is only required for recording, e.g. wrapping the response body.
+     *
+     * @return {@code true} if the recorder still records.
+     */
+    public boolean isRecording()
+    {
+        return event != null && !finished;
+    }
+
+    /**
+     * Adds the time elapsed since the given begin to the duration of the given phase.
+     *
+     * @param phase
+     *            The phase to record.
+     * @param beginNanos
+     *            The begin of the phase, as returned by {@link System#nanoTime()}.
+     */
+    public void recordSince( @Nonnull final RequestTimingPhase phase, final long beginNanos )
+    {
+        if( event != null && !finished ) {
+            phaseDurations.merge(phase, Duration.ofNanos(System.nanoTime() - beginNanos), Duration::plus);
+        }
+    }
+
+    /**
+     * Records the size of the response body.
+     *
+     * @param bytes
+     *            The size of the response body in bytes, as announced by the server. Negative values, which denote an
+     *            unknown size, are ignored.
+     */
+    public void recordResponseSize( final long bytes )
+    {
+        if( event != null && !finished && bytes >= 0 ) {
+            responseSize = bytes;
+        }
+    }
+
+    /**
+     * Finishes the recording and reports the timings to all registered listeners. Subsequent invocations are ignored,
+     * which allows to report a failed request in a {@code finally} block after a successful request was reported.
+     *
+     * @param failed
+     *            Whether the request failed.
+     */
+    public void finish( final boolean failed )
+    {
+        if( event == null || finished ) {
+            return;
+        }
+        finished = true;
+
+        final RequestTiming timing =
+            new RequestTiming(
+                destinationName,
+                operation,
+                Duration.ofNanos(System.nanoTime() - beginNanos),
+                Collections.unmodifiableMap(phaseDurations),
+                responseSize,
+                failed);
+
+        event.commit(timing);
+
+        for( final RequestTimingListener listener : LISTENERS ) {
+            try {
+                listener.onRequestCompleted(timing);
+            }
+            catch( final RuntimeException e ) {
+                log.warn("Request timing listener {} failed.", listener, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class RequestTimingRecorderTest
+{
+    private final List<RequestTiming> timings = new ArrayList<>();
+    private final RequestTimingListener listener = timings::add;
+
+    @BeforeEach
+    void addListener()
+    {
+        RequestTimingRecorder.addListener(listener);
+    }
+
+    @AfterEach
+    void removeListener()
+    {
+        RequestTimingRecorder.removeListener(listener);
+    }
+
+    @Test
+    void testRecordPhases()
+    {
+        final RequestTimingRecorder recorder = RequestTimingRecorder.start("destination", () -> "operation");
+
+        final long begin = System.nanoTime() - Duration.ofMillis(5).toNanos();
+        recorder.recordSince(RequestTimingPhase.SERIALIZATION, begin);
+        recorder.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, begin);
+        recorder.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, begin);
+        recorder.finish(false);
+
+        assertThat(timings).singleElement().satisfies(timing -> {
+            assertThat(timing.getDestinationName()).isEqualTo("destination");
+            assertThat(timing.getOperation()).isEqualTo("operation");
+            assertThat(timing.isFailed()).isFalse();
+            assertThat(timing.getPhaseDurations())
+                .containsOnlyKeys(RequestTimingPhase.SERIALIZATION, RequestTimingPhase.TIME_TO_FIRST_BYTE);
+            assertThat(timing.getDuration(RequestTimingPhase.SERIALIZATION))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(5));
+            // durations of the same phase are added up
+            assertThat(timing.getDuration(RequestTimingPhase.TIME_TO_FIRST_BYTE))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(10));
+            assertThat(timing.getDuration(RequestTimingPhase.DESERIALIZATION)).isNull();
+        });
+    }
+
+    @Test
+    void testFinishOnlyOnce()
+    {
+        final RequestTimingRecorder recorder = RequestTimingRecorder.start(null, "operation");
+        assertThat(recorder.isRecording()).isTrue();
+        recorder.finish(false);
+        assertThat(recorder.isRecording()).isFalse();
+        recorder.recordSince(RequestTimingPhase.BODY_READ, System.nanoTime());
+        recorder.finish(true);
+
+        assertThat(timings).singleElement().satisfies(timing -> {
+            assertThat(timing.getDestinationName()).isNull();
+            assertThat(timing.isFailed()).isFalse();
+            assertThat(timing.getPhaseDurations()).isEmpty();
+        });
+    }
+
+    @Test
+    void testFailingListenerDoesNotAffectOtherListeners()
+    {
+        final RequestTimingListener failingListener = timing -> {
+            throw new IllegalStateException("Listener failed.");
+        };
+        RequestTimingRecorder.addListener(failingListener);
+        try {
+            RequestTimingRecorder.start("destination", "operation").finish(true);
+        }
+        finally {
+            RequestTimingRecorder.removeListener(failingListener);
+        }
+
+        assertThat(timings).singleElement().extracting(RequestTiming::isFailed).isEqualTo(true);
+    }
+
+    @Test
+    void testNoRecordingWithoutListeners()
+    {
+        RequestTimingRecorder.removeListener(listener);
+
+        final RequestTimingRecorder recorder = RequestTimingRecorder.start("destination", "operation");
+        // a shared recorder is returned instead of creating a recorder and an event per request
+        assertThat(RequestTimingRecorder.start("other", "operation")).isSameAs(recorder);
+        assertThat(recorder.isRecording()).isFalse();
+        // the operation is not determined for requests that are not recorded
+        assertThat(RequestTimingRecorder.start("other", () -> {
+            throw new AssertionError("The operation must not be determined.");
+        })).isSameAs(recorder);
+        recorder.recordSince(RequestTimingPhase.SERIALIZATION, System.nanoTime());
+        RequestTimingRecorder.addListener(listener);
+        recorder.finish(false);
+
+        assertThat(timings).isEmpty();
+    }
+
+    @Test
+    void testFlightRecorderEventWithoutListeners( @TempDir final Path tempDir )
+        throws Exception
+    {
+        RequestTimingRecorder.removeListener(listener);
+
+        final Path dump = tempDir.resolve("recording.jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable("com.sap.cloud.sdk.Request");
+            recording.start();
+
+            final RequestTimingRecorder recorder = RequestTimingRecorder.start("destination", "operation");
+            recorder.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, System.nanoTime());
+            recorder.recordResponseSize(42L);
+            recorder.finish(true);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("destinationName")).isEqualTo("destination");
+            assertThat(event.getString("operation")).isEqualTo("operation");
+            assertThat(event.getBoolean("failed")).isTrue();
+            assertThat(event.getLong("responseSize")).isEqualTo(42L);
+            assertThat(event.getLong("serialization")).isZero();
+        });
+        assertThat(timings).isEmpty();
+    }
+}
@@ -0,0 +1,150 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextPropertyException;
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextPropertyNotFoundException;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Map;
+import io.vavr.collection.Set;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of {@link ThreadContext} that stores its properties in an immutable map, which is replaced on every
+ * modification.
+ * <p>
+ * In contrast to the {@link DefaultThreadContext}, {@link #duplicate()} does not copy the properties. Instead, the
+ * duplicate shares the immutable map with this context, so that passing on the context to another thread takes
+ * constant time, independent of the number of properties. Subsequent modifications of either context only affect the
+ * modified context.
+ * <p>
+ * This implementation is a good fit for applications that pass on the context frequently, for example together with
+ * the {@link ScopedValueThreadContextFacade}:
+ *
+ * <pre>
+ * <code>ThreadContextExecutor.using(new CopyOnWriteThreadContext()).execute(() -> {
+ *     // code that is executed within the ThreadContext
+ * });
+ * </code>
+ * </pre>
+ *
+ * @since 5.33.0
+ */
+@Slf4j
+public final class CopyOnWriteThreadContext implements ThreadContext
+{
+    @Nonnull
+    private final AtomicReference<Properties> properties;
+
+    /**
+     * Creates a new {@link CopyOnWriteThreadContext} without any properties.
+     */
+    public CopyOnWriteThreadContext()
+    {
+        this(new Properties(HashMap.empty(), HashSet.empty()));
+    }
+
+    private CopyOnWriteThreadContext( @Nonnull final Properties properties )
+    {
+        this.properties = new AtomicReference<>(properties);
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T> Try<T> getPropertyValue( @Nonnull final String name )
+    {
+        return properties
+            .get()
+            .values()
+            .get(name)
+            .map(property -> (Try<T>) property.getValue())
+            .getOrElse(() -> Try.failure(new ThreadContextPropertyNotFoundException(name)));
+    }
+
+    @Override
+    public void setPropertyIfAbsent( @Nonnull final String name, @Nonnull final Property<?> value )
+        throws ThreadContextPropertyException
+    {
+        log.debug("Setting property '{}' to value: {}.", name, value);
+        properties.updateAndGet(current -> current.values().containsKey(name) ? current : current.put(name, value));
+    }
+
+    @Override
+    public void setProperty( @Nonnull final String name, @Nonnull final Property<?> value )
+        throws ThreadContextPropertyException
+    {
+        log.debug("Setting property '{}' to value: {}.", name, value);
+        properties.updateAndGet(current -> current.put(name, value));
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T> Option<Property<T>> removeProperty( @Nonnull final String name )
+        throws ClassCastException
+    {
+        final Properties previous = properties.getAndUpdate(current -> current.remove(name));
+        return (Option<Property<T>>) (Option<?>) previous.values().get(name);
+    }
+
+    @Override
+    public boolean containsProperty( @Nonnull final String name )
+    {
+        return properties.get().values().containsKey(name);
+    }
+
+    @Nonnull
+    @Override
+    public ThreadContext duplicate()
+    {
+        return new CopyOnWriteThreadContext(properties.get().duplicate());
+    }
+
+    @Nonnull
+    @Override
+    public String toString()
+    {
+        return "CopyOnWriteThreadContext(properties=" + properties.get().values().toJavaMap() + ")";
+    }
+
+    /**
+     * The immutable properties together with the names of the properties that need to be copied when duplicating the
+     * context.
+     * <p>
+     * A {@link LazyProperty} caches its value and is not thread-safe, so every duplicate needs its own copy. All other
+     * properties are immutable and can be shared.
+     */
+    private record Properties( @Nonnull Map<String, Property<?>> values, @Nonnull Set<String> lazyPropertyNames )
+    {
+        @Nonnull
+        Properties put( @Nonnull final String name, @Nonnull final Property<?> value )
+        {
+            final Set<String> lazyNames =
+                value instanceof LazyProperty ? lazyPropertyNames.add(name) : lazyPropertyNames.remove(name);
+            return new Properties(values.put(name, value), lazyNames);
+        }
+
+        @Nonnull
+        Properties remove( @Nonnull final String name )
+        {
+            return new Properties(values.remove(name), lazyPropertyNames.remove(name));
+        }
+
+        @Nonnull
+        Properties duplicate()
+        {
+            Map<String, Property<?>> duplicate = values;
+            for( final String name : lazyPropertyNames ) {
+                duplicate = duplicate.put(name, values.get(name).get().copy());
+            }
+            return new Properties(duplicate, lazyPropertyNames);
+        }
+    }
+}
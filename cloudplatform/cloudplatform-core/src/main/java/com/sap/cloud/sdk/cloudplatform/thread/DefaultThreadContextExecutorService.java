@@ -44,6 +44,29 @@ public final class DefaultThreadContextExecutorService implements ThreadContextE
         return new DefaultThreadContextExecutorService(executorService);
     }
 
+    /**
+     * Static factory method that creates a {@link ThreadContextExecutorService} which executes every task in a new
+     * virtual thread. As for {@link #of(ExecutorService)}, the {@link ThreadContext} of the parent {@link Thread} as
+     * well as the registered {@link ThreadContextListener listeners} and {@link ThreadContextDecorator decorators} are
+     * applied to every task.
+     * <p>
+     * Virtual threads are cheap to create and block, which allows for many concurrent blocking calls without occupying
+     * an operating system thread each. Use {@link VirtualThreadPinningMonitor} to detect code paths that pin the
+     * carrier thread of a virtual thread.
+     * <p>
+     * <b>Note:</b> Virtual threads require Java 21 or newer.
+     *
+     * @return The customized executor service.
+     * @throws UnsupportedOperationException
+     *             If the current runtime does not support virtual threads.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public static DefaultThreadContextExecutorService ofVirtualThreads()
+    {
+        return of(VirtualThreads.newThreadPerTaskExecutor("cloudsdk-virtual-executor-"));
+    }
+
     @Nonnull
     private <T> Callable<T> decorate( @Nonnull final Callable<T> task )
     {
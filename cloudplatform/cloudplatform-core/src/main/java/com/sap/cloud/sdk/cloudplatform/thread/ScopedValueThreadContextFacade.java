@@ -0,0 +1,222 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextAccessException;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of {@link ThreadContextFacade} that binds the {@link ThreadContext} to a {@code ScopedValue} instead
+ * of a {@link ThreadLocal}.
+ * <p>
+ * The context is bound for the duration of {@link ThreadContextExecutor#execute(Callable)} only and cannot be set or
+ * removed otherwise. In contrast to a {@link ThreadLocal}, a scoped binding neither needs to be cleaned up nor reset,
+ * and it is inherited by subtasks forked in a {@code StructuredTaskScope}. Combined with the constant-time duplication
+ * of the {@link CopyOnWriteThreadContext}, this keeps passing on the context cheap, in particular for virtual threads.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>ThreadContextAccessor.setThreadContextFacade(new ScopedValueThreadContextFacade());
+ * ThreadContextExecutor.using(new CopyOnWriteThreadContext()).execute(() -> {
+ *     // code that is executed within the scoped ThreadContext
+ * });
+ * </code>
+ * </pre>
+ *
+ * <b>Note:</b> {@code ScopedValue} requires Java 21 or newer. On Java versions that provide {@code ScopedValue} as
+ * preview API, the JVM needs to be started with {@code --enable-preview}. Use {@link #isSupported()} to check whether
+ * the current runtime supports this facade.
+ *
+ * @since 5.33.0
+ */
+@Slf4j
+public class ScopedValueThreadContextFacade implements ThreadContextFacade
+{
+    @Nullable
+    private static final ScopedValueAccess scopedValueAccess = ScopedValueAccess.tryCreate();
+
+    @Nonnull
+    private final ScopedValueAccess access;
+
+    /**
+     * Creates a new {@link ScopedValueThreadContextFacade}.
+     *
+     * @throws UnsupportedOperationException
+     *             If the current runtime does not support {@code ScopedValue}.
+     */
+    public ScopedValueThreadContextFacade()
+    {
+        if( scopedValueAccess == null ) {
+            throw new UnsupportedOperationException(
+                "The current Java runtime does not support ScopedValue."
+                    + " Use Java 21 or newer and enable preview features if ScopedValue is a preview API of the Java version in use.");
+        }
+        access = scopedValueAccess;
+    }
+
+    /**
+     * Indicates whether the current runtime supports {@code ScopedValue}.
+     *
+     * @return {@code true} if an instance of this facade can be created, {@code false} otherwise.
+     */
+    public static boolean isSupported()
+    {
+        return scopedValueAccess != null;
+    }
+
+    @Nonnull
+    @Override
+    public Try<ThreadContext> tryGetCurrentContext()
+    {
+        return Option
+            .of(getCurrentContextOrNull())
+            .toTry(
+                () -> new ThreadContextAccessException(
+                    String
+                        .format(
+                            "No %s bound for thread id=%s.",
+                            ThreadContext.class.getSimpleName(),
+                            Thread.currentThread().getId())));
+    }
+
+    @Nullable
+    @Override
+    public ThreadContext getCurrentContextOrNull()
+    {
+        return access.getBoundContextOrNull();
+    }
+
+    /**
+     * Not supported, since the {@link ThreadContext} is bound to a scope. Use {@link ThreadContextExecutor} instead.
+     *
+     * @throws UnsupportedOperationException
+     *             Always.
+     */
+    @Override
+    public void setCurrentContext( @Nonnull final ThreadContext threadContext )
+    {
+        throw new UnsupportedOperationException(
+            "The current ThreadContext is bound to a scope and cannot be set directly. Use ThreadContextExecutor instead.");
+    }
+
+    /**
+     * Not supported, since the {@link ThreadContext} is bound to a scope and removed automatically when leaving it.
+     *
+     * @throws UnsupportedOperationException
+     *             Always.
+     */
+    @Override
+    public void removeCurrentContext()
+    {
+        throw new UnsupportedOperationException(
+            "The current ThreadContext is bound to a scope and cannot be removed directly.");
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings( "PMD.SignatureDeclareThrowsException" ) // callable.call() throws Exception. We're not catching it here.
+    public <T> T executeWithContext( @Nonnull final ThreadContext threadContext, @Nonnull final Callable<T> callable )
+        throws Exception
+    {
+        return access.callWhere(threadContext, callable);
+    }
+
+    /**
+     * Access to the {@code ScopedValue} API, which is looked up reflectively since the SDK is compiled for Java 17.
+     * <p>
+     * Only methods that are identical across the preview and final versions of the API are used.
+     */
+    private record ScopedValueAccess(
+        @Nonnull Object scopedValue,
+        @Nonnull MethodHandle where,
+        @Nonnull MethodHandle run,
+        @Nonnull MethodHandle isBound,
+        @Nonnull MethodHandle get )
+    {
+        @Nullable
+        static ScopedValueAccess tryCreate()
+        {
+            try {
+                final Class<?> scopedValueClass = Class.forName("java.lang.ScopedValue");
+                final Class<?> carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+                final Object scopedValue =
+                    lookup
+                        .findStatic(scopedValueClass, "newInstance", MethodType.methodType(scopedValueClass))
+                        .invoke();
+                final MethodHandle where =
+                    lookup
+                        .findStatic(
+                            scopedValueClass,
+                            "where",
+                            MethodType.methodType(carrierClass, scopedValueClass, Object.class));
+                final MethodHandle run =
+                    lookup.findVirtual(carrierClass, "run", MethodType.methodType(void.class, Runnable.class));
+                final MethodHandle isBound =
+                    lookup.findVirtual(scopedValueClass, "isBound", MethodType.methodType(boolean.class));
+                final MethodHandle get =
+                    lookup.findVirtual(scopedValueClass, "get", MethodType.methodType(Object.class));
+
+                return new ScopedValueAccess(scopedValue, where, run, isBound, get);
+            }
+            catch( final Throwable e ) { // NOPMD: preview APIs may fail with any error if preview features are disabled
+                log.debug("ScopedValue is not supported by the current Java runtime.", e);
+                return null;
+            }
+        }
+
+        @Nullable
+        ThreadContext getBoundContextOrNull()
+        {
+            try {
+                return (boolean) isBound.invoke(scopedValue) ? (ThreadContext) get.invoke(scopedValue) : null;
+            }
+            catch( final Throwable e ) { // NOPMD: rethrown as unchecked exception
+                throw new ThreadContextAccessException("Failed to access the ScopedValue of the ThreadContext.", e);
+            }
+        }
+
+        @Nullable
+        @SuppressWarnings( { "unchecked", "PMD.SignatureDeclareThrowsException" } )
+        <T> T callWhere( @Nonnull final ThreadContext threadContext, @Nonnull final Callable<T> callable )
+            throws Exception
+        {
+            final Object[] result = new Object[1];
+            final Exception[] failure = new Exception[1];
+            final Runnable runnable = () -> {
+                try {
+                    result[0] = callable.call();
+                }
+                catch( final Exception e ) {
+                    failure[0] = e;
+                }
+            };
+
+            try {
+                run.invoke(where.invoke(scopedValue, threadContext), runnable);
+            }
+            catch( final RuntimeException | Error e ) {
+                throw e;
+            }
+            catch( final Throwable e ) { // NOPMD: rethrown as unchecked exception
+                throw new ThreadContextAccessException("Failed to bind the ThreadContext to a ScopedValue.", e);
+            }
+
+            if( failure[0] != null ) {
+                throw failure[0];
+            }
+            return (T) result[0];
+        }
+    }
+}
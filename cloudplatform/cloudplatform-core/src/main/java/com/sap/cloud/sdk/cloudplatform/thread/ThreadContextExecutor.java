@@ -282,19 +282,15 @@ public final class ThreadContextExecutor
                         "No " + ThreadContextFacade.class.getSimpleName() + " defined.",
                         failure));
 
-        final ThreadContext initialContext = facade.getCurrentContextOrNull();
         final ThreadContext executionThreadContext = threadContext.duplicate();
 
         notifyBeforeInitialize(executionThreadContext);
-        try {
-            setCurrentContext(executionThreadContext, facade);
-            notifyAfterInitialize(executionThreadContext);
+        log.debug("Executing with thread context {}.", executionThreadContext);
 
+        return facade.executeWithContext(executionThreadContext, () -> {
+            notifyAfterInitialize(executionThreadContext);
             return callable.call();
-        }
-        finally {
-            resetCurrentContext(facade, initialContext);
-        }
+        });
     }
 
     private void notifyBeforeInitialize( @Nonnull final ThreadContext executionThreadContext )
@@ -318,28 +314,4 @@ public final class ThreadContextExecutor
             listener.afterInitialize(executionThreadContext);
         }
     }
-
-    private void setCurrentContext(
-        @Nonnull final ThreadContext executionThreadContext,
-        @Nonnull final ThreadContextFacade facade )
-    {
-        log.debug("Setting current thread context to {}.", executionThreadContext);
-
-        facade.setCurrentContext(executionThreadContext);
-    }
-
-    private
-        void
-        resetCurrentContext( @Nonnull final ThreadContextFacade facade, @Nullable final ThreadContext initialContext )
-    {
-        if( initialContext != null ) {
-            log.debug("Resetting current thread context to initial {}.", initialContext);
-
-            facade.setCurrentContext(initialContext);
-        } else {
-            log.debug("Removing current thread context.");
-
-            facade.removeCurrentContext();
-        }
-    }
 }
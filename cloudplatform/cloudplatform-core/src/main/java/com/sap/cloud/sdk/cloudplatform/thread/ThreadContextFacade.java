@@ -1,5 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.thread;
 
+import java.util.concurrent.Callable;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -41,4 +43,41 @@ public interface ThreadContextFacade
     {
         return tryGetCurrentContext().getOrNull();
     }
+
+    /**
+     * Executes the given {@link Callable} with the given {@link ThreadContext} as current context. Afterwards, the
+     * previous context is restored.
+     * <p>
+     * Implementations that bind the context to a scope instead of setting it on the current thread override this
+     * method.
+     *
+     * @param threadContext
+     *            The {@link ThreadContext} to use during the execution.
+     * @param callable
+     *            The {@link Callable} to execute.
+     * @param <T>
+     *            The return type of the given {@link Callable}.
+     * @return The value computed by the given {@link Callable}.
+     * @throws Exception
+     *             If the given {@link Callable} throws an exception.
+     * @since 5.33.0
+     */
+    @Nullable
+    @SuppressWarnings( "PMD.SignatureDeclareThrowsException" ) // callable.call() throws Exception. We're not catching it here.
+    default <T> T executeWithContext( @Nonnull final ThreadContext threadContext, @Nonnull final Callable<T> callable )
+        throws Exception
+    {
+        final ThreadContext initialContext = getCurrentContextOrNull();
+        setCurrentContext(threadContext);
+        try {
+            return callable.call();
+        }
+        finally {
+            if( initialContext != null ) {
+                setCurrentContext(initialContext);
+            } else {
+                removeCurrentContext();
+            }
+        }
+    }
 }
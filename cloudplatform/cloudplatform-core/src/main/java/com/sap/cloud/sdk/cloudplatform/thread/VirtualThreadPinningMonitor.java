@@ -0,0 +1,148 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports code paths that pin a virtual thread to its carrier thread, for example blocking operations inside of
+ * {@code synchronized} blocks. While a virtual thread is pinned, the carrier thread cannot execute other virtual
+ * threads.
+ * <p>
+ * The monitor listens to the {@code jdk.VirtualThreadPinned} event of the JDK Flight Recorder. Pinning that involves
+ * code of the SAP Cloud SDK is logged as warning, any other pinning is logged on debug level.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>ThreadContextExecutors.setExecutor(DefaultThreadContextExecutorService.ofVirtualThreads());
+ * final VirtualThreadPinningMonitor monitor = VirtualThreadPinningMonitor.start();
+ * // ...
+ * monitor.close();
+ * </code>
+ * </pre>
+ *
+ * <b>Note:</b> Virtual threads require Java 21 or newer.
+ *
+ * @since 5.33.0
+ */
+@Slf4j
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+public final class VirtualThreadPinningMonitor implements AutoCloseable
+{
+    /**
+     * The default minimum duration of pinning to be reported, matching the default of the JDK.
+     */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String SDK_PACKAGE_PREFIX = "com.sap.cloud.sdk.";
+    private static final int MAX_REPORTED_FRAMES = 16;
+
+    @Nonnull
+    private final RecordingStream recordingStream;
+
+    /**
+     * Starts monitoring virtual threads that are pinned for at least {@link #DEFAULT_THRESHOLD}.
+     *
+     * @return The running monitor, which needs to be closed to stop monitoring.
+     * @throws UnsupportedOperationException
+     *             If the current runtime does not support virtual threads.
+     */
+    @Nonnull
+    public static VirtualThreadPinningMonitor start()
+    {
+        return start(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Starts monitoring virtual threads that are pinned for at least the given duration.
+     *
+     * @param threshold
+     *            The minimum duration of pinning to be reported.
+     * @return The running monitor, which needs to be closed to stop monitoring.
+     * @throws UnsupportedOperationException
+     *             If the current runtime does not support virtual threads.
+     */
+    @Nonnull
+    public static VirtualThreadPinningMonitor start( @Nonnull final Duration threshold )
+    {
+        if( !VirtualThreads.isSupported() ) {
+            throw new UnsupportedOperationException(
+                "Monitoring pinned virtual threads requires a Java runtime that supports virtual threads.");
+        }
+        final RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT_NAME, VirtualThreadPinningMonitor::report);
+        recordingStream.startAsync();
+
+        log.debug("Started monitoring virtual threads pinned for at least {} ms.", threshold.toMillis());
+        return new VirtualThreadPinningMonitor(recordingStream);
+    }
+
+    /**
+     * Stops monitoring pinned virtual threads.
+     */
+    @Override
+    public void close()
+    {
+        recordingStream.close();
+        log.debug("Stopped monitoring pinned virtual threads.");
+    }
+
+    private static void report( @Nonnull final RecordedEvent event )
+    {
+        final RecordedStackTrace stackTrace = event.getStackTrace();
+        final List<RecordedFrame> frames = stackTrace == null ? Collections.emptyList() : stackTrace.getFrames();
+        final String formattedFrames =
+            frames
+                .stream()
+                .limit(MAX_REPORTED_FRAMES)
+                .map(VirtualThreadPinningMonitor::formatFrame)
+                .collect(Collectors.joining(System.lineSeparator() + "\tat ", "\tat ", ""));
+        final long durationMillis = event.getDuration().toMillis();
+
+        if( frames.stream().anyMatch(VirtualThreadPinningMonitor::isSdkFrame) ) {
+            log
+                .warn(
+                    "A virtual thread was pinned to its carrier thread for {} ms by code of the SAP Cloud SDK:{}{}",
+                    durationMillis,
+                    System.lineSeparator(),
+                    formattedFrames);
+        } else {
+            log
+                .debug(
+                    "A virtual thread was pinned to its carrier thread for {} ms:{}{}",
+                    durationMillis,
+                    System.lineSeparator(),
+                    formattedFrames);
+        }
+    }
+
+    private static boolean isSdkFrame( @Nonnull final RecordedFrame frame )
+    {
+        return frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(SDK_PACKAGE_PREFIX);
+    }
+
+    @Nonnull
+    private static String formatFrame( @Nonnull final RecordedFrame frame )
+    {
+        return frame.getMethod().getType().getName()
+            + "."
+            + frame.getMethod().getName()
+            + "(line "
+            + frame.getLineNumber()
+            + ")";
+    }
+}
@@ -0,0 +1,73 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nonnull;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access to the virtual thread API of Java 21 and newer.
+ * <p>
+ * The SDK is compiled for Java 17, so the API is accessed reflectively. On older runtimes, virtual threads are
+ * reported as not supported.
+ */
+@NoArgsConstructor( access = AccessLevel.PRIVATE )
+final class VirtualThreads
+{
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    /**
+     * Indicates whether the current runtime supports virtual threads.
+     *
+     * @return {@code true} if virtual threads can be created, {@code false} otherwise.
+     */
+    static boolean isSupported()
+    {
+        return Runtime.version().feature() >= MINIMUM_JAVA_VERSION;
+    }
+
+    /**
+     * Creates an {@link ExecutorService} that starts a new virtual thread for every task.
+     *
+     * @param namePrefix
+     *            The prefix of the thread names, which is followed by a counter.
+     * @return A new executor service backed by virtual threads.
+     * @throws UnsupportedOperationException
+     *             If the current runtime does not support virtual threads.
+     */
+    @Nonnull
+    static ExecutorService newThreadPerTaskExecutor( @Nonnull final String namePrefix )
+    {
+        if( !isSupported() ) {
+            throw new UnsupportedOperationException(
+                "Virtual threads require Java "
+                    + MINIMUM_JAVA_VERSION
+                    + " or newer, but the current Java version is "
+                    + Runtime.version().feature()
+                    + ".");
+        }
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            final Object namedBuilder = nameMethod.invoke(builder, namePrefix, 0L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder);
+
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, factory);
+        }
+        catch( final InvocationTargetException e ) {
+            throw new IllegalStateException("Failed to create an executor for virtual threads.", e.getCause());
+        }
+        catch( final ReflectiveOperationException e ) {
+            throw new IllegalStateException("Failed to create an executor for virtual threads.", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextPropertyNotFoundException;
+
+class CopyOnWriteThreadContextTest
+{
+    @Test
+    void testSetAndRemoveProperties()
+    {
+        final CopyOnWriteThreadContext context = new CopyOnWriteThreadContext();
+        assertThat(context.getPropertyValue("foo").getCause())
+            .isInstanceOf(ThreadContextPropertyNotFoundException.class);
+
+        context.setPropertyIfAbsent("foo", Property.of("bar"));
+        context.setPropertyIfAbsent("foo", Property.of("baz"));
+        assertThat(context.<String> getPropertyValue("foo").get()).isEqualTo("bar");
+
+        context.setProperty("foo", Property.of("baz"));
+        assertThat(context.<String> getPropertyValue("foo").get()).isEqualTo("baz");
+
+        assertThat(context.<String> removeProperty("foo").map(Property::getValue).get().get()).isEqualTo("baz");
+        assertThat(context.containsProperty("foo")).isFalse();
+        assertThat(context.removeProperty("foo").isEmpty()).isTrue();
+    }
+
+    @Test
+    void testDuplicateIsIndependent()
+    {
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setProperty("shared", Property.of("value"));
+
+        final ThreadContext duplicated = initial.duplicate();
+        duplicated.setProperty("duplicated", Property.of("value"));
+        initial.removeProperty("shared");
+
+        assertThat(duplicated.containsProperty("shared")).isTrue();
+        assertThat(duplicated.containsProperty("duplicated")).isTrue();
+        assertThat(initial.containsProperty("shared")).isFalse();
+        assertThat(initial.containsProperty("duplicated")).isFalse();
+    }
+
+    @Test
+    void testLazyPropertiesCanHaveDifferentValues()
+    {
+        final Supplier<Integer> supplier = new AtomicInteger()::getAndIncrement;
+
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setProperty("property", LazyProperty.of(supplier));
+
+        final ThreadContext duplicated = initial.duplicate();
+        // we are accessing the duplicated value first, so it will have the lower number
+        assertThat(duplicated.<Integer> getPropertyValue("property").get()).isEqualTo(0);
+        // the property of the initial context is evaluated later and, therefore, will have the higher number
+        assertThat(initial.<Integer> getPropertyValue("property").get()).isEqualTo(1);
+    }
+
+    @Test
+    void testReplacedLazyPropertyIsNoLongerCopied()
+    {
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setProperty("property", LazyProperty.of(new AtomicInteger()::getAndIncrement));
+        initial.setProperty("property", Property.of(42));
+
+        final ThreadContext duplicated = initial.duplicate();
+        assertThat(duplicated.<Integer> getPropertyValue("property").get()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class ScopedValueThreadContextFacadeTest
+{
+    @AfterEach
+    void resetFacade()
+    {
+        ThreadContextAccessor.setThreadContextFacade(null);
+    }
+
+    @Test
+    void testNotSupported()
+    {
+        assumeFalse(ScopedValueThreadContextFacade.isSupported(), "ScopedValue is supported by the current runtime.");
+
+        assertThatThrownBy(ScopedValueThreadContextFacade::new).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testContextIsBoundToScope()
+    {
+        assumeTrue(ScopedValueThreadContextFacade.isSupported(), "ScopedValue is not supported by the runtime.");
+
+        final ScopedValueThreadContextFacade facade = new ScopedValueThreadContextFacade();
+        ThreadContextAccessor.setThreadContextFacade(facade);
+
+        final CopyOnWriteThreadContext context = new CopyOnWriteThreadContext();
+        context.setProperty("foo", Property.of("bar"));
+
+        final String value =
+            ThreadContextExecutor
+                .using(context)
+                .withoutDefaultListeners()
+                .execute(() -> ThreadContextAccessor.getCurrentContext().<String> getPropertyValue("foo").get());
+
+        assertThat(value).isEqualTo("bar");
+        assertThat(facade.getCurrentContextOrNull()).isNull();
+        assertThat(facade.tryGetCurrentContext().isFailure()).isTrue();
+        assertThatThrownBy(() -> facade.setCurrentContext(context)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void testContextIsPropagatedToExecutorService()
+    {
+        assumeTrue(ScopedValueThreadContextFacade.isSupported(), "ScopedValue is not supported by the runtime.");
+
+        ThreadContextAccessor.setThreadContextFacade(new ScopedValueThreadContextFacade());
+        final ExecutorService executor = ThreadContextExecutors.getExecutor();
+
+        final ThreadContextExecutor threadContextExecutor =
+            ThreadContextExecutor.using(new CopyOnWriteThreadContext()).withoutDefaultListeners();
+
+        final String value = threadContextExecutor.execute(() -> {
+            ThreadContextAccessor.getCurrentContext().setProperty("foo", Property.of("bar"));
+            return executor
+                .submit(() -> ThreadContextAccessor.getCurrentContext().<String> getPropertyValue("foo").get())
+                .get(10, TimeUnit.SECONDS);
+        });
+
+        assertThat(value).isEqualTo("bar");
+    }
+}
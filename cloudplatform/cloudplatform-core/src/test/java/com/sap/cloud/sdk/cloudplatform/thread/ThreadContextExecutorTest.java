@@ -1,9 +1,13 @@
 package com.sap.cloud.sdk.cloudplatform.thread;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -235,6 +239,53 @@ class ThreadContextExecutorTest
         softly.assertAll();
     }
 
+    @Test
+    @SneakyThrows
+    void testVirtualThreadExecutorServicePropagatedContext()
+    {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21 or newer.");
+
+        final SoftAssertions softly = new SoftAssertions();
+        final Property<?> property = Property.of("value");
+
+        final ThreadContextExecutorService executor = DefaultThreadContextExecutorService.ofVirtualThreads();
+        final ThreadContextExecutor threadContextExecutor =
+            ThreadContextExecutor
+                .fromNewContext()
+                .withoutDefaultListeners()
+                .withListeners(new MyThreadContextListener(property));
+
+        threadContextExecutor
+            .execute(
+                () -> executor
+                    .submit(() -> assertCurrentContextContains(softly, property))
+                    .get(TIMEOUT, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        softly.assertAll();
+    }
+
+    @Test
+    void testVirtualThreadsNotSupported()
+    {
+        assumeFalse(VirtualThreads.isSupported(), "Virtual threads are supported by the current runtime.");
+
+        assertThatThrownBy(DefaultThreadContextExecutorService::ofVirtualThreads)
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(VirtualThreadPinningMonitor::start).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testVirtualThreadPinningMonitorLifecycle()
+    {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21 or newer.");
+
+        final VirtualThreadPinningMonitor monitor = VirtualThreadPinningMonitor.start(Duration.ofMillis(1));
+        assertThatCode(monitor::close).doesNotThrowAnyException();
+    }
+
     @Test
     void testExecutorServiceShutdown()
     {
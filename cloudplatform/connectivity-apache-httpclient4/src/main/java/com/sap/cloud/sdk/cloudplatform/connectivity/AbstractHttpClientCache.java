@@ -1,6 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
@@ -89,20 +90,29 @@ public abstract class AbstractHttpClientCache implements HttpClientCache
         final Cache<CacheKey, HttpClient> cache = maybeCache.get();
         final CacheKey cacheKey = maybeKey.get();
 
+        final HttpClientCacheEvent event = new HttpClientCacheEvent();
+        event.begin();
+        final AtomicBoolean cacheMiss = new AtomicBoolean();
         final HttpClient httpClient;
         try {
-            httpClient = cache.get(cacheKey, anyKey -> createHttpClient.get());
+            httpClient = cache.get(cacheKey, anyKey -> {
+                cacheMiss.set(true);
+                return createHttpClient.get();
+            });
             Objects
                 .requireNonNull(
                     httpClient,
                     "Failed to create HttpClient: The registered HttpClientFactory unexpectedly returned null.");
         }
         catch( final HttpClientInstantiationException e ) {
+            event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), false);
             return Try.failure(e);
         }
         catch( final RuntimeException e ) {
+            event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), false);
             return Try.failure(new HttpClientInstantiationException(e));
         }
+        event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), true);
         if( destination != null && httpClient instanceof HttpClientWrapper ) {
             return Try.success(((HttpClientWrapper) httpClient).withDestination(destination));
         }
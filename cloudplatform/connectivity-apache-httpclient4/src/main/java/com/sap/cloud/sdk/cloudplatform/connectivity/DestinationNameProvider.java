@@ -0,0 +1,21 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import javax.annotation.Nullable;
+
+/**
+ * Interface to resolve the name of the destination an HTTP client sends its requests to. This is used to tag the
+ * timings of requests that are executed with a given HTTP client.
+ *
+ * @since 5.33.0
+ */
+@FunctionalInterface
+public interface DestinationNameProvider
+{
+    /**
+     * Returns the name of the destination the requests are sent to.
+     *
+     * @return The name of the destination, or {@code null} if the destination has no name.
+     */
+    @Nullable
+    String getDestinationName();
+}
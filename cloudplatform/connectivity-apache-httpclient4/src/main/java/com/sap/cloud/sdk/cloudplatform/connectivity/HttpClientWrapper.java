@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URI;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.http.HeaderElement;
 import org.apache.http.HttpHost;
@@ -30,7 +31,7 @@ import lombok.extern.slf4j.Slf4j;
  * and it will append the url configured in the destination.
  */
 @Slf4j
-class HttpClientWrapper extends CloseableHttpClient implements UriQueryMerger
+class HttpClientWrapper extends CloseableHttpClient implements UriQueryMerger, DestinationNameProvider
 {
     private final CloseableHttpClient httpClient;
     @Getter( AccessLevel.PACKAGE )
@@ -106,6 +107,13 @@ class HttpClientWrapper extends CloseableHttpClient implements UriQueryMerger
         return new HttpClientWrapper(httpClient, destination);
     }
 
+    @Nullable
+    @Override
+    public String getDestinationName()
+    {
+        return destination.get(DestinationProperty.NAME).getOrNull();
+    }
+
     @Nonnull
     @Override
     public URI mergeRequestUri( @Nonnull final URI requestUri )
@@ -0,0 +1,69 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class HttpClientCacheEventTest
+{
+    private static final String EVENT_NAME = "com.sap.cloud.sdk.HttpClientCache";
+
+    private static final HttpDestination DESTINATION =
+        DefaultHttpDestination.builder("https://url1").name("MyDestination").build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCacheMissAndHit()
+        throws Exception
+    {
+        final DefaultHttpClientCache cache = new DefaultHttpClientCache(5L, TimeUnit.MINUTES);
+        final HttpClientFactory factory = new DefaultHttpClientFactory();
+
+        final Path dump = tempDir.resolve("recording.jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            TenantAccessor.executeWithTenant(new DefaultTenant("tenant-a"), () -> {
+                assertThat(cache.tryGetHttpClient(DESTINATION, factory).isSuccess()).isTrue();
+                assertThat(cache.tryGetHttpClient(DESTINATION, factory).isSuccess()).isTrue();
+            });
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events =
+            RecordingFile
+                .readAllEvents(dump)
+                .stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+
+        assertThat(events).extracting(event -> event.getBoolean("cacheHit")).containsExactly(false, true);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("destinationName")).isEqualTo("MyDestination");
+            assertThat(event.getString("tenantId")).isEqualTo("tenant-a");
+            assertThat(event.getLong("cacheSize")).isEqualTo(1L);
+            assertThat(event.getBoolean("successful")).isTrue();
+        });
+    }
+}
@@ -27,4 +27,17 @@ class HttpClientWrapperTest
 
         assertThatThrownBy(() -> sut.withDestination(thirdDestination)).isInstanceOf(ShouldNotHappenException.class);
     }
+
+    @Test
+    void testDestinationName()
+    {
+        final DefaultHttpDestination namedDestination =
+            DefaultHttpDestination.builder("http://foo.com").name("MyDestination").build();
+        final DefaultHttpDestination unnamedDestination = DefaultHttpDestination.builder("http://foo.com").build();
+
+        assertThat(new HttpClientWrapper(mock(CloseableHttpClient.class), namedDestination).getDestinationName())
+            .isEqualTo("MyDestination");
+        assertThat(new HttpClientWrapper(mock(CloseableHttpClient.class), unnamedDestination).getDestinationName())
+            .isNull();
+    }
 }
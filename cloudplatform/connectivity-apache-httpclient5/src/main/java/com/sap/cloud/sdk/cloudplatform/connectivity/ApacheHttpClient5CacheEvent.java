@@ -0,0 +1,63 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a lookup of an Apache HttpClient 5 in the {@link ApacheHttpClient5Cache}.
+ */
+@Name( "com.sap.cloud.sdk.ApacheHttpClient5Cache" )
+@Label( "Apache HttpClient 5 Cache Lookup" )
+@Category( { "SAP Cloud SDK", "Connectivity" } )
+@Description( "The lookup of an HttpClient from the cache, which creates the HttpClient on a cache miss." )
+@StackTrace( false )
+class ApacheHttpClient5CacheEvent extends Event
+{
+    @Label( "Destination" )
+    String destinationName;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "Cache Hit" )
+    boolean cacheHit;
+
+    @Label( "Cache Size" )
+    @Description( "The estimated number of cached HttpClients." )
+    long cacheSize;
+
+    @Label( "Successful" )
+    boolean successful;
+
+    /**
+     * Commits this event for the given cache lookup, if the event is enabled in a running recording and exceeds its
+     * threshold.
+     */
+    void commit(
+        @Nullable final HttpDestinationProperties destination,
+        @Nonnull final CacheKey cacheKey,
+        final boolean cacheHit,
+        final long cacheSize,
+        final boolean successful )
+    {
+        end();
+        if( !shouldCommit() ) {
+            return;
+        }
+        destinationName = destination == null ? null : destination.get(DestinationProperty.NAME).getOrNull();
+        tenantId = cacheKey.getTenantId().getOrNull();
+        this.cacheHit = cacheHit;
+        this.cacheSize = cacheSize;
+        this.successful = successful;
+        commit();
+    }
+}
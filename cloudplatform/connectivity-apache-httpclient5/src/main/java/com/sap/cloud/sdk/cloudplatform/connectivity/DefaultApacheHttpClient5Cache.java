@@ -2,6 +2,7 @@ package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
@@ -79,20 +80,29 @@ class DefaultApacheHttpClient5Cache implements ApacheHttpClient5Cache
             return Try.failure(new HttpClientInstantiationException("Failed to create cache key for HttpClient", e));
         }
 
+        final ApacheHttpClient5CacheEvent event = new ApacheHttpClient5CacheEvent();
+        event.begin();
+        final AtomicBoolean cacheMiss = new AtomicBoolean();
         final HttpClient httpClient;
         try {
-            httpClient = cache.get(cacheKey, anyKey -> createHttpClient.get());
+            httpClient = cache.get(cacheKey, anyKey -> {
+                cacheMiss.set(true);
+                return createHttpClient.get();
+            });
             Objects
                 .requireNonNull(
                     httpClient,
                     "Failed to create HttpClient: The registered HttpClient5Factory unexpectedly returned null.");
         }
         catch( final HttpClientInstantiationException e ) {
+            event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), false);
             return Try.failure(e);
         }
         catch( final RuntimeException e ) {
+            event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), false);
             return Try.failure(new HttpClientInstantiationException(e));
         }
+        event.commit(destination, cacheKey, !cacheMiss.get(), cache.estimatedSize(), true);
         if( destination != null && httpClient instanceof ApacheHttpClient5Wrapper ) {
             return Try.success(((ApacheHttpClient5Wrapper) httpClient).withDestination(destination));
         }
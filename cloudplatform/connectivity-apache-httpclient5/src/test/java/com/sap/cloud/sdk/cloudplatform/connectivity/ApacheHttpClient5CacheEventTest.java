@@ -0,0 +1,70 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ApacheHttpClient5CacheEventTest
+{
+    private static final String EVENT_NAME = "com.sap.cloud.sdk.ApacheHttpClient5Cache";
+
+    private static final HttpDestination DESTINATION =
+        DefaultHttpDestination.builder("https://url1").name("MyDestination").build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventIsTaggedWithDestinationAndTenant()
+        throws Exception
+    {
+        final Path dump = tempDir.resolve("recording.jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            final ApacheHttpClient5CacheEvent miss = new ApacheHttpClient5CacheEvent();
+            miss.begin();
+            miss.commit(DESTINATION, CacheKey.fromIds("tenant-a", null), false, 1L, true);
+
+            final ApacheHttpClient5CacheEvent failure = new ApacheHttpClient5CacheEvent();
+            failure.begin();
+            failure.commit(null, CacheKey.ofNoIsolation(), false, 1L, false);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events =
+            RecordingFile
+                .readAllEvents(dump)
+                .stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("destinationName")).isEqualTo("MyDestination");
+        assertThat(events.get(0).getString("tenantId")).isEqualTo("tenant-a");
+        assertThat(events.get(0).getBoolean("cacheHit")).isFalse();
+        assertThat(events.get(0).getLong("cacheSize")).isEqualTo(1L);
+        assertThat(events.get(0).getBoolean("successful")).isTrue();
+
+        assertThat(events.get(1).getString("destinationName")).isNull();
+        assertThat(events.get(1).getString("tenantId")).isNull();
+        assertThat(events.get(1).getBoolean("successful")).isFalse();
+    }
+}
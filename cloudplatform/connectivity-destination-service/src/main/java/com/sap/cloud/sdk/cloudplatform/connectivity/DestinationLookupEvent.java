@@ -0,0 +1,61 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceOptionsAugmenter.getRetrievalStrategy;
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceRetrievalStrategy.CURRENT_TENANT;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import io.vavr.control.Try;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a lookup of a destination via {@link DestinationService}, including lookups that are
+ * answered by the destination cache.
+ */
+@Name( "com.sap.cloud.sdk.DestinationLookup" )
+@Label( "Destination Lookup" )
+@Category( { "SAP Cloud SDK", "Connectivity" } )
+@Description( "A lookup of a destination from the BTP Destination Service or its cache." )
+@StackTrace( false )
+class DestinationLookupEvent extends Event
+{
+    @Label( "Destination" )
+    String destinationName;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "Retrieval Strategy" )
+    String retrievalStrategy;
+
+    @Label( "Successful" )
+    boolean successful;
+
+    /**
+     * Commits this event for the given lookup result, if the event is enabled in a running recording and exceeds its
+     * threshold.
+     */
+    void commit(
+        @Nonnull final String destinationName,
+        @Nonnull final DestinationOptions options,
+        @Nonnull final Try<Destination> result )
+    {
+        end();
+        if( !shouldCommit() ) {
+            return;
+        }
+        this.destinationName = destinationName;
+        tenantId = TenantAccessor.tryGetCurrentTenant().map(Tenant::getTenantId).getOrNull();
+        retrievalStrategy = getRetrievalStrategy(options).getOrElse(CURRENT_TENANT).name();
+        successful = result.isSuccess();
+        commit();
+    }
+}
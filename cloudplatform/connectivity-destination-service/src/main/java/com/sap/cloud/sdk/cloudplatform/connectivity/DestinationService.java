@@ -125,6 +125,18 @@ public class DestinationService implements DestinationLoader
     public
         Try<Destination>
         tryGetDestination( @Nonnull final String destinationName, @Nonnull final DestinationOptions options )
+    {
+        final DestinationLookupEvent event = new DestinationLookupEvent();
+        event.begin();
+        final Try<Destination> result = lookupDestination(destinationName, options);
+        event.commit(destinationName, options, result);
+        return result;
+    }
+
+    @Nonnull
+    private Try<Destination> lookupDestination(
+        @Nonnull final String destinationName,
+        @Nonnull final DestinationOptions options )
     {
         final Option<Exception> validationError = validateDestinationLookup(destinationName, options);
         if( validationError.isDefined() ) {
@@ -0,0 +1,86 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceOptionsAugmenter.augmenter;
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceRetrievalStrategy.ONLY_SUBSCRIBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationNotFoundException;
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import io.vavr.control.Try;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class DestinationLookupEventTest
+{
+    private static final String EVENT_NAME = "com.sap.cloud.sdk.DestinationLookup";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventIsTaggedWithDestinationTenantAndStrategy()
+        throws Exception
+    {
+        final DestinationOptions subscriberOptions =
+            DestinationOptions.builder().augmentBuilder(augmenter().retrievalStrategy(ONLY_SUBSCRIBER)).build();
+
+        final List<RecordedEvent> events = record(() -> {
+            final DestinationLookupEvent successful = new DestinationLookupEvent();
+            successful.begin();
+            successful
+                .commit(
+                    "MyDestination",
+                    DestinationOptions.builder().build(),
+                    Try.success(DefaultHttpDestination.builder("https://url1").build()));
+
+            TenantAccessor.executeWithTenant(new DefaultTenant("tenant-a"), () -> {
+                final DestinationLookupEvent failed = new DestinationLookupEvent();
+                failed.begin();
+                failed
+                    .commit("OtherDestination", subscriberOptions, Try.failure(new DestinationNotFoundException()));
+            });
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getString("destinationName")).isEqualTo("MyDestination");
+        assertThat(events.get(0).getString("tenantId")).isNull();
+        assertThat(events.get(0).getString("retrievalStrategy")).isEqualTo("CURRENT_TENANT");
+        assertThat(events.get(0).getBoolean("successful")).isTrue();
+
+        assertThat(events.get(1).getString("destinationName")).isEqualTo("OtherDestination");
+        assertThat(events.get(1).getString("tenantId")).isEqualTo("tenant-a");
+        assertThat(events.get(1).getString("retrievalStrategy")).isEqualTo("ONLY_SUBSCRIBER");
+        assertThat(events.get(1).getBoolean("successful")).isFalse();
+    }
+
+    private List<RecordedEvent> record( final Runnable runnable )
+        throws Exception
+    {
+        final Path dump = tempDir.resolve("recording.jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile
+            .readAllEvents(dump)
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .collect(Collectors.toList());
+    }
+}
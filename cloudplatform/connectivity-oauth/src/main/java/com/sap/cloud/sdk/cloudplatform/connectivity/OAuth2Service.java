@@ -131,6 +131,21 @@ class OAuth2Service
 
     @Nonnull
     String retrieveAccessToken()
+    {
+        final OAuth2TokenRetrievalEvent event = new OAuth2TokenRetrievalEvent();
+        event.begin();
+        String accessToken = null;
+        try {
+            accessToken = retrieveAccessTokenResilient();
+            return accessToken;
+        }
+        finally {
+            event.commit(tokenUri, onBehalfOf, accessToken);
+        }
+    }
+
+    @Nonnull
+    private String retrieveAccessTokenResilient()
     {
         log
             .debug(
@@ -0,0 +1,65 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.net.URI;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for the retrieval of an access token via {@link OAuth2Service}, including tokens that are
+ * answered by the token cache.
+ */
+@Name( "com.sap.cloud.sdk.OAuth2TokenRetrieval" )
+@Label( "OAuth2 Token Retrieval" )
+@Category( { "SAP Cloud SDK", "Connectivity" } )
+@Description( "The retrieval of an OAuth2 access token from a token service or its cache." )
+@StackTrace( false )
+class OAuth2TokenRetrievalEvent extends Event
+{
+    @Label( "Token Service" )
+    String tokenServiceUri;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "On Behalf Of" )
+    String onBehalfOf;
+
+    @Label( "Token Size" )
+    @Description( "The size of the access token, or 0 if no token was retrieved." )
+    @DataAmount
+    long tokenSize;
+
+    @Label( "Successful" )
+    boolean successful;
+
+    /**
+     * Commits this event for the given access token, if the event is enabled in a running recording and exceeds its
+     * threshold.
+     */
+    void commit( @Nonnull final URI tokenUri, @Nonnull final OnBehalfOf onBehalfOf, @Nullable final String accessToken )
+    {
+        end();
+        if( !shouldCommit() ) {
+            return;
+        }
+        tokenServiceUri = tokenUri.toString();
+        tenantId = TenantAccessor.tryGetCurrentTenant().map(Tenant::getTenantId).getOrNull();
+        this.onBehalfOf = onBehalfOf.name();
+        // access tokens only consist of ASCII characters
+        tokenSize = accessToken == null ? 0L : accessToken.length();
+        successful = accessToken != null;
+        commit();
+    }
+}
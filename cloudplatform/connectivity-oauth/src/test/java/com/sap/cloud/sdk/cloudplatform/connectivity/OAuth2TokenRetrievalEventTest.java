@@ -0,0 +1,78 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class OAuth2TokenRetrievalEventTest
+{
+    private static final String EVENT_NAME = "com.sap.cloud.sdk.OAuth2TokenRetrieval";
+
+    private static final URI TOKEN_URI = URI.create("https://auth.example.com/oauth/token");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventIsTaggedWithTokenServiceAndTenant()
+        throws Exception
+    {
+        final List<RecordedEvent> events = record(() -> {
+            final OAuth2TokenRetrievalEvent successful = new OAuth2TokenRetrievalEvent();
+            successful.begin();
+            successful.commit(TOKEN_URI, OnBehalfOf.TECHNICAL_USER_PROVIDER, "access-token");
+
+            TenantAccessor.executeWithTenant(new DefaultTenant("tenant-a"), () -> {
+                final OAuth2TokenRetrievalEvent failed = new OAuth2TokenRetrievalEvent();
+                failed.begin();
+                failed.commit(TOKEN_URI, OnBehalfOf.TECHNICAL_USER_CURRENT_TENANT, null);
+            });
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events).extracting(event -> event.getString("tokenServiceUri")).containsOnly(TOKEN_URI.toString());
+        assertThat(events.get(0).getString("tenantId")).isNull();
+        assertThat(events.get(0).getString("onBehalfOf")).isEqualTo("TECHNICAL_USER_PROVIDER");
+        assertThat(events.get(0).getLong("tokenSize")).isEqualTo("access-token".length());
+        assertThat(events.get(0).getBoolean("successful")).isTrue();
+
+        assertThat(events.get(1).getString("tenantId")).isEqualTo("tenant-a");
+        assertThat(events.get(1).getString("onBehalfOf")).isEqualTo("TECHNICAL_USER_CURRENT_TENANT");
+        assertThat(events.get(1).getLong("tokenSize")).isZero();
+        assertThat(events.get(1).getBoolean("successful")).isFalse();
+    }
+
+    private List<RecordedEvent> record( final Runnable runnable )
+        throws Exception
+    {
+        final Path dump = tempDir.resolve("recording.jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile
+            .readAllEvents(dump)
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .collect(Collectors.toList());
+    }
+}
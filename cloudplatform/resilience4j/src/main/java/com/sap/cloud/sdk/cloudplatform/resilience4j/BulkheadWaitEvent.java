@@ -0,0 +1,59 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for waiting on a permission of a {@link Bulkhead}. The duration of the event is the time
+ * the call waited for a free slot.
+ */
+@Name( "com.sap.cloud.sdk.BulkheadWait" )
+@Label( "Bulkhead Wait" )
+@Category( { "SAP Cloud SDK", "Resilience" } )
+@Description( "A call waiting for a free slot of a bulkhead." )
+@StackTrace( false )
+class BulkheadWaitEvent extends Event
+{
+    @Label( "Identifier" )
+    String identifier;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "Permitted" )
+    boolean permitted;
+
+    @Label( "Available Concurrent Calls" )
+    int availableConcurrentCalls;
+
+    @Label( "Max Concurrent Calls" )
+    int maxConcurrentCalls;
+
+    /**
+     * Commits this event for the given bulkhead, if the event is enabled in a running recording and exceeds its
+     * threshold.
+     */
+    void commit( @Nonnull final Bulkhead bulkhead, final boolean permitted )
+    {
+        end();
+        if( !shouldCommit() ) {
+            return;
+        }
+        identifier = bulkhead.getName();
+        tenantId = TenantAccessor.tryGetCurrentTenant().map(Tenant::getTenantId).getOrNull();
+        this.permitted = permitted;
+        availableConcurrentCalls = bulkhead.getMetrics().getAvailableConcurrentCalls();
+        maxConcurrentCalls = bulkhead.getMetrics().getMaxAllowedConcurrentCalls();
+        commit();
+    }
+}
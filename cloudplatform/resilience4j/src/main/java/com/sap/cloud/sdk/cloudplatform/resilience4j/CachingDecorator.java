@@ -0,0 +1,54 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.cloudplatform.resilience.CacheFilter;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+
+/**
+ * Decorator that caches the results of decorated callables and allows for clearing the cached results.
+ * <p>
+ * The {@link Resilience4jDecorationStrategy} delegates clearing the cache to all attached caching decorators.
+ *
+ * @since 5.33.0
+ */
+public interface CachingDecorator extends GenericDecorator
+{
+    /**
+     * Clears the cache entries associated with the given {@link ResilienceConfiguration} that are accessible with
+     * respect to the current tenant, principal and the configured cache parameters.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     */
+    default void clearCache( @Nonnull final ResilienceConfiguration configuration )
+    {
+        clearCache(
+            configuration,
+            CacheFilter
+                .and(
+                    CacheFilter.keyMatchesTenant(),
+                    CacheFilter.keyMatchesPrincipal(),
+                    CacheFilter.keyMatchesParameters()));
+    }
+
+    /**
+     * Clears the cache entries associated with the given {@link ResilienceConfiguration} that match the given
+     * {@link CacheFilter}.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     * @param filter
+     *            The filter to select the entries that should be cleared.
+     */
+    void clearCache( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter );
+
+    /**
+     * Clears all cache entries associated with the given {@link ResilienceConfiguration}, independent of tenant,
+     * principal and cache parameters.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     */
+    void clearAllCacheEntries( @Nonnull final ResilienceConfiguration configuration );
+}
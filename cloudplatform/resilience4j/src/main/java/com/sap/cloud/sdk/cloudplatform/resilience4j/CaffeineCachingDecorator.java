@@ -0,0 +1,480 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
+import com.sap.cloud.sdk.cloudplatform.resilience.CacheExpirationStrategy;
+import com.sap.cloud.sdk.cloudplatform.resilience.CacheFilter;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
+import com.sap.cloud.sdk.cloudplatform.security.principal.Principal;
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caching decorator that is backed directly by Caffeine instead of a JCache provider.
+ * <p>
+ * In contrast to the {@link DefaultCachingDecorator}, no JCache provider needs to be available and the cache is not
+ * looked up through the {@code javax.cache} API on every invocation. Every {@link ResilienceConfiguration#identifier()}
+ * gets its own in-memory cache, which is recreated in case the expiration settings of the cache configuration change.
+ * Concurrent invocations that miss the cache for the same key share a single computation of the value.
+ * <p>
+ * Use the {@link DefaultCachingDecorator} instead if a distributed JCache provider is required. To use this decorator,
+ * attach it to a custom {@link Resilience4jDecorationStrategy} instead of the {@link DefaultCachingDecorator}:
+ *
+ * <pre>
+ * ResilienceDecorator
+ *     .setDecorationStrategy(
+ *         Resilience4jDecorationStrategy
+ *             .builder()
+ *             .decorator(new DefaultBulkheadProvider())
+ *             .decorator(new DefaultTimeLimiterProvider())
+ *             .decorator(new DefaultRateLimiterProvider())
+ *             .decorator(new DefaultCircuitBreakerProvider())
+ *             .decorator(new CaffeineCachingDecorator())
+ *             .decorator(new DefaultRetryProvider())
+ *             .build());
+ * </pre>
+ *
+ * @since 5.33.0
+ */
+@Slf4j
+public class CaffeineCachingDecorator implements CachingDecorator
+{
+    private final ConcurrentMap<String, IdentifierCache> caches = new ConcurrentHashMap<>();
+
+    @Nullable
+    private final Weigher<Object, Object> weigher;
+
+    private final long maximumWeight;
+
+    /**
+     * Creates a caching decorator without size limit. Entries are only removed once they expire or the cache is
+     * cleared.
+     */
+    public CaffeineCachingDecorator()
+    {
+        weigher = null;
+        maximumWeight = -1;
+    }
+
+    /**
+     * Creates a caching decorator that limits the size of the cache of every configuration identifier. Once the total
+     * weight of the cached values exceeds the given maximum weight, entries that are unlikely to be used again are
+     * evicted.
+     *
+     * @param maximumWeight
+     *            The maximum total weight of the entries of one configuration identifier.
+     * @param weigher
+     *            The function to determine the weight of a single cache entry from its key and value.
+     */
+    public CaffeineCachingDecorator( final long maximumWeight, @Nonnull final Weigher<Object, Object> weigher )
+    {
+        if( maximumWeight < 0 ) {
+            throw new IllegalArgumentException("The maximum weight must not be negative.");
+        }
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+    }
+
+    @Nonnull
+    @Override
+    public <T> Callable<T> decorateCallable(
+        @Nonnull final Callable<T> callable,
+        @Nonnull final ResilienceConfiguration configuration )
+    {
+        if( !configuration.cacheConfiguration().isEnabled() ) {
+            return callable;
+        }
+
+        final IdentifierCache cache = getCache(configuration);
+        return () -> {
+            final GenericCacheKey<?, ?> cacheKey = DefaultCachingDecorator.determineDataCacheKey(configuration);
+            try {
+                return cache.get(cacheKey, callable);
+            }
+            catch( final Exception e ) {
+                throw new ResilienceRuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Clears the cache entry associated with the given {@link ResilienceConfiguration} for the current tenant,
+     * principal and the configured cache parameters.
+     * <p>
+     * In contrast to {@link #clearCache(ResilienceConfiguration, CacheFilter)}, this only removes a single entry and
+     * does not need to evaluate the other entries of the cache.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     */
+    @Override
+    public void clearCache( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache != null ) {
+            cache.invalidate(DefaultCachingDecorator.determineDataCacheKey(configuration));
+        }
+    }
+
+    @Override
+    public void clearCache( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache == null ) {
+            return;
+        }
+        final Set<GenericCacheKey<?, ?>> keysToClear =
+            cache
+                .keys()
+                .stream()
+                .filter(key -> filter.matches(configuration, key, cache.getQuietly(key)))
+                .collect(Collectors.toSet());
+
+        log
+            .debug(
+                "Removing {} entries from the cache with configuration id \"{}\".",
+                keysToClear.size(),
+                configuration.identifier());
+
+        keysToClear.forEach(cache::invalidate);
+    }
+
+    /**
+     * Clears all cache entries associated with the given {@link ResilienceConfiguration} that belong to the given
+     * tenant, independent of principal and cache parameters.
+     * <p>
+     * The entries are looked up via an index, so that the entries of other tenants are not evaluated.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     * @param tenant
+     *            The tenant to clear the cache entries for.
+     */
+    public
+        void
+        clearTenantCacheEntries( @Nonnull final ResilienceConfiguration configuration, @Nonnull final Tenant tenant )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache != null ) {
+            cache.invalidatePartitions(partition -> tenant.getTenantId().equals(partition.tenantId()));
+        }
+    }
+
+    /**
+     * Clears all cache entries associated with the given {@link ResilienceConfiguration} that belong to the given
+     * principal, independent of tenant and cache parameters.
+     * <p>
+     * The entries are looked up via an index, so that the entries of other principals are not evaluated.
+     *
+     * @param configuration
+     *            The configuration the cache is attached to.
+     * @param principal
+     *            The principal to clear the cache entries for.
+     */
+    public void clearPrincipalCacheEntries(
+        @Nonnull final ResilienceConfiguration configuration,
+        @Nonnull final Principal principal )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache != null ) {
+            cache.invalidatePartitions(partition -> principal.getPrincipalId().equals(partition.principalId()));
+        }
+    }
+
+    @Override
+    public void clearAllCacheEntries( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache != null ) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the number of keys in the tenant and principal index of the given configuration's cache.
+     * <p>
+     * Visibility set to package-private to allow for testing.
+     */
+    long getIndexedKeyCount( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        return cache == null ? 0L : cache.indexedKeyCount();
+    }
+
+    @Nonnull
+    private IdentifierCache getCache( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final ResilienceConfiguration.CacheConfiguration cacheConfig = configuration.cacheConfiguration();
+        final IdentifierCache cache = caches.get(configuration.identifier());
+        if( cache != null && cache.isUsableFor(cacheConfig) ) {
+            return cache;
+        }
+        return caches.compute(configuration.identifier(), ( identifier, previous ) -> {
+            if( previous != null && previous.isUsableFor(cacheConfig) ) {
+                return previous;
+            }
+            if( previous != null ) {
+                log
+                    .info(
+                        "ResilienceConfiguration: {}: Recreating cache since a new cache configuration was detected.",
+                        identifier);
+            }
+            return new IdentifierCache(cacheConfig.expirationDuration(), cacheConfig.expirationStrategy());
+        });
+    }
+
+    private record IsolationPartition( @Nullable String tenantId, @Nullable String principalId )
+    {
+        @Nonnull
+        static IsolationPartition of( @Nonnull final GenericCacheKey<?, ?> key )
+        {
+            return new IsolationPartition(key.getTenantId().getOrNull(), key.getPrincipalId().getOrNull());
+        }
+    }
+
+    /**
+     * The cache of a single configuration identifier, together with an index of its keys per tenant and principal.
+     */
+    private final class IdentifierCache
+    {
+        private final Duration expirationDuration;
+        private final CacheExpirationStrategy expirationStrategy;
+        private final AsyncCache<GenericCacheKey<?, ?>, Object> cache;
+        private final ConcurrentMap<IsolationPartition, Set<GenericCacheKey<?, ?>>> index =
+            new ConcurrentHashMap<>();
+
+        IdentifierCache( @Nonnull final Duration expirationDuration, @Nonnull final CacheExpirationStrategy strategy )
+        {
+            this.expirationDuration = expirationDuration;
+            expirationStrategy = strategy;
+
+            final Caffeine<Object, Object> builder = Caffeine.newBuilder();
+            if( weigher != null ) {
+                builder.maximumWeight(maximumWeight).weigher(weigher);
+            }
+            cache =
+                builder
+                    .expireAfter(new StrategyExpiry(expirationDuration.toNanos(), strategy))
+                    .<GenericCacheKey<?, ?>, Object> evictionListener(( key, value, cause ) -> onEviction(key, cause))
+                    .buildAsync();
+        }
+
+        boolean isUsableFor( @Nonnull final ResilienceConfiguration.CacheConfiguration cacheConfig )
+        {
+            return expirationStrategy == cacheConfig.expirationStrategy()
+                && expirationDuration.equals(cacheConfig.expirationDuration());
+        }
+
+        @Nullable
+        @SuppressWarnings( "unchecked" )
+        <T> T get( @Nonnull final GenericCacheKey<?, ?> key, @Nonnull final Callable<T> callable )
+            throws Exception
+        {
+            final CompletableFuture<Object> cachedValue = cache.getIfPresent(key);
+            if( cachedValue != null ) {
+                return (T) await(key, cachedValue, callable);
+            }
+
+            final LoadingFuture loadingFuture = new LoadingFuture();
+            final CompletableFuture<Object> ongoingLoad = cache.asMap().putIfAbsent(key, loadingFuture);
+            if( ongoingLoad != null ) {
+                return (T) await(key, ongoingLoad, callable);
+            }
+            // the key must only be added to the index once the entry exists, so that evicting a previous entry of the
+            // same key cannot remove it from the index again
+            addToIndex(key);
+
+            try {
+                final T value = callable.call();
+                loadingFuture.complete(value);
+                if( value == null ) {
+                    discard(key, loadingFuture);
+                }
+                return value;
+            }
+            catch( final Exception e ) {
+                loadingFuture.completeExceptionally(e);
+                discard(key, loadingFuture);
+                throw e;
+            }
+        }
+
+        /**
+         * Removes an entry that completed with {@code null} or exceptionally. Caffeine does not keep such entries, but
+         * removes them without notifying the eviction listener, so the index is cleaned up here.
+         */
+        private void discard( @Nonnull final GenericCacheKey<?, ?> key, @Nonnull final LoadingFuture loadingFuture )
+        {
+            cache.asMap().remove(key, loadingFuture);
+            removeFromIndex(key);
+        }
+
+        @Nullable
+        private Object await(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final CompletableFuture<Object> future,
+            @Nonnull final Callable<?> callable )
+            throws Exception
+        {
+            // a re-entrant call from within the callable itself must not wait for its own result
+            if( future instanceof LoadingFuture loadingFuture
+                && loadingFuture.owner == Thread.currentThread()
+                && !future.isDone() ) {
+                log.debug("Detected re-entrant cache access for key {}. Invoking the callable without caching.", key);
+                return callable.call();
+            }
+            try {
+                return future.get();
+            }
+            catch( final InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+            catch( final ExecutionException e ) {
+                if( e.getCause() instanceof Exception cause ) {
+                    throw cause;
+                }
+                if( e.getCause() instanceof Error error ) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        @Nullable
+        Object getQuietly( @Nonnull final GenericCacheKey<?, ?> key )
+        {
+            return cache.synchronous().policy().getIfPresentQuietly(key);
+        }
+
+        @Nonnull
+        Set<GenericCacheKey<?, ?>> keys()
+        {
+            return cache.asMap().keySet();
+        }
+
+        void invalidate( @Nonnull final GenericCacheKey<?, ?> key )
+        {
+            cache.synchronous().invalidate(key);
+            removeFromIndex(key);
+        }
+
+        void invalidatePartitions( @Nonnull final Predicate<IsolationPartition> partitionFilter )
+        {
+            index.forEach(( partition, keys ) -> {
+                if( partitionFilter.test(partition) ) {
+                    keys.forEach(this::invalidate);
+                }
+            });
+        }
+
+        void invalidateAll()
+        {
+            cache.synchronous().invalidateAll();
+            index.clear();
+        }
+
+        private void onEviction( @Nullable final GenericCacheKey<?, ?> key, @Nonnull final RemovalCause cause )
+        {
+            if( key != null && cause != RemovalCause.REPLACED ) {
+                removeFromIndex(key);
+            }
+        }
+
+        long indexedKeyCount()
+        {
+            return index.values().stream().mapToLong(Set::size).sum();
+        }
+
+        private void addToIndex( @Nonnull final GenericCacheKey<?, ?> key )
+        {
+            index.compute(IsolationPartition.of(key), ( partition, keys ) -> {
+                final Set<GenericCacheKey<?, ?>> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                result.add(key);
+                return result;
+            });
+        }
+
+        private void removeFromIndex( @Nonnull final GenericCacheKey<?, ?> key )
+        {
+            // updated atomically with the additions to the same partition, so that a key that meanwhile belongs to a
+            // new entry is kept and partitions without keys are removed
+            index.computeIfPresent(IsolationPartition.of(key), ( partition, keys ) -> {
+                if( !cache.asMap().containsKey(key) ) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * A value that is being loaded by the thread that created it.
+     */
+    private static final class LoadingFuture extends CompletableFuture<Object>
+    {
+        private final Thread owner = Thread.currentThread();
+    }
+
+    /**
+     * Translates a {@link CacheExpirationStrategy} into the expiration of individual Caffeine entries.
+     */
+    private record StrategyExpiry( long durationNanos, @Nonnull CacheExpirationStrategy strategy )
+        implements
+        Expiry<GenericCacheKey<?, ?>, Object>
+    {
+        @Override
+        public long expireAfterCreate(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final Object value,
+            final long currentTime )
+        {
+            return durationNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final Object value,
+            final long currentTime,
+            final long currentDuration )
+        {
+            return switch( strategy ) {
+                case WHEN_LAST_MODIFIED, WHEN_LAST_TOUCHED -> durationNanos;
+                case WHEN_CREATED, WHEN_LAST_ACCESSED -> currentDuration;
+            };
+        }
+
+        @Override
+        public long expireAfterRead(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final Object value,
+            final long currentTime,
+            final long currentDuration )
+        {
+            return switch( strategy ) {
+                case WHEN_LAST_ACCESSED, WHEN_LAST_TOUCHED -> durationNanos;
+                case WHEN_CREATED, WHEN_LAST_MODIFIED -> currentDuration;
+            };
+        }
+    }
+}
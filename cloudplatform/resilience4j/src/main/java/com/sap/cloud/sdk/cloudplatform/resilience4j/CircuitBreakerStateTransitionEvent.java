@@ -0,0 +1,54 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a state transition of a {@link CircuitBreaker}, e.g. when it opens.
+ */
+@Name( "com.sap.cloud.sdk.CircuitBreakerStateTransition" )
+@Label( "Circuit Breaker State Transition" )
+@Category( { "SAP Cloud SDK", "Resilience" } )
+@Description( "A circuit breaker changed its state." )
+@StackTrace( false )
+class CircuitBreakerStateTransitionEvent extends Event
+{
+    @Label( "Identifier" )
+    String identifier;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "From State" )
+    String fromState;
+
+    @Label( "To State" )
+    String toState;
+
+    /**
+     * Commits an event for the given state transition, if the event is enabled in a running recording.
+     */
+    static void commit(
+        @Nullable final String tenantId,
+        @Nonnull final CircuitBreakerOnStateTransitionEvent transitionEvent )
+    {
+        final CircuitBreakerStateTransitionEvent event = new CircuitBreakerStateTransitionEvent();
+        if( !event.shouldCommit() ) {
+            return;
+        }
+        event.identifier = transitionEvent.getCircuitBreakerName();
+        event.tenantId = tenantId;
+        event.fromState = transitionEvent.getStateTransition().getFromState().name();
+        event.toState = transitionEvent.getStateTransition().getToState().name();
+        event.commit();
+    }
+}
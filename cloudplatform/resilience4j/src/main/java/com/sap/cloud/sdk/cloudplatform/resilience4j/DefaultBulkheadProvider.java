@@ -37,7 +37,27 @@ public class DefaultBulkheadProvider implements BulkheadProvider, GenericDecorat
         if( !configuration.bulkheadConfiguration().isEnabled() ) {
             return callable;
         }
-        return Bulkhead.decorateCallable(getBulkhead(configuration), callable);
+        final Bulkhead bulkhead = getBulkhead(configuration);
+        // equivalent to Bulkhead.decorateCallable(), while recording the time waited for a permission
+        return () -> {
+            final BulkheadWaitEvent event = new BulkheadWaitEvent();
+            event.begin();
+            try {
+                bulkhead.acquirePermission();
+            }
+            catch( final RuntimeException e ) {
+                event.commit(bulkhead, false);
+                throw e;
+            }
+            event.commit(bulkhead, true);
+
+            try {
+                return callable.call();
+            }
+            finally {
+                bulkhead.onComplete();
+            }
+        };
     }
 
     @Nonnull
@@ -5,10 +5,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -31,25 +34,35 @@ import javax.cache.spi.CachingProvider;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Streams;
 import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
 import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
 import com.sap.cloud.sdk.cloudplatform.cache.SerializableCacheKey;
 import com.sap.cloud.sdk.cloudplatform.exception.ShouldNotHappenException;
 import com.sap.cloud.sdk.cloudplatform.resilience.CacheExpirationStrategy;
+import com.sap.cloud.sdk.cloudplatform.resilience.CacheFilter;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationKey;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
 import com.sap.cloud.sdk.cloudplatform.security.principal.Principal;
 import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
 
+import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Default caching decorator.
+ * <p>
+ * Concurrent invocations that miss the cache for the same key share a single computation of the value. Optionally,
+ * previously loaded values can be served for a limited time after they expired, while a fresh value is loaded in the
+ * background (stale-while-revalidate).
  */
 @Slf4j
-public class DefaultCachingDecorator implements GenericDecorator
+public class DefaultCachingDecorator implements CachingDecorator
 {
     private static final Map<CacheExpirationStrategy, Function<Duration, Factory<ExpiryPolicy>>> EXPIRY_STRATEGY_FACTORY_MAP =
         ImmutableMap
@@ -60,10 +73,67 @@ public class DefaultCachingDecorator implements GenericDecorator
             .put(CacheExpirationStrategy.WHEN_LAST_MODIFIED, ModifiedExpiryPolicy::factoryOf)
             .build();
 
-    // Cache used to enforce that the cache provider is only executed once to determine a value
+    private static final long MAX_STALE_ENTRIES = 10_000L;
+
+    // Values that are currently being loaded, used to enforce that the cache provider is only executed once per key
     // Visibility set to package-private to allow for testing
-    static final Cache<GenericCacheKey<?, ?>, Lock> lockCache =
-        Caffeine.newBuilder().expireAfterAccess(java.time.Duration.ofMinutes(30)).build();
+    static final ConcurrentMap<GenericCacheKey<?, ?>, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CacheReference> cacheReferences = new ConcurrentHashMap<>();
+
+    @Nullable
+    private final java.time.Duration staleWhileRevalidate;
+
+    @Nullable
+    private final Cache<GenericCacheKey<?, ?>, StaleEntry> staleEntries;
+
+    /**
+     * Creates a caching decorator that never serves expired values.
+     */
+    public DefaultCachingDecorator()
+    {
+        staleWhileRevalidate = null;
+        staleEntries = null;
+    }
+
+    /**
+     * Creates a caching decorator that serves expired values for the given duration while the value is reloaded in
+     * the background.
+     * <p>
+     * The duration is added on top of the configured expiration duration and is measured from the time a value was
+     * loaded. Stale values are removed together with the regular cache entries when the cache is cleared.
+     *
+     * @param staleWhileRevalidate
+     *            The duration for which an expired value may still be served.
+     * @since 5.33.0
+     */
+    public DefaultCachingDecorator( @Nonnull final java.time.Duration staleWhileRevalidate )
+    {
+        this(staleWhileRevalidate, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a caching decorator that serves expired values for the given duration, measuring the retention of
+     * expired values with the given ticker.
+     * <p>
+     * <strong>Caution:</strong> This constructor is intended for <strong>testing purposes only</strong>.
+     *
+     * @param staleWhileRevalidate
+     *            The duration for which an expired value may still be served.
+     * @param ticker
+     *            The {@link Ticker} to determine the passed time.
+     */
+    DefaultCachingDecorator( @Nonnull final java.time.Duration staleWhileRevalidate, @Nonnull final Ticker ticker )
+    {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        staleEntries =
+            Caffeine
+                .newBuilder()
+                .maximumSize(MAX_STALE_ENTRIES)
+                .expireAfter(new StaleEntryExpiry())
+                .ticker(ticker)
+                .build();
+    }
 
     @Nonnull
     @Override
@@ -96,32 +166,12 @@ public class DefaultCachingDecorator implements GenericDecorator
     }
 
     @Nonnull
-    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
-    private synchronized <T> Callable<T> decorateCallableWithCache(
+    private <T> Callable<T> decorateCallableWithCache(
         @Nonnull final Callable<T> callable,
         @Nonnull final ResilienceConfiguration configuration )
     {
-        final CachingProvider cachingProvider = Caching.getCachingProvider();
-        final CacheManager cacheManager = cachingProvider.getCacheManager();
-
-        final ResilienceConfiguration.CacheConfiguration cacheConfig = configuration.cacheConfiguration();
-        final String cacheName = configuration.identifier();
+        final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache = getCache(configuration);
 
-        // The cache (re-) creation must be synchronized to avoid race conditions
-        // To avoid complicated double-checked locking we synchronize the overall method
-        final javax.cache.Cache<GenericCacheKey<?, ?>, T> cacheInstance = cacheManager.getCache(cacheName);
-        final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache;
-        // create new Cache instance if none was found for the given name
-        if( cacheInstance == null ) {
-            cache = cacheManager.createCache(cacheName, createCacheConfiguration(cacheConfig));
-        }
-        // re-create the cache instance if the configuration has changed
-        else {
-            cache = recreateCacheOnNewConfiguration(cacheInstance, configuration, cacheManager);
-        }
-
-        // note that the "synchronised" declaration of this method does not apply to the execution of this lambda returned here
-        // the lambda will not (and should not) be executed in a synchronised manner
         return () -> {
             // in case the cache was destroyed (not to confuse with invalidation) we just directly execute the given callable, without caching
             // this is done to stay behavior compatible with the formerly used resilience4j API that was used here
@@ -134,34 +184,240 @@ public class DefaultCachingDecorator implements GenericDecorator
                 return callable.call();
             }
 
-            final GenericCacheKey<?, ?> lockCacheKey = determineLockCacheKey(configuration);
+            final GenericCacheKey<?, ?> requestKey = determineRequestKey(configuration);
             final GenericCacheKey<?, ?> dataCacheKey = determineDataCacheKey(configuration);
-            final Lock lock = lockCache.get(lockCacheKey, mapKey -> new ReentrantLock());
             try {
-                lock.lock();
                 final T value = cache.get(dataCacheKey);
-                if( !isCachedValueValid(value) ) {
-                    final T actualValue = callable.call();
-                    cache.put(dataCacheKey, actualValue);
-                    return actualValue;
+                if( isCachedValueValid(value) ) {
+                    return value;
+                }
+                final T staleValue = getStaleValue(requestKey);
+                if( isCachedValueValid(staleValue) ) {
+                    revalidateInBackground(requestKey, dataCacheKey, cache, callable, configuration);
+                    return staleValue;
                 }
-                return value;
+                return loadValue(requestKey, dataCacheKey, cache, callable, configuration);
             }
             catch( final Exception e ) {
                 throw new ResilienceRuntimeException(e);
             }
-            finally {
-                lock.unlock();
-            }
         };
     }
 
-    private static GenericCacheKey<?, ?> determineLockCacheKey( final ResilienceConfiguration configuration )
+    /**
+     * Loads the value for the given key, unless another thread is already loading it. In that case the result of the
+     * ongoing computation is shared instead of invoking the callable again.
+     */
+    @SuppressWarnings( "unchecked" )
+    private <T> T loadValue(
+        @Nonnull final GenericCacheKey<?, ?> requestKey,
+        @Nonnull final GenericCacheKey<?, ?> dataCacheKey,
+        @Nonnull final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache,
+        @Nonnull final Callable<T> callable,
+        @Nonnull final ResilienceConfiguration configuration )
+        throws Exception
+    {
+        final InFlightRequest request = new InFlightRequest(Thread.currentThread(), new CompletableFuture<>());
+        final InFlightRequest ongoingRequest = inFlightRequests.putIfAbsent(requestKey, request);
+
+        if( ongoingRequest != null && ongoingRequest.owner() != Thread.currentThread() ) {
+            return (T) ongoingRequest.await();
+        }
+        // a re-entrant call from within the callable itself must not wait for its own result
+        final boolean isLeader = ongoingRequest == null;
+
+        try {
+            // another thread might have completed loading in between the first cache lookup and now
+            T value = cache.get(dataCacheKey);
+            if( !isCachedValueValid(value) ) {
+                value = callable.call();
+                cache.put(dataCacheKey, value);
+                putStaleValue(requestKey, dataCacheKey, value, configuration);
+            }
+            if( isLeader ) {
+                request.result().complete(value);
+            }
+            return value;
+        }
+        catch( final Exception e ) {
+            if( isLeader ) {
+                request.result().completeExceptionally(e);
+            }
+            throw e;
+        }
+        finally {
+            if( isLeader ) {
+                inFlightRequests.remove(requestKey, request);
+            }
+        }
+    }
+
+    private <T> void revalidateInBackground(
+        @Nonnull final GenericCacheKey<?, ?> requestKey,
+        @Nonnull final GenericCacheKey<?, ?> dataCacheKey,
+        @Nonnull final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache,
+        @Nonnull final Callable<T> callable,
+        @Nonnull final ResilienceConfiguration configuration )
+    {
+        if( inFlightRequests.containsKey(requestKey) ) {
+            return;
+        }
+        ThreadContextExecutors
+            .execute(
+                () -> Try
+                    .ofCallable(() -> loadValue(requestKey, dataCacheKey, cache, callable, configuration))
+                    .onFailure(
+                        e -> log
+                            .debug(
+                                "ResilienceConfiguration: {}: Failed to revalidate a stale cache entry.",
+                                configuration.identifier(),
+                                e)));
+    }
+
+    @Nullable
+    @SuppressWarnings( "unchecked" )
+    private <T> T getStaleValue( @Nonnull final GenericCacheKey<?, ?> requestKey )
+    {
+        if( staleEntries == null ) {
+            return null;
+        }
+        final StaleEntry staleEntry = staleEntries.getIfPresent(requestKey);
+        return staleEntry == null ? null : (T) staleEntry.value();
+    }
+
+    private void putStaleValue(
+        @Nonnull final GenericCacheKey<?, ?> requestKey,
+        @Nonnull final GenericCacheKey<?, ?> dataCacheKey,
+        @Nullable final Object value,
+        @Nonnull final ResilienceConfiguration configuration )
+    {
+        if( staleEntries == null || staleWhileRevalidate == null || !isCachedValueValid(value) ) {
+            return;
+        }
+        final java.time.Duration retention =
+            configuration.cacheConfiguration().expirationDuration().plus(staleWhileRevalidate);
+        staleEntries.put(requestKey, new StaleEntry(configuration.identifier(), dataCacheKey, value, retention));
+    }
+
+    @Override
+    public void clearCache( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter )
+    {
+        clearStaleEntries(configuration, filter);
+        clearJCache(configuration, filter);
+    }
+
+    @Override
+    public void clearAllCacheEntries( @Nonnull final ResilienceConfiguration configuration )
+    {
+        clearStaleEntries(configuration, ( config, cacheKey, cacheEntry ) -> true);
+        clearAllJCacheEntries(configuration);
+    }
+
+    private void clearStaleEntries( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter )
+    {
+        if( staleEntries == null ) {
+            return;
+        }
+        staleEntries
+            .asMap()
+            .entrySet()
+            .removeIf(
+                entry -> entry.getValue().identifier().equals(configuration.identifier())
+                    && filter.matches(configuration, entry.getValue().dataCacheKey(), entry.getValue().value()));
+    }
+
+    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
+    static void clearJCache( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter )
+    {
+        final javax.cache.Cache<GenericCacheKey<?, ?>, ?> cache =
+            Caching.getCachingProvider().getCacheManager().getCache(configuration.identifier());
+        if( cache == null ) {
+            return;
+        }
+
+        final Set<GenericCacheKey<?, ?>> keysToClear =
+            Streams
+                .stream(cache)
+                .filter(entry -> filter.matches(configuration, entry.getKey(), entry.getValue()))
+                .map(javax.cache.Cache.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        log
+            .debug(
+                "Removing {} entries from the cache with configuration id \"{}\".",
+                keysToClear.size(),
+                configuration.identifier());
+
+        cache.removeAll(keysToClear);
+    }
+
+    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
+    static void clearAllJCacheEntries( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final javax.cache.Cache<?, ?> cache =
+            Caching.getCachingProvider().getCacheManager().getCache(configuration.identifier());
+        if( cache != null ) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the JCache instance for the given configuration. The instance is remembered per configuration
+     * identifier, so that the cache provider only needs to be consulted again if the cache configuration changed or
+     * the cache was closed.
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    private <T> javax.cache.Cache<GenericCacheKey<?, ?>, T> getCache( @Nonnull final ResilienceConfiguration configuration )
+    {
+        final ResilienceConfiguration.CacheConfiguration cacheConfig = configuration.cacheConfiguration();
+        final CacheReference reference = cacheReferences.get(configuration.identifier());
+        if( reference != null && reference.isUsableFor(cacheConfig) ) {
+            return (javax.cache.Cache<GenericCacheKey<?, ?>, T>) reference.cache();
+        }
+
+        // The cache (re-) creation must be synchronized to avoid race conditions
+        // This is achieved by the atomic compute operation, which only locks the entry of the given identifier
+        final CacheReference newReference =
+            cacheReferences
+                .compute(
+                    configuration.identifier(),
+                    ( identifier, previous ) -> previous != null && previous.isUsableFor(cacheConfig)
+                        ? previous
+                        : new CacheReference(
+                            Caching.getDefaultClassLoader(),
+                            cacheConfig.expirationDuration(),
+                            cacheConfig.expirationStrategy(),
+                            lookupCache(configuration)));
+        return (javax.cache.Cache<GenericCacheKey<?, ?>, T>) newReference.cache();
+    }
+
+    @Nonnull
+    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
+    private <T> javax.cache.Cache<GenericCacheKey<?, ?>, T> lookupCache(
+        @Nonnull final ResilienceConfiguration configuration )
+    {
+        final CachingProvider cachingProvider = Caching.getCachingProvider();
+        final CacheManager cacheManager = cachingProvider.getCacheManager();
+
+        final ResilienceConfiguration.CacheConfiguration cacheConfig = configuration.cacheConfiguration();
+        final String cacheName = configuration.identifier();
+
+        final javax.cache.Cache<GenericCacheKey<?, ?>, T> cacheInstance = cacheManager.getCache(cacheName);
+        // create new Cache instance if none was found for the given name
+        if( cacheInstance == null ) {
+            return cacheManager.createCache(cacheName, createCacheConfiguration(cacheConfig));
+        }
+        // re-create the cache instance if the configuration has changed
+        return recreateCacheOnNewConfiguration(cacheInstance, configuration, cacheManager);
+    }
+
+    private static GenericCacheKey<?, ?> determineRequestKey( final ResilienceConfiguration configuration )
     {
         return determineBaseCacheKey(configuration, true);
     }
 
-    private static GenericCacheKey<?, ?> determineDataCacheKey( final ResilienceConfiguration configuration )
+    static GenericCacheKey<?, ?> determineDataCacheKey( final ResilienceConfiguration configuration )
     {
         return determineBaseCacheKey(configuration, false);
     }
@@ -226,7 +482,7 @@ public class DefaultCachingDecorator implements GenericDecorator
 
     @SuppressWarnings( "unchecked" )
     @Nonnull
-    private synchronized <T> javax.cache.Cache<GenericCacheKey<?, ?>, T> recreateCacheOnNewConfiguration(
+    private <T> javax.cache.Cache<GenericCacheKey<?, ?>, T> recreateCacheOnNewConfiguration(
         @Nonnull final javax.cache.Cache<GenericCacheKey<?, ?>, T> cacheInstance,
         @Nonnull final ResilienceConfiguration resilienceConfiguration,
         @Nonnull final CacheManager cacheManager )
@@ -298,4 +554,84 @@ public class DefaultCachingDecorator implements GenericDecorator
         }
         return factoryMethod.apply(cacheDuration);
     }
+
+    private record CacheReference(
+        @Nullable ClassLoader classLoader,
+        @Nonnull java.time.Duration expirationDuration,
+        @Nonnull CacheExpirationStrategy expirationStrategy,
+        @Nonnull javax.cache.Cache<GenericCacheKey<?, ?>, ?> cache )
+    {
+        boolean isUsableFor( @Nonnull final ResilienceConfiguration.CacheConfiguration cacheConfig )
+        {
+            return !cache.isClosed()
+                && classLoader == Caching.getDefaultClassLoader()
+                && expirationStrategy == cacheConfig.expirationStrategy()
+                && expirationDuration.equals(cacheConfig.expirationDuration());
+        }
+    }
+
+    record InFlightRequest( @Nonnull Thread owner, @Nonnull CompletableFuture<Object> result )
+    {
+        @Nullable
+        Object await()
+            throws Exception
+        {
+            try {
+                return result.get();
+            }
+            catch( final InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+            catch( final ExecutionException e ) {
+                if( e.getCause() instanceof Exception cause ) {
+                    throw cause;
+                }
+                if( e.getCause() instanceof Error error ) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private record StaleEntry(
+        @Nonnull String identifier,
+        @Nonnull GenericCacheKey<?, ?> dataCacheKey,
+        @Nonnull Object value,
+        @Nonnull java.time.Duration retention )
+    {
+    }
+
+    private static final class StaleEntryExpiry implements Expiry<GenericCacheKey<?, ?>, StaleEntry>
+    {
+        @Override
+        public long expireAfterCreate(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final StaleEntry value,
+            final long currentTime )
+        {
+            return value.retention().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final StaleEntry value,
+            final long currentTime,
+            final long currentDuration )
+        {
+            return value.retention().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(
+            @Nonnull final GenericCacheKey<?, ?> key,
+            @Nonnull final StaleEntry value,
+            final long currentTime,
+            final long currentDuration )
+        {
+            return currentDuration;
+        }
+    }
 }
@@ -35,7 +35,23 @@ public class DefaultCircuitBreakerProvider implements CircuitBreakerProvider, Ge
     private CircuitBreakerRegistry getCircuitBreakerRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
         return circuitBreakerRegistries
-            .computeIfAbsent(isolationKey, ( k ) -> CircuitBreakerRegistry.of(DEFAULT_CIRCUIT_BREAKER_CONFIG));
+            .computeIfAbsent(isolationKey, DefaultCircuitBreakerProvider::newRegistry);
+    }
+
+    @Nonnull
+    private static CircuitBreakerRegistry newRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
+    {
+        final String tenantId = isolationKey.getTenant() == null ? null : isolationKey.getTenant().getTenantId();
+        final CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(DEFAULT_CIRCUIT_BREAKER_CONFIG);
+        registry
+            .getEventPublisher()
+            .onEntryAdded(
+                added -> added
+                    .getAddedEntry()
+                    .getEventPublisher()
+                    .onStateTransition(
+                        transitionEvent -> CircuitBreakerStateTransitionEvent.commit(tenantId, transitionEvent)));
+        return registry;
     }
 
     @Nonnull
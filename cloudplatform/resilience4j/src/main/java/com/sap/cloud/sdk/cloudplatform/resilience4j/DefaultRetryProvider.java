@@ -25,7 +25,22 @@ public class DefaultRetryProvider implements RetryProvider, GenericDecorator
 
     private RetryRegistry getRetryRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
-        return retryRegistries.computeIfAbsent(isolationKey, ( k ) -> RetryRegistry.of(DEFAULT_RETRY_CONFIG));
+        return retryRegistries.computeIfAbsent(isolationKey, DefaultRetryProvider::newRegistry);
+    }
+
+    @Nonnull
+    private static RetryRegistry newRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
+    {
+        final String tenantId = isolationKey.getTenant() == null ? null : isolationKey.getTenant().getTenantId();
+        final RetryRegistry retryRegistry = RetryRegistry.of(DEFAULT_RETRY_CONFIG);
+        retryRegistry
+            .getEventPublisher()
+            .onEntryAdded(
+                added -> added
+                    .getAddedEntry()
+                    .getEventPublisher()
+                    .onRetry(retryEvent -> RetryAttemptEvent.commit(tenantId, retryEvent)));
+        return retryRegistry;
     }
 
     @Nonnull
@@ -3,7 +3,6 @@ package com.sap.cloud.sdk.cloudplatform.resilience4j;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -11,11 +10,7 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import javax.cache.Cache;
-import javax.cache.Caching;
 
-import com.google.common.collect.Streams;
-import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
 import com.sap.cloud.sdk.cloudplatform.resilience.CacheFilter;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceDecorationStrategy;
@@ -40,6 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor( access = AccessLevel.PRIVATE )
 public class Resilience4jDecorationStrategy implements ResilienceDecorationStrategy
 {
+    private static final CacheFilter DEFAULT_CACHE_FILTER =
+        CacheFilter
+            .and(CacheFilter.keyMatchesTenant(), CacheFilter.keyMatchesPrincipal(), CacheFilter.keyMatchesParameters());
+
     @Nonnull
     @Singular
     private final List<GenericDecorator> decorators;
@@ -97,52 +96,43 @@ public class Resilience4jDecorationStrategy implements ResilienceDecorationStrat
     }
 
     @Override
-    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
     public void clearCache( @Nonnull final ResilienceConfiguration configuration )
     {
-        clearCache(
-            configuration,
-            CacheFilter
-                .and(
-                    CacheFilter.keyMatchesTenant(),
-                    CacheFilter.keyMatchesPrincipal(),
-                    CacheFilter.keyMatchesParameters()));
+        final List<CachingDecorator> cachingDecorators = getCachingDecorators();
+        if( cachingDecorators.isEmpty() ) {
+            DefaultCachingDecorator.clearJCache(configuration, DEFAULT_CACHE_FILTER);
+        }
+        cachingDecorators.forEach(decorator -> decorator.clearCache(configuration));
     }
 
     @Override
-    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
     public void clearCache( @Nonnull final ResilienceConfiguration configuration, @Nonnull final CacheFilter filter )
     {
-        final Cache<GenericCacheKey<?, ?>, ?> cache =
-            Caching.getCachingProvider().getCacheManager().getCache(configuration.identifier());
-        if( cache == null ) {
-            return;
+        final List<CachingDecorator> cachingDecorators = getCachingDecorators();
+        if( cachingDecorators.isEmpty() ) {
+            DefaultCachingDecorator.clearJCache(configuration, filter);
         }
-
-        final Set<GenericCacheKey<?, ?>> keysToClear =
-            Streams
-                .stream(cache)
-                .filter(entry -> filter.matches(configuration, entry.getKey(), entry.getValue()))
-                .map(Cache.Entry::getKey)
-                .collect(Collectors.toSet());
-
-        log
-            .debug(
-                "Removing {} entries from the cache with configuration id \"{}\".",
-                keysToClear.size(),
-                configuration.identifier());
-
-        cache.removeAll(keysToClear);
+        cachingDecorators.forEach(decorator -> decorator.clearCache(configuration, filter));
     }
 
     @Override
-    @SuppressWarnings( "PMD.CloseResource" ) // closing JCache resource will disable caching feature
     public void clearAllCacheEntries( @Nonnull final ResilienceConfiguration configuration )
     {
-        final Cache<?, ?> cache = Caching.getCachingProvider().getCacheManager().getCache(configuration.identifier());
-        if( cache != null ) {
-            cache.clear();
+        final List<CachingDecorator> cachingDecorators = getCachingDecorators();
+        if( cachingDecorators.isEmpty() ) {
+            DefaultCachingDecorator.clearAllJCacheEntries(configuration);
         }
+        cachingDecorators.forEach(decorator -> decorator.clearAllCacheEntries(configuration));
+    }
+
+    @Nonnull
+    private List<CachingDecorator> getCachingDecorators()
+    {
+        return decorators
+            .stream()
+            .filter(CachingDecorator.class::isInstance)
+            .map(CachingDecorator.class::cast)
+            .collect(Collectors.toList());
     }
 
     @Nonnull
@@ -0,0 +1,59 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.event.RetryOnRetryEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event for a failed attempt of a {@link Retry}, after which the call is attempted again.
+ */
+@Name( "com.sap.cloud.sdk.RetryAttempt" )
+@Label( "Retry Attempt" )
+@Category( { "SAP Cloud SDK", "Resilience" } )
+@Description( "A failed attempt of a call that is retried." )
+@StackTrace( false )
+class RetryAttemptEvent extends Event
+{
+    @Label( "Identifier" )
+    String identifier;
+
+    @Label( "Tenant" )
+    String tenantId;
+
+    @Label( "Attempt" )
+    @Description( "The number of the failed attempt." )
+    int attempt;
+
+    @Label( "Wait Interval" )
+    @Timespan
+    long waitInterval;
+
+    @Label( "Exception" )
+    Class<?> exceptionClass;
+
+    /**
+     * Commits an event for the given retry, if the event is enabled in a running recording.
+     */
+    static void commit( @Nullable final String tenantId, @Nonnull final RetryOnRetryEvent retryEvent )
+    {
+        final RetryAttemptEvent event = new RetryAttemptEvent();
+        if( !event.shouldCommit() ) {
+            return;
+        }
+        event.identifier = retryEvent.getName();
+        event.tenantId = tenantId;
+        event.attempt = retryEvent.getNumberOfRetryAttempts();
+        event.waitInterval = retryEvent.getWaitInterval().toNanos();
+        event.exceptionClass = retryEvent.getLastThrowable() == null ? null : retryEvent.getLastThrowable().getClass();
+        event.commit();
+    }
+}
@@ -0,0 +1,257 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.CacheConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sap.cloud.sdk.cloudplatform.resilience.CacheFilter;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationMode;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.testutil.TestContext;
+
+import io.vavr.control.Try;
+import lombok.SneakyThrows;
+
+class CaffeineCachingDecoratorTest
+{
+    @RegisterExtension
+    static final TestContext context = TestContext.withThreadContext();
+
+    private static ResilienceConfiguration configuration( final String identifier, final Duration duration )
+    {
+        return ResilienceConfiguration
+            .of(identifier)
+            .isolationMode(ResilienceIsolationMode.TENANT_OPTIONAL)
+            .cacheConfiguration(CacheConfiguration.of(duration).withoutParameters());
+    }
+
+    @Test
+    @SneakyThrows
+    void testValueIsCached()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.cached", Duration.ofHours(1));
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        final Callable<Integer> callable =
+            new CaffeineCachingDecorator().decorateCallable(counter::incrementAndGet, configuration);
+
+        assertThat(callable.call()).isEqualTo(1);
+        assertThat(callable.call()).isEqualTo(1);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testValueExpires()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.expired", Duration.ofMillis(100));
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        final Callable<Integer> callable =
+            new CaffeineCachingDecorator().decorateCallable(counter::incrementAndGet, configuration);
+
+        assertThat(callable.call()).isEqualTo(1);
+        Thread.sleep(200);
+        assertThat(callable.call()).isEqualTo(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void testCacheIsRecreatedOnNewConfiguration()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.recreated", Duration.ofHours(1));
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator();
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        assertThat(decorator.decorateCallable(counter::incrementAndGet, configuration).call()).isEqualTo(1);
+        assertThat(decorator.decorateCallable(counter::incrementAndGet, configuration).call()).isEqualTo(1);
+
+        configuration.cacheConfiguration(CacheConfiguration.of(Duration.ofHours(2)).withoutParameters());
+        assertThat(decorator.decorateCallable(counter::incrementAndGet, configuration).call()).isEqualTo(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void testConcurrentCallsShareSingleComputation()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.single.flight", Duration.ofHours(1));
+        final CountDownLatch computationStarted = new CountDownLatch(1);
+        final CountDownLatch releaseComputation = new CountDownLatch(1);
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        final Callable<Integer> callable = new CaffeineCachingDecorator().decorateCallable(() -> {
+            computationStarted.countDown();
+            releaseComputation.await();
+            return counter.incrementAndGet();
+        }, configuration);
+
+        final CompletableFuture<Integer> firstCall =
+            CompletableFuture.supplyAsync(() -> Try.ofCallable(callable).get());
+        computationStarted.await();
+        final CompletableFuture<Integer> secondCall =
+            CompletableFuture.supplyAsync(() -> Try.ofCallable(callable).get());
+
+        // the second call does not start another computation, so it cannot finish before the first one is released
+        Thread.sleep(100);
+        assertThat(secondCall).isNotDone();
+        releaseComputation.countDown();
+
+        assertThat(firstCall.get()).isEqualTo(1);
+        assertThat(secondCall.get()).isEqualTo(1);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testFailedComputationIsNotCached()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.failure", Duration.ofHours(1));
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        final Callable<Integer> callable = new CaffeineCachingDecorator().decorateCallable(() -> {
+            if( counter.incrementAndGet() == 1 ) {
+                throw new IllegalStateException("Simulated failure.");
+            }
+            return counter.get();
+        }, configuration);
+
+        assertThatCode(callable::call)
+            .isInstanceOf(ResilienceRuntimeException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(callable.call()).isEqualTo(2);
+        assertThat(callable.call()).isEqualTo(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void testFailedComputationIsRemovedFromIndex()
+    {
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator();
+        final ResilienceConfiguration configuration = configuration("test.caffeine.index.failure", Duration.ofHours(1));
+
+        for( int i = 0; i < 10; i++ ) {
+            configuration.cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withParameters(i));
+            final Callable<Integer> callable = decorator.decorateCallable(() -> {
+                throw new IllegalStateException("Simulated failure.");
+            }, configuration);
+
+            assertThatCode(callable::call).isInstanceOf(ResilienceRuntimeException.class);
+        }
+
+        assertThat(decorator.getIndexedKeyCount(configuration)).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void testNullValueIsRemovedFromIndex()
+    {
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator();
+        final ResilienceConfiguration configuration = configuration("test.caffeine.index.null", Duration.ofHours(1));
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        for( int i = 0; i < 10; i++ ) {
+            configuration.cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withParameters(i));
+            final Callable<Integer> callable = decorator.decorateCallable(() -> {
+                counter.incrementAndGet();
+                return null;
+            }, configuration);
+
+            assertThat(callable.call()).isNull();
+            assertThat(callable.call()).isNull();
+        }
+
+        // null values are not cached
+        assertThat(counter).hasValue(20);
+        assertThat(decorator.getIndexedKeyCount(configuration)).isZero();
+
+        // successfully loaded values remain indexed
+        decorator.decorateCallable(counter::incrementAndGet, configuration).call();
+        assertThat(decorator.getIndexedKeyCount(configuration)).isEqualTo(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testMaximumWeightIsRespected()
+    {
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator(1, ( key, value ) -> 1);
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        for( int i = 0; i < 100; i++ ) {
+            final ResilienceConfiguration configuration =
+                ResilienceConfiguration
+                    .of("test.caffeine.weight")
+                    .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withParameters(i));
+            decorator.decorateCallable(counter::incrementAndGet, configuration).call();
+        }
+        final ResilienceConfiguration firstConfiguration =
+            ResilienceConfiguration
+                .of("test.caffeine.weight")
+                .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withParameters(0));
+
+        // the first entry was evicted at some point, so the value is computed again
+        assertThat(decorator.decorateCallable(counter::incrementAndGet, firstConfiguration).call()).isEqualTo(101);
+    }
+
+    @Test
+    @SneakyThrows
+    void testClearCache()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.clear", Duration.ofHours(1));
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator();
+        final Resilience4jDecorationStrategy strategy = new Resilience4jDecorationStrategy(decorator);
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> callable = decorator.decorateCallable(counter::incrementAndGet, configuration);
+
+        context.setTenant("tenant-a");
+        assertThat(callable.call()).isEqualTo(1);
+        context.setTenant("tenant-b");
+        assertThat(callable.call()).isEqualTo(2);
+
+        strategy.clearCache(configuration);
+        assertThat(callable.call()).isEqualTo(3);
+        context.setTenant("tenant-a");
+        assertThat(callable.call()).isEqualTo(1);
+
+        strategy.clearCache(configuration, CacheFilter.keyMatchesTenant(new DefaultTenant("tenant-b")));
+        assertThat(callable.call()).isEqualTo(1);
+        context.setTenant("tenant-b");
+        assertThat(callable.call()).isEqualTo(4);
+
+        strategy.clearAllCacheEntries(configuration);
+        assertThat(callable.call()).isEqualTo(5);
+        context.setTenant("tenant-a");
+        assertThat(callable.call()).isEqualTo(6);
+    }
+
+    @Test
+    @SneakyThrows
+    void testClearTenantCacheEntries()
+    {
+        final ResilienceConfiguration configuration = configuration("test.caffeine.clear.tenant", Duration.ofHours(1));
+        final CaffeineCachingDecorator decorator = new CaffeineCachingDecorator();
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> callable = decorator.decorateCallable(counter::incrementAndGet, configuration);
+
+        context.setTenant("tenant-a");
+        assertThat(callable.call()).isEqualTo(1);
+        context.setTenant("tenant-b");
+        assertThat(callable.call()).isEqualTo(2);
+
+        decorator.clearTenantCacheEntries(configuration, new DefaultTenant("tenant-a"));
+
+        assertThat(callable.call()).isEqualTo(2);
+        context.setTenant("tenant-a");
+        assertThat(callable.call()).isEqualTo(3);
+    }
+}
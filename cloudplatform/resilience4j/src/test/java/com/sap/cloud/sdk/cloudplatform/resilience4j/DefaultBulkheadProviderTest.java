@@ -0,0 +1,123 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.BulkheadConfiguration;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+class DefaultBulkheadProviderTest
+{
+    private final DefaultBulkheadProvider provider = new DefaultBulkheadProvider();
+
+    @Test
+    void testDisabledBulkheadDoesNotDecorate()
+    {
+        final Callable<String> callable = () -> "result";
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("bulkhead.test.disabled")
+                .bulkheadConfiguration(BulkheadConfiguration.disabled());
+
+        assertThat(provider.decorateCallable(callable, configuration)).isSameAs(callable);
+    }
+
+    @Test
+    void testPermissionIsReleasedAfterCall()
+        throws Exception
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("bulkhead.test.release")
+                .bulkheadConfiguration(BulkheadConfiguration.of().maxConcurrentCalls(2));
+        final Bulkhead bulkhead = provider.getBulkhead(configuration);
+
+        final Callable<Integer> success =
+            provider.decorateCallable(() -> bulkhead.getMetrics().getAvailableConcurrentCalls(), configuration);
+        final Callable<Integer> failure = provider.decorateCallable(() -> {
+            throw new IllegalStateException("Simulated failure");
+        }, configuration);
+
+        assertThat(success.call()).isEqualTo(1);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(2);
+
+        assertThatThrownBy(failure::call).isExactlyInstanceOf(IllegalStateException.class);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void testCallIsRejectedIfBulkheadIsFull()
+        throws Exception
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("bulkhead.test.full")
+                .bulkheadConfiguration(
+                    BulkheadConfiguration.of().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO));
+        final Bulkhead bulkhead = provider.getBulkhead(configuration);
+
+        final AtomicBoolean innerCalled = new AtomicBoolean();
+        final Callable<Boolean> inner = provider.decorateCallable(() -> innerCalled.getAndSet(true), configuration);
+        final Callable<Void> outer = provider.decorateCallable(() -> {
+            assertThatThrownBy(inner::call).isExactlyInstanceOf(BulkheadFullException.class);
+            return null;
+        }, configuration);
+
+        outer.call();
+
+        assertThat(innerCalled).isFalse();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testConcurrentCallsAreLimited()
+        throws Exception
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("bulkhead.test.concurrent")
+                .bulkheadConfiguration(
+                    BulkheadConfiguration.of().maxConcurrentCalls(1).maxWaitDuration(Duration.ofSeconds(10)));
+
+        final AtomicInteger concurrentCalls = new AtomicInteger();
+        final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        final Callable<Void> callable = provider.decorateCallable(() -> {
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            concurrentCalls.decrementAndGet();
+            return null;
+        }, configuration);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for( int i = 0; i < 4; i++ ) {
+                futures.add(executor.submit(callable));
+            }
+            for( final Future<Void> future : futures ) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(maxConcurrentCalls).hasValue(1);
+        assertThat(provider.getBulkhead(configuration).getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+}
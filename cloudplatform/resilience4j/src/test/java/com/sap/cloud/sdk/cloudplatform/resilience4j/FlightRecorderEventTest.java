@@ -0,0 +1,161 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.BulkheadConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.RetryConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationMode;
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEventTest
+{
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBulkheadWaitEvent()
+        throws Throwable
+    {
+        final DefaultBulkheadProvider provider = new DefaultBulkheadProvider();
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("jfr.bulkhead")
+                .bulkheadConfiguration(
+                    BulkheadConfiguration.of().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO));
+        final Callable<Void> inner = provider.decorateCallable(() -> null, configuration);
+        final Callable<Void> outer = provider.decorateCallable(() -> {
+            assertThatThrownBy(inner::call).isExactlyInstanceOf(BulkheadFullException.class);
+            return null;
+        }, configuration);
+
+        final List<RecordedEvent> events =
+            record(
+                "com.sap.cloud.sdk.BulkheadWait",
+                () -> TenantAccessor.executeWithTenant(new DefaultTenant("tenant-a"), outer));
+
+        assertThat(events).hasSize(2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("identifier")).isEqualTo("jfr.bulkhead");
+            assertThat(event.getString("tenantId")).isEqualTo("tenant-a");
+            assertThat(event.getInt("availableConcurrentCalls")).isZero();
+            assertThat(event.getInt("maxConcurrentCalls")).isEqualTo(1);
+        });
+        assertThat(events.get(0).getBoolean("permitted")).isTrue();
+        assertThat(events.get(1).getBoolean("permitted")).isFalse();
+    }
+
+    @Test
+    void testRetryAttemptEvent()
+        throws Throwable
+    {
+        final DefaultRetryProvider provider = new DefaultRetryProvider();
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration.of("jfr.retry").retryConfiguration(RetryConfiguration.of(3, Duration.ZERO));
+        final Callable<Void> callable = provider.decorateCallable(() -> {
+            throw new IllegalStateException("Simulated failure");
+        }, configuration);
+
+        final List<RecordedEvent> events =
+            record(
+                "com.sap.cloud.sdk.RetryAttempt",
+                () -> assertThatThrownBy(callable::call).isExactlyInstanceOf(IllegalStateException.class));
+
+        assertThat(events).extracting(event -> event.getInt("attempt")).containsExactly(1, 2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("identifier")).isEqualTo("jfr.retry");
+            assertThat(event.getString("tenantId")).isNull();
+            assertThat(event.getClass("exceptionClass").getName()).isEqualTo(IllegalStateException.class.getName());
+        });
+    }
+
+    @Test
+    void testCircuitBreakerStateTransitionEventForEveryCircuitBreaker()
+        throws Throwable
+    {
+        final DefaultCircuitBreakerProvider provider = new DefaultCircuitBreakerProvider();
+        final ResilienceConfiguration first = ResilienceConfiguration.of("jfr.circuitbreaker.1");
+        final ResilienceConfiguration second = ResilienceConfiguration.of("jfr.circuitbreaker.2");
+
+        final List<RecordedEvent> events = record("com.sap.cloud.sdk.CircuitBreakerStateTransition", () -> {
+            provider.getCircuitBreaker(first).transitionToOpenState();
+            // the listener must also be registered for circuit breakers added to the registry later on
+            provider.getCircuitBreaker(second).transitionToOpenState();
+            provider.getCircuitBreaker(second).transitionToHalfOpenState();
+        });
+
+        assertThat(events)
+            .extracting(
+                event -> event.getString("identifier")
+                    + ": "
+                    + event.getString("fromState")
+                    + " -> "
+                    + event.getString("toState"))
+            .containsExactly(
+                "jfr.circuitbreaker.1: CLOSED -> OPEN",
+                "jfr.circuitbreaker.2: CLOSED -> OPEN",
+                "jfr.circuitbreaker.2: OPEN -> HALF_OPEN");
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("tenantId")).isNull());
+    }
+
+    @Test
+    void testCircuitBreakerStateTransitionEventIsTaggedWithIsolatedTenant()
+        throws Throwable
+    {
+        final DefaultCircuitBreakerProvider provider = new DefaultCircuitBreakerProvider();
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("jfr.circuitbreaker.tenant")
+                .isolationMode(ResilienceIsolationMode.TENANT_REQUIRED);
+
+        final List<RecordedEvent> events =
+            record(
+                "com.sap.cloud.sdk.CircuitBreakerStateTransition",
+                () -> TenantAccessor
+                    .executeWithTenant(
+                        new DefaultTenant("tenant-b"),
+                        () -> provider.getCircuitBreaker(configuration).transitionToOpenState()));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("identifier")).isEqualTo("jfr.circuitbreaker.tenant");
+            assertThat(event.getString("tenantId")).isEqualTo("tenant-b");
+        });
+    }
+
+    private List<RecordedEvent> record( final String eventName, final Executable executable )
+        throws Throwable
+    {
+        final Path dump = tempDir.resolve(eventName + ".jfr");
+        try( Recording recording = new Recording() ) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile
+            .readAllEvents(dump)
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .collect(Collectors.toList());
+    }
+}
@@ -75,8 +75,8 @@ class Resilience4jCachingCustomProviderTest
         final ResilienceIsolationKey key = ResilienceIsolationKey.of(ResilienceIsolationMode.NO_ISOLATION);
         final SerializableCacheKey cacheKey = SerializableCacheKey.of(key.getTenant(), key.getPrincipal());
 
-        // First cache call misses [null], second time it hits ["1"]
-        doReturn(null, 1).when(cache).get(cacheKey);
+        // First cache call misses twice [null] (lookup and re-check before loading), second time it hits ["1"]
+        doReturn(null, null, 1).when(cache).get(cacheKey);
 
         // Monitoring object to count the number of cache misses
         final AtomicInteger cacheMisses = new AtomicInteger(0);
@@ -104,8 +104,8 @@ class Resilience4jCachingCustomProviderTest
             assertThat(cacheMisses).hasValue(1);
         });
 
-        // Verify cache was queried twice
-        verify(cache, times(2)).get(cacheKey);
+        // Verify cache was queried three times
+        verify(cache, times(3)).get(cacheKey);
 
         // Verify cache was written once, with "1"
         verify(cache, times(1)).put(cacheKey, 1);
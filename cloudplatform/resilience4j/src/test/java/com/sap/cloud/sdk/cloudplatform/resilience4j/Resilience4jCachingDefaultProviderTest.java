@@ -5,9 +5,7 @@ import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.ThrowableAssert.ThrowingCallable;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -26,11 +24,11 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.cache.Caching;
 
@@ -44,10 +42,12 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
 import com.sap.cloud.sdk.cloudplatform.cache.SerializableCacheKey;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceDecorator;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationMode;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
 import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
 import com.sap.cloud.sdk.testutil.TestContext;
 
@@ -71,7 +71,7 @@ class Resilience4jCachingDefaultProviderTest
     {
         context.clearTenant();
         context.clearPrincipal();
-        DefaultCachingDecorator.lockCache.invalidateAll();
+        DefaultCachingDecorator.inFlightRequests.clear();
     }
 
     @Test
@@ -392,47 +392,126 @@ class Resilience4jCachingDefaultProviderTest
 
     @Test
     @SneakyThrows
-    @SuppressWarnings( "unchecked" )
-    void testCacheLockingOnSameKeyIsLocked()
+    void testConcurrentCallsOnSameKeyShareSingleComputation()
     {
-        final String identifier = "test.check.cache.locked.supplier";
+        final String identifier = "test.check.cache.single.flight";
         final ResilienceConfiguration configuration =
             ResilienceConfiguration
                 .of(identifier)
                 .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withoutParameters());
+        final GenericCacheKey<?, ?> requestKey =
+            SerializableCacheKey.of((Tenant) null, null).append(Collections.singleton(identifier));
 
+        final CountDownLatch releaseComputation = new CountDownLatch(1);
         final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> decoratedCallable = new DefaultCachingDecorator().decorateCallable(() -> {
+            releaseComputation.await();
+            return counter.incrementAndGet();
+        }, configuration);
+
+        final CompletableFuture<Integer> firstCall =
+            CompletableFuture.supplyAsync(() -> Try.ofCallable(decoratedCallable).get());
+        // wait until the first call started computing the value
+        while( !DefaultCachingDecorator.inFlightRequests.containsKey(requestKey) ) {
+            Thread.sleep(10);
+        }
+
+        final CompletableFuture<Integer> secondCall =
+            CompletableFuture.supplyAsync(() -> Try.ofCallable(decoratedCallable).get());
+        // wait until the second call is waiting for the result of the first call
+        final CompletableFuture<Object> ongoingComputation =
+            DefaultCachingDecorator.inFlightRequests.get(requestKey).result();
+        while( ongoingComputation.getNumberOfDependents() == 0 ) {
+            Thread.sleep(10);
+        }
+        releaseComputation.countDown();
+
+        assertThat(firstCall.get()).isEqualTo(1);
+        assertThat(secondCall.get()).isEqualTo(1);
+        assertThat(counter).hasValue(1);
 
-        final Callable<Integer> decoratedCallable =
-            new DefaultCachingDecorator().decorateCallable(counter::incrementAndGet, configuration);
-        final Supplier<Integer> decoratedSupplier = (Supplier<Integer>) mock(Supplier.class);
-        when(decoratedSupplier.get()).thenAnswer(invocation -> decoratedCallable.call());
+        assertThat(DefaultCachingDecorator.inFlightRequests).isEmpty();
+    }
 
-        final CountDownLatch countDownLatch = new CountDownLatch(2);
-        final Lock customLock = spy(new ReentrantLock());
-        doAnswer(invocation -> {
-            // let the calls wait in here for each other, basically getting released to get the lock at the same time
-            countDownLatch.countDown();
-            countDownLatch.await();
-            return invocation.callRealMethod();
-        }).when(customLock).lock();
+    @Test
+    void testFailedComputationIsNotCached()
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("test.check.cache.failed.computation")
+                .isolationMode(ResilienceIsolationMode.NO_ISOLATION)
+                .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withoutParameters());
 
-        DefaultCachingDecorator.lockCache
-            .put(SerializableCacheKey.of((Tenant) null, null).append(Collections.singleton(identifier)), customLock);
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> decoratedCallable = new DefaultCachingDecorator().decorateCallable(() -> {
+            if( counter.incrementAndGet() == 1 ) {
+                throw new IllegalStateException("Simulated failure.");
+            }
+            return counter.get();
+        }, configuration);
 
-        final CompletableFuture<Integer> firstCall = CompletableFuture.supplyAsync(decoratedSupplier);
-        final CompletableFuture<Integer> secondCall = CompletableFuture.supplyAsync(decoratedSupplier);
+        assertThatCode(decoratedCallable::call)
+            .isInstanceOf(ResilienceRuntimeException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(DefaultCachingDecorator.inFlightRequests).isEmpty();
 
-        assertThat(firstCall.get()).isEqualTo(1);
-        assertThat(secondCall.get()).isEqualTo(1);
+        assertThatCode(() -> assertThat(decoratedCallable.call()).isEqualTo(2)).doesNotThrowAnyException();
+        assertThatCode(() -> assertThat(decoratedCallable.call()).isEqualTo(2)).doesNotThrowAnyException();
+    }
 
-        assertThat(DefaultCachingDecorator.lockCache.asMap()).hasSize(1);
+    @Test
+    @SneakyThrows
+    void testStaleValueIsServedWhileRevalidating()
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("test.check.cache.stale.while.revalidate")
+                .isolationMode(ResilienceIsolationMode.NO_ISOLATION)
+                .cacheConfiguration(CacheConfiguration.of(Duration.ofMinutes(5)).withoutParameters());
+
+        final AtomicLong ticker = new AtomicLong(0);
+        final DefaultCachingDecorator decorator = new DefaultCachingDecorator(Duration.ofHours(1), ticker::get);
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> decoratedCallable = decorator.decorateCallable(counter::incrementAndGet, configuration);
+
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        expireJCacheEntries(configuration);
+
+        // the expired value is served, while the new value is loaded in the background
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        awaitRevalidation(counter, 2);
+        assertThat(decoratedCallable.call()).isEqualTo(2);
+
+        // once the expired value exceeded its retention, the new value is loaded synchronously
+        expireJCacheEntries(configuration);
+        ticker.addAndGet(Duration.ofMinutes(5).plus(Duration.ofHours(1)).plusNanos(1).toNanos());
+        assertThat(decoratedCallable.call()).isEqualTo(3);
+
+        // clearing the cache also removes the stale values
+        new Resilience4jDecorationStrategy(decorator).clearAllCacheEntries(configuration);
+        assertThat(decoratedCallable.call()).isEqualTo(4);
+    }
+
+    // simulates the expiration of all regular cache entries, which is handled by the JCache provider
+    private static void expireJCacheEntries( @Nonnull final ResilienceConfiguration configuration )
+    {
+        Caching.getCachingProvider().getCacheManager().getCache(configuration.identifier()).clear();
+    }
+
+    @SneakyThrows
+    private static void awaitRevalidation( @Nonnull final AtomicInteger counter, final int expectedCount )
+    {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while( counter.get() < expectedCount || !DefaultCachingDecorator.inFlightRequests.isEmpty() ) {
+            assertThat(System.nanoTime()).as("Revalidation did not finish in time.").isLessThan(deadline);
+            Thread.sleep(1);
+        }
     }
 
     @Test
     @SneakyThrows
     @SuppressWarnings( "unchecked" )
-    void testCacheLockingOnDifferentCachesIsNotLocked()
+    void testConcurrentCallsOnDifferentCachesAreNotShared()
     {
         final ResilienceConfiguration configuration1 =
             ResilienceConfiguration
@@ -461,7 +540,7 @@ class Resilience4jCachingDefaultProviderTest
         assertThat(call1.get()).isEqualTo(1);
         assertThat(call2.get()).isEqualTo(42);
 
-        assertThat(DefaultCachingDecorator.lockCache.asMap()).hasSize(2);
+        assertThat(DefaultCachingDecorator.inFlightRequests).isEmpty();
     }
 
     @Test
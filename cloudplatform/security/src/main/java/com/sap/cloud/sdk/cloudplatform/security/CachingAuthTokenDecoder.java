@@ -0,0 +1,39 @@
+package com.sap.cloud.sdk.cloudplatform.security;
+
+import java.time.Duration;
+
+import javax.annotation.Nonnull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sap.cloud.sdk.cloudplatform.security.exception.AuthTokenAccessException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link AuthTokenDecoder} that keeps recently decoded tokens in a small, bounded cache. This avoids decoding the same
+ * JWT again for subsequent requests that are authorized with the same token.
+ * <p>
+ * Only successfully decoded tokens are cached.
+ */
+@RequiredArgsConstructor
+class CachingAuthTokenDecoder implements AuthTokenDecoder
+{
+    static final int MAX_CACHED_TOKENS = 1000;
+    static final Duration CACHE_EXPIRATION = Duration.ofMinutes(10);
+
+    @Nonnull
+    private final AuthTokenDecoder delegate;
+
+    @Nonnull
+    private final Cache<String, AuthToken> decodedTokens =
+        Caffeine.newBuilder().maximumSize(MAX_CACHED_TOKENS).expireAfterAccess(CACHE_EXPIRATION).build();
+
+    @Nonnull
+    @Override
+    public AuthToken decode( @Nonnull final String encodedJwt )
+        throws AuthTokenAccessException
+    {
+        return decodedTokens.get(encodedJwt, delegate::decode);
+    }
+}
@@ -5,7 +5,10 @@ import java.util.concurrent.Callable;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.sdk.cloudplatform.requestheader.RequestHeaderAccessor;
+import com.sap.cloud.sdk.cloudplatform.requestheader.RequestHeaderContainer;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContext;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextAccessor;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutor;
@@ -26,12 +29,20 @@ public class DefaultAuthTokenFacade extends ExecutableAuthTokenFacade
     @Nonnull
     private AuthTokenDecoder tokenDecoder;
 
+    /**
+     * The tokens decoded per request, identified by their {@link RequestHeaderContainer}. Entries are removed as soon
+     * as the request headers are garbage collected.
+     */
+    @Nonnull
+    private final Cache<RequestHeaderContainer, Try<AuthToken>> tokensByRequest =
+        Caffeine.newBuilder().weakKeys().build();
+
     /**
      * Default constructor.
      */
     public DefaultAuthTokenFacade()
     {
-        this(new AuthTokenDecoderDefault());
+        this(new CachingAuthTokenDecoder(new AuthTokenDecoderDefault()));
     }
 
     @Nonnull
@@ -43,7 +54,9 @@ public class DefaultAuthTokenFacade extends ExecutableAuthTokenFacade
             && currentContext.containsProperty(AuthTokenThreadContextListener.PROPERTY_AUTH_TOKEN) ) {
             return currentContext.getPropertyValue(AuthTokenThreadContextListener.PROPERTY_AUTH_TOKEN);
         }
-        return RequestHeaderAccessor.tryGetHeaderContainer().flatMap(tokenDecoder::decode);
+        return RequestHeaderAccessor
+            .tryGetHeaderContainer()
+            .flatMap(headers -> tokensByRequest.get(headers, tokenDecoder::decode));
     }
 
     @Nullable
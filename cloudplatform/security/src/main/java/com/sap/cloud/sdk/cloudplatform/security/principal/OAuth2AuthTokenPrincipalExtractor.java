@@ -7,6 +7,8 @@ import javax.annotation.Nonnull;
 
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.sdk.cloudplatform.security.AuthToken;
 import com.sap.cloud.sdk.cloudplatform.security.AuthTokenAccessor;
 import com.sap.cloud.sdk.cloudplatform.security.principal.exception.PrincipalAccessException;
@@ -28,6 +30,11 @@ class OAuth2AuthTokenPrincipalExtractor implements PrincipalExtractor
 
     private final Map<String, CheckedFunction1<DecodedJWT, String>> grantTypeToPrincipalIdExtractor = new HashMap<>();
 
+    /**
+     * The principals extracted per decoded token. Entries are removed as soon as the token is garbage collected.
+     */
+    private final Cache<AuthToken, Try<Principal>> principalsByToken = Caffeine.newBuilder().weakKeys().build();
+
     OAuth2AuthTokenPrincipalExtractor()
     {
         grantTypeToPrincipalIdExtractor.put("password", jwt -> jwt.getClaim(JWT_USER_NAME_CLAIM).asString());
@@ -46,6 +53,7 @@ class OAuth2AuthTokenPrincipalExtractor implements PrincipalExtractor
     {
         final CheckedFunction1<DecodedJWT, String> previousExtractorFunction =
             grantTypeToPrincipalIdExtractor.put(grantType, principalIdExtractor);
+        principalsByToken.invalidateAll();
 
         if( log.isDebugEnabled() ) {
             if( previousExtractorFunction != null ) {
@@ -108,13 +116,15 @@ class OAuth2AuthTokenPrincipalExtractor implements PrincipalExtractor
     @Nonnull
     public Try<Principal> tryGetCurrentPrincipal()
     {
-        final Try<DecodedJWT> jwtTry = AuthTokenAccessor.tryGetCurrentToken().map(AuthToken::getJwt);
-
-        if( jwtTry.isFailure() ) {
-            return Try.failure(jwtTry.getCause());
-        }
+        return AuthTokenAccessor
+            .tryGetCurrentToken()
+            .flatMap(authToken -> principalsByToken.get(authToken, this::tryGetPrincipal));
+    }
 
-        final DecodedJWT jwt = jwtTry.get();
+    @Nonnull
+    private Try<Principal> tryGetPrincipal( @Nonnull final AuthToken authToken )
+    {
+        final DecodedJWT jwt = authToken.getJwt();
 
         final Try<String> principalId = getPrincipalId(jwt);
 
@@ -4,6 +4,8 @@ import javax.annotation.Nonnull;
 
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.sdk.cloudplatform.security.AuthToken;
 import com.sap.cloud.sdk.cloudplatform.security.AuthTokenAccessor;
 import com.sap.cloud.sdk.cloudplatform.security.principal.exception.PrincipalAccessException;
@@ -21,17 +23,24 @@ class OidcAuthTokenPrincipalExtractor implements PrincipalExtractor
     private static final String JWT_USER_UUID_CLAIM = "user_uuid";
     private static final String JWT_EMAIL_CLAIM = "email";
 
+    /**
+     * The principals extracted per decoded token. Entries are removed as soon as the token is garbage collected.
+     */
+    private final Cache<AuthToken, Try<Principal>> principalsByToken = Caffeine.newBuilder().weakKeys().build();
+
     @Override
     @Nonnull
     public Try<Principal> tryGetCurrentPrincipal()
     {
-        final Try<DecodedJWT> jwtTry = AuthTokenAccessor.tryGetCurrentToken().map(AuthToken::getJwt);
-
-        if( jwtTry.isFailure() ) {
-            return Try.failure(jwtTry.getCause());
-        }
+        return AuthTokenAccessor
+            .tryGetCurrentToken()
+            .flatMap(authToken -> principalsByToken.get(authToken, this::tryGetPrincipal));
+    }
 
-        final DecodedJWT jwt = jwtTry.get();
+    @Nonnull
+    private Try<Principal> tryGetPrincipal( @Nonnull final AuthToken authToken )
+    {
+        final DecodedJWT jwt = authToken.getJwt();
 
         final Try<String> principalIdTry = tryGetPrincipalId(jwt);
         if( principalIdTry.isFailure() ) {
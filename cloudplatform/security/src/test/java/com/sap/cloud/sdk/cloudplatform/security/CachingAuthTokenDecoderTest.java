@@ -0,0 +1,43 @@
+package com.sap.cloud.sdk.cloudplatform.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.security.exception.AuthTokenAccessException;
+
+class CachingAuthTokenDecoderTest
+{
+    @Test
+    void testDecodedTokenIsCached()
+    {
+        final AuthToken authToken = mock(AuthToken.class);
+        final AuthTokenDecoder delegate = mock(AuthTokenDecoder.class);
+        when(delegate.decode("token")).thenReturn(authToken);
+
+        final CachingAuthTokenDecoder sut = new CachingAuthTokenDecoder(delegate);
+
+        assertThat(sut.decode("token")).isSameAs(authToken);
+        assertThat(sut.decode(new String("token"))).isSameAs(authToken);
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void testFailureIsNotCached()
+    {
+        final AuthToken authToken = mock(AuthToken.class);
+        final AuthTokenDecoder delegate = mock(AuthTokenDecoder.class);
+        when(delegate.decode("token")).thenThrow(new AuthTokenAccessException("Simulated failure.")).thenReturn(authToken);
+
+        final CachingAuthTokenDecoder sut = new CachingAuthTokenDecoder(delegate);
+
+        assertThatThrownBy(() -> sut.decode("token")).isInstanceOf(AuthTokenAccessException.class);
+        assertThat(sut.decode("token")).isSameAs(authToken);
+        verify(delegate, times(2)).decode("token");
+    }
+}
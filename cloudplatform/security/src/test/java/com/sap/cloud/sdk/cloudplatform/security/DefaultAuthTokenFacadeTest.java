@@ -275,6 +275,39 @@ class DefaultAuthTokenFacadeTest
         verify(authTokenDecoder, times(1)).decode(eq(headers));
     }
 
+    @Test
+    void testTokenIsDecodedOncePerRequest()
+    {
+        final RequestHeaderContainer headers =
+            DefaultRequestHeaderContainer
+                .builder()
+                .withHeader(HttpHeaders.AUTHORIZATION, "bearer some auth token")
+                .build();
+        final RequestHeaderContainer otherHeaders =
+            DefaultRequestHeaderContainer
+                .builder()
+                .withHeader(HttpHeaders.AUTHORIZATION, "bearer some auth token")
+                .build();
+        final AuthToken authToken = mock(AuthToken.class);
+
+        final RequestHeaderFacade headerFacade = mock(RequestHeaderFacade.class);
+        when(headerFacade.tryGetRequestHeaders())
+            .thenReturn(Try.success(headers), Try.success(headers), Try.success(otherHeaders));
+        RequestHeaderAccessor.setHeaderFacade(headerFacade);
+
+        final AuthTokenDecoder authTokenDecoder = mock(AuthTokenDecoder.class);
+        when(authTokenDecoder.decode(any(RequestHeaderContainer.class))).thenReturn(Try.success(authToken));
+        AuthTokenAccessor.setAuthTokenFacade(new DefaultAuthTokenFacade(authTokenDecoder));
+
+        assertThat(AuthTokenAccessor.getCurrentToken()).isSameAs(authToken);
+        assertThat(AuthTokenAccessor.getCurrentToken()).isSameAs(authToken);
+        verify(authTokenDecoder, times(1)).decode(any(RequestHeaderContainer.class));
+
+        // a new request is decoded again, even if it contains the same headers
+        assertThat(AuthTokenAccessor.getCurrentToken()).isSameAs(authToken);
+        verify(authTokenDecoder, times(2)).decode(any(RequestHeaderContainer.class));
+    }
+
     @Test
     void testExecuteWithThrowsExceptionIfCustomFacadeIsUsed()
     {
@@ -16,6 +16,8 @@ import javax.annotation.Nullable;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Payload;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.environment.servicebinding.api.DefaultServiceBindingAccessor;
 import com.sap.cloud.environment.servicebinding.api.ServiceBinding;
 import com.sap.cloud.sdk.cloudplatform.exception.CloudPlatformException;
@@ -42,6 +44,11 @@ public class DefaultTenantFacade implements TenantFacade
         Arrays.asList(XSUAA_JWT_ZONE_ID, IAS_JWT_APP_TID, IAS_JWT_ZONE_ID);
     private static final String JWT_ISSUER = "iss";
 
+    /**
+     * The tenants extracted per decoded token. Entries are removed as soon as the token is garbage collected.
+     */
+    private final Cache<AuthToken, Try<Tenant>> tenantsByToken = Caffeine.newBuilder().weakKeys().build();
+
     @Nonnull
     private String getTenantId( @Nonnull final Payload jwt )
     {
@@ -94,7 +101,9 @@ public class DefaultTenantFacade implements TenantFacade
         final List<Throwable> throwables = new ArrayList<>();
         throwables.add(tenantFromThreadContextTry.getCause());
 
-        return tryGetTenantFromAuthToken(AuthTokenAccessor.tryGetCurrentToken())
+        return AuthTokenAccessor
+            .tryGetCurrentToken()
+            .flatMap(authToken -> tenantsByToken.get(authToken, this::tryGetTenantFromAuthToken))
             .onFailure(throwables::add) // read from user token
             .orElse(this::tryGetTenantFromServiceBinding)
             .onFailure(throwables::add) // read bindings
@@ -111,21 +120,17 @@ public class DefaultTenantFacade implements TenantFacade
     }
 
     @Nonnull
-    private Try<Tenant> tryGetTenantFromAuthToken( @Nonnull final Try<AuthToken> authToken )
+    private Try<Tenant> tryGetTenantFromAuthToken( @Nonnull final AuthToken authToken )
     {
-        final Try<DecodedJWT> jwtTry = authToken.map(AuthToken::getJwt);
-
-        if( jwtTry.isFailure() ) {
-            return Try.failure(jwtTry.getCause());
-        }
+        final DecodedJWT jwt = authToken.getJwt();
 
-        final Try<String> tenantIdTry = jwtTry.map(this::getTenantId);
+        final Try<String> tenantIdTry = Try.of(() -> getTenantId(jwt));
 
         if( tenantIdTry.isFailure() ) {
             return Try.failure(tenantIdTry.getCause());
         }
 
-        final Try<String> subdomainTry = jwtTry.map(this::getIssuer).map(URI::create).map(this::getSubdomain);
+        final Try<String> subdomainTry = Try.of(() -> getIssuer(jwt)).map(URI::create).map(this::getSubdomain);
 
         if( subdomainTry.isFailure() ) {
             return Try.failure(subdomainTry.getCause());
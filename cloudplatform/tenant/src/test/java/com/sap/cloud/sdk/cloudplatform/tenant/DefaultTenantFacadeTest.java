@@ -89,6 +89,29 @@ class DefaultTenantFacadeTest
         assertThat(tenantTry).isEmpty();
     }
 
+    @Test
+    void givenTheSameTokenThenTenantIsOnlyExtractedOnce()
+    {
+        final AuthToken token =
+            new AuthToken(
+                JWT
+                    .decode(
+                        JWT
+                            .create()
+                            .withClaim("zid", "tenant-id")
+                            .withIssuer("https://subdomain.localhost")
+                            .sign(Algorithm.none())));
+        final DefaultAuthTokenFacade tokenFacade = mock(DefaultAuthTokenFacade.class);
+        when(tokenFacade.tryGetCurrentToken()).thenReturn(Try.success(token));
+        AuthTokenAccessor.setAuthTokenFacade(tokenFacade);
+
+        final DefaultTenantFacade facade = new DefaultTenantFacade();
+        final Tenant tenant = facade.tryGetCurrentTenant().get();
+
+        assertThat(tenant).isEqualTo(new DefaultTenant("tenant-id", "subdomain"));
+        assertThat(facade.tryGetCurrentTenant().get()).isSameAs(tenant);
+    }
+
     @Test
     void givenAFailurePropertyThenFacadeShouldNotComputeFromToken()
     {
@@ -1,6 +1,9 @@
 package com.sap.cloud.sdk.result;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.TypeAdapter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,11 +19,23 @@ public class GenericObjectExtractor<T> implements ObjectExtractor<T>
     @Nonnull
     private final Class<T> objectType;
 
+    /**
+     * The {@link TypeAdapter} resolved for the most recent {@link GsonResultElementFactory}, reused for all further
+     * elements created by the same factory.
+     */
+    @Nullable
+    private volatile ResolvedTypeAdapter<T> resolvedTypeAdapter;
+
     @Nonnull
     @Override
     public T extract( @Nonnull final ResultElement resultElement )
         throws UnsupportedOperationException
     {
+        if( resultElement.getClass() == GsonResultObject.class ) {
+            final GsonResultObject gsonResultObject = (GsonResultObject) resultElement;
+            return gsonResultObject.as(getTypeAdapter(gsonResultObject.getResultElementFactory()), objectType);
+        }
+
         if( resultElement.isResultObject() ) {
             return resultElement.getAsObject().as(objectType);
         }
@@ -42,4 +57,22 @@ public class GenericObjectExtractor<T> implements ObjectExtractor<T>
                 + resultElement
                 + ".");
     }
+
+    @Nonnull
+    private TypeAdapter<T> getTypeAdapter( @Nonnull final GsonResultElementFactory factory )
+    {
+        final ResolvedTypeAdapter<T> resolved = resolvedTypeAdapter;
+        if( resolved != null && resolved.factory() == factory ) {
+            return resolved.adapter();
+        }
+        final TypeAdapter<T> adapter = factory.getGson().getAdapter(objectType);
+        resolvedTypeAdapter = new ResolvedTypeAdapter<>(factory, adapter);
+        return adapter;
+    }
+
+    private record ResolvedTypeAdapter<T>(
+        @Nonnull GsonResultElementFactory factory,
+        @Nonnull TypeAdapter<T> adapter )
+    {
+    }
 }
@@ -8,6 +8,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
 
 import lombok.Data;
 
@@ -201,7 +202,7 @@ public class GsonResultObject implements ResultObject
         throws UnsupportedOperationException
     {
         try {
-            return resultElementFactory.getGsonBuilder().create().fromJson(jsonObject, objectType);
+            return resultElementFactory.getGson().fromJson(jsonObject, objectType);
         }
         catch( final Exception e ) {
             throw new UnsupportedOperationException(
@@ -216,7 +217,7 @@ public class GsonResultObject implements ResultObject
         throws UnsupportedOperationException
     {
         try {
-            return resultElementFactory.getGsonBuilder().create().fromJson(jsonObject, objectType);
+            return resultElementFactory.getGson().fromJson(jsonObject, objectType);
         }
         catch( final Exception e ) {
             throw new UnsupportedOperationException(
@@ -224,4 +225,32 @@ public class GsonResultObject implements ResultObject
                 e);
         }
     }
+
+    /**
+     * Returns a value from this element, converted by the given {@link TypeAdapter}. This allows to resolve the
+     * adapter once for all elements of a collection.
+     *
+     * @param adapter
+     *            The adapter to convert the element value with.
+     * @param objectType
+     *            The type into which the element value should be converted.
+     *
+     * @return The value as object of type {@code T}.
+     *
+     * @throws UnsupportedOperationException
+     *             If the value could not be converted to the given type.
+     */
+    @Nonnull
+    <T> T as( @Nonnull final TypeAdapter<T> adapter, @Nonnull final Class<T> objectType )
+        throws UnsupportedOperationException
+    {
+        try {
+            return adapter.fromJsonTree(jsonObject);
+        }
+        catch( final Exception e ) {
+            throw new UnsupportedOperationException(
+                "Failed to get element as object of type " + objectType.getName() + ".",
+                e);
+        }
+    }
 }
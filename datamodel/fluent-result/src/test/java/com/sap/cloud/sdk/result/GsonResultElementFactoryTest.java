@@ -0,0 +1,67 @@
+package com.sap.cloud.sdk.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+
+import lombok.Data;
+
+class GsonResultElementFactoryTest
+{
+    @Data
+    private static class Person
+    {
+        @ElementName( "NAME" )
+        private String name;
+
+        @ElementName( "AGE" )
+        private int age;
+    }
+
+    private static GsonResultElementFactory newFactory()
+    {
+        final GsonBuilder gsonBuilder =
+            new GsonBuilder()
+                .setFieldNamingStrategy(new ElementNameGsonFieldNamingStrategy())
+                .setExclusionStrategies(new AnnotatedFieldGsonExclusionStrategy<>(ElementName.class));
+        return new GsonResultElementFactory(gsonBuilder);
+    }
+
+    @Test
+    void testGsonIsSharedByAllElements()
+    {
+        final GsonResultElementFactory factory = newFactory();
+
+        assertThat(factory.getGson()).isSameAs(factory.getGson());
+    }
+
+    @Test
+    void testAsList()
+    {
+        final ResultElement collection =
+            newFactory()
+                .create(JsonParser.parseString("[{\"NAME\":\"Alice\",\"AGE\":42},{\"NAME\":\"Bob\",\"AGE\":7}]"));
+
+        final List<Person> persons = collection.getAsCollection().asList(Person.class);
+
+        assertThat(persons).extracting(Person::getName).containsExactly("Alice", "Bob");
+        assertThat(persons).extracting(Person::getAge).containsExactly(42, 7);
+    }
+
+    @Test
+    void testAsListWithInvalidElement()
+    {
+        final ResultElement collection =
+            newFactory().create(JsonParser.parseString("[{\"NAME\":\"Alice\",\"AGE\":\"not a number\"}]"));
+
+        assertThatThrownBy(() -> collection.getAsCollection().asList(Person.class))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasRootCauseInstanceOf(NumberFormatException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sap.cloud.sdk.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Benchmark of {@link ResultCollection#asList(Class)}, which shares one {@code Gson} instance and type adapter across
+ * all elements of the collection, compared to creating a new {@code Gson} instance per element.
+ * <p>
+ * Run the benchmark after {@code mvn test-compile} with the test classpath of this module:
+ *
+ * <pre>
+ * <code>java -cp &lt;test classpath&gt; org.openjdk.jmh.Main ResultCollectionAsListBenchmark</code>
+ * </pre>
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@State( Scope.Benchmark )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ResultCollectionAsListBenchmark
+{
+    /**
+     * A typical row of a generic OData or RFC result.
+     */
+    public static class Row
+    {
+        @ElementName( "ID" )
+        String id;
+
+        @ElementName( "NAME" )
+        String name;
+
+        @ElementName( "QUANTITY" )
+        int quantity;
+
+        @ElementName( "PRICE" )
+        double price;
+    }
+
+    @Param( { "100", "10000" } )
+    int size;
+
+    private GsonResultElementFactory factory;
+    private JsonArray rows;
+    private ResultCollection collection;
+
+    @Setup
+    public void setup()
+    {
+        final GsonBuilder gsonBuilder =
+            new GsonBuilder()
+                .setFieldNamingStrategy(new ElementNameGsonFieldNamingStrategy())
+                .setExclusionStrategies(new AnnotatedFieldGsonExclusionStrategy<>(ElementName.class));
+        factory = new GsonResultElementFactory(gsonBuilder);
+
+        rows = new JsonArray();
+        for( int i = 0; i < size; i++ ) {
+            final JsonObject row = new JsonObject();
+            row.addProperty("ID", "id-" + i);
+            row.addProperty("NAME", "name-" + i);
+            row.addProperty("QUANTITY", i);
+            row.addProperty("PRICE", i * 1.5);
+            rows.add(row);
+        }
+        collection = factory.create(rows).getAsCollection();
+    }
+
+    @Benchmark
+    public List<Row> asList()
+    {
+        return collection.asList(Row.class);
+    }
+
+    @Benchmark
+    public List<Row> asListWithGsonPerElement()
+    {
+        final List<Row> result = new ArrayList<>(size);
+        for( final JsonElement row : rows ) {
+            result.add(factory.getGsonBuilder().create().fromJson(row, Row.class));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.sap.cloud.sdk.datamodel.odata.client;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A mutable map which allocates its backing {@link HashMap} only once the first entry is added, and releases it again
+ * on {@link #clear()}. This keeps the footprint of objects low, which hold a map that is mostly empty, e.g. the changed
+ * fields of entities that are only read.
+ * <p>
+ * The map is not thread-safe and permits {@code null} values.
+ *
+ * @param <K>
+ *            The type of the keys.
+ * @param <V>
+ *            The type of the values.
+ * @since 5.33.0
+ */
+@Beta
+public final class LazyHashMap<K, V> extends AbstractMap<K, V>
+{
+    @Nonnull
+    private Map<K, V> delegate = Collections.emptyMap();
+
+    @Override
+    public int size()
+    {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean containsKey( @Nullable final Object key )
+    {
+        return delegate.containsKey(key);
+    }
+
+    @Nullable
+    @Override
+    public V get( @Nullable final Object key )
+    {
+        return delegate.get(key);
+    }
+
+    @Nullable
+    @Override
+    public V put( @Nullable final K key, @Nullable final V value )
+    {
+        if( delegate == Collections.<K, V> emptyMap() ) {
+            delegate = new HashMap<>();
+        }
+        return delegate.put(key, value);
+    }
+
+    @Nullable
+    @Override
+    public V remove( @Nullable final Object key )
+    {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        delegate = Collections.emptyMap();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return delegate.entrySet();
+    }
+}
@@ -0,0 +1,335 @@
+package com.sap.cloud.sdk.datamodel.odata.client.query;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.Expressions;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueBoolean;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueDate;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueDateTime;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueDateTimeOffset;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueGuid;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueNumeric;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueString;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataUriFactory;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Precompiled form of a {@link StructuredQuery} that contains named parameters instead of literal values.
+ * <p>
+ * The query is serialized and URI encoded only once, when the template is compiled. Binding values to the template
+ * only serializes and encodes the literal values and concatenates them with the precompiled parts of the query. This
+ * is useful for queries with complex filters that are executed repeatedly with different values.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>QueryTemplate template = QueryTemplate.compile(
+ *     StructuredQuery
+ *         .onEntity("Orders", ODataProtocol.V4)
+ *         .select("OrderID", "Amount")
+ *         .filter(FieldReference.of("Customer").equalTo(QueryTemplate.stringParameter("customer")))
+ *         .filter(FieldReference.of("Amount").greaterThan(QueryTemplate.numericParameter("minAmount"))));
+ *
+ * String query = template.getEncodedQueryString(Map.of("customer", "ACME", "minAmount", 100));
+ * </code>
+ * </pre>
+ *
+ * Instances of this class are immutable and can be shared across threads.
+ *
+ * @since 5.33.0
+ */
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+public final class QueryTemplate
+{
+    /**
+     * Marker surrounding the parameter names in the serialized query. It consists of alphanumeric characters only, so
+     * that it is not altered by URI encoding.
+     */
+    private static final String MARKER = "qt" + Long.toHexString(new SecureRandom().nextLong() | Long.MIN_VALUE);
+    private static final Pattern PARAMETER_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    /**
+     * The {@link ODataProtocol} version the literal values are serialized for.
+     */
+    @Getter
+    @Nonnull
+    private final ODataProtocol protocol;
+
+    /**
+     * The names of the parameters, in the order of their first occurrence in the query.
+     */
+    @Getter
+    @Nonnull
+    private final Set<String> parameterNames;
+
+    @Nonnull
+    private final Plan plan;
+
+    @Nonnull
+    private final Plan encodedPlan;
+
+    /**
+     * Compile the given query to a template. The query may contain parameters, as created by
+     * {@link #parameter(String)} or one of the typed variants, e.g. {@link #stringParameter(String)}.
+     * <p>
+     * Later modifications of the given query are not reflected in the template.
+     *
+     * @param query
+     *            The query to be compiled.
+     * @return The compiled template.
+     */
+    @Nonnull
+    public static QueryTemplate compile( @Nonnull final StructuredQuery query )
+    {
+        final Plan plan = Plan.of(query.getQueryString());
+        final Plan encodedPlan = Plan.of(query.getEncodedQueryString());
+        final Set<String> parameterNames = new LinkedHashSet<>(List.of(encodedPlan.parameters));
+        return new QueryTemplate(query.getProtocol(), Collections.unmodifiableSet(parameterNames), plan, encodedPlan);
+    }
+
+    /**
+     * Create a parameter operand of arbitrary type. The value bound to the parameter is serialized like an operand
+     * created via {@link Expressions#createOperand(Object)}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static Expressions.OperandSingle parameter( @Nonnull final String name )
+    {
+        final String placeholder = placeholder(name);
+        return ( protocol, prefixes ) -> placeholder;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.String}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueString stringParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of a numeric type.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueNumeric numericParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.Boolean}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueBoolean booleanParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.Date}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueDate dateParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.DateTime}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueDateTime dateTimeParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.DateTimeOffset}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueDateTimeOffset dateTimeOffsetParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Create a parameter operand of type {@code Edm.Guid}.
+     *
+     * @param name
+     *            The name of the parameter, consisting of letters, digits and underscores only.
+     * @return The parameter operand.
+     * @throws IllegalArgumentException
+     *             If the name contains other characters.
+     */
+    @Nonnull
+    public static ValueGuid guidParameter( @Nonnull final String name )
+    {
+        return parameter(name)::getExpression;
+    }
+
+    /**
+     * Bind the given values to the parameters and get the URI encoded query string. The result equals the result of
+     * {@link StructuredQuery#getEncodedQueryString()} for the same query with literal values instead of parameters.
+     *
+     * @param values
+     *            The values by parameter name. The values are serialized like operands created via
+     *            {@link Expressions#createOperand(Object)}.
+     * @return The encoded query string.
+     * @throws IllegalArgumentException
+     *             If a parameter has no value or a value cannot be serialized.
+     */
+    @Nonnull
+    public String getEncodedQueryString( @Nonnull final Map<String, ?> values )
+    {
+        return encodedPlan.bind(protocol, values, ODataUriFactory::encodeQuery);
+    }
+
+    /**
+     * Bind the given values to the parameters and get the query string without URI encoding. The result equals the
+     * result of {@link StructuredQuery#getQueryString()} for the same query with literal values instead of parameters.
+     *
+     * @param values
+     *            The values by parameter name. The values are serialized like operands created via
+     *            {@link Expressions#createOperand(Object)}.
+     * @return The query string.
+     * @throws IllegalArgumentException
+     *             If a parameter has no value or a value cannot be serialized.
+     */
+    @Nonnull
+    public String getQueryString( @Nonnull final Map<String, ?> values )
+    {
+        return plan.bind(protocol, values, UnaryOperator.identity());
+    }
+
+    @Nonnull
+    private static String placeholder( @Nonnull final String name )
+    {
+        if( !PARAMETER_NAME.matcher(name).matches() ) {
+            throw new IllegalArgumentException(
+                "Invalid query parameter name \"" + name + "\". Only letters, digits and underscores are allowed.");
+        }
+        return MARKER + name + MARKER;
+    }
+
+    /**
+     * The fixed parts of a serialized query and the names of the parameters between them.
+     */
+    @EqualsAndHashCode
+    @ToString
+    @RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+    private static final class Plan
+    {
+        @Nonnull
+        private final String[] fragments;
+
+        @Nonnull
+        private final String[] parameters;
+
+        private final int fixedLength;
+
+        @Nonnull
+        private static Plan of( @Nonnull final String query )
+        {
+            final List<String> fragments = new ArrayList<>();
+            final List<String> parameters = new ArrayList<>();
+
+            int position = 0;
+            int start;
+            while( (start = query.indexOf(MARKER, position)) >= 0 ) {
+                final int end = query.indexOf(MARKER, start + MARKER.length());
+                fragments.add(query.substring(position, start));
+                parameters.add(query.substring(start + MARKER.length(), end));
+                position = end + MARKER.length();
+            }
+            fragments.add(query.substring(position));
+
+            final int fixedLength = fragments.stream().mapToInt(String::length).sum();
+            return new Plan(fragments.toArray(new String[0]), parameters.toArray(new String[0]), fixedLength);
+        }
+
+        @Nonnull
+        private String bind(
+            @Nonnull final ODataProtocol protocol,
+            @Nonnull final Map<String, ?> values,
+            @Nonnull final UnaryOperator<String> encoding )
+        {
+            final String[] literals = new String[parameters.length];
+            int length = fixedLength;
+            for( int i = 0; i < parameters.length; i++ ) {
+                final String name = parameters[i];
+                if( !values.containsKey(name) ) {
+                    throw new IllegalArgumentException("No value provided for query parameter \"" + name + "\".");
+                }
+                final String literal = Expressions.createOperand(values.get(name)).getExpression(protocol);
+                literals[i] = encoding.apply(literal);
+                length += literals[i].length();
+            }
+
+            final StringBuilder result = new StringBuilder(length).append(fragments[0]);
+            for( int i = 0; i < parameters.length; i++ ) {
+                result.append(literals[i]).append(fragments[i + 1]);
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Immutable definition of the entity properties to be read into a {@link ColumnarResult}, together with the primitive
+ * type of the column each property is read into.
+ * <p>
+ * For example:
+ *
+ * <pre>
+ * <code>ColumnProjection projection =
+ *     ColumnProjection.empty().withLongColumn("Quantity").withDoubleColumn("NetAmount").withStringColumn("Currency");
+ * </code>
+ * </pre>
+ *
+ * @since 5.33.0
+ */
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+public final class ColumnProjection
+{
+    /**
+     * The primitive type of a column.
+     */
+    public enum ColumnType
+    {
+        /**
+         * Integral numbers, read into a {@code long[]}. Numbers represented as JSON strings are supported.
+         */
+        LONG,
+
+        /**
+         * Decimal numbers, read into a {@code double[]}. Numbers represented as JSON strings are supported.
+         */
+        DOUBLE,
+
+        /**
+         * Strings, read into a dictionary of distinct values and an {@code int[]} of dictionary codes.
+         */
+        STRING,
+
+        /**
+         * Boolean values, read into a bit set.
+         */
+        BOOLEAN
+    }
+
+    private static final ColumnProjection EMPTY = new ColumnProjection(Collections.emptyMap());
+
+    /**
+     * The column types by property name, in the order the columns were added.
+     */
+    @Getter
+    @Nonnull
+    private final Map<String, ColumnType> columns;
+
+    /**
+     * Get a projection without any columns.
+     *
+     * @return A projection without any columns.
+     */
+    @Nonnull
+    public static ColumnProjection empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Get a copy of this projection with an additional column.
+     *
+     * @param propertyName
+     *            The name of the entity property to be read into the column.
+     * @param type
+     *            The type of the column.
+     * @return A new projection.
+     * @throws IllegalArgumentException
+     *             If the projection already contains a column for the property.
+     */
+    @Nonnull
+    public ColumnProjection withColumn( @Nonnull final String propertyName, @Nonnull final ColumnType type )
+    {
+        if( columns.containsKey(propertyName) ) {
+            throw new IllegalArgumentException("The projection already contains a column for " + propertyName + ".");
+        }
+        final Map<String, ColumnType> result = new LinkedHashMap<>(columns);
+        result.put(propertyName, type);
+        return new ColumnProjection(Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * Get a copy of this projection with an additional column of type {@link ColumnType#LONG}.
+     *
+     * @param propertyName
+     *            The name of the entity property to be read into the column.
+     * @return A new projection.
+     */
+    @Nonnull
+    public ColumnProjection withLongColumn( @Nonnull final String propertyName )
+    {
+        return withColumn(propertyName, ColumnType.LONG);
+    }
+
+    /**
+     * Get a copy of this projection with an additional column of type {@link ColumnType#DOUBLE}.
+     *
+     * @param propertyName
+     *            The name of the entity property to be read into the column.
+     * @return A new projection.
+     */
+    @Nonnull
+    public ColumnProjection withDoubleColumn( @Nonnull final String propertyName )
+    {
+        return withColumn(propertyName, ColumnType.DOUBLE);
+    }
+
+    /**
+     * Get a copy of this projection with an additional column of type {@link ColumnType#STRING}.
+     *
+     * @param propertyName
+     *            The name of the entity property to be read into the column.
+     * @return A new projection.
+     */
+    @Nonnull
+    public ColumnProjection withStringColumn( @Nonnull final String propertyName )
+    {
+        return withColumn(propertyName, ColumnType.STRING);
+    }
+
+    /**
+     * Get a copy of this projection with an additional column of type {@link ColumnType#BOOLEAN}.
+     *
+     * @param propertyName
+     *            The name of the entity property to be read into the column.
+     * @return A new projection.
+     */
+    @Nonnull
+    public ColumnProjection withBooleanColumn( @Nonnull final String propertyName )
+    {
+        return withColumn(propertyName, ColumnType.BOOLEAN);
+    }
+
+    /**
+     * Get the names of the projected properties, e.g. to be used as {@code $select} query option.
+     *
+     * @return The property names, in the order the columns were added.
+     */
+    @Nonnull
+    public Set<String> getPropertyNames()
+    {
+        return columns.keySet();
+    }
+}
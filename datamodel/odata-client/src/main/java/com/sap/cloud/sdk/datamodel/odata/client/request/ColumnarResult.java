@@ -0,0 +1,545 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The properties of the entities of an OData result-set, read into one primitive column per property as defined by a
+ * {@link ColumnProjection}.
+ * <p>
+ * In contrast to reading a list of entities, no object is created per entity and no JSON tree is kept in memory. This
+ * reduces memory consumption and garbage collection for large result-sets considerably. Values of properties that are
+ * missing or {@code null} in the response are marked as {@code null} in the column.
+ *
+ * @since 5.33.0
+ */
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+public final class ColumnarResult
+{
+    /**
+     * The number of entities read.
+     */
+    @Getter
+    private final int rowCount;
+
+    @Nonnull
+    private final Map<String, Column> columns;
+
+    /**
+     * Get the column of a property projected with {@link ColumnProjection.ColumnType#LONG}.
+     *
+     * @param propertyName
+     *            The name of the projected property.
+     * @return The column.
+     * @throws IllegalArgumentException
+     *             If the property was not projected into a column of the requested type.
+     */
+    @Nonnull
+    public LongColumn getLongColumn( @Nonnull final String propertyName )
+    {
+        return getColumn(propertyName, LongColumn.class);
+    }
+
+    /**
+     * Get the column of a property projected with {@link ColumnProjection.ColumnType#DOUBLE}.
+     *
+     * @param propertyName
+     *            The name of the projected property.
+     * @return The column.
+     * @throws IllegalArgumentException
+     *             If the property was not projected into a column of the requested type.
+     */
+    @Nonnull
+    public DoubleColumn getDoubleColumn( @Nonnull final String propertyName )
+    {
+        return getColumn(propertyName, DoubleColumn.class);
+    }
+
+    /**
+     * Get the column of a property projected with {@link ColumnProjection.ColumnType#STRING}.
+     *
+     * @param propertyName
+     *            The name of the projected property.
+     * @return The column.
+     * @throws IllegalArgumentException
+     *             If the property was not projected into a column of the requested type.
+     */
+    @Nonnull
+    public StringColumn getStringColumn( @Nonnull final String propertyName )
+    {
+        return getColumn(propertyName, StringColumn.class);
+    }
+
+    /**
+     * Get the column of a property projected with {@link ColumnProjection.ColumnType#BOOLEAN}.
+     *
+     * @param propertyName
+     *            The name of the projected property.
+     * @return The column.
+     * @throws IllegalArgumentException
+     *             If the property was not projected into a column of the requested type.
+     */
+    @Nonnull
+    public BooleanColumn getBooleanColumn( @Nonnull final String propertyName )
+    {
+        return getColumn(propertyName, BooleanColumn.class);
+    }
+
+    @Nonnull
+    private <T extends Column> T getColumn( @Nonnull final String propertyName, @Nonnull final Class<T> columnType )
+    {
+        final Column column = columns.get(propertyName);
+        if( !columnType.isInstance(column) ) {
+            throw new IllegalArgumentException(
+                "The property " + propertyName + " was not projected into a " + columnType.getSimpleName() + ".");
+        }
+        return columnType.cast(column);
+    }
+
+    /**
+     * A column of values, one per entity of the result-set.
+     */
+    @RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+    public abstract static class Column
+    {
+        @Nonnull
+        private final BitSet nulls;
+
+        /**
+         * Check whether the property value of the entity is missing or {@code null}.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return {@code true} if the value is missing or {@code null}, {@code false} otherwise.
+         */
+        public boolean isNull( final int row )
+        {
+            return nulls.get(row);
+        }
+    }
+
+    /**
+     * A column of {@code long} values.
+     */
+    public static final class LongColumn extends Column
+    {
+        @Nonnull
+        private final long[] values;
+
+        private LongColumn( @Nonnull final BitSet nulls, @Nonnull final long[] values )
+        {
+            super(nulls);
+            this.values = values;
+        }
+
+        /**
+         * Get the value of the entity.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return The value, or {@code 0} if the value {@link #isNull(int) is null}.
+         */
+        public long get( final int row )
+        {
+            return values[row];
+        }
+
+        /**
+         * Get a copy of all values.
+         *
+         * @return The values, with {@code 0} for values that are {@code null}.
+         */
+        @Nonnull
+        public long[] toArray()
+        {
+            return values.clone();
+        }
+    }
+
+    /**
+     * A column of {@code double} values.
+     */
+    public static final class DoubleColumn extends Column
+    {
+        @Nonnull
+        private final double[] values;
+
+        private DoubleColumn( @Nonnull final BitSet nulls, @Nonnull final double[] values )
+        {
+            super(nulls);
+            this.values = values;
+        }
+
+        /**
+         * Get the value of the entity.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return The value, or {@code 0} if the value {@link #isNull(int) is null}.
+         */
+        public double get( final int row )
+        {
+            return values[row];
+        }
+
+        /**
+         * Get a copy of all values.
+         *
+         * @return The values, with {@code 0} for values that are {@code null}.
+         */
+        @Nonnull
+        public double[] toArray()
+        {
+            return values.clone();
+        }
+    }
+
+    /**
+     * A column of {@code boolean} values.
+     */
+    public static final class BooleanColumn extends Column
+    {
+        @Nonnull
+        private final BitSet values;
+
+        private BooleanColumn( @Nonnull final BitSet nulls, @Nonnull final BitSet values )
+        {
+            super(nulls);
+            this.values = values;
+        }
+
+        /**
+         * Get the value of the entity.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return The value, or {@code false} if the value {@link #isNull(int) is null}.
+         */
+        public boolean get( final int row )
+        {
+            return values.get(row);
+        }
+    }
+
+    /**
+     * A dictionary encoded column of {@link String} values. Every distinct value is stored only once, which is a good
+     * fit for properties with few distinct values like currencies, units or status codes.
+     */
+    public static final class StringColumn extends Column
+    {
+        @Nonnull
+        private final int[] codes;
+
+        @Nonnull
+        private final List<String> dictionary;
+
+        private StringColumn(
+            @Nonnull final BitSet nulls,
+            @Nonnull final int[] codes,
+            @Nonnull final List<String> dictionary )
+        {
+            super(nulls);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * Get the value of the entity.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return The value, or {@code null} if the value {@link #isNull(int) is null}.
+         */
+        @Nullable
+        public String get( final int row )
+        {
+            return isNull(row) ? null : dictionary.get(codes[row]);
+        }
+
+        /**
+         * Get the dictionary code of the value of the entity.
+         *
+         * @param row
+         *            The index of the entity in the result-set.
+         * @return The index of the value in the {@link #getDictionary() dictionary}, or {@code -1} if the value
+         *         {@link #isNull(int) is null}.
+         */
+        public int getCode( final int row )
+        {
+            return isNull(row) ? -1 : codes[row];
+        }
+
+        /**
+         * Get the distinct values of this column.
+         *
+         * @return The distinct values, in the order of their first occurrence.
+         */
+        @Nonnull
+        public List<String> getDictionary()
+        {
+            return dictionary;
+        }
+    }
+
+    /**
+     * Reads entities from a {@link JsonReader} into growing columns. Entities may be read from multiple pages of a
+     * result-set.
+     */
+    static final class Builder
+    {
+        @Nonnull
+        private final Map<String, ColumnBuilder> columns = new LinkedHashMap<>();
+
+        private int rowCount;
+
+        Builder( @Nonnull final ColumnProjection projection )
+        {
+            projection.getColumns().forEach(( name, type ) -> columns.put(name, newColumnBuilder(type)));
+        }
+
+        @Nonnull
+        private static ColumnBuilder newColumnBuilder( @Nonnull final ColumnProjection.ColumnType type )
+        {
+            return switch( type ) {
+                case LONG -> new LongColumnBuilder();
+                case DOUBLE -> new DoubleColumnBuilder();
+                case STRING -> new StringColumnBuilder();
+                case BOOLEAN -> new BooleanColumnBuilder();
+            };
+        }
+
+        /**
+         * Read the next entity. Properties that are not projected are skipped without being parsed into objects.
+         *
+         * @param reader
+         *            The reader positioned at the beginning of a JSON object.
+         * @throws IOException
+         *             If the entity cannot be read.
+         */
+        void readRow( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            reader.beginObject();
+            while( reader.hasNext() ) {
+                final ColumnBuilder column = columns.get(reader.nextName());
+                if( column == null || column.size > rowCount ) {
+                    reader.skipValue();
+                } else if( reader.peek() == JsonToken.NULL ) {
+                    reader.nextNull();
+                    column.appendNull();
+                } else {
+                    column.read(reader);
+                }
+            }
+            reader.endObject();
+
+            rowCount++;
+            for( final ColumnBuilder column : columns.values() ) {
+                if( column.size < rowCount ) {
+                    column.appendNull();
+                }
+            }
+        }
+
+        @Nonnull
+        ColumnarResult build()
+        {
+            final Map<String, Column> result = new HashMap<>();
+            columns.forEach(( name, column ) -> result.put(name, column.build()));
+            return new ColumnarResult(rowCount, result);
+        }
+    }
+
+    private abstract static class ColumnBuilder
+    {
+        final BitSet nulls = new BitSet();
+        int size;
+
+        void appendNull()
+        {
+            nulls.set(size);
+            ensureCapacity();
+            size++;
+        }
+
+        void read( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            ensureCapacity();
+            readValue(reader);
+            size++;
+        }
+
+        private void ensureCapacity()
+        {
+            if( size == capacity() ) {
+                grow();
+            }
+        }
+
+        abstract int capacity();
+
+        abstract void grow();
+
+        abstract void readValue( @Nonnull final JsonReader reader )
+            throws IOException;
+
+        @Nonnull
+        abstract Column build();
+
+        static int newCapacity( final int capacity )
+        {
+            return Math.max(16, capacity + (capacity >> 1));
+        }
+    }
+
+    private static final class LongColumnBuilder extends ColumnBuilder
+    {
+        private long[] values = new long[0];
+
+        @Override
+        int capacity()
+        {
+            return values.length;
+        }
+
+        @Override
+        void grow()
+        {
+            values = Arrays.copyOf(values, newCapacity(values.length));
+        }
+
+        @Override
+        void readValue( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            // also accepts numbers represented as JSON strings, e.g. Edm.Int64 in OData V2
+            values[size] = reader.nextLong();
+        }
+
+        @Nonnull
+        @Override
+        Column build()
+        {
+            return new LongColumn(nulls, Arrays.copyOf(values, size));
+        }
+    }
+
+    private static final class DoubleColumnBuilder extends ColumnBuilder
+    {
+        private double[] values = new double[0];
+
+        @Override
+        int capacity()
+        {
+            return values.length;
+        }
+
+        @Override
+        void grow()
+        {
+            values = Arrays.copyOf(values, newCapacity(values.length));
+        }
+
+        @Override
+        void readValue( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            // also accepts numbers represented as JSON strings, e.g. Edm.Decimal in OData V2
+            values[size] = reader.nextDouble();
+        }
+
+        @Nonnull
+        @Override
+        Column build()
+        {
+            return new DoubleColumn(nulls, Arrays.copyOf(values, size));
+        }
+    }
+
+    private static final class BooleanColumnBuilder extends ColumnBuilder
+    {
+        private final BitSet values = new BitSet();
+
+        @Override
+        int capacity()
+        {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        void grow()
+        {
+            // bit sets grow on demand
+        }
+
+        @Override
+        void readValue( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            values.set(size, reader.nextBoolean());
+        }
+
+        @Nonnull
+        @Override
+        Column build()
+        {
+            return new BooleanColumn(nulls, values);
+        }
+    }
+
+    private static final class StringColumnBuilder extends ColumnBuilder
+    {
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] codes = new int[0];
+
+        @Override
+        int capacity()
+        {
+            return codes.length;
+        }
+
+        @Override
+        void grow()
+        {
+            codes = Arrays.copyOf(codes, newCapacity(codes.length));
+        }
+
+        @Override
+        void readValue( @Nonnull final JsonReader reader )
+            throws IOException
+        {
+            final String value =
+                reader.peek() == JsonToken.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+            codes[size] = codesByValue.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        @Nonnull
+        @Override
+        Column build()
+        {
+            return new StringColumn(nulls, Arrays.copyOf(codes, size), Collections.unmodifiableList(dictionary));
+        }
+    }
+}
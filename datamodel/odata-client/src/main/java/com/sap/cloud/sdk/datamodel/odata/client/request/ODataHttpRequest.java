@@ -23,6 +23,9 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.entity.StringEntity;
 
+import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationNameProvider;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataConnectionException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
 
@@ -105,8 +108,27 @@ class ODataHttpRequest
 
         odataRequest.getListeners().forEach(v -> v.listenOnRequest(httpRequest));
 
+        final String destinationName =
+            httpClient instanceof DestinationNameProvider
+                ? ((DestinationNameProvider) httpClient).getDestinationName()
+                : null;
+        final RequestTimingRecorder timing =
+            RequestTimingRecorder.start(destinationName, odataRequest.getClass().getSimpleName());
+        boolean responseBodyPending = false;
         try {
-            return httpClient.execute(httpRequest);
+            final long beginExecute = System.nanoTime();
+            final HttpResponse response = httpClient.execute(httpRequest);
+            timing.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, beginExecute);
+            final HttpEntity responseBody = response != null ? response.getEntity() : null;
+            if( responseBody != null && timing.isRecording() ) {
+                timing.recordResponseSize(responseBody.getContentLength());
+                // the recording is finished once the response body was read, e.g. by buffering the response
+                response.setEntity(new RequestTimingHttpEntity(responseBody, timing));
+                responseBodyPending = true;
+            } else {
+                timing.finish(false);
+            }
+            return response;
         }
         catch( final ClientProtocolException e ) {
             log.debug("Connection could not be established.", e);
@@ -136,6 +158,11 @@ class ODataHttpRequest
             log.debug("Connection failed.", e);
             throw new ODataConnectionException(this.odataRequest, httpRequest, "Connection failed.", e);
         }
+        finally {
+            if( !responseBodyPending ) {
+                timing.finish(true);
+            }
+        }
     }
 
     /**
@@ -10,6 +10,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.sap.cloud.sdk.cloudplatform.connectivity.UriQueryMerger;
 import com.sap.cloud.sdk.datamodel.odata.client.JsonPath;
@@ -42,12 +45,14 @@ import com.sap.cloud.sdk.datamodel.odata.client.ODataResponseDeserializer;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
+import com.sap.cloud.sdk.result.ElementName;
 import com.sap.cloud.sdk.result.GsonResultElementFactory;
 import com.sap.cloud.sdk.result.ResultCollection;
 import com.sap.cloud.sdk.result.ResultElement;
 import com.sap.cloud.sdk.result.ResultObject;
 import com.sap.cloud.sdk.result.ResultPrimitive;
 
+import io.vavr.CheckedConsumer;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import lombok.AccessLevel;
@@ -180,6 +185,118 @@ public class ODataRequestResultGeneric
         log.debug("Iterated {} elements.", numConsumedElements);
     }
 
+    /**
+     * Read the given properties of the entities of this result page into columns. The response is streamed, without
+     * creating an object per entity. Following pages of the result-set are not requested.
+     *
+     * @param projection
+     *            The properties to read and the types of their columns.
+     * @return The columns of the entities of this result page.
+     * @throws ODataDeserializationException
+     *             If the response cannot be read into the columns.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public ColumnarResult asColumns( @Nonnull final ColumnProjection projection )
+    {
+        final ColumnarResult.Builder columns = new ColumnarResult.Builder(projection);
+        streamResultSet(columns::readRow);
+        return columns.build();
+    }
+
+    /**
+     * Read the given properties of the entities of this result page and all following pages into columns. The
+     * responses are streamed, without creating an object per entity.
+     *
+     * @param projection
+     *            The properties to read and the types of their columns.
+     * @return The columns of the entities of the whole result-set.
+     * @throws ODataDeserializationException
+     *             If a response cannot be read into the columns.
+     * @throws ODataRequestException
+     *             If a following page cannot be requested.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public ColumnarResult asColumnsOfAllPages( @Nonnull final ColumnProjection projection )
+    {
+        final ColumnarResult.Builder columns = new ColumnarResult.Builder(projection);
+        forEachPage(page -> page.streamResultSet(columns::readRow));
+        return columns.build();
+    }
+
+    /**
+     * Read the entities of this result page into instances of the given type, e.g. a record with a component per
+     * selected property. In contrast to {@link #asList(Class)}, the entities are read directly from the response
+     * stream, without building a JSON tree first. Following pages of the result-set are not requested.
+     *
+     * @param type
+     *            The type to read the entities into. Only fields annotated with {@link ElementName} are read.
+     * @param <T>
+     *            The generic item type.
+     * @return The entities of this result page.
+     * @throws ODataDeserializationException
+     *             If the response cannot be read into the given type.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public <T> List<T> asProjection( @Nonnull final Class<T> type )
+    {
+        final TypeAdapter<T> adapter = ODataGsonBuilder.newGsonBuilder(numberStrategy).create().getAdapter(type);
+        final List<T> result = new ArrayList<>();
+        streamResultSet(reader -> result.add(adapter.read(reader)));
+        return result;
+    }
+
+    /**
+     * Read the entities of this result page and all following pages into instances of the given type, e.g. a record
+     * with a component per selected property. The entities are read directly from the response streams, without
+     * building a JSON tree first.
+     *
+     * @param type
+     *            The type to read the entities into. Only fields annotated with {@link ElementName} are read.
+     * @param <T>
+     *            The generic item type.
+     * @return The entities of the whole result-set.
+     * @throws ODataDeserializationException
+     *             If a response cannot be read into the given type.
+     * @throws ODataRequestException
+     *             If a following page cannot be requested.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public <T> List<T> asProjectionOfAllPages( @Nonnull final Class<T> type )
+    {
+        final TypeAdapter<T> adapter = ODataGsonBuilder.newGsonBuilder(numberStrategy).create().getAdapter(type);
+        final List<T> result = new ArrayList<>();
+        forEachPage(page -> page.streamResultSet(reader -> result.add(adapter.read(reader))));
+        return result;
+    }
+
+    private void streamResultSet( @Nonnull final CheckedConsumer<JsonReader> entityReader )
+    {
+        final Integer numConsumedElements = HttpEntityReader.stream(this, reader -> {
+            deserializer.positionReaderToResultSet(reader);
+
+            int count = 0;
+            while( reader.hasNext() && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+                entityReader.accept(reader);
+                count++;
+            }
+            reader.close();
+            return count;
+        });
+
+        log.debug("Read {} elements.", numConsumedElements);
+    }
+
+    private void forEachPage( @Nonnull final Consumer<ODataRequestResultGeneric> pageHandler )
+    {
+        // pages following this one are created by tryGetNextPage(), which returns ODataRequestResultGeneric
+        new ODataRequestResultPaginationIterator(this)
+            .forEachRemaining(page -> pageHandler.accept((ODataRequestResultGeneric) page));
+    }
+
     private GsonResultElementFactory getResultElementFactory()
     {
         final GsonBuilder gsonBuilder = ODataGsonBuilder.newGsonBuilder(numberStrategy);
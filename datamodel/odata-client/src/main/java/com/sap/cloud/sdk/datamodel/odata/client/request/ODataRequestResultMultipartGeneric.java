@@ -1,7 +1,12 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -14,6 +19,9 @@ import org.apache.http.util.EntityUtils;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataServiceErrorException;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestBatch.BatchItem;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestBatch.BatchItemChangeset;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestBatch.BatchItemSingle;
 
 import io.vavr.Lazy;
 import io.vavr.Tuple2;
@@ -32,6 +40,9 @@ public class ODataRequestResultMultipartGeneric
     ODataRequestResult,
     AutoCloseable
 {
+    private static final String MSG_MISSING_ITEM =
+        "Unable to extract batch response item at position %s. The response contains only %s items.";
+
     @Getter( AccessLevel.PRIVATE )
     @Nonnull
     private final ODataRequestBatch batchRequest;
@@ -43,6 +54,9 @@ public class ODataRequestResultMultipartGeneric
     @Nonnull
     private final Lazy<Try<List<List<HttpResponse>>>> batchResponses = Lazy.of(this::loadBatchResponses);
 
+    @Nonnull
+    private final AtomicBoolean streamed = new AtomicBoolean(false);
+
     @Nonnull
     private final List<Runnable> closeHandlers = new ArrayList<>();
 
@@ -110,23 +124,14 @@ public class ODataRequestResultMultipartGeneric
         log.debug("Looking for request {} in batch response at position {}", request, responsePosition);
         final List<List<HttpResponse>> batchResponseItems = getBatchedResponses();
         if( responsePosition._1() >= batchResponseItems.size() ) {
-            String msg = "Unable to extract batch response item at position %s. The response contains only %s items.";
-            msg = String.format(msg, responsePosition._1() + 1, batchResponseItems.size());
+            final String msg = String.format(MSG_MISSING_ITEM, responsePosition._1() + 1, batchResponseItems.size());
             throw new ODataResponseException(batchRequest, httpResponse, msg, null);
         }
         final List<HttpResponse> subResponses = batchResponseItems.get(responsePosition._1());
 
         final boolean isSingleResponse = responsePosition._2() == null || responsePosition._2() >= subResponses.size();
         final HttpResponse response = subResponses.get(isSingleResponse ? 0 : responsePosition._2());
-
-        if( response == null ) {
-            final String msg = "Illegal payload for " + batchRequest.getProtocol() + " batch response item.";
-            throw new ODataDeserializationException(batchRequest, httpResponse, msg, null);
-        }
-
-        final ODataRequestResultGeneric result = new ODataRequestResultGeneric(batchRequest, response);
-        ODataHealthyResponseValidator.requireHealthyResponse(result);
-        return result;
+        return toHealthyResult(response);
     }
 
     /**
@@ -142,17 +147,112 @@ public class ODataRequestResultMultipartGeneric
     {
         return batchResponses
             .get()
-            .getOrElseThrow(
-                e -> new ODataResponseException(
-                    getBatchRequest(),
-                    getHttpResponse(),
-                    "Failed to read " + batchRequest.getProtocol() + " batch response.",
-                    e));
+            .getOrElseThrow(this::newReadException);
+    }
+
+    /**
+     * Consume the results of all batch request items in a single forward-only pass over the HTTP response entity.
+     * <p>
+     * Every multi-part segment is parsed and passed to the {@code handler} as soon as it was read from the response,
+     * together with the original request it belongs to. In contrast to {@link #getResult(ODataRequestGeneric)} and
+     * {@link #getBatchedResponses()}, previous segments are not retained. Thereby the memory consumption is bounded by
+     * the size of the largest segment instead of the size of the whole batch response.
+     * <p>
+     * Unhealthy item responses do not interrupt the iteration. They are passed to the {@code handler} as failed
+     * {@link Try}, containing the same exception that would be thrown by {@link #getResult(ODataRequestGeneric)}. If
+     * a changeset failed as a whole, the single error response is passed for every request of the changeset.
+     * <p>
+     * <b>Please note:</b> The HTTP response entity can only be consumed once. This method can therefore not be combined
+     * with {@link #getResult(ODataRequestGeneric)} or {@link #getBatchedResponses()}.
+     *
+     * @param handler
+     *            The handler to be invoked for every request of the original batch request, in the order of the batch
+     *            request items.
+     * @throws ODataResponseException
+     *             When the OData batch response cannot be parsed.
+     * @throws IllegalStateException
+     *             When the batch response was already consumed.
+     * @since 5.33.0
+     */
+    public void streamResults(
+        @Nonnull final BiConsumer<ODataRequestGeneric, Try<ODataRequestResultGeneric>> handler )
+    {
+        if( batchResponses.isEvaluated() || !streamed.compareAndSet(false, true) ) {
+            final String msg = "The " + batchRequest.getProtocol() + " batch response was already consumed.";
+            throw new IllegalStateException(msg);
+        }
+
+        @SuppressWarnings( "resource" ) // resource will be registered in the close handlers
+        final MultipartParser parser =
+            Try.of(() -> MultipartParser.ofHttpResponse(getHttpResponse())).getOrElseThrow(this::newReadException);
+        closeHandlers.add(parser::close);
+
+        final Iterator<Iterator<MultipartParser.Entry>> segments = parser.toStream().map(Stream::iterator).iterator();
+
+        int position = 0;
+        for( final BatchItem item : batchRequest.getRequests() ) {
+            final List<ODataRequestGeneric> itemRequests = getRequests(item);
+            final Iterator<MultipartParser.Entry> itemSegments =
+                Try.of(() -> segments.hasNext() ? segments.next() : null).getOrElseThrow(this::newReadException);
+            position++;
+
+            if( itemSegments == null ) {
+                final String msg = String.format(MSG_MISSING_ITEM, position, position - 1);
+                final ODataResponseException e = new ODataResponseException(batchRequest, httpResponse, msg, null);
+                itemRequests.forEach(request -> handler.accept(request, Try.failure(e)));
+                continue;
+            }
+
+            HttpResponse previousResponse = null;
+            for( final ODataRequestGeneric request : itemRequests ) {
+                final MultipartParser.Entry entry =
+                    Try
+                        .of(() -> itemSegments.hasNext() ? itemSegments.next() : null)
+                        .getOrElseThrow(this::newReadException);
+                final HttpResponse response = entry != null ? MultipartHttpResponse.ofHttpContent(entry) : null;
+                // a failed changeset is answered with a single response only
+                final HttpResponse itemResponse = response != null ? response : previousResponse;
+                handler.accept(request, Try.of(() -> toHealthyResult(itemResponse)));
+                previousResponse = itemResponse;
+            }
+        }
+    }
+
+    @Nonnull
+    private List<ODataRequestGeneric> getRequests( @Nonnull final BatchItem item )
+    {
+        if( item instanceof BatchItemChangeset changeset ) {
+            return changeset.getRequests().stream().map(BatchItemSingle::getRequest).toList();
+        }
+        return Collections.singletonList(((BatchItemSingle) item).getRequest());
+    }
+
+    @Nonnull
+    private ODataRequestResultGeneric toHealthyResult( @Nullable final HttpResponse response )
+    {
+        if( response == null ) {
+            final String msg = "Illegal payload for " + batchRequest.getProtocol() + " batch response item.";
+            throw new ODataDeserializationException(batchRequest, httpResponse, msg, null);
+        }
+        final ODataRequestResultGeneric result = new ODataRequestResultGeneric(batchRequest, response);
+        ODataHealthyResponseValidator.requireHealthyResponse(result);
+        return result;
+    }
+
+    @Nonnull
+    private ODataResponseException newReadException( @Nonnull final Throwable cause )
+    {
+        final String msg = "Failed to read " + batchRequest.getProtocol() + " batch response.";
+        return new ODataResponseException(batchRequest, httpResponse, msg, cause);
     }
 
     @Nonnull
     private Try<List<List<HttpResponse>>> loadBatchResponses()
     {
+        if( streamed.get() ) {
+            final String msg = "The " + batchRequest.getProtocol() + " batch response was already streamed.";
+            return Try.failure(new IllegalStateException(msg));
+        }
         return Try.of(() -> {
             @SuppressWarnings( "resource" ) // resource will be registered in the close handlers
             final MultipartParser parser = MultipartParser.ofHttpResponse(getHttpResponse());
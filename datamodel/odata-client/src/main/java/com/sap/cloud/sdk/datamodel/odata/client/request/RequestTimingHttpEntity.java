@@ -0,0 +1,114 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
+
+/**
+ * Wraps the entity of an HTTP response to record the time spent reading the response body from the connection. The
+ * recording is finished once the response body was read completely or its stream was closed, e.g. when the response is
+ * buffered or consumed.
+ */
+class RequestTimingHttpEntity extends HttpEntityWrapper
+{
+    @Nonnull
+    private final RequestTimingRecorder timing;
+
+    RequestTimingHttpEntity( @Nonnull final HttpEntity wrappedEntity, @Nonnull final RequestTimingRecorder timing )
+    {
+        super(wrappedEntity);
+        this.timing = timing;
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getContent()
+        throws IOException
+    {
+        return new RequestTimingInputStream(super.getContent());
+    }
+
+    @Override
+    public void writeTo( @Nonnull final OutputStream outStream )
+        throws IOException
+    {
+        // read the content through the timed stream, instead of letting the wrapped entity write it directly
+        try( InputStream content = getContent() ) {
+            content.transferTo(outStream);
+        }
+    }
+
+    private class RequestTimingInputStream extends FilterInputStream
+    {
+        RequestTimingInputStream( @Nonnull final InputStream in )
+        {
+            super(in);
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            final long beginRead = System.nanoTime();
+            try {
+                return recordRead(beginRead, super.read());
+            }
+            catch( final IOException e ) {
+                finish(beginRead, true);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read( @Nonnull final byte[] b, final int off, final int len )
+            throws IOException
+        {
+            final long beginRead = System.nanoTime();
+            try {
+                return recordRead(beginRead, super.read(b, off, len));
+            }
+            catch( final IOException e ) {
+                finish(beginRead, true);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            try {
+                super.close();
+            }
+            finally {
+                timing.finish(false);
+            }
+        }
+
+        private int recordRead( final long beginRead, final int result )
+        {
+            if( result < 0 ) {
+                // the end of the response body was reached
+                finish(beginRead, false);
+            } else {
+                timing.recordSince(RequestTimingPhase.BODY_READ, beginRead);
+            }
+            return result;
+        }
+
+        private void finish( final long beginRead, final boolean failed )
+        {
+            timing.recordSince(RequestTimingPhase.BODY_READ, beginRead);
+            timing.finish(failed);
+        }
+    }
+}
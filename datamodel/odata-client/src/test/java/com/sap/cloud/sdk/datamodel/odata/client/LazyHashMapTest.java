@@ -0,0 +1,56 @@
+package com.sap.cloud.sdk.datamodel.odata.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class LazyHashMapTest
+{
+    @Test
+    void testEmptyMap()
+    {
+        final Map<String, Object> map = new LazyHashMap<>();
+
+        assertThat(map).isEmpty();
+        assertThat(map.get("key")).isNull();
+        assertThat(map.remove("key")).isNull();
+        assertThat(map.entrySet()).isEmpty();
+    }
+
+    @Test
+    void testMutations()
+    {
+        final Map<String, Object> map = new LazyHashMap<>();
+
+        assertThat(map.put("key", "value")).isNull();
+        assertThat(map.put("key", "other")).isEqualTo("value");
+        map.put("null", null);
+        assertThat(map).containsOnly(entry("key", "other"), entry("null", null));
+        assertThat(map.containsKey("null")).isTrue();
+
+        map.entrySet().removeIf(e -> e.getValue() == null);
+        assertThat(map).containsOnly(entry("key", "other"));
+
+        assertThat(map.remove("key")).isEqualTo("other");
+        assertThat(map).isEmpty();
+
+        map.put("key", "value");
+        map.clear();
+        assertThat(map).isEmpty();
+        map.put("key", "value");
+        assertThat(map).containsOnly(entry("key", "value"));
+    }
+
+    @Test
+    void testEqualsOtherMaps()
+    {
+        final Map<String, Object> map = new LazyHashMap<>();
+        assertThat(map).isEqualTo(Map.of()).hasSameHashCodeAs(Map.of());
+
+        map.put("key", "value");
+        assertThat(map).isEqualTo(Map.of("key", "value")).hasSameHashCodeAs(Map.of("key", "value"));
+    }
+}
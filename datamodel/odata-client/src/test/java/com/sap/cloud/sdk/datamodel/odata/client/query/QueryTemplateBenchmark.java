@@ -0,0 +1,90 @@
+package com.sap.cloud.sdk.datamodel.odata.client.query;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.FieldReference;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueBoolean;
+
+/**
+ * Benchmark of binding values to a {@link QueryTemplate} compared to building and serializing the equivalent
+ * {@link StructuredQuery} with a filter-heavy query.
+ * <p>
+ * Run the benchmark after {@code mvn test-compile} with the test classpath of this module:
+ *
+ * <pre>
+ * <code>java -cp &lt;test classpath&gt; org.openjdk.jmh.Main QueryTemplateBenchmark</code>
+ * </pre>
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Benchmark )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class QueryTemplateBenchmark
+{
+    private static final QueryTemplate TEMPLATE =
+        QueryTemplate
+            .compile(
+                createQuery(
+                    QueryTemplate.parameter("company"),
+                    QueryTemplate.parameter("customer"),
+                    QueryTemplate.parameter("status"),
+                    QueryTemplate.parameter("minAmount")));
+
+    String company = "1010";
+    String customer = "Müller & Söhne";
+    String status = "OPEN";
+    int minAmount = 1000;
+
+    @Benchmark
+    public String serializeStructuredQuery()
+    {
+        return createQuery(company, customer, status, minAmount).getEncodedQueryString();
+    }
+
+    @Benchmark
+    public String bindQueryTemplate()
+    {
+        return TEMPLATE
+            .getEncodedQueryString(
+                Map.of("company", company, "customer", customer, "status", status, "minAmount", minAmount));
+    }
+
+    private static StructuredQuery createQuery(
+        final Object company,
+        final Object customer,
+        final Object status,
+        final Object minAmount )
+    {
+        final ValueBoolean keys =
+            FieldReference
+                .of("CompanyCode")
+                .equalTo(company)
+                .and(FieldReference.of("Customer").equalTo(customer).or(FieldReference.of("Payer").equalTo(customer)));
+        final ValueBoolean state =
+            FieldReference
+                .of("Status")
+                .equalTo(status)
+                .and(FieldReference.of("IsDeleted").equalTo(false))
+                .and(FieldReference.of("Amount").greaterThanEqual(minAmount));
+        return StructuredQuery
+            .onEntity("SalesOrders", ODataProtocol.V4)
+            .select("SalesOrder", "Customer", "Amount", "Currency", "Status")
+            .filter(keys, state)
+            .orderBy("SalesOrder", Order.ASC)
+            .top(100);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sap.cloud.sdk.datamodel.odata.client.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.Expressions;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.FieldReference;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueDate;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueNumeric;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ValueString;
+
+class QueryTemplateTest
+{
+    private static final Map<String, Object> VALUES =
+        Map.of("customer", "O'Neil & Sons", "minAmount", 100, "maxAmount", 250.5, "since", LocalDate.of(2024, 2, 29));
+
+    @Test
+    void testBindEqualsSerializedQuery()
+    {
+        final QueryTemplate template =
+            QueryTemplate
+                .compile(
+                    createQuery(
+                        ODataProtocol.V4,
+                        QueryTemplate::stringParameter,
+                        QueryTemplate::numericParameter,
+                        QueryTemplate::dateParameter));
+
+        final StructuredQuery expected =
+            createQuery(
+                ODataProtocol.V4,
+                name -> ValueString.literal((String) VALUES.get(name)),
+                name -> ValueNumeric.literal((Number) VALUES.get(name)),
+                name -> ValueDate.literal((LocalDate) VALUES.get(name)));
+
+        assertThat(template.getParameterNames()).containsExactly("customer", "minAmount", "maxAmount", "since");
+        assertThat(template.getEncodedQueryString(VALUES)).isEqualTo(expected.getEncodedQueryString());
+        assertThat(template.getQueryString(VALUES)).isEqualTo(expected.getQueryString());
+        assertThat(template.getQueryString(VALUES))
+            .isEqualTo(
+                "$select=OrderID,Amount&$filter=((Customer eq 'O''Neil & Sons') or (Supplier eq 'O''Neil & Sons'))"
+                    + " and ((Amount ge 100) and (Amount le 250.5)) and (Created gt 2024-02-29)&$top=10");
+    }
+
+    @Test
+    void testBindDifferentValues()
+    {
+        final QueryTemplate template =
+            QueryTemplate
+                .compile(
+                    StructuredQuery
+                        .onEntity("Orders", ODataProtocol.V2)
+                        .filter(FieldReference.of("Customer").equalTo(QueryTemplate.parameter("customer"))));
+
+        assertThat(template.getEncodedQueryString(Map.of("customer", "A")))
+            .isEqualTo("$filter=(Customer%20eq%20'A')");
+        assertThat(template.getEncodedQueryString(Map.of("customer", 42))).isEqualTo("$filter=(Customer%20eq%2042)");
+        assertThat(template.getEncodedQueryString(Collections.singletonMap("customer", null)))
+            .isEqualTo("$filter=(Customer%20eq%20null)");
+    }
+
+    @Test
+    void testTemplateWithoutParameters()
+    {
+        final StructuredQuery query = StructuredQuery.onEntity("Orders", ODataProtocol.V4).select("OrderID").top(5);
+        final QueryTemplate template = QueryTemplate.compile(query);
+
+        assertThat(template.getParameterNames()).isEmpty();
+        assertThat(template.getEncodedQueryString(Map.of())).isEqualTo(query.getEncodedQueryString());
+    }
+
+    @Test
+    void testMissingValue()
+    {
+        final QueryTemplate template =
+            QueryTemplate
+                .compile(
+                    StructuredQuery
+                        .onEntity("Orders", ODataProtocol.V4)
+                        .filter(FieldReference.of("Customer").equalTo(QueryTemplate.parameter("customer"))));
+
+        assertThatThrownBy(() -> template.getEncodedQueryString(Map.of("supplier", "A")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("customer");
+    }
+
+    @Test
+    void testInvalidParameterName()
+    {
+        assertThatThrownBy(() -> QueryTemplate.parameter("customer id")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static StructuredQuery createQuery(
+        final ODataProtocol protocol,
+        final Function<String, ValueString> string,
+        final Function<String, ValueNumeric> numeric,
+        final Function<String, ValueDate> date )
+    {
+        final Expressions.OperandSingle customer = string.apply("customer");
+        return StructuredQuery
+            .onEntity("Orders", protocol)
+            .select("OrderID", "Amount")
+            .filter(FieldReference.of("Customer").equalTo(customer).or(FieldReference.of("Supplier").equalTo(customer)))
+            .filter(
+                FieldReference
+                    .of("Amount")
+                    .greaterThanEqual(numeric.apply("minAmount"))
+                    .and(FieldReference.of("Amount").lessThanEqual(numeric.apply("maxAmount"))))
+            .filter(FieldReference.of("Created").greaterThan(date.apply("since")))
+            .top(10);
+    }
+}
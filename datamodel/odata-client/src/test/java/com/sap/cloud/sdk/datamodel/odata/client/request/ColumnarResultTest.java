@@ -0,0 +1,229 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
+import com.sap.cloud.sdk.result.ElementName;
+
+import lombok.SneakyThrows;
+
+class ColumnarResultTest
+{
+    private static final ColumnProjection PROJECTION =
+        ColumnProjection
+            .empty()
+            .withLongColumn("Quantity")
+            .withDoubleColumn("Amount")
+            .withStringColumn("Currency")
+            .withBooleanColumn("Released");
+
+    private static final String V2_PAGE = """
+        {
+          "d": {
+            "results": [
+              {
+                "__metadata": { "uri": "Orders('1')" },
+                "Quantity": "9007199254740993",
+                "Amount": "12.50",
+                "Currency": "EUR",
+                "Released": true,
+                "to_Items": { "__deferred": { "uri": "Orders('1')/to_Items" } }
+              },
+              { "Quantity": 2, "Amount": 3.25, "Currency": "USD", "Released": false },
+              { "Quantity": null, "Currency": "EUR" }
+            ]
+          }
+        }
+        """;
+
+    private static final String V4_PAGE_1 = """
+        {
+          "@odata.context": "$metadata#Orders",
+          "value": [ { "Quantity": 1, "Currency": "EUR" }, { "Quantity": 2, "Currency": "USD" } ],
+          "@odata.nextLink": "Orders?$skiptoken=2"
+        }
+        """;
+
+    private static final String V4_PAGE_2 = """
+        {
+          "@odata.context": "$metadata#Orders",
+          "value": [ { "Quantity": 3, "Currency": "EUR" } ]
+        }
+        """;
+
+    record Order( @ElementName( "Quantity" ) Long quantity, @ElementName( "Currency" ) String currency )
+    {
+    }
+
+    @Test
+    void testColumnsOfV2Page()
+    {
+        final ColumnarResult result = execute(ODataProtocol.V2, V2_PAGE).asColumns(PROJECTION);
+
+        assertThat(result.getRowCount()).isEqualTo(3);
+
+        final ColumnarResult.LongColumn quantity = result.getLongColumn("Quantity");
+        assertThat(quantity.get(0)).isEqualTo(9007199254740993L);
+        assertThat(quantity.get(1)).isEqualTo(2L);
+        assertThat(quantity.isNull(1)).isFalse();
+        assertThat(quantity.isNull(2)).isTrue();
+        assertThat(quantity.toArray()).containsExactly(9007199254740993L, 2L, 0L);
+
+        final ColumnarResult.DoubleColumn amount = result.getDoubleColumn("Amount");
+        assertThat(amount.toArray()).containsExactly(12.5, 3.25, 0.0);
+        assertThat(amount.isNull(2)).isTrue();
+
+        final ColumnarResult.StringColumn currency = result.getStringColumn("Currency");
+        assertThat(currency.getDictionary()).containsExactly("EUR", "USD");
+        assertThat(currency.get(0)).isEqualTo("EUR");
+        assertThat(currency.get(1)).isEqualTo("USD");
+        assertThat(currency.getCode(2)).isZero();
+
+        final ColumnarResult.BooleanColumn released = result.getBooleanColumn("Released");
+        assertThat(released.get(0)).isTrue();
+        assertThat(released.get(1)).isFalse();
+        assertThat(released.isNull(2)).isTrue();
+    }
+
+    @Test
+    void testColumnsOfAllPages()
+    {
+        final ColumnProjection projection =
+            ColumnProjection.empty().withLongColumn("Quantity").withStringColumn("Currency");
+
+        final ColumnarResult result = execute(ODataProtocol.V4, V4_PAGE_1, V4_PAGE_2).asColumnsOfAllPages(projection);
+
+        assertThat(result.getRowCount()).isEqualTo(3);
+        assertThat(result.getLongColumn("Quantity").toArray()).containsExactly(1L, 2L, 3L);
+        assertThat(result.getStringColumn("Currency").getDictionary()).containsExactly("EUR", "USD");
+        assertThat(result.getStringColumn("Currency").getCode(2)).isZero();
+    }
+
+    @Test
+    void testColumnsOfManyRows()
+    {
+        // crosses several growth steps of the column arrays
+        final int rowCount = 1000;
+        final StringBuilder rows = new StringBuilder();
+        for( int i = 0; i < rowCount; i++ ) {
+            rows.append(i == 0 ? "" : ",");
+            if( i % 7 == 0 ) {
+                rows.append("{ \"Quantity\": null, \"Amount\": null, \"Currency\": null, \"Released\": null }");
+            } else {
+                rows
+                    .append(
+                        String
+                            .format(
+                                "{ \"Quantity\": %d, \"Amount\": %d.5, \"Currency\": \"C%d\", \"Released\": %b }",
+                                i,
+                                i,
+                                i % 3,
+                                i % 2 == 0));
+            }
+        }
+        final String page = "{ \"value\": [ " + rows + " ] }";
+
+        final ColumnarResult result = execute(ODataProtocol.V4, page).asColumns(PROJECTION);
+
+        assertThat(result.getRowCount()).isEqualTo(rowCount);
+        final ColumnarResult.LongColumn quantity = result.getLongColumn("Quantity");
+        final ColumnarResult.DoubleColumn amount = result.getDoubleColumn("Amount");
+        final ColumnarResult.StringColumn currency = result.getStringColumn("Currency");
+        final ColumnarResult.BooleanColumn released = result.getBooleanColumn("Released");
+        assertThat(quantity.toArray()).hasSize(rowCount);
+        assertThat(currency.getDictionary()).containsExactlyInAnyOrder("C0", "C1", "C2");
+        for( int i = 0; i < rowCount; i++ ) {
+            assertThat(quantity.isNull(i)).isEqualTo(i % 7 == 0);
+            assertThat(amount.isNull(i)).isEqualTo(i % 7 == 0);
+            assertThat(currency.isNull(i)).isEqualTo(i % 7 == 0);
+            assertThat(released.isNull(i)).isEqualTo(i % 7 == 0);
+            if( i % 7 != 0 ) {
+                assertThat(quantity.get(i)).isEqualTo(i);
+                assertThat(amount.get(i)).isEqualTo(i + 0.5);
+                assertThat(currency.get(i)).isEqualTo("C" + i % 3);
+                assertThat(released.get(i)).isEqualTo(i % 2 == 0);
+            }
+        }
+    }
+
+    @Test
+    void testColumnsOfCurrentPageOnly()
+    {
+        final ColumnProjection projection = ColumnProjection.empty().withLongColumn("Quantity");
+
+        final ColumnarResult result = execute(ODataProtocol.V4, V4_PAGE_1, V4_PAGE_2).asColumns(projection);
+
+        assertThat(result.getLongColumn("Quantity").toArray()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testProjectionOfAllPages()
+    {
+        final List<Order> result = execute(ODataProtocol.V4, V4_PAGE_1, V4_PAGE_2).asProjectionOfAllPages(Order.class);
+
+        assertThat(result).containsExactly(new Order(1L, "EUR"), new Order(2L, "USD"), new Order(3L, "EUR"));
+    }
+
+    @Test
+    void testInvalidValue()
+    {
+        final ColumnProjection projection = ColumnProjection.empty().withLongColumn("Currency");
+
+        assertThatThrownBy(() -> execute(ODataProtocol.V4, V4_PAGE_2).asColumns(projection))
+            .isInstanceOf(ODataDeserializationException.class);
+    }
+
+    @Test
+    void testWrongColumnType()
+    {
+        final ColumnarResult result = execute(ODataProtocol.V2, V2_PAGE).asColumns(PROJECTION);
+
+        assertThatThrownBy(() -> result.getLongColumn("Currency")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> result.getLongColumn("Unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDuplicateColumn()
+    {
+        assertThatThrownBy(() -> PROJECTION.withStringColumn("Quantity")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(PROJECTION.getPropertyNames()).containsExactly("Quantity", "Amount", "Currency", "Released");
+    }
+
+    @SneakyThrows
+    private static ODataRequestResultGeneric execute( final ODataProtocol protocol, final String... pages )
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        final HttpResponse first = createHttpResponse(pages[0]);
+        final HttpResponse[] following = new HttpResponse[pages.length - 1];
+        for( int i = 1; i < pages.length; i++ ) {
+            following[i - 1] = createHttpResponse(pages[i]);
+        }
+        doReturn(first, (Object[]) following).when(httpClient).execute(any(HttpUriRequest.class));
+
+        return new ODataRequestRead("service", "Orders", null, protocol).execute(httpClient);
+    }
+
+    @SneakyThrows
+    private static HttpResponse createHttpResponse( final String message )
+    {
+        final BasicHttpResponse page = new BasicHttpResponse(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
+        page.setEntity(new StringEntity(message));
+        return page;
+    }
+}
@@ -2,16 +2,31 @@ package com.sap.cloud.sdk.datamodel.odata.client.request;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationNameProvider;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTiming;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingListener;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 
 class ODataHttpRequestTest
@@ -22,6 +37,7 @@ class ODataHttpRequestTest
     private static final ODataEntityKey ENTITY_KEY =
         new ODataEntityKey(ODataProtocol.V4).addKeyProperty("EntityKey", "key");
     private static final String QUERY_STRING = "$select=select1&$top=1";
+    private static final String RESPONSE_BODY = "{\"d\":{\"results\":[]}}";
     private final HttpClient httpClient = Mockito.mock(HttpClient.class);
 
     @Test
@@ -102,4 +118,92 @@ class ODataHttpRequestTest
         assertThat(acceptHeader[1].getValue()).isEqualTo("application/xml");
     }
 
+    @Test
+    void testRequestTimingIsTaggedWithDestinationName()
+        throws IOException
+    {
+        final HttpClient namedHttpClient =
+            Mockito.mock(HttpClient.class, Mockito.withSettings().extraInterfaces(DestinationNameProvider.class));
+        Mockito.when(((DestinationNameProvider) namedHttpClient).getDestinationName()).thenReturn("MyDestination");
+        Mockito.when(namedHttpClient.execute(Mockito.any())).thenReturn(Mockito.mock(HttpResponse.class));
+        Mockito.when(httpClient.execute(Mockito.any())).thenReturn(Mockito.mock(HttpResponse.class));
+
+        final List<RequestTiming> timings = new ArrayList<>();
+        final RequestTimingListener listener = timings::add;
+        RequestTimingRecorder.addListener(listener);
+        try {
+            final ODataRequestRead odataRequest =
+                new ODataRequestRead(SERVICE_PATH, ENTITY_COLLECTION, QUERY_STRING, ODataProtocol.V2);
+            ODataHttpRequest.withoutBody(odataRequest, namedHttpClient).requestGet();
+            ODataHttpRequest.withoutBody(odataRequest, httpClient).requestGet();
+        }
+        finally {
+            RequestTimingRecorder.removeListener(listener);
+        }
+
+        assertThat(timings).extracting(RequestTiming::getDestinationName).containsExactly("MyDestination", null);
+        assertThat(timings).extracting(RequestTiming::getOperation).containsOnly("ODataRequestRead");
+    }
+
+    @Test
+    void testRequestTimingIsFinishedOnceResponseBodyIsRead()
+        throws IOException
+    {
+        final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(newResponseBody());
+        Mockito.when(httpClient.execute(Mockito.any())).thenReturn(response);
+
+        final List<RequestTiming> timings = new ArrayList<>();
+        final RequestTimingListener listener = timings::add;
+        RequestTimingRecorder.addListener(listener);
+        try {
+            final ODataRequestRead odataRequest =
+                new ODataRequestRead(SERVICE_PATH, ENTITY_COLLECTION, QUERY_STRING, ODataProtocol.V2);
+            final HttpResponse result = ODataHttpRequest.withoutBody(odataRequest, httpClient).requestGet();
+            assertThat(timings).isEmpty();
+
+            assertThat(EntityUtils.toString(result.getEntity())).isEqualTo(RESPONSE_BODY);
+        }
+        finally {
+            RequestTimingRecorder.removeListener(listener);
+        }
+
+        assertThat(timings).singleElement().satisfies(timing -> {
+            assertThat(timing.isFailed()).isFalse();
+            assertThat(timing.getResponseSize()).isEqualTo(20L);
+            assertThat(timing.getPhaseDurations())
+                .containsOnlyKeys(RequestTimingPhase.TIME_TO_FIRST_BYTE, RequestTimingPhase.BODY_READ);
+        });
+    }
+
+    @Test
+    void testRequestTimingIsFinishedOnceResponseIsBuffered()
+        throws IOException
+    {
+        final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(newResponseBody());
+        Mockito.when(httpClient.execute(Mockito.any())).thenReturn(response);
+
+        final List<RequestTiming> timings = new ArrayList<>();
+        final RequestTimingListener listener = timings::add;
+        RequestTimingRecorder.addListener(listener);
+        try {
+            new ODataRequestRead(SERVICE_PATH, ENTITY_COLLECTION, QUERY_STRING, ODataProtocol.V2).execute(httpClient);
+        }
+        finally {
+            RequestTimingRecorder.removeListener(listener);
+        }
+
+        assertThat(timings).singleElement().satisfies(timing -> {
+            assertThat(timing.isFailed()).isFalse();
+            assertThat(timing.getDuration(RequestTimingPhase.BODY_READ)).isNotNull();
+        });
+    }
+
+    private static InputStreamEntity newResponseBody()
+    {
+        // like the entity of an actual connection, the entity is streamed and not repeatable
+        final byte[] content = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        return new InputStreamEntity(new ByteArrayInputStream(content), content.length, ContentType.APPLICATION_JSON);
+    }
 }
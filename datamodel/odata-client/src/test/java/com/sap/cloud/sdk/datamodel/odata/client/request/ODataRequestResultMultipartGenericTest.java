@@ -0,0 +1,175 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataServiceErrorException;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Try;
+import lombok.SneakyThrows;
+
+class ODataRequestResultMultipartGenericTest
+{
+    private static final String SERVICE_PATH = "/service/";
+    private static final String BOUNDARY = "batchresponse_76ef6b0a";
+
+    private static final String CHANGESET_RESPONSE = """
+        --batchresponse_76ef6b0a
+        Content-Type: multipart/mixed; boundary=changesetresponse_e4c6cc48
+
+        --changesetresponse_e4c6cc48
+        Content-Type: application/http
+        Content-Transfer-Encoding: binary
+
+        HTTP/1.1 201 Created
+        Content-Type: application/json
+
+        {"Name":"first"}
+        --changesetresponse_e4c6cc48
+        Content-Type: application/http
+        Content-Transfer-Encoding: binary
+
+        HTTP/1.1 201 Created
+        Content-Type: application/json
+
+        {"Name":"second"}
+        --changesetresponse_e4c6cc48--
+        """;
+
+    private static final String FAILED_CHANGESET_RESPONSE = """
+        --batchresponse_76ef6b0a
+        Content-Type: application/http
+        Content-Transfer-Encoding: binary
+
+        HTTP/1.1 400 Bad Request
+        Content-Type: application/json
+
+        {"error":{"code":"","message":"The changeset failed."}}
+        """;
+
+    private static final String READ_RESPONSE = """
+        --batchresponse_76ef6b0a
+        Content-Type: application/http
+        Content-Transfer-Encoding: binary
+
+        HTTP/1.1 404 Not Found
+        Content-Type: application/json
+
+        {"error":{"code":"","message":"The request resource is not found."}}
+        """;
+
+    private static final String END = "--batchresponse_76ef6b0a--\n";
+
+    private final ODataRequestCreate createFirst =
+        new ODataRequestCreate(SERVICE_PATH, "Entity", "{\"Name\":\"first\"}", ODataProtocol.V4);
+    private final ODataRequestCreate createSecond =
+        new ODataRequestCreate(SERVICE_PATH, "Entity", "{\"Name\":\"second\"}", ODataProtocol.V4);
+    private final ODataRequestReadByKey readByKey =
+        new ODataRequestReadByKey(
+            SERVICE_PATH,
+            "Entity",
+            new ODataEntityKey(ODataProtocol.V4).addKeyProperty("Name", "unknown"),
+            null,
+            ODataProtocol.V4);
+    private final ODataRequestBatch batchRequest =
+        new ODataRequestBatch(SERVICE_PATH, ODataProtocol.V4)
+            .beginChangeset()
+            .addCreate(createFirst)
+            .addCreate(createSecond)
+            .endChangeset()
+            .addReadByKey(readByKey);
+
+    @Test
+    void testStreamResults()
+    {
+        final ODataRequestResultMultipartGeneric result = createResult(CHANGESET_RESPONSE + READ_RESPONSE + END);
+
+        final List<Tuple2<ODataRequestGeneric, Try<ODataRequestResultGeneric>>> items = new ArrayList<>();
+        result.streamResults(( request, item ) -> items.add(Tuple.of(request, item)));
+
+        assertThat(items).extracting(Tuple2::_1).containsExactly(createFirst, createSecond, readByKey);
+        assertThat(items.get(0)._2().get().asMap()).containsEntry("Name", "first");
+        assertThat(items.get(1)._2().get().asMap()).containsEntry("Name", "second");
+        assertThat(items.get(2)._2().getCause())
+            .isInstanceOf(ODataServiceErrorException.class)
+            .hasMessageContaining("404");
+    }
+
+    @Test
+    void testStreamResultsOfFailedChangeset()
+    {
+        final ODataRequestResultMultipartGeneric result =
+            createResult(FAILED_CHANGESET_RESPONSE + READ_RESPONSE + END);
+
+        final List<Tuple2<ODataRequestGeneric, Try<ODataRequestResultGeneric>>> items = new ArrayList<>();
+        result.streamResults(( request, item ) -> items.add(Tuple.of(request, item)));
+
+        assertThat(items).extracting(Tuple2::_1).containsExactly(createFirst, createSecond, readByKey);
+        assertThat(items.get(0)._2().getCause()).hasMessageContaining("400");
+        assertThat(items.get(1)._2().getCause()).hasMessageContaining("400");
+        assertThat(items.get(2)._2().getCause()).hasMessageContaining("404");
+    }
+
+    @Test
+    void testStreamResultsWithMissingItem()
+    {
+        final ODataRequestResultMultipartGeneric result = createResult(CHANGESET_RESPONSE + END);
+
+        final List<Try<ODataRequestResultGeneric>> items = new ArrayList<>();
+        result.streamResults(( request, item ) -> items.add(item));
+
+        assertThat(items).hasSize(3);
+        assertThat(items.get(0).isSuccess()).isTrue();
+        assertThat(items.get(1).isSuccess()).isTrue();
+        assertThat(items.get(2).getCause())
+            .isExactlyInstanceOf(ODataResponseException.class)
+            .hasMessageContaining("position 2");
+    }
+
+    @Test
+    void testStreamResultsOnlyOnce()
+    {
+        final ODataRequestResultMultipartGeneric result = createResult(CHANGESET_RESPONSE + READ_RESPONSE + END);
+        result.streamResults(( request, item ) -> {
+        });
+
+        assertThatThrownBy(() -> result.streamResults(( request, item ) -> {
+        })).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(result::getBatchedResponses)
+            .isInstanceOf(ODataResponseException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testStreamResultsAfterBufferedAccess()
+    {
+        final ODataRequestResultMultipartGeneric result = createResult(CHANGESET_RESPONSE + READ_RESPONSE + END);
+        assertThat(result.getResult(createFirst).asMap()).containsEntry("Name", "first");
+
+        assertThatThrownBy(() -> result.streamResults(( request, item ) -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @SneakyThrows
+    private ODataRequestResultMultipartGeneric createResult( final String body )
+    {
+        final HttpResponse response = new BasicHttpResponse(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
+        response.setHeader("Content-Type", "multipart/mixed; boundary=" + BOUNDARY);
+        response.setEntity(new StringEntity(body));
+        return new ODataRequestResultMultipartGeneric(batchRequest, response);
+    }
+}
@@ -1,7 +1,9 @@
 package com.sap.cloud.sdk.datamodel.odatav4.core;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
 
@@ -10,6 +12,7 @@ import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestGeneric;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultMultipartGeneric;
 
+import io.vavr.control.Try;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -255,6 +258,30 @@ public final class BatchResponse implements AutoCloseable
         return ActionResponseCollection.of(clientResult, operation.getResultClass());
     }
 
+    /**
+     * Consume the batch response in a single forward-only pass. The result of every batch item is passed to the
+     * handler together with the OData operation it belongs to, as soon as its part was read from the response.
+     * <p>
+     * The response can only be consumed once, so this method cannot be combined with {@code getReadResult(...)} and
+     * {@code getModificationResult(...)}.
+     *
+     * @param handler
+     *            The callback to receive the OData operation and the generic result of the batch item. Failed batch
+     *            items are passed as failed {@link Try}.
+     * @throws ODataResponseException
+     *             When the OData batch response cannot be read.
+     * @throws IllegalStateException
+     *             When the batch response was already consumed.
+     * @see ODataRequestResultMultipartGeneric#streamResults(BiConsumer)
+     * @since 5.33.0
+     */
+    public void streamResults( @Nonnull final BiConsumer<RequestBuilder<?>, Try<ODataRequestResultGeneric>> handler )
+    {
+        final Map<ODataRequestGeneric, RequestBuilder<?>> operations = new IdentityHashMap<>();
+        requestMapping.forEach(( operation, request ) -> operations.put(request, operation));
+        result.streamResults(( request, itemResult ) -> handler.accept(operations.get(request), itemResult));
+    }
+
     /**
      * Closes the underlying HTTP response entity.
      *
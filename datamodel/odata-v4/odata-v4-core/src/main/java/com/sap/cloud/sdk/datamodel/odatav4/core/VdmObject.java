@@ -1,5 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odatav4.core;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -18,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
+import com.sap.cloud.sdk.datamodel.odata.client.LazyHashMap;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataEntityKey;
 
@@ -52,18 +54,23 @@ public abstract class VdmObject<ObjectT>
      */
     public static final String[] ODATA_VERSION_ANNOTATIONS = { "@odata.etag", "@etag" };
 
+    /**
+     * The custom fields of this object. Refers to an immutable empty map until the first custom field is set, so that
+     * objects without custom fields do not allocate a map.
+     */
     @JsonIgnore
     @Nonnull
-    private final transient Map<String, Object> customFields = new LinkedHashMap<>();
+    private transient Map<String, Object> customFields = Collections.emptyMap();
 
     /**
      * A mapping of the OData field name to the original value.
      * <p>
-     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property.
+     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property. The
+     * backing map is only allocated once the first change is remembered, so that objects that are only read stay small.
      */
     @JsonIgnore
     @Nonnull
-    protected final transient Map<String, Object> changedOriginalFields = new HashMap<>();
+    protected final transient Map<String, Object> changedOriginalFields = new LazyHashMap<>();
 
     /**
      * Returns the names of the custom fields of this object.
@@ -85,6 +92,15 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     public Map<String, Object> getCustomFields()
     {
+        return getOrCreateCustomFields();
+    }
+
+    @Nonnull
+    private Map<String, Object> getOrCreateCustomFields()
+    {
+        if( customFields == Collections.<String, Object> emptyMap() ) {
+            customFields = new LinkedHashMap<>();
+        }
         return customFields;
     }
 
@@ -100,7 +116,7 @@ public abstract class VdmObject<ObjectT>
     public void setCustomField( @Nonnull final String customFieldName, @Nullable final Object value )
     {
         rememberChangedField(customFieldName, customFields.get(customFieldName));
-        customFields.put(customFieldName, value);
+        getOrCreateCustomFields().put(customFieldName, value);
     }
 
     /**
@@ -259,7 +275,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Map<String, Object> toMapOfCustomFields()
     {
-        return new HashMap<>(getCustomFields());
+        return new HashMap<>(customFields);
     }
 
     /**
@@ -270,7 +286,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Set<String> getSetOfCustomFields()
     {
-        return new HashSet<>(getCustomFields().keySet());
+        return new HashSet<>(customFields.keySet());
     }
 
     /**
@@ -344,7 +360,7 @@ public abstract class VdmObject<ObjectT>
     {
         final Map<String, Object> currentFields = new HashMap<>();
         currentFields.putAll(toMapOfFields());
-        currentFields.putAll(getCustomFields());
+        currentFields.putAll(customFields);
 
         return Maps.filterEntries(currentFields, f -> f != null && isFieldChanged(f.getKey(), f.getValue()));
     }
@@ -375,6 +391,18 @@ public abstract class VdmObject<ObjectT>
         return false;
     }
 
+    /**
+     * Returns a mapping of the OData field name to the original value of all fields that were changed on this object.
+     *
+     * @return An unmodifiable view of the original values of the changed fields.
+     * @since 5.33.0
+     */
+    @Nonnull
+    protected Map<String, Object> getChangedOriginalFields()
+    {
+        return Collections.unmodifiableMap(changedOriginalFields);
+    }
+
     /**
      * Remembers the original value of a changed field.
      *
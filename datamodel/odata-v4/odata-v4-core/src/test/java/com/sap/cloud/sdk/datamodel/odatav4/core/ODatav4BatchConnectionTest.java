@@ -8,10 +8,14 @@ import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.sap.cloud.sdk.datamodel.odatav4.TestUtility.readResourceFileCrlf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
@@ -32,6 +36,8 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataConnectionException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataServiceErrorException;
 
+import io.vavr.control.Try;
+
 @WireMockTest
 class ODatav4BatchConnectionTest
 {
@@ -154,6 +160,42 @@ class ODatav4BatchConnectionTest
         }
     }
 
+    @Test
+    void testStreamResults()
+    {
+        stubFor(post(UrlPattern.ANY).willReturn(okForContentType(RESPONSE_CONTENT_TYPE, RESPONSE_WITH_ERROR)));
+
+        final GetAllRequestBuilder<TestEntity> READ_ALL = SERVICE.getTestEntities();
+        final GetByKeyRequestBuilder<TestEntity> READ_BY_KEY = SERVICE.getTestEntitiesByKey("foobar");
+        final DeleteRequestBuilder<TestEntity> DELETE =
+            SERVICE.deleteTestEntity(TestEntity.builder().id("del").build());
+
+        final List<RequestBuilder<?>> operations = new ArrayList<>();
+        final Map<RequestBuilder<?>, Try<?>> results = new IdentityHashMap<>();
+        try(
+            BatchResponse batchResponse =
+                SERVICE.batch().addReadOperations(READ_ALL, READ_BY_KEY).addChangeset(DELETE).execute(destination) ) {
+            batchResponse.streamResults(( operation, result ) -> {
+                // the batch item result must be consumed within the callback
+                operations.add(operation);
+                results
+                    .put(
+                        operation,
+                        result.map(r -> operation == READ_ALL ? r.asList(TestEntity.class) : r.as(TestEntity.class)));
+            });
+
+            assertThatIllegalStateException().isThrownBy(() -> batchResponse.getReadResult(READ_ALL));
+        }
+
+        assertThat(operations).containsExactly(READ_ALL, READ_BY_KEY, DELETE);
+        assertThat(results.get(READ_ALL).get()).asList().isNotEmpty();
+        assertThat(results.get(READ_BY_KEY).get()).isInstanceOf(TestEntity.class);
+        assertThat(results.get(DELETE).getCause())
+            .isInstanceOfSatisfying(
+                ODataServiceErrorException.class,
+                e -> assertThat(e.getHttpCode()).isEqualTo(400));
+    }
+
     @Test
     @Timeout( value = 300_000L, unit = TimeUnit.MILLISECONDS )
     @Disabled( "Test triggers a ConnectionPoolTimeoutException. Use it only to manually verify behaviour." )
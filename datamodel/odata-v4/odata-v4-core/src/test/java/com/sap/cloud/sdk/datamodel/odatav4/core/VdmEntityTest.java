@@ -1,6 +1,8 @@
 package com.sap.cloud.sdk.datamodel.odatav4.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.Collections;
 
@@ -66,4 +68,58 @@ class VdmEntityTest
         entity.setCustomField("foo", "baz");
         assertThat(entity.getChangedFields()).containsOnlyKeys("foo");
     }
+
+    @Test
+    void testCustomFieldsOfNewEntityAreModifiable()
+    {
+        final TestEntity entity = new TestEntity();
+        assertThat(entity.getCustomFieldNames()).isEmpty();
+
+        entity.getCustomFields().put("foo", "bar");
+
+        assertThat(entity.<String> getCustomField("foo")).isEqualTo("bar");
+        assertThat(entity.getCustomFieldNames()).containsExactly("foo");
+        assertThat(entity).isEqualTo(new TestEntity());
+    }
+
+    @Test
+    void testChangedFieldsAfterReset()
+    {
+        final TestEntity entity = TestEntity.builder().id("id").build();
+
+        entity.setId("new");
+        entity.resetChangedFields();
+        assertThat(entity.getChangedFields()).isEmpty();
+
+        entity.setId("newer");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("id");
+    }
+
+    @Test
+    void testChangedOriginalFields()
+    {
+        final TestEntity entity = TestEntity.builder().id("id").build();
+        assertThat(entity.getChangedOriginalFields()).isEmpty();
+
+        entity.setId("new");
+        entity.setId("newer");
+        assertThat(entity.getChangedOriginalFields()).containsExactly(entry("id", "id"));
+        assertThatThrownBy(() -> entity.getChangedOriginalFields().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        entity.resetChangedFields();
+        assertThat(entity.getChangedOriginalFields()).isEmpty();
+    }
+
+    @Test
+    void testChangedOriginalFieldsCanBeModifiedBySubclasses()
+    {
+        final TestEntity entity = TestEntity.builder().id("id").build();
+
+        entity.changedOriginalFields.put("id", "original");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("id");
+
+        entity.changedOriginalFields.clear();
+        assertThat(entity.getChangedFields()).isEmpty();
+    }
 }
@@ -0,0 +1,62 @@
+package com.sap.cloud.sdk.datamodel.odatav4.core;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Benchmark of the memory allocated for entities that are only read, e.g. the result of a read request.
+ * <p>
+ * Run the benchmark after {@code mvn test-compile} with the test classpath of this module, together with the GC
+ * profiler. The metric {@code gc.alloc.rate.norm} shows the bytes allocated per operation:
+ *
+ * <pre>
+ * <code>java -cp &lt;test classpath&gt; org.openjdk.jmh.Main VdmObjectFootprintBenchmark -prof gc</code>
+ * </pre>
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Benchmark )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class VdmObjectFootprintBenchmark
+{
+    private static final Gson GSON = new Gson();
+    private static final Type ENTITY_LIST_TYPE = new TypeToken<List<TestEntity>>()
+    {
+    }.getType();
+
+    String json =
+        IntStream
+            .range(0, 1000)
+            .mapToObj(i -> "{\"id\":\"" + i + "\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    @Benchmark
+    public TestEntity newEntity()
+    {
+        return new TestEntity();
+    }
+
+    @Benchmark
+    public List<TestEntity> readEntities()
+    {
+        return GSON.fromJson(json, ENTITY_LIST_TYPE);
+    }
+}
@@ -62,6 +62,21 @@ public class DataModelGeneratorMojo extends AbstractMojo
     @Parameter( property = "odatav4.generate.keepExistingSignatures" )
     private Boolean keepExistingSignatures;
 
+    /**
+     * Defines whether only services with changed service definitions or generator settings will be generated. The
+     * generated files of unchanged services are left untouched. The state of the previous generation is stored in a
+     * manifest file in the output directory.
+     */
+    @Parameter( property = "odatav4.generate.incremental" )
+    private Boolean incremental;
+
+    /**
+     * The maximum number of services that are parsed and generated in parallel. Defaults to 1, i.e. the services are
+     * processed sequentially.
+     */
+    @Parameter( property = "odatav4.generate.parallelism" )
+    private Integer parallelism;
+
     /**
      * Defines to which compile scope the generated source code should be added (if any).
      * <p>
@@ -217,6 +232,14 @@ public class DataModelGeneratorMojo extends AbstractMojo
             keepExistingSignatures = DataModelGenerator.DEFAULT_KEEP_EXISTING_SIGNATURES;
         }
 
+        if( incremental == null ) {
+            incremental = DataModelGenerator.DEFAULT_INCREMENTAL_GENERATION;
+        }
+
+        if( parallelism == null ) {
+            parallelism = DataModelGenerator.DEFAULT_PARALLELISM;
+        }
+
         if( compileScope == null ) {
             compileScope = CompileScope.NONE;
         }
@@ -276,6 +299,8 @@ public class DataModelGeneratorMojo extends AbstractMojo
             .deleteOutputDirectory(deleteOutputDirectory)
             .overwriteFiles(overwriteFiles)
             .keepExistingSignatures(keepExistingSignatures)
+            .incrementalGeneration(incremental)
+            .withParallelism(parallelism)
             .withPackageName(packageName)
             .withServiceNameMapping(serviceNameMappingFile)
             .withDefaultBasePath(defaultBasePath)
@@ -4,7 +4,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
@@ -125,6 +127,27 @@ class CodeModelClassGenerator
         writeCodeModel(codeWriter);
     }
 
+    /**
+     * Get the paths of the source files that {@link #writeClasses(DataModelGeneratorConfig, Charset)} writes, relative
+     * to the output directory and with {@code /} as separator.
+     *
+     * @return The relative paths of the generated source files.
+     */
+    @Nonnull
+    Set<String> getGeneratedFiles()
+    {
+        final Set<String> result = new LinkedHashSet<>();
+        codeModel.packages().forEachRemaining(pkg -> {
+            final String directory = pkg.isUnnamed() ? "" : pkg.name().replace('.', '/') + "/";
+            pkg.classes().forEachRemaining(cls -> {
+                if( !cls.isHidden() ) {
+                    result.add(directory + cls.name() + ".java");
+                }
+            });
+        });
+        return result;
+    }
+
     private void writeCodeModel( final CodeWriter codeWriter )
     {
         try {
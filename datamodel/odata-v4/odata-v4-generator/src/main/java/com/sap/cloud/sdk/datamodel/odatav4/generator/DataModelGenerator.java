@@ -122,6 +122,16 @@ public class DataModelGenerator implements DataModelGeneratorConfig
      */
     public static final Boolean DEFAULT_SERVICE_METHODS_PER_ENTITY_SET = false;
 
+    /**
+     * By default the generator regenerates all services on every execution.
+     */
+    public static final Boolean DEFAULT_INCREMENTAL_GENERATION = false;
+
+    /**
+     * By default the generator reads and generates one service after the other.
+     */
+    public static final int DEFAULT_PARALLELISM = 1;
+
     /**
      * An SAP copyright header that can be added to generated files.
      */
@@ -150,6 +160,8 @@ public class DataModelGenerator implements DataModelGeneratorConfig
     private Set<String> includedActionImports = null;
     private boolean serviceMethodsPerEntitySet = DEFAULT_SERVICE_METHODS_PER_ENTITY_SET;
     private String deprecationNotice = null;
+    private boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+    private int parallelism = DEFAULT_PARALLELISM;
 
     /**
      * The flag indicating whether the generator fails in case a warning occurs. True, if the generator fails on a
@@ -276,6 +288,53 @@ public class DataModelGenerator implements DataModelGeneratorConfig
         return this;
     }
 
+    /**
+     * Defines whether only services with changed service definitions are generated. If {@code true}, the generator
+     * stores the hashes of all service definitions and of the generator configuration in a manifest file in the output
+     * directory. Services whose definitions did not change since the last execution are skipped and their generated
+     * files are left untouched.
+     *
+     * @param incrementalGeneration
+     *            Flag indicating whether only changed services are generated.
+     *
+     * @return This {@code DataModelGenerator} for chained method calls.
+     */
+    @Nonnull
+    public DataModelGenerator incrementalGeneration( final boolean incrementalGeneration )
+    {
+        this.incrementalGeneration = incrementalGeneration;
+        return this;
+    }
+
+    /**
+     * Only services with changed service definitions are generated.
+     *
+     * @return This {@code DataModelGenerator} for chained method calls.
+     */
+    @Nonnull
+    public DataModelGenerator incrementalGeneration()
+    {
+        return incrementalGeneration(true);
+    }
+
+    /**
+     * Defines the maximum number of services that are read and generated in parallel.
+     *
+     * @param parallelism
+     *            The maximum number of threads, {@code 1} to process the services sequentially.
+     *
+     * @return This {@code DataModelGenerator} for chained method calls.
+     */
+    @Nonnull
+    public DataModelGenerator withParallelism( final int parallelism )
+    {
+        if( parallelism < 1 ) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, but was " + parallelism + ".");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
     /**
      * Defines whether existing signatures from already generated classes will be considered when generating again. If
      * {@code true}, breaking changes in method signature will be avoided, when the argument order in OData
@@ -716,6 +775,8 @@ public class DataModelGenerator implements DataModelGeneratorConfig
             logger.info("  Pattern for excluded files:     " + getExcludeFilePattern());
             logger.info("  SAP Business Accelerator Hub:   " + isGenerateLinksToApiBusinessHub());
             logger.info("  Fail on Warning:                " + isFailOnWarning());
+            logger.info("  Incremental generation:         " + isIncrementalGeneration());
+            logger.info("  Parallelism:                    " + getParallelism());
             logger
                 .info(
                     "  Entity sets to process:         "
@@ -68,6 +68,22 @@ interface DataModelGeneratorConfig
      */
     boolean isKeepExistingSignatures();
 
+    /**
+     * Getter for the flag indicating that only services with changed service definitions should be generated. The
+     * hashes of the service definitions and the generator configuration are stored in a manifest file in the
+     * {@code #getOutputDirectory()}.
+     *
+     * @return true, if services with unchanged service definitions should be skipped; false otherwise.
+     */
+    boolean isIncrementalGeneration();
+
+    /**
+     * Getter for the maximum number of services that are read and generated in parallel.
+     *
+     * @return The maximum number of threads used by the generator.
+     */
+    int getParallelism();
+
     /**
      * Getter for the directory containing the metadata and swagger files.
      *
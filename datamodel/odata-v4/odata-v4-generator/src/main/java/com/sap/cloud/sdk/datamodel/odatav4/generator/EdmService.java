@@ -6,6 +6,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +83,10 @@ class EdmService implements Service
         MultimapBuilder.linkedHashKeys().linkedListValues().build();
     private final Multimap<String, ServiceAction> serviceActions =
         MultimapBuilder.linkedHashKeys().linkedListValues().build();
+    // the Olingo model resolves annotations and terms on every access, so the results are memoized per service
+    private final Map<EdmAnnotatable, Map<EdmTerm, Object>> annotationValues = new IdentityHashMap<>();
+    private final Map<String, Option<EdmTerm>> terms = new HashMap<>();
+    private final Map<EdmType, Type> types = new IdentityHashMap<>();
     private final Multimap<String, ServiceBoundAction> serviceBoundActions =
         MultimapBuilder.linkedHashKeys().linkedListValues().build();
 
@@ -958,7 +964,7 @@ class EdmService implements Service
         public EntityType getEntityType()
         {
             try {
-                return new EntityTypeAdapter(entitySet.getEntityType());
+                return (EntityType) convertType(entitySet.getEntityType());
             }
             catch( final EdmException e ) {
                 throw new ODataGeneratorReadException(e);
@@ -1249,6 +1255,11 @@ class EdmService implements Service
     }
 
     private Type convertType( @Nonnull final EdmType type )
+    {
+        return types.computeIfAbsent(type, this::createTypeAdapter);
+    }
+
+    private Type createTypeAdapter( @Nonnull final EdmType type )
     {
         if( type instanceof EdmEnumTypeImpl ) {
             return new EnumTypeAdapter((EdmEnumTypeImpl) type);
@@ -1272,20 +1283,26 @@ class EdmService implements Service
     private String getAnnotationStringValue( final EdmAnnotatable edmAnnotatable, final String[] annotationTerms )
     {
         final Map<EdmTerm, Object> annotationTermToValue =
-            edmAnnotatable
-                .getAnnotations()
-                .stream()
-                .filter(a -> a.getTerm() != null)
-                .filter(a -> a.getExpression().isConstant())
-                .collect(Collectors.toMap(EdmAnnotation::getTerm, a -> a.getExpression().asConstant().asPrimitive()));
+            annotationValues.computeIfAbsent(edmAnnotatable, this::getConstantAnnotationValues);
 
         for( final String termFqn : annotationTerms ) {
-            final EdmTerm term = metadata.getTerm(new FullQualifiedName(termFqn));
-            final Object result = annotationTermToValue.get(term);
+            final Option<EdmTerm> term =
+                terms.computeIfAbsent(termFqn, fqn -> Option.of(metadata.getTerm(new FullQualifiedName(fqn))));
+            final Object result = annotationTermToValue.get(term.getOrNull());
             if( result instanceof String ) {
                 return (String) result;
             }
         }
         return null;
     }
+
+    private Map<EdmTerm, Object> getConstantAnnotationValues( final EdmAnnotatable edmAnnotatable )
+    {
+        return edmAnnotatable
+            .getAnnotations()
+            .stream()
+            .filter(a -> a.getTerm() != null)
+            .filter(a -> a.getExpression().isConstant())
+            .collect(Collectors.toMap(EdmAnnotation::getTerm, a -> a.getExpression().asConstant().asPrimitive()));
+    }
 }
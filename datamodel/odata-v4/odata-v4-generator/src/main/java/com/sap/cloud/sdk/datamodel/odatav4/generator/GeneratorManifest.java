@@ -0,0 +1,281 @@
+package com.sap.cloud.sdk.datamodel.odatav4.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Manifest of an incremental generator execution, stored in the output directory. It contains a hash of the generator
+ * configuration and, per service definition file, a hash of the file contents together with the generated files.
+ */
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+class GeneratorManifest
+{
+    private static final Logger logger = MessageCollector.getLogger(GeneratorManifest.class);
+
+    static final String FILE_NAME = ".odata-v4-generator-manifest.properties";
+
+    private static final String RESOURCE_VERSION = "version.properties";
+    private static final String KEY_CONFIGURATION = "configuration";
+    private static final String KEY_PREFIX_SERVICE = "service.";
+    private static final String KEY_SUFFIX_HASH = ".hash";
+    private static final String KEY_SUFFIX_FILES = ".files";
+
+    /**
+     * The hash of the generator configuration, as calculated by {@link #hashConfiguration(DataModelGeneratorConfig)}.
+     */
+    @Getter
+    @Nonnull
+    private final String configurationHash;
+
+    /**
+     * The entries by path of the service definition file, relative to the input directory.
+     */
+    @Nonnull
+    private final Map<String, Entry> entries;
+
+    /**
+     * The state of a single service definition file.
+     *
+     * @param hash
+     *            The hash of the service definition files.
+     * @param files
+     *            The paths of the generated files, relative to the output directory. {@code null}, if the service was
+     *            generated together with other services and the generated files cannot be attributed to it.
+     */
+    record Entry( @Nonnull String hash, @Nullable Set<String> files )
+    {
+    }
+
+    @Nonnull
+    static GeneratorManifest empty( @Nonnull final String configurationHash )
+    {
+        return new GeneratorManifest(configurationHash, new TreeMap<>());
+    }
+
+    /**
+     * Load the manifest of the previous generator execution.
+     *
+     * @param outputDirectory
+     *            The output directory of the generator.
+     * @return The manifest, or {@code Option.none()} if there is no readable manifest.
+     */
+    @Nonnull
+    static Option<GeneratorManifest> load( @Nonnull final File outputDirectory )
+    {
+        final Path file = outputDirectory.toPath().resolve(FILE_NAME);
+        if( !Files.isRegularFile(file) ) {
+            return Option.none();
+        }
+
+        final Properties properties = new Properties();
+        try( InputStream stream = Files.newInputStream(file) ) {
+            properties.load(stream);
+        }
+        catch( final IOException e ) {
+            logger.info("Unable to read the generator manifest {}. All services will be generated.", file, e);
+            return Option.none();
+        }
+
+        final String configurationHash = properties.getProperty(KEY_CONFIGURATION);
+        if( configurationHash == null ) {
+            return Option.none();
+        }
+
+        final GeneratorManifest manifest = empty(configurationHash);
+        for( final String key : properties.stringPropertyNames() ) {
+            if( key.startsWith(KEY_PREFIX_SERVICE) && key.endsWith(KEY_SUFFIX_HASH) ) {
+                final String service =
+                    key.substring(KEY_PREFIX_SERVICE.length(), key.length() - KEY_SUFFIX_HASH.length());
+                final String files = properties.getProperty(KEY_PREFIX_SERVICE + service + KEY_SUFFIX_FILES);
+                final Set<String> fileSet = files == null ? null : parseFiles(files);
+                manifest.entries.put(service, new Entry(properties.getProperty(key), fileSet));
+            }
+        }
+        return Option.some(manifest);
+    }
+
+    /**
+     * Store this manifest in the given output directory.
+     *
+     * @param outputDirectory
+     *            The output directory of the generator.
+     */
+    void save( @Nonnull final File outputDirectory )
+    {
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_CONFIGURATION, configurationHash);
+        entries.forEach(( service, entry ) -> {
+            properties.setProperty(KEY_PREFIX_SERVICE + service + KEY_SUFFIX_HASH, entry.hash());
+            if( entry.files() != null ) {
+                final String files = String.join(",", new TreeSet<>(entry.files()));
+                properties.setProperty(KEY_PREFIX_SERVICE + service + KEY_SUFFIX_FILES, files);
+            }
+        });
+
+        final Path file = outputDirectory.toPath().resolve(FILE_NAME);
+        try( OutputStream stream = Files.newOutputStream(file) ) {
+            properties.store(stream, "Generated by the OData VDM code generator of SAP Cloud SDK, do not edit.");
+        }
+        catch( final IOException e ) {
+            throw new ODataGeneratorWriteException(e);
+        }
+    }
+
+    @Nonnull
+    Option<Entry> getEntry( @Nonnull final String service )
+    {
+        return Option.of(entries.get(service));
+    }
+
+    @Nonnull
+    Set<String> getServices()
+    {
+        return entries.keySet();
+    }
+
+    void putEntry( @Nonnull final String service, @Nonnull final Entry entry )
+    {
+        entries.put(service, entry);
+    }
+
+    /**
+     * Calculate the hash of all generator settings that influence the generated code, including the version of the
+     * generator and the contents of the service name mappings file.
+     *
+     * @param config
+     *            The generator configuration.
+     * @return The hash of the configuration.
+     */
+    @Nonnull
+    static String hashConfiguration( @Nonnull final DataModelGeneratorConfig config )
+    {
+        final String settings =
+            String
+                .join(
+                    "\n",
+                    Objects.toString(loadGeneratorVersion()),
+                    config.getPackageName(),
+                    Objects.toString(config.getDefaultBasePath()),
+                    config.getNamingStrategy().getClass().getName(),
+                    Objects.toString(config.getNameSource()),
+                    config.getAnnotationStrategy().getClass().getName(),
+                    config.getExcludeFilePattern(),
+                    config.getCopyrightHeader(),
+                    Objects.toString(config.getDeprecationNotice()),
+                    Objects.toString(sorted(config.getIncludedEntitySets())),
+                    Objects.toString(sorted(config.getIncludedFunctionImports())),
+                    Objects.toString(sorted(config.getIncludedActionImports())),
+                    Boolean.toString(config.isGeneratePojosOnly()),
+                    Boolean.toString(config.isServiceMethodsPerEntitySet()),
+                    Boolean.toString(config.isGenerateLinksToApiBusinessHub()),
+                    Boolean.toString(config.isGenerateVersionReference()),
+                    Boolean.toString(config.isKeepExistingSignatures()));
+
+        final MessageDigest digest = newDigest();
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        updateDigest(digest, config.getServiceNameMappings());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Calculate the hash of the given service definition files.
+     *
+     * @param files
+     *            The service definition files, e.g. the EDMX file and the optional swagger file. {@code null} entries
+     *            are ignored.
+     * @return The hash of the file contents.
+     */
+    @Nonnull
+    static String hashFiles( @Nonnull final File... files )
+    {
+        final MessageDigest digest = newDigest();
+        for( final File file : files ) {
+            if( file != null ) {
+                digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+                updateDigest(digest, file);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void updateDigest( @Nonnull final MessageDigest digest, @Nonnull final File file )
+    {
+        if( !file.isFile() ) {
+            return;
+        }
+        try {
+            digest.update(Files.readAllBytes(file.toPath()));
+        }
+        catch( final IOException e ) {
+            throw new ODataGeneratorReadException(e);
+        }
+    }
+
+    @Nonnull
+    private static MessageDigest newDigest()
+    {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch( final NoSuchAlgorithmException e ) {
+            throw new ODataGeneratorException(e);
+        }
+    }
+
+    @Nonnull
+    private static Set<String> parseFiles( @Nonnull final String files )
+    {
+        final Set<String> result = new LinkedHashSet<>(Arrays.asList(files.split(",")));
+        result.remove("");
+        return result;
+    }
+
+    @Nullable
+    private static Set<String> sorted( @Nullable final Collection<String> values )
+    {
+        return values == null ? null : new TreeSet<>(values);
+    }
+
+    @Nullable
+    private static String loadGeneratorVersion()
+    {
+        try( InputStream stream = GeneratorManifest.class.getClassLoader().getResourceAsStream(RESOURCE_VERSION) ) {
+            if( stream == null ) {
+                return null;
+            }
+            final Properties properties = new Properties();
+            properties.load(stream);
+            return properties.getProperty("version.sdk");
+        }
+        catch( final IOException e ) {
+            throw new ODataGeneratorReadException(e);
+        }
+    }
+}
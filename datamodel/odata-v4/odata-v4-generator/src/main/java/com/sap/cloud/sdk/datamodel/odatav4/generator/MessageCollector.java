@@ -22,7 +22,8 @@ import org.slf4j.helpers.MessageFormatter;
 public class MessageCollector
 {
     /**
-     * The collection storing the log messages of all created loggers. Shared between all logger, so not thread safe!
+     * The collection storing the log messages of all created loggers. Shared between all loggers, access is
+     * synchronized since services may be processed in parallel.
      */
     private static final MessageCollectorCollection collection = new MessageCollectorCollection();
 
@@ -83,7 +84,7 @@ public class MessageCollector
     {
         private final Map<LogLevel, Map<Class<?>, List<LoggerContent>>> collector = new EnumMap<>(LogLevel.class);
 
-        void collectLogMessage( final LogLevel logLevel, final Class<?> cls, final LoggerContent content )
+        synchronized void collectLogMessage( final LogLevel logLevel, final Class<?> cls, final LoggerContent content )
         {
             final Map<Class<?>, List<LoggerContent>> levelEntries = getOrDefault(collector, logLevel, new HashMap<>());
 
@@ -94,7 +95,7 @@ public class MessageCollector
             collector.put(logLevel, levelEntries);
         }
 
-        List<String> getMessages( final LogLevel level )
+        synchronized List<String> getMessages( final LogLevel level )
         {
             final Map<Class<?>, List<LoggerContent>> levelEntries =
                 getOrDefault(collector, level, Collections.emptyMap());
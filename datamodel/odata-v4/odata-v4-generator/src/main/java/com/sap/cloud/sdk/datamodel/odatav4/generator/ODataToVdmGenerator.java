@@ -11,9 +11,18 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -62,29 +71,29 @@ class ODataToVdmGenerator
                 "The given input directory does not exist: " + getCanonicalPath(config.getInputDirectory()));
         }
 
+        if( config.isIncrementalGeneration() ) {
+            generateIncrementally(config);
+            return;
+        }
+
         if( config.isDeleteTargetDirectory() && config.getOutputDirectory().exists() ) {
             cleanDirectory(config.getOutputDirectory());
         }
 
-        final Collection<File> inputFiles = getInputFiles(config.getInputDirectory());
-        final Collection<EdmxFile> allEdmxFiles = loadServicesFromInput(config, inputFiles);
+        final Collection<File> inputFiles = getServiceFiles(config);
+        generateTogether(config, loadServicesFromInput(config, inputFiles));
+    }
 
+    private void generateTogether(
+        @Nonnull final DataModelGeneratorConfig config,
+        @Nonnull final Collection<EdmxFile> allEdmxFiles )
+    {
         if( allEdmxFiles.isEmpty() ) {
-            logger
-                .warn(
-                    String
-                        .format(
-                            "No OData service definitions found in the input directory '%s' - exiting.",
-                            getCanonicalPath(config.getInputDirectory())));
+            logNoServicesFound(config);
             return;
         }
 
-        final Collection<Service> allODataServices =
-            allEdmxFiles
-                .stream()
-                .filter(EdmxFile::isSuccessfullyParsed)
-                .map(edmxFile -> edmxFile.getService().get())
-                .collect(Collectors.toCollection(ArrayList::new));
+        final Collection<Service> allODataServices = getServices(allEdmxFiles);
 
         storeConfiguration(config.getServiceNameMappings(), allODataServices);
 
@@ -111,6 +120,158 @@ class ODataToVdmGenerator
                 classGenerator.getServiceClassGenerator());
     }
 
+    /**
+     * Generates only the services whose definition files changed since the last execution, as recorded in the
+     * {@link GeneratorManifest} of the output directory. The generated files of unchanged services are left untouched.
+     * <p>
+     * Every changed service is generated into a code model of its own, so that its generated files are known. If
+     * services share generated files, e.g. because they reference the same namespace, all services are generated
+     * together instead and the next execution regenerates all services again.
+     */
+    private void generateIncrementally( @Nonnull final DataModelGeneratorConfig config )
+    {
+        final File outputDirectory = config.getOutputDirectory();
+        final Map<String, File> inputFiles = new LinkedHashMap<>();
+        final Map<String, String> inputHashes = new LinkedHashMap<>();
+        for( final File inputFile : getServiceFiles(config) ) {
+            final String key = getRelativePath(config.getInputDirectory(), inputFile);
+            inputFiles.put(key, inputFile);
+            inputHashes.put(key, GeneratorManifest.hashFiles(inputFile, getSwaggerFile(inputFile)));
+        }
+
+        final String configurationHash = GeneratorManifest.hashConfiguration(config);
+        final GeneratorManifest previous =
+            GeneratorManifest
+                .load(outputDirectory)
+                .filter(manifest -> manifest.getConfigurationHash().equals(configurationHash))
+                .getOrNull();
+
+        final Predicate<String> unchanged =
+            key -> previous != null
+                && previous
+                    .getEntry(key)
+                    .filter(entry -> entry.hash().equals(inputHashes.get(key)))
+                    .filter(entry -> entry.files() == null || filesExist(outputDirectory, entry.files()))
+                    .isDefined();
+        final List<String> changedServices =
+            inputHashes.keySet().stream().filter(unchanged.negate()).collect(Collectors.toList());
+        final List<String> removedServices =
+            previous == null
+                ? List.of()
+                : previous.getServices().stream().filter(key -> !inputHashes.containsKey(key)).toList();
+
+        if( previous != null && changedServices.isEmpty() && removedServices.isEmpty() ) {
+            logger.info("All {} OData service definitions are unchanged - skipping generation.", inputHashes.size());
+            return;
+        }
+
+        final boolean partial =
+            previous != null
+                && previous.getServices().stream().allMatch(key -> previous.getEntry(key).get().files() != null);
+        if( partial ) {
+            logger
+                .info(
+                    "Generating {} changed of {} OData service definitions.",
+                    changedServices.size(),
+                    inputHashes.size());
+        } else if( config.isDeleteTargetDirectory() && outputDirectory.exists() ) {
+            cleanDirectory(outputDirectory);
+        }
+
+        final List<String> servicesToGenerate = partial ? changedServices : new ArrayList<>(inputHashes.keySet());
+        final List<File> filesToGenerate = servicesToGenerate.stream().map(inputFiles::get).toList();
+        final List<EdmxFile> edmxFiles = loadServicesFromInput(config, filesToGenerate);
+        final List<Service> services = getServices(edmxFiles);
+        if( !services.isEmpty() ) {
+            storeConfiguration(config.getServiceNameMappings(), services);
+        }
+
+        final List<CodeModelClassGenerator> classGenerators =
+            mapInParallel(config, edmxFiles, edmxFile -> createCodeModelForServices(config, edmxFile.getService()));
+
+        final Set<String> occupiedFiles = new HashSet<>();
+        if( partial ) {
+            inputHashes
+                .keySet()
+                .stream()
+                .filter(key -> !changedServices.contains(key))
+                .flatMap(key -> previous.getEntry(key).get().files().stream())
+                .forEach(file -> occupiedFiles.add(file.toLowerCase(Locale.ROOT)));
+        }
+        final boolean sharedFiles =
+            classGenerators
+                .stream()
+                .flatMap(classGenerator -> classGenerator.getGeneratedFiles().stream())
+                .anyMatch(file -> !occupiedFiles.add(file.toLowerCase(Locale.ROOT)));
+
+        final GeneratorManifest manifest;
+        if( sharedFiles ) {
+            logger.info("Some OData services share generated classes. Generating all services together.");
+            if( partial ) {
+                previous
+                    .getServices()
+                    .forEach(key -> deleteFiles(outputDirectory, previous.getEntry(key).get().files()));
+            }
+            final Collection<EdmxFile> allEdmxFiles = loadServicesFromInput(config, inputFiles.values());
+            generateTogether(config, allEdmxFiles);
+
+            manifest = GeneratorManifest.empty(GeneratorManifest.hashConfiguration(config));
+            for( final EdmxFile edmxFile : allEdmxFiles ) {
+                if( edmxFile.isSuccessfullyGenerated() ) {
+                    final String key = getRelativePath(config.getInputDirectory(), edmxFile.getFilePath().toFile());
+                    manifest.putEntry(key, new GeneratorManifest.Entry(inputHashes.get(key), null));
+                }
+            }
+        } else {
+            if( partial ) {
+                Stream
+                    .concat(changedServices.stream(), removedServices.stream())
+                    .flatMap(key -> previous.getEntry(key).toJavaStream())
+                    .forEach(entry -> deleteFiles(outputDirectory, entry.files()));
+            }
+
+            logger.info("Generating Java classes to " + getCanonicalPath(outputDirectory));
+            manifest = GeneratorManifest.empty(GeneratorManifest.hashConfiguration(config));
+            for( int i = 0; i < edmxFiles.size(); i++ ) {
+                final EdmxFile edmxFile = edmxFiles.get(i);
+                final CodeModelClassGenerator classGenerator = classGenerators.get(i);
+                // written sequentially, as the code writer does not create directories in a thread-safe manner
+                classGenerator.writeClasses(config, FILE_ENCODING);
+
+                if( edmxFile.isSuccessfullyParsed()
+                    && classGenerator.wasServiceGenerated(edmxFile.getServiceName().get()) ) {
+                    edmxFile.setSuccessfullyGenerated();
+                    final GeneratorManifest.Entry entry =
+                        new GeneratorManifest.Entry(
+                            inputHashes.get(servicesToGenerate.get(i)),
+                            classGenerator.getGeneratedFiles());
+                    manifest.putEntry(servicesToGenerate.get(i), entry);
+                }
+
+                new DatamodelMetadataGeneratorAdapter(logger)
+                    .generateMetadataIfApplicable(
+                        Paths.get(config.getInputDirectory().getAbsolutePath()),
+                        Paths.get(outputDirectory.getAbsolutePath()),
+                        List.of(edmxFile),
+                        classGenerator.getServiceClassGenerator());
+            }
+
+            if( partial ) {
+                inputHashes
+                    .keySet()
+                    .stream()
+                    .filter(key -> !changedServices.contains(key))
+                    .forEach(key -> manifest.putEntry(key, previous.getEntry(key).get()));
+            }
+        }
+
+        if( edmxFiles.isEmpty() && inputHashes.isEmpty() ) {
+            logNoServicesFound(config);
+        }
+        ensureDirectoryExists(outputDirectory);
+        manifest.save(outputDirectory);
+    }
+
     private CodeModelClassGenerator createCodeModelForServices(
         @Nonnull final DataModelGeneratorConfig config,
         @Nonnull final Iterable<Service> allODataServices )
@@ -139,15 +300,11 @@ class ODataToVdmGenerator
         return classGenerator;
     }
 
-    private Collection<EdmxFile> loadServicesFromInput(
-        @Nonnull final DataModelGeneratorConfig config,
-        @Nonnull final Collection<File> inputFiles )
+    @Nonnull
+    private List<File> getServiceFiles( @Nonnull final DataModelGeneratorConfig config )
     {
-        final Collection<EdmxFile> allEdmxFiles = new LinkedList<>();
-        final ServiceNameMappings serviceNameMappings = loadPropertiesConfiguration(config.getServiceNameMappings());
-        final List<CsdlSchema> edmxTerms = loadEdmxSchemas();
-
-        for( final File inputFile : inputFiles ) {
+        final List<File> serviceFiles = new ArrayList<>();
+        for( final File inputFile : getInputFiles(config.getInputDirectory()) ) {
 
             if( excludePatternMatch(config.getExcludeFilePattern(), inputFile.getName()) ) {
                 logger.info("Skipping EDMX file due to exclusion rule: {}", inputFile);
@@ -159,41 +316,181 @@ class ODataToVdmGenerator
                 continue;
             }
 
-            final String canonicalPath = getCanonicalPath(inputFile);
-            final String servicePath = FilenameUtils.getFullPath(canonicalPath);
-            final String serviceName = FilenameUtils.getBaseName(canonicalPath);
-            logger.info(String.format("Loading OData service %s", serviceName));
+            serviceFiles.add(inputFile);
+        }
+        return serviceFiles;
+    }
+
+    private List<EdmxFile> loadServicesFromInput(
+        @Nonnull final DataModelGeneratorConfig config,
+        @Nonnull final Collection<File> inputFiles )
+    {
+        final ServiceNameMappings serviceNameMappings = loadPropertiesConfiguration(config.getServiceNameMappings());
+
+        // the client and the vocabulary term definitions are only read by Olingo, so they are shared by all services
+        final ODataClient client = ODataClientFactory.getClient();
+        final List<CsdlSchema> edmxTerms = Collections.unmodifiableList(loadEdmxSchemas());
 
-            final File serviceSwaggerFile = getSwaggerFile(servicePath, serviceName);
-            logger.info(String.format("Reading metadata file: %s", canonicalPath));
-            logger.info(String.format("Reading swagger file:  %s", getCanonicalPath(serviceSwaggerFile)));
+        return mapInParallel(
+            config,
+            inputFiles,
+            inputFile -> loadService(config, serviceNameMappings, client, edmxTerms, inputFile));
+    }
 
-            try {
-                final Service service =
-                    buildService(
-                        serviceName,
-                        serviceNameMappings,
-                        edmxTerms,
-                        config.getDefaultBasePath(),
-                        inputFile,
-                        serviceSwaggerFile,
-                        config.isGenerateLinksToApiBusinessHub());
-
-                allEdmxFiles.add(new EdmxFile(inputFile.toPath(), service));
+    @Nonnull
+    private EdmxFile loadService(
+        @Nonnull final DataModelGeneratorConfig config,
+        @Nonnull final ServiceNameMappings serviceNameMappings,
+        @Nonnull final ODataClient client,
+        @Nonnull final List<CsdlSchema> edmxTerms,
+        @Nonnull final File inputFile )
+    {
+        final String canonicalPath = getCanonicalPath(inputFile);
+        final String serviceName = FilenameUtils.getBaseName(canonicalPath);
+        logger.info(String.format("Loading OData service %s", serviceName));
+
+        final File serviceSwaggerFile = getSwaggerFile(inputFile);
+        logger.info(String.format("Reading metadata file: %s", canonicalPath));
+        logger.info(String.format("Reading swagger file:  %s", getCanonicalPath(serviceSwaggerFile)));
+
+        try {
+            final Service service =
+                buildService(
+                    serviceName,
+                    serviceNameMappings,
+                    client,
+                    edmxTerms,
+                    config.getDefaultBasePath(),
+                    inputFile,
+                    serviceSwaggerFile,
+                    config.isGenerateLinksToApiBusinessHub());
+
+            return new EdmxFile(inputFile.toPath(), service);
+        }
+        catch( final ODataGeneratorReadException e ) {
+            logger
+                .warn(
+                    String
+                        .format(
+                            "Error in file %s; unable to generate VDM classes. The file will be skipped and generation continues for the next file.",
+                            inputFile.getName()),
+                    e);
+
+            return new EdmxFile(inputFile.toPath(), null);
+        }
+    }
+
+    /**
+     * Applies the given function to all items, using up to {@link DataModelGeneratorConfig#getParallelism()} threads.
+     * The results are returned in the order of the items.
+     */
+    @Nonnull
+    private static <T, R> List<R> mapInParallel(
+        @Nonnull final DataModelGeneratorConfig config,
+        @Nonnull final Collection<T> items,
+        @Nonnull final Function<T, R> function )
+    {
+        final int threads = Math.min(config.getParallelism(), items.size());
+        if( threads <= 1 ) {
+            return items.stream().map(function).collect(Collectors.toList());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<R>> futures = new ArrayList<>(items.size());
+            for( final T item : items ) {
+                futures.add(executor.submit(() -> function.apply(item)));
             }
-            catch( final ODataGeneratorReadException e ) {
-                logger
-                    .warn(
-                        String
-                            .format(
-                                "Error in file %s; unable to generate VDM classes. The file will be skipped and generation continues for the next file.",
-                                inputFile.getName()),
-                        e);
+            final List<R> results = new ArrayList<>(futures.size());
+            for( final Future<R> future : futures ) {
+                results.add(getResult(future));
+            }
+            return results;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
 
-                allEdmxFiles.add(new EdmxFile(inputFile.toPath(), null));
+    private static <R> R getResult( @Nonnull final Future<R> future )
+    {
+        try {
+            return future.get();
+        }
+        catch( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new ODataGeneratorException(e);
+        }
+        catch( final ExecutionException e ) {
+            if( e.getCause() instanceof RuntimeException runtimeException ) {
+                throw runtimeException;
             }
+            if( e.getCause() instanceof Error error ) {
+                throw error;
+            }
+            throw new ODataGeneratorException(e.getCause());
+        }
+    }
+
+    @Nonnull
+    private static List<Service> getServices( @Nonnull final Collection<EdmxFile> edmxFiles )
+    {
+        return edmxFiles
+            .stream()
+            .filter(EdmxFile::isSuccessfullyParsed)
+            .map(edmxFile -> edmxFile.getService().get())
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void logNoServicesFound( @Nonnull final DataModelGeneratorConfig config )
+    {
+        logger
+            .warn(
+                String
+                    .format(
+                        "No OData service definitions found in the input directory '%s' - exiting.",
+                        getCanonicalPath(config.getInputDirectory())));
+    }
+
+    @Nonnull
+    private static String getRelativePath( @Nonnull final File directory, @Nonnull final File file )
+    {
+        final Path relativePath = directory.toPath().toAbsolutePath().relativize(file.toPath().toAbsolutePath());
+        return FilenameUtils.separatorsToUnix(relativePath.toString());
+    }
+
+    private static boolean filesExist( @Nonnull final File outputDirectory, @Nonnull final Collection<String> files )
+    {
+        return files.stream().allMatch(file -> new File(outputDirectory, file).isFile());
+    }
+
+    private static void deleteFiles( @Nonnull final File outputDirectory, @Nullable final Collection<String> files )
+    {
+        if( files == null ) {
+            return;
+        }
+        for( final String file : files ) {
+            try {
+                Files.deleteIfExists(outputDirectory.toPath().resolve(file));
+            }
+            catch( final IOException e ) {
+                throw new ODataGeneratorWriteException(e);
+            }
+        }
+    }
+
+    private static void ensureDirectoryExists( @Nonnull final File directory )
+    {
+        if( !directory.exists() && !directory.mkdirs() ) {
+            throw new ODataGeneratorWriteException("Could not create output directory " + directory);
         }
-        return allEdmxFiles;
+    }
+
+    @Nullable
+    private File getSwaggerFile( @Nonnull final File inputFile )
+    {
+        final String canonicalPath = getCanonicalPath(inputFile);
+        return getSwaggerFile(FilenameUtils.getFullPath(canonicalPath), FilenameUtils.getBaseName(canonicalPath));
     }
 
     @Nullable
@@ -222,13 +519,14 @@ class ODataToVdmGenerator
     private Service buildService(
         final String serviceName,
         final ServiceNameMappings serviceNameMappings,
+        final ODataClient client,
         final List<CsdlSchema> edmxTerms,
         @Nullable final String defaultBasePath,
         final File serviceMetadataFile,
         final File serviceSwaggerFile,
         final boolean linkToApiBusinessHub )
     {
-        final Edm metadata = getMetadata(serviceMetadataFile, edmxTerms);
+        final Edm metadata = getMetadata(client, serviceMetadataFile, edmxTerms);
 
         final ServiceDetails serviceDetails =
             new ServiceDetailsResolver(defaultBasePath, FILE_ENCODING)
@@ -254,10 +552,12 @@ class ODataToVdmGenerator
         return newService;
     }
 
-    private Edm getMetadata( final File serviceMetadataFile, final List<CsdlSchema> edmxTerms )
+    private Edm getMetadata(
+        final ODataClient client,
+        final File serviceMetadataFile,
+        final List<CsdlSchema> edmxTerms )
     {
         try( InputStream stream = Files.newInputStream(serviceMetadataFile.toPath()) ) {
-            final ODataClient client = ODataClientFactory.getClient();
             final XMLMetadata metadata = client.getDeserializer(ContentType.APPLICATION_XML).toMetadata(stream);
             final String edmVersion = metadata.getEdmVersion();
             if( !EDMX_VERSION_ODATA_V4.equals(edmVersion) ) {
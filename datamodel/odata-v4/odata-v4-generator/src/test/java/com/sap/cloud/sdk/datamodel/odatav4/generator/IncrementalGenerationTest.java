@@ -0,0 +1,180 @@
+package com.sap.cloud.sdk.datamodel.odatav4.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.SneakyThrows;
+
+class IncrementalGenerationTest
+{
+    private static final Path RESOURCES = Paths.get("src/test/resources/KeepExistingSignaturesTest");
+    private static final Path INTEGRATION_TEST_RESOURCES =
+        Paths.get("src/test/resources/oDataGeneratorIntegrationTest");
+    private static final String MARKER = "// modified after generation";
+
+    @TempDir
+    Path path;
+
+    private Path pathInput;
+    private Path pathOutput;
+    private Path serviceNameMappingFile;
+
+    @SneakyThrows
+    @BeforeEach
+    void setupPaths()
+    {
+        pathInput = Files.createDirectories(path.resolve("input"));
+        pathOutput = Files.createDirectories(path.resolve("output"));
+        serviceNameMappingFile = path.resolve("serviceNameMappings.properties");
+        Files.copy(RESOURCES.resolve("serviceNameMappings.properties"), serviceNameMappingFile);
+        Files.copy(RESOURCES.resolve("FirstNameLastName/metadata.edmx"), pathInput.resolve("metadata.edmx"));
+    }
+
+    @SneakyThrows
+    @Test
+    void testUnchangedServiceIsSkipped()
+    {
+        generate();
+        assertThat(pathOutput.resolve(GeneratorManifest.FILE_NAME)).isRegularFile();
+
+        final Path generatedFile = getGeneratedFiles().get(0);
+        Files.writeString(generatedFile, MARKER, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        generate();
+
+        assertThat(generatedFile).content().endsWith(MARKER);
+    }
+
+    @SneakyThrows
+    @Test
+    void testChangedServiceIsRegenerated()
+    {
+        generate();
+        final List<Path> generatedFiles = getGeneratedFiles();
+
+        final Path generatedFile = generatedFiles.get(0);
+        Files.writeString(generatedFile, MARKER, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        final Path changedMetadata = RESOURCES.resolve("LastNameFirstName/metadata.edmx");
+        Files.copy(changedMetadata, pathInput.resolve("metadata.edmx"), StandardCopyOption.REPLACE_EXISTING);
+
+        generate();
+
+        assertThat(generatedFile).content().doesNotEndWith(MARKER);
+        assertThat(getGeneratedFiles()).containsExactlyInAnyOrderElementsOf(generatedFiles);
+    }
+
+    @SneakyThrows
+    @Test
+    void testParallelGenerationOfMultipleServicesEqualsSequentialGeneration()
+    {
+        Files
+            .copy(
+                INTEGRATION_TEST_RESOURCES.resolve("groceryStore/input/SDK_Grocery_Store.edmx"),
+                pathInput.resolve("SDK_Grocery_Store.edmx"));
+        Files
+            .copy(
+                INTEGRATION_TEST_RESOURCES.resolve("multipleEntitySets/input/multiple_entity_sets.edmx"),
+                pathInput.resolve("multiple_entity_sets.edmx"));
+
+        final Path sequentialOutput = generateWithParallelism(1);
+        final Path parallelOutput = generateWithParallelism(3);
+
+        assertThat(readGeneratedFiles(parallelOutput)).isNotEmpty().isEqualTo(readGeneratedFiles(sequentialOutput));
+
+        // every service was generated into a code model of its own
+        final GeneratorManifest manifest = GeneratorManifest.load(parallelOutput.toFile()).get();
+        assertThat(manifest.getServices())
+            .containsExactlyInAnyOrder("metadata.edmx", "SDK_Grocery_Store.edmx", "multiple_entity_sets.edmx");
+        assertThat(manifest.getServices())
+            .allSatisfy(service -> assertThat(manifest.getEntry(service).get().files()).isNotEmpty());
+    }
+
+    @SneakyThrows
+    @Test
+    void testParallelGenerationOfServicesSharingFilesFallsBackToJointGeneration()
+    {
+        // a second service with the same namespace, which shares the generated entity classes with the first one
+        Files.copy(RESOURCES.resolve("FirstNameLastName/metadata.edmx"), pathInput.resolve("foo.edmx"));
+
+        final Path sequentialOutput = generateWithParallelism(1);
+        final Path parallelOutput = generateWithParallelism(2);
+
+        assertThat(readGeneratedFiles(parallelOutput)).isNotEmpty().isEqualTo(readGeneratedFiles(sequentialOutput));
+
+        // the generated files can not be attributed to a single service
+        final GeneratorManifest manifest = GeneratorManifest.load(parallelOutput.toFile()).get();
+        assertThat(manifest.getServices()).containsExactlyInAnyOrder("metadata.edmx", "foo.edmx");
+        assertThat(manifest.getServices())
+            .allSatisfy(service -> assertThat(manifest.getEntry(service).get().files()).isNull());
+    }
+
+    private void generate()
+    {
+        generate(pathOutput, serviceNameMappingFile, 2);
+    }
+
+    private Path generateWithParallelism( final int parallelism )
+        throws IOException
+    {
+        // every execution uses its own service name mappings, as the generator adds the mappings of new services
+        final Path output = Files.createDirectories(path.resolve("output-" + parallelism));
+        final Path serviceNameMappings = path.resolve("serviceNameMappings-" + parallelism + ".properties");
+        Files.copy(serviceNameMappingFile, serviceNameMappings);
+
+        generate(output, serviceNameMappings, parallelism);
+        return output;
+    }
+
+    private void generate( final Path output, final Path serviceNameMappings, final int parallelism )
+    {
+        new DataModelGenerator()
+            .withInputDirectory(pathInput.toFile())
+            .withOutputDirectory(output.toFile())
+            .withServiceNameMapping(serviceNameMappings.toFile())
+            .withDefaultBasePath("/")
+            .incrementalGeneration()
+            .withParallelism(parallelism)
+            .execute();
+    }
+
+    private static Map<Path, String> readGeneratedFiles( final Path output )
+        throws IOException
+    {
+        // the manifest is excluded, as it contains the time of the generation
+        try( Stream<Path> files = Files.walk(output) ) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> !file.getFileName().toString().equals(GeneratorManifest.FILE_NAME))
+                .collect(Collectors.toMap(output::relativize, IncrementalGenerationTest::readString));
+        }
+    }
+
+    @SneakyThrows
+    private static String readString( final Path file )
+    {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    private List<Path> getGeneratedFiles()
+        throws IOException
+    {
+        try( Stream<Path> files = Files.walk(pathOutput) ) {
+            return files.filter(p -> p.toString().endsWith(".java")).sorted().toList();
+        }
+    }
+}
@@ -19,8 +19,12 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.query.StructuredQuery;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ColumnProjection;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ColumnarResult;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestCount;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestRead;
+import com.sap.cloud.sdk.result.ElementName;
+import com.sap.cloud.sdk.result.ElementNameGsonFieldNamingStrategy;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -199,6 +203,52 @@ public abstract class FluentHelperRead<FluentHelperT, EntityT extends VdmEntity<
         return destination -> Streams.stream(Iterables.concat(executeInternal(destination)));
     }
 
+    /**
+     * Read the given properties of all entities of the result-set into columns, without creating an entity object per
+     * result item. This is a memory-efficient alternative to {@link #executeRequest(Destination)} for large
+     * result-sets. The projected properties are added to the selection of this query. All pages of the result-set are
+     * requested eagerly when executing.
+     *
+     * @param projection
+     *            The properties to read and the types of their columns.
+     * @return An instance of {@link FluentHelperExecutable} that reads the result-set into columns.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public FluentHelperExecutable<ColumnarResult> projectingColumns( @Nonnull final ColumnProjection projection )
+    {
+        delegateQuery.select(projection.getPropertyNames().toArray(new String[0]));
+        return destination -> toRequest()
+            .execute(HttpClientAccessor.getHttpClient(destination))
+            .asColumnsOfAllPages(projection);
+    }
+
+    /**
+     * Read all entities of the result-set into instances of the given type, e.g. a record with a component per
+     * property, without creating an entity object per result item. The properties of all fields annotated with
+     * {@link ElementName} are added to the selection of this query. All pages of the result-set are requested eagerly
+     * when executing.
+     *
+     * @param type
+     *            The type to read the entities into.
+     * @param <T>
+     *            The generic item type.
+     * @return An instance of {@link FluentHelperExecutable} that reads the result-set into instances of the given type.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public <T> FluentHelperExecutable<List<T>> projecting( @Nonnull final Class<T> type )
+    {
+        final ElementNameGsonFieldNamingStrategy namingStrategy = new ElementNameGsonFieldNamingStrategy();
+        Arrays
+            .stream(type.getDeclaredFields())
+            .filter(field -> field.isAnnotationPresent(ElementName.class))
+            .forEach(field -> delegateQuery.select(namingStrategy.translateName(field)));
+        return destination -> toRequest()
+            .execute(HttpClientAccessor.getHttpClient(destination))
+            .asProjectionOfAllPages(type);
+    }
+
     @Nonnull
     private Iterable<List<EntityT>> executeInternal( @Nonnull final Destination destination )
         throws com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException
@@ -1,5 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odata.helper;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -14,6 +15,7 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.sap.cloud.sdk.datamodel.odata.client.LazyHashMap;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.exception.NoSuchEntityFieldException;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -36,17 +38,23 @@ import lombok.ToString;
     creatorVisibility = JsonAutoDetect.Visibility.NONE )
 public abstract class VdmObject<ObjectT>
 {
+    /**
+     * The custom fields of this object. Refers to an immutable empty map until the first custom field is set, so that
+     * objects without custom fields do not allocate a map.
+     */
     @JsonIgnore
-    private final transient Map<String, Object> customFields = new LinkedHashMap<>();
+    @Nonnull
+    private transient Map<String, Object> customFields = Collections.emptyMap();
 
     /**
      * A mapping of the OData field name to the original value.
      * <p>
-     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property.
+     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property. The
+     * backing map is only allocated once the first change is remembered, so that objects that are only read stay small.
      */
     @JsonIgnore
     @Nonnull
-    protected final transient Map<String, Object> changedOriginalFields = new HashMap<>();
+    protected final transient Map<String, Object> changedOriginalFields = new LazyHashMap<>();
 
     /**
      * Returns the names of all custom fields of this object.
@@ -68,6 +76,15 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     public Map<String, Object> getCustomFields()
     {
+        return getOrCreateCustomFields();
+    }
+
+    @Nonnull
+    private Map<String, Object> getOrCreateCustomFields()
+    {
+        if( customFields == Collections.<String, Object> emptyMap() ) {
+            customFields = new LinkedHashMap<>();
+        }
         return customFields;
     }
 
@@ -83,7 +100,7 @@ public abstract class VdmObject<ObjectT>
     public void setCustomField( @Nonnull final String customFieldName, @Nullable final Object value )
     {
         rememberChangedField(customFieldName, customFields.get(customFieldName));
-        customFields.put(customFieldName, value);
+        getOrCreateCustomFields().put(customFieldName, value);
     }
 
     /**
@@ -243,7 +260,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Map<String, Object> toMapOfCustomFields()
     {
-        return Maps.newHashMap(getCustomFields());
+        return Maps.newHashMap(customFields);
     }
 
     /**
@@ -254,7 +271,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Set<String> getSetOfCustomFields()
     {
-        return Sets.newHashSet(getCustomFields().keySet());
+        return Sets.newHashSet(customFields.keySet());
     }
 
     /**
@@ -329,7 +346,7 @@ public abstract class VdmObject<ObjectT>
         final Map<String, Object> changedFields = new HashMap<>();
 
         final Map<String, Object> currentFields = toMapOfFields();
-        currentFields.putAll(getCustomFields());
+        currentFields.putAll(customFields);
 
         for( final Map.Entry<String, Object> changedOriginalField : changedOriginalFields.entrySet() ) {
             final Object originalValue = changedOriginalField.getValue();
@@ -345,6 +362,18 @@ public abstract class VdmObject<ObjectT>
         return changedFields;
     }
 
+    /**
+     * Returns a mapping of the OData field name to the original value of all fields that were changed on this object.
+     *
+     * @return An unmodifiable view of the original values of the changed fields.
+     * @since 5.33.0
+     */
+    @Nonnull
+    protected Map<String, Object> getChangedOriginalFields()
+    {
+        return Collections.unmodifiableMap(changedOriginalFields);
+    }
+
     /**
      * Remembers the original value of a changed field.
      *
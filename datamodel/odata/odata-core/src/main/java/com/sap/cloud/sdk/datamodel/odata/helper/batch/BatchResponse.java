@@ -1,10 +1,13 @@
 package com.sap.cloud.sdk.datamodel.odata.helper.batch;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
 
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
 import com.sap.cloud.sdk.datamodel.odata.helper.CollectionValuedFluentHelperFunction;
+import com.sap.cloud.sdk.datamodel.odata.helper.FluentHelperBasic;
 import com.sap.cloud.sdk.datamodel.odata.helper.FluentHelperByKey;
 import com.sap.cloud.sdk.datamodel.odata.helper.FluentHelperRead;
 import com.sap.cloud.sdk.datamodel.odata.helper.SingleValuedFluentHelperFunction;
@@ -92,6 +95,26 @@ public interface BatchResponse extends AutoCloseable
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Consume the OData batch response in a single forward-only pass. The result of every batch item is passed to the
+     * handler together with the original fluent helper instance, as soon as its part was read from the response.
+     * <p>
+     * The response can only be consumed once, so this method cannot be combined with {@link #get(int)} and
+     * {@code getReadResult(...)}.
+     *
+     * @param handler
+     *            The callback to receive the original fluent helper instance and the generic result of the batch item.
+     *            Failed batch items are passed as failed {@link Try}.
+     * @throws IllegalStateException
+     *             When the batch response was already consumed.
+     * @since 5.33.0
+     */
+    default void streamResults(
+        @Nonnull final BiConsumer<FluentHelperBasic<?, ?, ?>, Try<ODataRequestResultGeneric>> handler )
+    {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Closes the underlying HTTP response entity.
      *
@@ -1,12 +1,15 @@
 package com.sap.cloud.sdk.datamodel.odata.helper.batch;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestGeneric;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultMultipartGeneric;
 import com.sap.cloud.sdk.datamodel.odata.helper.CollectionValuedFluentHelperFunction;
 import com.sap.cloud.sdk.datamodel.odata.helper.FluentHelperBasic;
@@ -121,6 +124,15 @@ public class DefaultBatchResponseResult implements BatchResponse
         return requestParts.stream().filter(type::isInstance).map(type::cast).skip(index).findFirst().orElse(null);
     }
 
+    @Override
+    public void streamResults(
+        @Nonnull final BiConsumer<FluentHelperBasic<?, ?, ?>, Try<ODataRequestResultGeneric>> handler )
+    {
+        final Map<ODataRequestGeneric, FluentHelperBasic<?, ?, ?>> helpers = new IdentityHashMap<>();
+        requestMapping.forEach(( helper, request ) -> helpers.put(request, helper));
+        result.streamResults(( request, itemResult ) -> handler.accept(helpers.get(request), itemResult));
+    }
+
     /**
      * Closes the underlying HTTP response entity.
      *
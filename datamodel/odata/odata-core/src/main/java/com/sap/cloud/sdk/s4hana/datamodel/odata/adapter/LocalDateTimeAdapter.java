@@ -1,7 +1,6 @@
 package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
 
 import java.time.LocalDateTime;
-import java.util.Calendar;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,24 +12,20 @@ import com.sap.cloud.sdk.typeconverter.ConvertedObject;
  */
 public class LocalDateTimeAdapter extends AbstractCalendarAdapter<LocalDateTime>
 {
-    private static final ODataDateTimeStringCalendarConverter STRING_CALENDAR_CONVERTER =
-        new ODataDateTimeStringCalendarConverter();
-    private static final LocalDateTimeCalendarConverter LOCAL_DATE_TIME_CALENDAR_CONVERTER =
-        new LocalDateTimeCalendarConverter();
-
     @Nonnull
     @Override
     protected ConvertedObject<LocalDateTime> convertStringToType( @Nonnull final String jsonString )
     {
-        final ConvertedObject<Calendar> maybeCalendar = STRING_CALENDAR_CONVERTER.toDomain(jsonString);
-        return LOCAL_DATE_TIME_CALENDAR_CONVERTER.fromDomain(maybeCalendar.orNull());
+        return ConvertedObject.of(ODataDateTimeCodec.parseDateTime(jsonString));
     }
 
     @Nonnull
     @Override
     protected ConvertedObject<String> convertTypeToString( @Nullable final LocalDateTime entity )
     {
-        final ConvertedObject<Calendar> convertedCalendar = LOCAL_DATE_TIME_CALENDAR_CONVERTER.toDomain(entity);
-        return STRING_CALENDAR_CONVERTER.fromDomain(convertedCalendar.orNull());
+        if( entity == null ) {
+            return ConvertedObject.ofNull();
+        }
+        return ConvertedObject.of(ODataDateTimeCodec.formatDateTime(entity));
     }
 }
@@ -0,0 +1,395 @@
+package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Parses and formats the JSON representation of OData V2 date and time values directly from and to {@code java.time}
+ * types:
+ * <ul>
+ * <li>{@code Edm.DateTime} as {@code /Date(<millis>)/}</li>
+ * <li>{@code Edm.DateTimeOffset} as {@code /Date(<millis>[(+|-)<offset in minutes>])/}</li>
+ * <li>{@code Edm.Time} as {@code PT<hours>H<minutes>M<seconds>S}</li>
+ * </ul>
+ * In contrast to the {@code *StringCalendarConverter} classes, values are parsed character by character, without
+ * regular expressions and without intermediate {@link Calendar} objects or time zone lookups. The accepted formats and
+ * the results are the same. Rare values, for which {@code Calendar} and {@code java.time} disagree, are still converted
+ * via {@code Calendar}.
+ */
+@Slf4j
+@NoArgsConstructor( access = AccessLevel.PRIVATE )
+final class ODataDateTimeCodec
+{
+    private static final String DATE_PREFIX = "/Date(";
+    private static final String DATE_SUFFIX = ")/";
+    private static final String GMT = "GMT";
+    private static final ZoneId GMT_ZONE = ZoneId.of(GMT);
+
+    private static final int MAX_OFFSET_DIGITS = 4;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MAX_OFFSET_SECONDS = ZoneOffset.MAX.getTotalSeconds();
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    private static final int SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = SECONDS_PER_MINUTE * MILLIS_PER_SECOND;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int MILLIS_DIGITS = 3;
+
+    private static final char[] DATE_DESIGNATORS = { 'Y', 'M', 'D' };
+    private static final int MAX_DATE_COMPONENT_DIGITS = 2;
+    private static final int MAX_HOUR_DIGITS = 2;
+    private static final int MAX_MINUTE_DIGITS = 4;
+    private static final int MAX_SECOND_DIGITS = 5;
+
+    // Calendar switches to the Julian calendar before the Gregorian cutover, while java.time does not.
+    // Local date times before the cutover are therefore still converted via Calendar to keep the results unchanged.
+    // The same applies to offsets of regions before 1900, which TimeZone does not resolve in the same way as ZoneRules.
+    private static final long GREGORIAN_CUTOVER_MILLIS = new GregorianCalendar().getGregorianChange().getTime();
+    private static final LocalDateTime GREGORIAN_CUTOVER =
+        LocalDateTime.ofEpochSecond(Math.floorDiv(GREGORIAN_CUTOVER_MILLIS, MILLIS_PER_SECOND), 0, ZoneOffset.UTC);
+    private static final long TIME_ZONE_HISTORY_START =
+        LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final ODataDateTimeStringCalendarConverter DATE_TIME_STRING_CALENDAR_CONVERTER =
+        new ODataDateTimeStringCalendarConverter();
+    private static final LocalDateTimeCalendarConverter LOCAL_DATE_TIME_CALENDAR_CONVERTER =
+        new LocalDateTimeCalendarConverter();
+    private static final ODataDateTimeOffsetStringCalendarConverter DATE_TIME_OFFSET_STRING_CALENDAR_CONVERTER =
+        new ODataDateTimeOffsetStringCalendarConverter();
+    private static final ZonedDateTimeCalendarConverter ZONED_DATE_TIME_CALENDAR_CONVERTER =
+        new ZonedDateTimeCalendarConverter();
+
+    /**
+     * Parses an {@code Edm.DateTime} value of the format {@code /Date(<millis>)/}.
+     *
+     * @param value
+     *            The JSON string value.
+     * @return The parsed date time in UTC, or {@code null} if the value does not match the format.
+     */
+    @Nullable
+    static LocalDateTime parseDateTime( @Nonnull final String value )
+    {
+        final int end = value.length() - DATE_SUFFIX.length();
+        if( !isDateValue(value) || digitsEnd(value, signEnd(value, DATE_PREFIX.length()), end) != end ) {
+            return null;
+        }
+        final long millis;
+        try {
+            millis = Long.parseLong(value, DATE_PREFIX.length(), end, 10);
+        }
+        catch( final NumberFormatException e ) {
+            log.debug("The given date string cannot be converted to milliseconds: " + e.getMessage());
+            return null;
+        }
+        if( millis < GREGORIAN_CUTOVER_MILLIS ) {
+            final Calendar calendar = DATE_TIME_STRING_CALENDAR_CONVERTER.toDomain(value).orNull();
+            return LOCAL_DATE_TIME_CALENDAR_CONVERTER.fromDomain(calendar).orNull();
+        }
+        return LocalDateTime
+            .ofEpochSecond(
+                Math.floorDiv(millis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(millis, MILLIS_PER_SECOND) * NANOS_PER_MILLI,
+                ZoneOffset.UTC);
+    }
+
+    /**
+     * Formats a date time in UTC as {@code Edm.DateTime} value of the format {@code /Date(<millis>)/}.
+     *
+     * @param dateTime
+     *            The date time to format.
+     * @return The JSON string value.
+     */
+    @Nonnull
+    static String formatDateTime( @Nonnull final LocalDateTime dateTime )
+    {
+        if( dateTime.isBefore(GREGORIAN_CUTOVER) ) {
+            final Calendar calendar = LOCAL_DATE_TIME_CALENDAR_CONVERTER.toDomain(dateTime).orNull();
+            return DATE_TIME_STRING_CALENDAR_CONVERTER.fromDomain(calendar).orNull();
+        }
+        final long millis =
+            dateTime.toEpochSecond(ZoneOffset.UTC) * MILLIS_PER_SECOND + dateTime.getNano() / NANOS_PER_MILLI;
+        return DATE_PREFIX + millis + DATE_SUFFIX;
+    }
+
+    /**
+     * Parses an {@code Edm.DateTimeOffset} value of the format {@code /Date(<millis>[(+|-)<offset in minutes>])/}. The
+     * milliseconds are given in the local time of the offset.
+     *
+     * @param value
+     *            The JSON string value.
+     * @return The parsed date time in the time zone {@code GMT} or {@code GMT(+|-)<hours>:<minutes>}, or {@code null}
+     *         if the value does not match the format.
+     */
+    @Nullable
+    static ZonedDateTime parseDateTimeOffset( @Nonnull final String value )
+    {
+        final int end = value.length() - DATE_SUFFIX.length();
+        if( !isDateValue(value) ) {
+            return null;
+        }
+        final int millisEnd = digitsEnd(value, signEnd(value, DATE_PREFIX.length()), end);
+        if( millisEnd < 0 ) {
+            return null;
+        }
+
+        int offsetInMinutes = 0;
+        if( millisEnd != end ) {
+            final char sign = value.charAt(millisEnd);
+            final int offsetEnd = digitsEnd(value, millisEnd + 1, end);
+            if( sign != '+' && sign != '-' || offsetEnd != end || end - millisEnd - 1 > MAX_OFFSET_DIGITS ) {
+                return null;
+            }
+            offsetInMinutes = Integer.parseInt(value, millisEnd + 1, end, 10);
+            if( offsetInMinutes >= MINUTES_PER_DAY ) {
+                log.debug("The given offset is higher than minutes in a day: " + offsetInMinutes);
+                return null;
+            }
+            if( sign == '-' ) {
+                offsetInMinutes = -offsetInMinutes;
+            }
+        }
+
+        final long localMillis;
+        try {
+            localMillis = Long.parseLong(value, DATE_PREFIX.length(), millisEnd, 10);
+        }
+        catch( final NumberFormatException e ) {
+            log.debug("The given date string cannot be converted to milliseconds: " + e.getMessage());
+            return null;
+        }
+        // Convert the local-time milliseconds to UTC.
+        final long millis = localMillis - offsetInMinutes * MILLIS_PER_MINUTE;
+        if( Math.abs(offsetInMinutes) * SECONDS_PER_MINUTE > MAX_OFFSET_SECONDS ) {
+            log.debug("The given offset exceeds the maximum supported offset: " + offsetInMinutes);
+            return null;
+        }
+        final ZoneId zone =
+            offsetInMinutes == 0
+                ? GMT_ZONE
+                : ZoneId.ofOffset(GMT, ZoneOffset.ofTotalSeconds(offsetInMinutes * SECONDS_PER_MINUTE));
+
+        return ZonedDateTime
+            .ofInstant(
+                Instant
+                    .ofEpochSecond(
+                        Math.floorDiv(millis, MILLIS_PER_SECOND),
+                        Math.floorMod(millis, MILLIS_PER_SECOND) * NANOS_PER_MILLI),
+                zone);
+    }
+
+    /**
+     * Formats a zoned date time as {@code Edm.DateTimeOffset} value of the format
+     * {@code /Date(<millis>[(+|-)<offset in minutes>])/}, with the milliseconds given in the local time of the offset.
+     *
+     * @param dateTime
+     *            The date time to format.
+     * @return The JSON string value.
+     */
+    @Nonnull
+    static String formatDateTimeOffset( @Nonnull final ZonedDateTime dateTime )
+    {
+        if( dateTime.getOffset().getTotalSeconds() % SECONDS_PER_MINUTE != 0
+            || !dateTime.getZone().getRules().isFixedOffset() && dateTime.toEpochSecond() < TIME_ZONE_HISTORY_START ) {
+            final Calendar calendar = ZONED_DATE_TIME_CALENDAR_CONVERTER.toDomain(dateTime).orNull();
+            return DATE_TIME_OFFSET_STRING_CALENDAR_CONVERTER.fromDomain(calendar).orNull();
+        }
+        final long offset = dateTime.getOffset().getTotalSeconds() * MILLIS_PER_SECOND;
+        final long millis = dateTime.toEpochSecond() * MILLIS_PER_SECOND + dateTime.getNano() / NANOS_PER_MILLI;
+        final long offsetInMinutes = offset / MILLIS_PER_MINUTE;
+
+        final StringBuilder result = new StringBuilder(32).append(DATE_PREFIX).append(millis + offset);
+        if( offset != 0 ) {
+            appendOffset(result, offsetInMinutes);
+        }
+        return result.append(DATE_SUFFIX).toString();
+    }
+
+    /**
+     * Parses an {@code Edm.Time} value of the format {@code P[<y>Y][<m>M][<d>D]T[<h>H][<m>M][<s>[.<fraction>]S]}.
+     * <p>
+     * Date components are ignored, time components exceeding their range roll over to the next day. The fraction of
+     * seconds must not be more precise than milliseconds.
+     *
+     * @param value
+     *            The JSON string value.
+     * @return The parsed time, or {@code null} if the value does not match the format or does not contain any
+     *         component.
+     */
+    @Nullable
+    static LocalTime parseTime( @Nonnull final String value )
+    {
+        final int length = value.length();
+        if( length == 0 || value.charAt(0) != 'P' ) {
+            return null;
+        }
+        int pos = 1;
+        boolean hasComponent = false;
+
+        for( final char designator : DATE_DESIGNATORS ) {
+            final int end = componentEnd(value, pos, designator, MAX_DATE_COMPONENT_DIGITS);
+            hasComponent |= end != pos;
+            pos = end;
+        }
+        if( pos == length || value.charAt(pos) != 'T' ) {
+            return null;
+        }
+        pos++;
+
+        long seconds = 0;
+        int end = componentEnd(value, pos, 'H', MAX_HOUR_DIGITS);
+        if( end != pos ) {
+            seconds += (long) Integer.parseInt(value, pos, end - 1, 10) * SECONDS_PER_HOUR;
+            hasComponent = true;
+            pos = end;
+        }
+        end = componentEnd(value, pos, 'M', MAX_MINUTE_DIGITS);
+        if( end != pos ) {
+            seconds += (long) Integer.parseInt(value, pos, end - 1, 10) * SECONDS_PER_MINUTE;
+            hasComponent = true;
+            pos = end;
+        }
+
+        int millis = 0;
+        final int secondsEnd = digitsEnd(value, pos, length);
+        if( secondsEnd > 0 && secondsEnd - pos <= MAX_SECOND_DIGITS ) {
+            int fractionEnd = secondsEnd;
+            if( secondsEnd < length && value.charAt(secondsEnd) == '.' ) {
+                fractionEnd = digitsEnd(value, secondsEnd + 1, length);
+                if( fractionEnd < 0 ) {
+                    return null;
+                }
+            }
+            if( fractionEnd < length && value.charAt(fractionEnd) == 'S' ) {
+                if( fractionEnd != secondsEnd ) {
+                    millis = parseMillis(value, secondsEnd + 1, fractionEnd);
+                    if( millis < 0 ) {
+                        log
+                            .debug(
+                                "The given date has a precision that cannot be represented in milliseconds: "
+                                    + value);
+                        return null;
+                    }
+                }
+                seconds += Integer.parseInt(value, pos, secondsEnd, 10);
+                hasComponent = true;
+                pos = fractionEnd + 1;
+            }
+        }
+
+        if( pos != length || !hasComponent ) {
+            return null;
+        }
+        // time components exceeding their range roll over to the next day
+        return LocalTime.ofNanoOfDay((seconds % SECONDS_PER_DAY * MILLIS_PER_SECOND + millis) * NANOS_PER_MILLI);
+    }
+
+    /**
+     * Formats a time as {@code Edm.Time} value of the format {@code PT<h>H<m>M<s>[.<fraction>]S}, with a precision of
+     * milliseconds.
+     *
+     * @param time
+     *            The time to format.
+     * @return The JSON string value.
+     */
+    @Nonnull
+    static String formatTime( @Nonnull final LocalTime time )
+    {
+        final StringBuilder result = new StringBuilder(21); // 21 characters are enough for nanosecond precision.
+        result.append("PT").append(time.getHour()).append('H').append(time.getMinute()).append('M');
+        result.append(time.getSecond());
+        ODataTimeStringCalendarConverter.appendFractionalSeconds(result, time.getNano() / NANOS_PER_MILLI);
+        return result.append('S').toString();
+    }
+
+    private static boolean isDateValue( @Nonnull final String value )
+    {
+        return value.length() > DATE_PREFIX.length() + DATE_SUFFIX.length()
+            && value.startsWith(DATE_PREFIX)
+            && value.endsWith(DATE_SUFFIX);
+    }
+
+    private static int signEnd( @Nonnull final String value, final int pos )
+    {
+        return value.charAt(pos) == '-' ? pos + 1 : pos;
+    }
+
+    /**
+     * Returns the end of a component of at most the given number of digits followed by the designator, or the given
+     * position if there is no such component.
+     */
+    private static int componentEnd(
+        @Nonnull final String value,
+        final int pos,
+        final char designator,
+        final int maxDigits )
+    {
+        final int numberEnd = digitsEnd(value, pos, value.length());
+        if( numberEnd < 0
+            || numberEnd - pos > maxDigits
+            || numberEnd == value.length()
+            || value.charAt(numberEnd) != designator ) {
+            return pos;
+        }
+        return numberEnd + 1;
+    }
+
+    /**
+     * Returns the end of the ASCII digits starting at the given position, or {@code -1} if there are none.
+     */
+    private static int digitsEnd( @Nonnull final String value, final int start, final int end )
+    {
+        int pos = start;
+        while( pos < end && isDigit(value.charAt(pos)) ) {
+            pos++;
+        }
+        return pos == start ? -1 : pos;
+    }
+
+    private static boolean isDigit( final char c )
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Parses a fraction of seconds to milliseconds, ignoring trailing zeros. Returns {@code -1} if the fraction is more
+     * precise than milliseconds.
+     */
+    private static int parseMillis( @Nonnull final String value, final int start, final int end )
+    {
+        int significantEnd = end;
+        while( significantEnd > start + 1 && value.charAt(significantEnd - 1) == '0' ) {
+            significantEnd--;
+        }
+        if( significantEnd - start > MILLIS_DIGITS ) {
+            return -1;
+        }
+        int millis = 0;
+        for( int i = 0; i < MILLIS_DIGITS; i++ ) {
+            millis = millis * 10 + (start + i < significantEnd ? value.charAt(start + i) - '0' : 0);
+        }
+        return millis;
+    }
+
+    private static void appendOffset( @Nonnull final StringBuilder result, final long offsetInMinutes )
+    {
+        result.append(offsetInMinutes < 0 ? '-' : '+');
+        final long minutes = Math.abs(offsetInMinutes);
+        for( long limit = 1000; limit > 1 && minutes < limit; limit /= 10 ) {
+            result.append('0');
+        }
+        result.append(minutes);
+    }
+}
@@ -3,11 +3,12 @@ package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
 import static java.util.function.Predicate.not;
 
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.IdentityHashMap;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -60,17 +61,31 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
     @Nonnull
     private final TypeAdapter<Object> customFieldAdapter;
 
-    // (1) Field has stateful accessibility flag
-    // (2) Multiple threads may access the Map, therefore state must be isolated with ThreadLocal
-    // (3) ThreadLocal is to be defined statically, therefore the properties must be mapped to a class reference
-    private static final ThreadLocal<Map<Class<?>, Map<String, Field>>> fieldProperties =
-        ThreadLocal.withInitial(IdentityHashMap::new);
-
-    @Nonnull
-    private Map<String, Field> getFieldProperties( @Nonnull final Class<?> type )
+    // (1) Field metadata only depends on the class, so it is resolved once and shared by all threads
+    // (2) The Field instances are private copies, so making them accessible does not affect other code
+    // (3) ClassValue does not prevent classes from being unloaded
+    private static final ClassValue<Map<String, Field>> fieldProperties = new ClassValue<>()
     {
-        return fieldProperties.get().computeIfAbsent(type, ODataVdmEntityAdapter::createFieldProperties);
-    }
+        @Override
+        @Nonnull
+        protected Map<String, Field> computeValue( @Nonnull final Class<?> type )
+        {
+            return createFieldProperties(type);
+        }
+    };
+
+    private static final TypeAdapter<ODataV2Metadata> metadataAdapter = new Gson().getAdapter(ODataV2Metadata.class);
+
+    /**
+     * The properties of {@link #entityRawType} with their field and type adapter, resolved once per adapter instance.
+     * The type adapters depend on the {@link Gson} instance, so they cannot be shared globally. They are resolved
+     * lazily, since resolving them while Gson creates this adapter could recurse into the entity type itself.
+     */
+    @Nullable
+    private volatile Map<String, FieldAdapter> fieldAdapters = null;
+
+    @Nullable
+    private volatile Constructor<? super T> entityConstructor = null;
 
     @Nonnull
     private static Map<String, Field> createFieldProperties( @Nonnull final Class<?> type )
@@ -82,12 +97,50 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
                     field.isAnnotationPresent(ElementName.class)
                         ? field.getAnnotation(ElementName.class).value()
                         : field.getAnnotation(SerializedName.class).value();
+                // Fields are declared private in the VDM.
+                field.setAccessible(true);
                 result.put(odataName, field);
             }
         }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Nonnull
+    private Map<String, FieldAdapter> getFieldAdapters()
+    {
+        Map<String, FieldAdapter> result = fieldAdapters;
+        if( result == null ) {
+            final Map<String, FieldAdapter> adapters = new LinkedHashMap<>();
+            for( final Map.Entry<String, Field> property : fieldProperties.get(entityRawType).entrySet() ) {
+                final Field field = property.getValue();
+                adapters.put(property.getKey(), new FieldAdapter(field, getAdapterFromField(field, gson)));
+            }
+            result = Collections.unmodifiableMap(adapters);
+            fieldAdapters = result;
+        }
         return result;
     }
 
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    private VdmObject<T> newEntity()
+        throws InstantiationException,
+            IllegalAccessException,
+            NoSuchMethodException,
+            InvocationTargetException
+    {
+        Constructor<? super T> constructor = entityConstructor;
+        if( constructor == null ) {
+            constructor = entityRawType.getDeclaredConstructor();
+            entityConstructor = constructor;
+        }
+        return (VdmObject<T>) constructor.newInstance();
+    }
+
+    private record FieldAdapter( @Nonnull Field field, @Nonnull TypeAdapter<?> adapter )
+    {
+    }
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
@@ -175,8 +228,7 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
         throws IOException
     {
         try {
-            @SuppressWarnings( "unchecked" )
-            final VdmObject<T> entity = (VdmObject<T>) entityRawType.getDeclaredConstructor().newInstance();
+            final VdmObject<T> entity = newEntity();
 
             if( jsonReader.peek() == JsonToken.BEGIN_OBJECT ) {
                 jsonReader.beginObject();
@@ -186,7 +238,7 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
 
                     if( "__metadata".equals(propertyKey) ) {
                         if( jsonReader.peek() == JsonToken.BEGIN_OBJECT ) {
-                            final ODataV2Metadata metadata = new Gson().fromJson(jsonReader, ODataV2Metadata.class);
+                            final ODataV2Metadata metadata = metadataAdapter.read(jsonReader);
                             final Option<String> maybeEtag =
                                 Option.of(metadata).map(ODataV2Metadata::getEtag).filter(not(Strings::isNullOrEmpty));
                             if( maybeEtag.isDefined() && entity instanceof VdmEntity ) {
@@ -201,16 +253,10 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
                         jsonReader.endObject();
                         return null;
                     } else {
-                        final Field entityField = getPropertySerializationInfo(propertyKey);
-                        if( entityField != null ) {
-                            final TypeAdapter<?> fieldAdapter = getAdapterFromField(entityField, gson);
-                            final Object attributeValue = fieldAdapter.read(jsonReader);
-
-                            // To be safe/secure, since fields are declared private in the VDM.
-                            final boolean oldAccessibleValue = entityField.canAccess(entity);
-                            entityField.setAccessible(true);
-                            entityField.set(entity, attributeValue);
-                            entityField.setAccessible(oldAccessibleValue);
+                        final FieldAdapter fieldAdapter = getPropertySerializationInfo(propertyKey);
+                        if( fieldAdapter != null ) {
+                            final Object attributeValue = fieldAdapter.adapter().read(jsonReader);
+                            fieldAdapter.field().set(entity, attributeValue);
                         } else {
                             entity.getCustomFields().put(propertyKey, customFieldAdapter.read(jsonReader));
                         }
@@ -236,9 +282,9 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
     }
 
     @Nullable
-    private Field getPropertySerializationInfo( final String propertyKey )
+    private FieldAdapter getPropertySerializationInfo( final String propertyKey )
     {
-        Field result = getFieldProperties(entityRawType).get(propertyKey);
+        FieldAdapter result = getFieldAdapters().get(propertyKey);
         if( result == null && superClassAdapter != null ) {
             result = superClassAdapter.getPropertySerializationInfo(propertyKey);
         }
@@ -274,18 +320,12 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
         } else {
             final JsonObject entityAsJson = superClassAdapter.getEntityAsJsonObject(value);
 
-            for( final Map.Entry<String, Field> entityProperty : getFieldProperties(entityRawType).entrySet() ) {
+            for( final Map.Entry<String, FieldAdapter> entityProperty : getFieldAdapters().entrySet() ) {
                 try {
-                    final Field propertyField = entityProperty.getValue();
-
-                    // To be safe/secure, since fields are declared private in the VDM.
-                    final boolean oldAccessibleValue = propertyField.canAccess(value);
-                    propertyField.setAccessible(true);
-                    final Object propertyValue = propertyField.get(value);
-                    propertyField.setAccessible(oldAccessibleValue);
+                    final FieldAdapter propertyAdapter = entityProperty.getValue();
+                    final Object propertyValue = propertyAdapter.field().get(value);
 
-                    final TypeAdapter<Object> fieldAdapter =
-                        (TypeAdapter<Object>) getAdapterFromField(propertyField, gson);
+                    final TypeAdapter<Object> fieldAdapter = (TypeAdapter<Object>) propertyAdapter.adapter();
                     final JsonElement propertyValueAsJson = fieldAdapter.toJsonTree(propertyValue);
 
                     // Overwrites JSON property from the superclass if this class has a property with the same name.
@@ -28,6 +28,9 @@ import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ColumnProjection;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ColumnarResult;
+import com.sap.cloud.sdk.result.ElementName;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 
@@ -179,6 +182,39 @@ class PaginationUnitTest
         assertThat(countEntities).isEqualTo(ENTITIES_COUNT);
     }
 
+    @Test
+    void testGetAllProjectingColumns()
+    {
+        final ColumnarResult result =
+            newCustomerRead()
+                .withPreferredPageSize(PAGE_SIZE)
+                .projectingColumns(ColumnProjection.empty().withStringColumn("CustomerID"))
+                .executeRequest(destination);
+
+        verify(PAGES_COUNT, getRequestedFor(UrlPattern.ANY).withQueryParam("$select", equalTo("CustomerID")));
+
+        final ColumnarResult.StringColumn customerIds = result.getStringColumn("CustomerID");
+        assertThat(result.getRowCount()).isEqualTo(ENTITIES_COUNT);
+        assertThat(customerIds.getDictionary()).hasSize(ENTITIES_COUNT);
+        assertThat(customerIds.get(0)).isEqualTo("ALFKI");
+        assertThat(customerIds.get(ENTITIES_COUNT - 1)).isEqualTo("WOLZA");
+    }
+
+    @Test
+    void testGetAllProjecting()
+    {
+        final List<CustomerId> result =
+            newCustomerRead().withPreferredPageSize(PAGE_SIZE).projecting(CustomerId.class).executeRequest(destination);
+
+        verify(PAGES_COUNT, getRequestedFor(UrlPattern.ANY).withQueryParam("$select", equalTo("CustomerID")));
+
+        assertThat(result).hasSize(ENTITIES_COUNT).first().isEqualTo(new CustomerId("ALFKI"));
+    }
+
+    record CustomerId( @ElementName( "CustomerID" ) String value )
+    {
+    }
+
     @Builder
     @Data
     @NoArgsConstructor
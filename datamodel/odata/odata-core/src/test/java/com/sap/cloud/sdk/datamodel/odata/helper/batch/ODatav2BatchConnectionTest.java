@@ -11,12 +11,16 @@ import static com.sap.cloud.sdk.datamodel.odata.helper.batch.TestVdmEntityBatch.
 import static com.sap.cloud.sdk.datamodel.odata.helper.batch.TestVdmEntityBatch.TestEntityRead;
 import static com.sap.cloud.sdk.datamodel.odata.helper.batch.TestVdmEntityBatch.TestEntityUpdate;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
@@ -38,8 +42,10 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataConnectionException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataServiceErrorException;
+import com.sap.cloud.sdk.datamodel.odata.helper.FluentHelperBasic;
 import com.sap.cloud.sdk.datamodel.odata.helper.TestVdmEntity;
 
+import io.vavr.control.Try;
 import lombok.SneakyThrows;
 
 @WireMockTest
@@ -160,6 +166,40 @@ class ODatav2BatchConnectionTest
         }
     }
 
+    @Test
+    void testStreamResults()
+    {
+        stubFor(post(UrlPattern.ANY).willReturn(okForContentType(RESPONSE_CONTENT_TYPE, RESPONSE_WITH_ERROR)));
+
+        final TestEntityRead read = new TestEntityRead();
+        final TestEntityByKey readByKey = new TestEntityByKey(ImmutableMap.of("IntegerValue", 9000));
+        final TestVdmEntity deleteEntity = TestVdmEntity.builder().integerValue(14).build();
+        final TestEntityDelete delete = new TestEntityDelete(deleteEntity);
+
+        final List<FluentHelperBasic<?, ?, ?>> helpers = new ArrayList<>();
+        final Map<FluentHelperBasic<?, ?, ?>, Try<?>> results = new IdentityHashMap<>();
+        final TestVdmEntityBatch request =
+            new TestVdmEntityBatch("").addReadOperations(read).addReadOperations(readByKey).addChangeSet(delete);
+        try( BatchResponse batchResponse = request.executeRequest(destination) ) {
+            batchResponse.streamResults(( helper, result ) -> {
+                // the batch item result must be consumed within the callback
+                helpers.add(helper);
+                results
+                    .put(
+                        helper,
+                        result.map(r -> helper == read ? r.asList(TestVdmEntity.class) : r.as(TestVdmEntity.class)));
+            });
+
+            assertThatIllegalStateException().isThrownBy(() -> batchResponse.getReadResult(read));
+        }
+
+        assertThat(helpers).containsExactly(read, readByKey, delete);
+        assertThat(results.get(read).get()).asList().isNotEmpty();
+        assertThat(results.get(readByKey).get())
+            .isInstanceOfSatisfying(TestVdmEntity.class, e -> assertThat(e.getIntegerValue()).isEqualTo(9000));
+        assertThat(results.get(delete).getCause()).isInstanceOf(ODataServiceErrorException.class);
+    }
+
     @Test
     @Timeout( value = 300_000L, unit = TimeUnit.MILLISECONDS )
     @Disabled( "Test triggers a ConnectionPoolTimeoutException. Use it only to manually verify behaviour." )
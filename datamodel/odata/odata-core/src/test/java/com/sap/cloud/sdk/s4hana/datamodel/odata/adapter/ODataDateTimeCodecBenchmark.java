@@ -0,0 +1,129 @@
+package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the {@link ODataDateTimeCodec} compared to the conversion via {@link Calendar}, as done by the
+ * {@code *StringCalendarConverter} classes.
+ * <p>
+ * Run the benchmark after {@code mvn test-compile} with the test classpath of this module:
+ *
+ * <pre>
+ * <code>java -cp &lt;test classpath&gt; org.openjdk.jmh.Main ODataDateTimeCodecBenchmark</code>
+ * </pre>
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Benchmark )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ODataDateTimeCodecBenchmark
+{
+    private static final ODataDateTimeStringCalendarConverter DATE_TIME_CONVERTER =
+        new ODataDateTimeStringCalendarConverter();
+    private static final ODataDateTimeOffsetStringCalendarConverter DATE_TIME_OFFSET_CONVERTER =
+        new ODataDateTimeOffsetStringCalendarConverter();
+    private static final ODataTimeStringCalendarConverter TIME_CONVERTER = new ODataTimeStringCalendarConverter();
+    private static final LocalDateTimeCalendarConverter LOCAL_DATE_TIME_CONVERTER =
+        new LocalDateTimeCalendarConverter();
+    private static final ZonedDateTimeCalendarConverter ZONED_DATE_TIME_CONVERTER =
+        new ZonedDateTimeCalendarConverter();
+    private static final LocalTimeCalendarConverter LOCAL_TIME_CONVERTER = new LocalTimeCalendarConverter();
+
+    String dateTime = "/Date(1649669575192)/";
+    String dateTimeOffset = "/Date(1649669575192+0120)/";
+    String time = "PT13H22M12.345S";
+
+    LocalDateTime localDateTime = LocalDateTime.of(2022, 4, 11, 9, 32, 55, 192_000_000);
+    ZonedDateTime zonedDateTime = ODataDateTimeCodec.parseDateTimeOffset(dateTimeOffset);
+    LocalTime localTime = LocalTime.of(13, 22, 12, 345_000_000);
+
+    @Benchmark
+    public LocalDateTime parseDateTime()
+    {
+        return ODataDateTimeCodec.parseDateTime(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeViaCalendar()
+    {
+        return LOCAL_DATE_TIME_CONVERTER.fromDomain(DATE_TIME_CONVERTER.toDomain(dateTime).orNull()).orNull();
+    }
+
+    @Benchmark
+    public String formatDateTime()
+    {
+        return ODataDateTimeCodec.formatDateTime(localDateTime);
+    }
+
+    @Benchmark
+    public String formatDateTimeViaCalendar()
+    {
+        return DATE_TIME_CONVERTER.fromDomain(LOCAL_DATE_TIME_CONVERTER.toDomain(localDateTime).orNull()).orNull();
+    }
+
+    @Benchmark
+    public ZonedDateTime parseDateTimeOffset()
+    {
+        return ODataDateTimeCodec.parseDateTimeOffset(dateTimeOffset);
+    }
+
+    @Benchmark
+    public ZonedDateTime parseDateTimeOffsetViaCalendar()
+    {
+        final Calendar calendar = DATE_TIME_OFFSET_CONVERTER.toDomain(dateTimeOffset).orNull();
+        return ZONED_DATE_TIME_CONVERTER.fromDomain(calendar).orNull();
+    }
+
+    @Benchmark
+    public String formatDateTimeOffset()
+    {
+        return ODataDateTimeCodec.formatDateTimeOffset(zonedDateTime);
+    }
+
+    @Benchmark
+    public String formatDateTimeOffsetViaCalendar()
+    {
+        final Calendar calendar = ZONED_DATE_TIME_CONVERTER.toDomain(zonedDateTime).orNull();
+        return DATE_TIME_OFFSET_CONVERTER.fromDomain(calendar).orNull();
+    }
+
+    @Benchmark
+    public LocalTime parseTime()
+    {
+        return ODataDateTimeCodec.parseTime(time);
+    }
+
+    @Benchmark
+    public LocalTime parseTimeViaCalendar()
+    {
+        return LOCAL_TIME_CONVERTER.fromDomain(TIME_CONVERTER.toDomain(time).orNull()).orNull();
+    }
+
+    @Benchmark
+    public String formatTime()
+    {
+        return ODataDateTimeCodec.formatTime(localTime);
+    }
+
+    @Benchmark
+    public String formatTimeViaCalendar()
+    {
+        return TIME_CONVERTER.fromDomain(LOCAL_TIME_CONVERTER.toDomain(localTime).orNull()).orNull();
+    }
+}
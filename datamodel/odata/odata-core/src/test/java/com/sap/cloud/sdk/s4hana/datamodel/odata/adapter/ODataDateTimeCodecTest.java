@@ -0,0 +1,219 @@
+package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ODataDateTimeCodecTest
+{
+    private static final ODataDateTimeStringCalendarConverter DATE_TIME_CONVERTER =
+        new ODataDateTimeStringCalendarConverter();
+    private static final ODataDateTimeOffsetStringCalendarConverter DATE_TIME_OFFSET_CONVERTER =
+        new ODataDateTimeOffsetStringCalendarConverter();
+    private static final ODataTimeStringCalendarConverter TIME_CONVERTER = new ODataTimeStringCalendarConverter();
+    private static final LocalDateTimeCalendarConverter LOCAL_DATE_TIME_CONVERTER =
+        new LocalDateTimeCalendarConverter();
+    private static final ZonedDateTimeCalendarConverter ZONED_DATE_TIME_CONVERTER =
+        new ZonedDateTimeCalendarConverter();
+    private static final LocalTimeCalendarConverter LOCAL_TIME_CONVERTER = new LocalTimeCalendarConverter();
+
+    private static final List<String> INVALID_DATE_VALUES =
+        Arrays
+            .asList(
+                "",
+                "/Date()/",
+                "/Date(-)/",
+                "/Date(+1)/",
+                "/Date(1+)/",
+                "/Date(1*0060)/",
+                "/Date(1+12345)/",
+                "/Date(１)/",
+                "/Date(100000000000000000000000)/",
+                "Date(1)/",
+                "/Date(1)",
+                "/Date(1)/ ",
+                "2022-04-11T12:47:14.1234567Z");
+
+    @Test
+    void testParseDateTimeMatchesCalendarConversion()
+    {
+        for( final long millis : sampleMillis() ) {
+            final String value = "/Date(" + millis + ")/";
+            assertThat(ODataDateTimeCodec.parseDateTime(value))
+                .describedAs(value)
+                .isEqualTo(parseDateTimeLegacy(value));
+        }
+        for( final String value : INVALID_DATE_VALUES ) {
+            assertThat(ODataDateTimeCodec.parseDateTime(value)).describedAs(value).isNull();
+        }
+        assertThat(ODataDateTimeCodec.parseDateTime("/Date(1+0060)/")).isNull();
+    }
+
+    @Test
+    void testFormatDateTimeMatchesCalendarConversion()
+    {
+        for( final long millis : sampleMillis() ) {
+            final LocalDateTime dateTime = parseDateTimeLegacy("/Date(" + millis + ")/");
+            assertThat(ODataDateTimeCodec.formatDateTime(dateTime))
+                .describedAs(dateTime.toString())
+                .isEqualTo(DATE_TIME_CONVERTER.fromDomain(LOCAL_DATE_TIME_CONVERTER.toDomain(dateTime).get()).get());
+        }
+    }
+
+    @Test
+    void testParseDateTimeOffsetMatchesCalendarConversion()
+    {
+        final List<String> offsets = Arrays.asList("", "+0", "-0000", "+0120", "-0330", "+1080", "-1081", "+1439");
+        for( final long millis : sampleMillis() ) {
+            for( final String offset : offsets ) {
+                final String value = "/Date(" + millis + offset + ")/";
+                assertThat(ODataDateTimeCodec.parseDateTimeOffset(value))
+                    .describedAs(value)
+                    .isEqualTo(parseDateTimeOffsetLegacy(value));
+            }
+        }
+        for( final String value : INVALID_DATE_VALUES ) {
+            assertThat(ODataDateTimeCodec.parseDateTimeOffset(value)).describedAs(value).isNull();
+        }
+        assertThat(ODataDateTimeCodec.parseDateTimeOffset("/Date(1+1440)/")).isNull();
+    }
+
+    @Test
+    void testFormatDateTimeOffsetMatchesCalendarConversion()
+    {
+        final List<ZoneId> zones =
+            Arrays
+                .asList(
+                    ZoneId.of("GMT"),
+                    ZoneId.of("UTC"),
+                    ZoneId.of("GMT+2"),
+                    ZoneOffset.ofHoursMinutes(-3, -30),
+                    ZoneId.of("Europe/Berlin"),
+                    ZoneId.of("America/New_York"),
+                    ZoneId.of("Asia/Kolkata"),
+                    ZoneId.of("Australia/Sydney"));
+        for( final long millis : sampleMillis() ) {
+            for( final ZoneId zone : zones ) {
+                final ZonedDateTime dateTime =
+                    parseDateTimeOffsetLegacy("/Date(" + millis + ")/").withZoneSameInstant(zone);
+                final Calendar calendar = ZONED_DATE_TIME_CONVERTER.toDomain(dateTime).get();
+                assertThat(ODataDateTimeCodec.formatDateTimeOffset(dateTime))
+                    .describedAs(dateTime.toString())
+                    .isEqualTo(DATE_TIME_OFFSET_CONVERTER.fromDomain(calendar).get());
+            }
+        }
+    }
+
+    @Test
+    void testParseTimeMatchesCalendarConversion()
+    {
+        final List<String> values =
+            Arrays
+                .asList(
+                    "PT13H20M",
+                    "PT22M",
+                    "PT15H",
+                    "PT54S",
+                    "PT54.123S",
+                    "PT54.120000S",
+                    "PT54.0S",
+                    "PT1H2M3.4S",
+                    "PT25H",
+                    "PT90M",
+                    "PT9999M",
+                    "PT99999S",
+                    "P11Y22M33DT13H22M12.345S",
+                    "P11Y22M33DT",
+                    "P1DT1H",
+                    "P1MT",
+                    "PT",
+                    "P",
+                    "",
+                    "T1H",
+                    "PX",
+                    "PT1.1234S",
+                    "PT1.S",
+                    "PT.5S",
+                    "PT123H",
+                    "PT12345M",
+                    "PT123456S",
+                    "P123YT1H",
+                    "PT1H1H",
+                    "PT1M1H",
+                    "PT1S1M",
+                    "P1DT1HX",
+                    "P1D1YT1H",
+                    "PT1H ");
+        for( final String value : values ) {
+            assertThat(ODataDateTimeCodec.parseTime(value)).describedAs(value).isEqualTo(parseTimeLegacy(value));
+        }
+    }
+
+    @Test
+    void testFormatTimeMatchesCalendarConversion()
+    {
+        final Random random = new Random(42);
+        for( int i = 0; i < 1000; i++ ) {
+            final LocalTime time = LocalTime.ofNanoOfDay((long) (random.nextDouble() * LocalTime.MAX.toNanoOfDay()));
+            assertThat(ODataDateTimeCodec.formatTime(time))
+                .describedAs(time.toString())
+                .isEqualTo(TIME_CONVERTER.fromDomain(LOCAL_TIME_CONVERTER.toDomain(time).get()).get());
+        }
+        assertThat(ODataDateTimeCodec.formatTime(LocalTime.MIDNIGHT)).isEqualTo("PT0H0M0S");
+        assertThat(ODataDateTimeCodec.formatTime(LocalTime.of(14, 54, 32, 120000000))).isEqualTo("PT14H54M32.12S");
+    }
+
+    private static List<Long> sampleMillis()
+    {
+        final List<Long> result =
+            new ArrayList<>(
+                Arrays
+                    .asList(
+                        0L,
+                        1L,
+                        -1L,
+                        999L,
+                        -999L,
+                        1649669575192L,
+                        253402300799999L, // 9999-12-31T23:59:59.999
+                        -62135596800000L, // 0001-01-01T00:00:00.000
+                        -12219292800001L, // one millisecond before the Gregorian cutover
+                        -12219292800000L, // Gregorian cutover
+                        Long.MAX_VALUE / 2,
+                        Long.MIN_VALUE / 2));
+        final Random random = new Random(42);
+        for( int i = 0; i < 1000; i++ ) {
+            result.add((long) (random.nextDouble() * 253402300799999L * 2) - 253402300799999L);
+        }
+        return result;
+    }
+
+    private static LocalDateTime parseDateTimeLegacy( final String value )
+    {
+        final Calendar calendar = DATE_TIME_CONVERTER.toDomain(value).orNull();
+        return LOCAL_DATE_TIME_CONVERTER.fromDomain(calendar).orNull();
+    }
+
+    private static ZonedDateTime parseDateTimeOffsetLegacy( final String value )
+    {
+        final Calendar calendar = DATE_TIME_OFFSET_CONVERTER.toDomain(value).orNull();
+        return ZONED_DATE_TIME_CONVERTER.fromDomain(calendar).orNull();
+    }
+
+    private static LocalTime parseTimeLegacy( final String value )
+    {
+        final Calendar calendar = TIME_CONVERTER.toDomain(value).orNull();
+        return LOCAL_TIME_CONVERTER.fromDomain(calendar).orNull();
+    }
+}
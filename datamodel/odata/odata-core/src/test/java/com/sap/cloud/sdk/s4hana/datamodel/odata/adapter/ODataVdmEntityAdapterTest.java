@@ -0,0 +1,82 @@
+package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sap.cloud.sdk.datamodel.odata.helper.TestVdmEntity;
+
+import lombok.SneakyThrows;
+
+class ODataVdmEntityAdapterTest
+{
+    private static final Gson GSON = new Gson();
+
+    private static final String ENTITY_JSON = """
+        {
+          "__metadata": { "etag": "W/\\"42\\"" },
+          "IntegerValue": 42,
+          "StringValue": "foo",
+          "BooleanValue": true,
+          "to_Children": { "results": [ { "IntegerValue": 1 }, { "IntegerValue": 2 } ] },
+          "CustomField": "bar"
+        }
+        """;
+
+    @Test
+    void testRead()
+    {
+        final TestVdmEntity entity = GSON.fromJson(ENTITY_JSON, TestVdmEntity.class);
+
+        assertThat(entity.getIntegerValue()).isEqualTo(42);
+        assertThat(entity.getStringValue()).isEqualTo("foo");
+        assertThat(entity.getBooleanValue()).isTrue();
+        assertThat(entity.getVersionIdentifier()).containsExactly("W/\"42\"");
+        assertThat(entity.getToChildrenIfPresent().get())
+            .extracting(TestVdmEntity::getIntegerValue)
+            .containsExactly(1, 2);
+        assertThat(entity.getCustomFields()).containsEntry("CustomField", "bar");
+    }
+
+    @Test
+    void testWrite()
+    {
+        final TestVdmEntity entity = TestVdmEntity.builder().integerValue(42).stringValue("foo").build();
+        entity.setCustomField("CustomField", "bar");
+
+        final JsonObject json = GSON.toJsonTree(entity).getAsJsonObject();
+
+        assertThat(json.get("IntegerValue").getAsInt()).isEqualTo(42);
+        assertThat(json.get("StringValue").getAsString()).isEqualTo("foo");
+        assertThat(json.get("CustomField").getAsString()).isEqualTo("bar");
+    }
+
+    @Test
+    @SneakyThrows
+    void testConcurrentReadsWithSharedAdapter()
+    {
+        final Callable<TestVdmEntity> read = () -> GSON.fromJson(ENTITY_JSON, TestVdmEntity.class);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<TestVdmEntity>> reads =
+                IntStream.range(0, 100).mapToObj(i -> read).collect(Collectors.toList());
+
+            for( final Future<TestVdmEntity> result : executor.invokeAll(reads) ) {
+                assertThat(result.get()).isEqualTo(read.call());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
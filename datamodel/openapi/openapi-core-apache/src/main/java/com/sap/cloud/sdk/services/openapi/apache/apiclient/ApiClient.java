@@ -16,9 +16,9 @@ import static com.sap.cloud.sdk.services.openapi.apache.apiclient.DefaultApiResp
 import static lombok.AccessLevel.PRIVATE;
 import static org.apache.hc.core5.http.HttpHeaders.CONTENT_ENCODING;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -30,7 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.zip.GZIPOutputStream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -39,10 +42,13 @@ import org.apache.hc.client5.http.entity.UrlEncodedFormEntity;
 import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.FileEntity;
@@ -52,10 +58,10 @@ import org.apache.hc.core5.http.message.BasicNameValuePair;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -63,6 +69,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.ApacheHttpClient5Accessor;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
+import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationProperty;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
 import com.sap.cloud.sdk.services.openapi.apache.core.OpenApiRequestException;
 import com.sap.cloud.sdk.services.openapi.apache.core.OpenApiResponseListener;
 
@@ -71,7 +80,6 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.With;
-import lombok.val;
 
 /**
  * API client for executing HTTP requests using Apache HttpClient 5.
@@ -101,10 +109,18 @@ public class ApiClient
     @Nullable
     private final OpenApiResponseListener openApiResponseListener;
 
+    @Nullable
+    private final String destinationName;
+
     // Methods that can have a request body
     private static final Set<Method> BODY_METHODS = Set.of(Method.POST, Method.PUT, Method.PATCH, Method.DELETE);
     private static final String DEFAULT_BASE_PATH = "http://localhost";
 
+    // shared across all instances, so that the (de)serializers resolved by Jackson are cached only once
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = createDefaultObjectMapper();
+    private static final StackWalker STACK_WALKER =
+        StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     /**
      * Creates an ApiClient instance from an existing HttpClient.
      *
@@ -115,7 +131,7 @@ public class ApiClient
     @Nonnull
     public static ApiClient fromHttpClient( @Nonnull final CloseableHttpClient httpClient )
     {
-        return new ApiClient(httpClient, DEFAULT_BASE_PATH, createDefaultObjectMapper(), null, null);
+        return new ApiClient(httpClient, DEFAULT_BASE_PATH, DEFAULT_OBJECT_MAPPER, null, null, null);
     }
 
     /**
@@ -128,9 +144,13 @@ public class ApiClient
     @Nonnull
     public static ApiClient create( @Nonnull final Destination destination )
     {
-        return fromHttpClient((CloseableHttpClient) ApacheHttpClient5Accessor.getHttpClient(destination))
-            .withBasePath(destination.asHttp().getUri().toString());
-
+        return new ApiClient(
+            (CloseableHttpClient) ApacheHttpClient5Accessor.getHttpClient(destination),
+            destination.asHttp().getUri().toString(),
+            DEFAULT_OBJECT_MAPPER,
+            null,
+            null,
+            destination.get(DestinationProperty.NAME).getOrNull());
     }
 
     /**
@@ -470,6 +490,191 @@ public class ApiClient
         @Nonnull final String contentType,
         @Nonnull final TypeReference<T> returnType )
         throws OpenApiRequestException
+    {
+        final ClassicHttpRequest request =
+            buildRequest(
+                path,
+                method,
+                queryParams,
+                collectionQueryParams,
+                urlQueryDeepObject,
+                body,
+                headerParams,
+                formParams,
+                accept,
+                contentType);
+
+        final HttpClientResponseHandler<T> defaultHandler =
+            new DefaultApiResponseHandler<>(objectMapper, tempFolderPath, returnType, openApiResponseListener);
+
+        final RequestTimingRecorder timing =
+            RequestTimingRecorder.start(destinationName, () -> getInvokingApiMethod(request.getMethod()));
+        final long beginExecute = System.nanoTime();
+        final HttpClientResponseHandler<T> responseHandler = response -> {
+            // the request body is streamed to the connection, so its serialization is part of the time to first byte
+            timing.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, beginExecute);
+            if( response.getEntity() != null ) {
+                timing.recordResponseSize(response.getEntity().getContentLength());
+            }
+            final long beginDeserialization = System.nanoTime();
+            final T result = defaultHandler.handleResponse(response);
+            timing.recordSince(RequestTimingPhase.DESERIALIZATION, beginDeserialization);
+            return result;
+        };
+
+        try {
+            final T result = httpClient.execute(request, HttpClientContext.create(), responseHandler);
+            timing.finish(false);
+            return result;
+        }
+        catch( IOException e ) {
+            throw new OpenApiRequestException(e);
+        }
+        finally {
+            timing.finish(true);
+        }
+    }
+
+    /**
+     * Determines the method of the generated API class which invokes this client, e.g. {@code SodasApi.getSodaById}.
+     * In contrast to the request path, it does not contain the values of path parameters and therefore has a low
+     * cardinality, as required for the operation of a request timing.
+     */
+    @Nonnull
+    private static String getInvokingApiMethod( @Nonnull final String fallback )
+    {
+        return STACK_WALKER
+            .walk(
+                frames -> frames
+                    .filter(frame -> !ApiClient.class.isAssignableFrom(frame.getDeclaringClass()))
+                    .filter(frame -> frame.getDeclaringClass() != RequestTimingRecorder.class)
+                    .findFirst())
+            .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+            .orElse(fallback);
+    }
+
+    /**
+     * Invoke API by sending HTTP request with the given options and stream the elements of the JSON array in the
+     * response body.
+     * <p>
+     * In contrast to {@link #invokeAPI}, the response body is not deserialized as a whole. Instead, the elements of the
+     * top-level JSON array are deserialized one by one while consuming the returned stream. This keeps the memory
+     * consumption constant for large responses. If the response body is a single JSON value instead of an array, the
+     * stream contains that value only. An empty response body results in an empty stream.
+     * <p>
+     * The HTTP connection remains allocated until the stream is closed. Therefore, the returned stream <b>must</b> be
+     * closed, preferably via try-with-resources.
+     *
+     * @param <T>
+     *            Type of the array elements
+     * @param path
+     *            The sub-path of the HTTP URL
+     * @param method
+     *            The request method, one of "GET", "POST", "PUT", and "DELETE"
+     * @param queryParams
+     *            The query parameters
+     * @param collectionQueryParams
+     *            The collection query parameters
+     * @param urlQueryDeepObject
+     *            A URL query string for deep object parameters
+     * @param body
+     *            The request body object - if it is not binary, otherwise null
+     * @param headerParams
+     *            The header parameters
+     * @param formParams
+     *            The form parameters
+     * @param accept
+     *            The request's Accept header
+     * @param contentType
+     *            The request's Content-Type header
+     * @param elementType
+     *            Type of the array elements
+     * @return The stream of the deserialized array elements, which must be closed after use
+     * @throws OpenApiRequestException
+     *             API exception. Errors while consuming the stream are thrown as {@link RuntimeException}.
+     * @since 5.33.0
+     */
+    @Beta
+    @Nonnull
+    public <T> Stream<T> invokeAPIAsStream(
+        @Nonnull final String path,
+        @Nonnull final String method,
+        @Nullable final List<Pair> queryParams,
+        @Nullable final List<Pair> collectionQueryParams,
+        @Nullable final String urlQueryDeepObject,
+        @Nullable final Object body,
+        @Nonnull final Map<String, String> headerParams,
+        @Nonnull final Map<String, Object> formParams,
+        @Nullable final String accept,
+        @Nonnull final String contentType,
+        @Nonnull final TypeReference<T> elementType )
+        throws OpenApiRequestException
+    {
+        final ClassicHttpRequest request =
+            buildRequest(
+                path,
+                method,
+                queryParams,
+                collectionQueryParams,
+                urlQueryDeepObject,
+                body,
+                headerParams,
+                formParams,
+                accept,
+                contentType);
+
+        final ClassicHttpResponse response;
+        try {
+            response = httpClient.executeOpen(null, request, HttpClientContext.create());
+        }
+        catch( IOException e ) {
+            throw new OpenApiRequestException(e);
+        }
+
+        final MappingIterator<T> iterator;
+        try {
+            iterator =
+                new DefaultApiResponseHandler<>(objectMapper, tempFolderPath, elementType, openApiResponseListener)
+                    .readValues(response);
+        }
+        catch( IOException | ParseException | RuntimeException e ) {
+            final OpenApiRequestException exception =
+                e instanceof OpenApiRequestException requestException
+                    ? requestException
+                    : new OpenApiRequestException(e);
+            try {
+                response.close();
+            }
+            catch( final IOException closeException ) {
+                exception.addSuppressed(closeException);
+            }
+            throw exception;
+        }
+
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try( response; iterator ) {
+                // closing the iterator first, then the response to release the connection
+            }
+            catch( final IOException e ) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Nonnull
+    private ClassicHttpRequest buildRequest(
+        @Nonnull final String path,
+        @Nonnull final String method,
+        @Nullable final List<Pair> queryParams,
+        @Nullable final List<Pair> collectionQueryParams,
+        @Nullable final String urlQueryDeepObject,
+        @Nullable final Object body,
+        @Nonnull final Map<String, String> headerParams,
+        @Nonnull final Map<String, Object> formParams,
+        @Nullable final String accept,
+        @Nonnull final String contentType )
+        throws OpenApiRequestException
     {
         if( body != null && !formParams.isEmpty() ) {
             throw new OpenApiRequestException("Cannot have body and form params");
@@ -487,13 +692,12 @@ public class ApiClient
             builder.addHeader(keyValue.getKey(), keyValue.getValue());
         }
 
-        final HttpClientContext context = HttpClientContext.create();
-
         final ContentType contentTypeObj = getContentType(contentType);
         if( body != null || !formParams.isEmpty() ) {
-            if( isBodyAllowed(Method.valueOf(method)) ) {
+            final Method httpMethod = Method.valueOf(method);
+            if( isBodyAllowed(httpMethod) ) {
                 // Add entity if we have content and a valid method
-                builder.setEntity(serialize(body, formParams, contentTypeObj, headerParams));
+                builder.setEntity(serialize(body, formParams, contentTypeObj, headerParams, httpMethod));
             } else {
                 throw new OpenApiRequestException("method " + method + " does not support a request body");
             }
@@ -501,15 +705,7 @@ public class ApiClient
             // for empty body
             builder.setEntity(new StringEntity("", contentTypeObj));
         }
-
-        try {
-            final HttpClientResponseHandler<T> responseHandler =
-                new DefaultApiResponseHandler<>(objectMapper, tempFolderPath, returnType, openApiResponseListener);
-            return httpClient.execute(builder.build(), context, responseHandler);
-        }
-        catch( IOException e ) {
-            throw new OpenApiRequestException(e);
-        }
+        return builder.build();
     }
 
     /**
@@ -523,6 +719,8 @@ public class ApiClient
      *            Form parameters
      * @param headerParams
      *            Header parameters, used to check content encoding for JSON serialization
+     * @param method
+     *            HTTP method, used to check whether a JSON request body must be repeatable
      * @return Object
      * @throws OpenApiRequestException
      *             API exception
@@ -532,12 +730,13 @@ public class ApiClient
         @Nullable final Object body,
         @Nonnull final Map<String, Object> formParams,
         @Nonnull final ContentType contentType,
-        @Nonnull final Map<String, String> headerParams )
+        @Nonnull final Map<String, String> headerParams,
+        @Nonnull final Method method )
         throws OpenApiRequestException
     {
         final String mimeType = contentType.getMimeType();
         if( isJsonMime(mimeType) ) {
-            return serializeJson(body, contentType, headerParams);
+            return serializeJson(body, contentType, headerParams, method);
         } else if( mimeType.equals(ContentType.MULTIPART_FORM_DATA.getMimeType()) ) {
             return serializeMultipart(formParams, contentType);
         } else if( mimeType.equals(ContentType.APPLICATION_FORM_URLENCODED.getMimeType()) ) {
@@ -554,31 +753,14 @@ public class ApiClient
     private HttpEntity serializeJson(
         @Nullable final Object body,
         @Nonnull final ContentType contentType,
-        @Nonnull final Map<String, String> headerParams )
-        throws OpenApiRequestException
+        @Nonnull final Map<String, String> headerParams,
+        @Nonnull final Method method )
     {
-        if( "gzip".equalsIgnoreCase(headerParams.get(CONTENT_ENCODING))
-            || "gzip".equalsIgnoreCase(headerParams.get(CONTENT_ENCODING.toLowerCase())) ) {
-            val outputStream = new ByteArrayOutputStream();
-            try( val gzip = new GZIPOutputStream(outputStream) ) {
-                gzip.write(objectMapper.writeValueAsBytes(body));
-            }
-            catch( IOException e ) {
-                throw new OpenApiRequestException("Failed to GZIP compress request body", e);
-            }
-            return new ByteArrayEntity(
-                outputStream.toByteArray(),
-                contentType.withCharset(StandardCharsets.UTF_8),
-                "gzip");
-        }
-        try {
-            return new StringEntity(
-                objectMapper.writeValueAsString(body),
-                contentType.withCharset(StandardCharsets.UTF_8));
-        }
-        catch( JsonProcessingException e ) {
-            throw new OpenApiRequestException(e);
-        }
+        final boolean gzip =
+            "gzip".equalsIgnoreCase(headerParams.get(CONTENT_ENCODING))
+                || "gzip".equalsIgnoreCase(headerParams.get(CONTENT_ENCODING.toLowerCase()));
+        // the HTTP client retries requests after I/O errors only if they are idempotent
+        return new JsonHttpEntity(objectMapper, body, contentType, gzip, method.isIdempotent());
     }
 
     @Nonnull
@@ -14,7 +14,12 @@ package com.sap.cloud.sdk.services.openapi.apache.apiclient;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -42,7 +47,9 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.message.StatusLine;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.sap.cloud.sdk.services.openapi.apache.core.OpenApiRequestException;
 import com.sap.cloud.sdk.services.openapi.apache.core.OpenApiResponse;
 import com.sap.cloud.sdk.services.openapi.apache.core.OpenApiResponseListener;
@@ -123,12 +130,64 @@ class DefaultApiResponseHandler<T> implements HttpClientResponseHandler<T>
         if( isSuccessfulStatus(statusCode) ) {
             return deserialize(response);
         } else {
-            final String message = new StatusLine(response).toString();
-            throw new OpenApiRequestException(message)
+            throw createErrorResponseException(response, headers);
+        }
+    }
+
+    /**
+     * Processes the HTTP response and returns an iterator over the elements of the JSON array in the response body. The
+     * elements are deserialized one by one while iterating, so the response body is never held in memory as a whole.
+     * If the response body is a single JSON value instead of an array, the iterator returns that value only.
+     * <p>
+     * The caller is responsible for closing both the returned iterator and the response.
+     *
+     * @param response
+     *            The HTTP response to process
+     * @return The iterator over the deserialized elements
+     * @throws OpenApiRequestException
+     *             if the response indicates an error or is not a JSON response
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws ParseException
+     *             if response parsing fails
+     */
+    @Nonnull
+    MappingIterator<T> readValues( @Nonnull final ClassicHttpResponse response )
+        throws OpenApiRequestException,
+            IOException,
+            ParseException
+    {
+        final int statusCode = response.getCode();
+        final Map<String, List<String>> headers = transformResponseHeaders(response.getHeaders());
+        if( openApiResponseListener != null ) {
+            openApiResponseListener.onResponse(new OpenApiResponse(statusCode, headers));
+        }
+
+        if( !isSuccessfulStatus(statusCode) ) {
+            throw createErrorResponseException(response, headers);
+        }
+
+        final String mimeType = getResponseMimeType(response);
+        if( mimeType != null && !isJsonMime(mimeType) ) {
+            throw new OpenApiRequestException(
+                "Streaming deserialization for content type '" + mimeType + "' not supported")
                 .statusCode(statusCode)
                 .responseHeaders(headers)
                 .responseBody(EntityUtils.toString(response.getEntity()));
         }
+
+        final HttpEntity entity = response.getEntity();
+        final InputStream content = statusCode == HttpStatus.SC_NO_CONTENT ? null : getNonEmptyContent(entity);
+        if( content == null ) {
+            return MappingIterator.emptyIterator();
+        }
+
+        final ObjectReader reader = objectMapper.readerFor(returnType);
+        final Charset charset = getCharset(entity);
+        if( charset == null || StandardCharsets.UTF_8.equals(charset) ) {
+            return reader.readValues(content);
+        }
+        return reader.readValues(new InputStreamReader(content, charset));
     }
 
     /**
@@ -168,14 +227,17 @@ class DefaultApiResponseHandler<T> implements HttpClientResponseHandler<T>
         final String mimeType = getResponseMimeType(response);
         if( mimeType == null || isJsonMime(mimeType) ) {
             // Assume json if no mime type
-            // convert input stream to string
-            final String content = EntityUtils.toString(entity);
-
-            if( "".equals(content) ) { // returns null for empty body
+            // parse the input stream directly, without reading the body into a string first
+            final InputStream content = getNonEmptyContent(entity);
+            if( content == null ) { // returns null for empty body
                 return null;
             }
 
-            return objectMapper.readValue(content, returnType);
+            final Charset charset = getCharset(entity);
+            if( charset == null || StandardCharsets.UTF_8.equals(charset) ) {
+                return objectMapper.readValue(content, returnType);
+            }
+            return objectMapper.readValue(new InputStreamReader(content, charset), returnType);
         } else if( mimeType.toLowerCase().startsWith("text/") ) {
             // convert input stream to string
             return (T) EntityUtils.toString(entity);
@@ -189,6 +251,75 @@ class DefaultApiResponseHandler<T> implements HttpClientResponseHandler<T>
         }
     }
 
+    /**
+     * Creates the exception for an HTTP response with an error status code.
+     *
+     * @param response
+     *            The HTTP response indicating the error
+     * @param headers
+     *            The response headers
+     * @return The exception containing the status code, headers and body of the response
+     * @throws IOException
+     *             if an I/O error occurs while reading the response body
+     * @throws ParseException
+     *             if response parsing fails
+     */
+    @Nonnull
+    private static OpenApiRequestException createErrorResponseException(
+        @Nonnull final ClassicHttpResponse response,
+        @Nonnull final Map<String, List<String>> headers )
+        throws IOException,
+            ParseException
+    {
+        final String message = new StatusLine(response).toString();
+        final HttpEntity entity = response.getEntity();
+        return new OpenApiRequestException(message)
+            .statusCode(response.getCode())
+            .responseHeaders(headers)
+            .responseBody(entity == null ? null : EntityUtils.toString(entity));
+    }
+
+    /**
+     * Gets the content of the given entity, without consuming any of it if the content is not empty.
+     *
+     * @param entity
+     *            The HTTP entity (may be null)
+     * @return The content of the entity, or null if there is no entity or the content is empty
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    @Nullable
+    private static InputStream getNonEmptyContent( @Nullable final HttpEntity entity )
+        throws IOException
+    {
+        final InputStream content = entity == null ? null : entity.getContent();
+        if( content == null ) {
+            return null;
+        }
+        final PushbackInputStream result = new PushbackInputStream(content, 1);
+        final int firstByte = result.read();
+        if( firstByte == -1 ) {
+            result.close();
+            return null;
+        }
+        result.unread(firstByte);
+        return result;
+    }
+
+    /**
+     * Gets the charset declared in the Content-Type of the given entity.
+     *
+     * @param entity
+     *            The HTTP entity
+     * @return The declared charset, or null if none is declared
+     */
+    @Nullable
+    private static Charset getCharset( @Nonnull final HttpEntity entity )
+    {
+        final ContentType contentType = ContentType.parseLenient(entity.getContentType());
+        return contentType == null ? null : contentType.getCharset();
+    }
+
     /**
      * Downloads a file from the HTTP response.
      *
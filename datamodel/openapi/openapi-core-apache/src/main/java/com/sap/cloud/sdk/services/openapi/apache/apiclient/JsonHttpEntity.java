@@ -0,0 +1,171 @@
+package com.sap.cloud.sdk.services.openapi.apache.apiclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sap.cloud.sdk.services.openapi.apache.core.NonRepeatableRequestException;
+
+/**
+ * HTTP entity that serializes an object to JSON directly into the output stream of the connection, optionally GZIP
+ * compressed. The request body is sent with chunked transfer encoding and is never held in memory as a whole.
+ * <p>
+ * A repeatable entity serializes the object again on every invocation of {@link #writeTo(OutputStream)}, which allows
+ * the HTTP client to retry the request without buffering the serialized body. A non-repeatable entity can only be
+ * written once, any further attempt fails with a {@link NonRepeatableRequestException}.
+ * <p>
+ * As the object is serialized while the request is sent, serialization errors are thrown as {@link IOException} by
+ * {@link #writeTo(OutputStream)}, after parts of the request body may already have been sent.
+ */
+class JsonHttpEntity extends AbstractHttpEntity
+{
+    private static final String GZIP = "gzip";
+    private static final int BUFFER_SIZE = 8192;
+
+    // magic number, compression method, flags, modification time, extra flags and OS as written by GZIPOutputStream
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    @Nonnull
+    private final ObjectWriter objectWriter;
+
+    @Nullable
+    private final Object body;
+
+    private final boolean gzip;
+
+    private final boolean repeatable;
+
+    private boolean consumed;
+
+    /**
+     * Creates a new entity for the given object.
+     *
+     * @param objectMapper
+     *            The object mapper to serialize the object with
+     * @param body
+     *            The object to serialize
+     * @param contentType
+     *            The content type of the entity, the charset is set to UTF-8
+     * @param gzip
+     *            Whether the serialized object is GZIP compressed
+     * @param repeatable
+     *            Whether the entity can be written more than once, e.g. to retry the request
+     */
+    JsonHttpEntity(
+        @Nonnull final ObjectMapper objectMapper,
+        @Nullable final Object body,
+        @Nonnull final ContentType contentType,
+        final boolean gzip,
+        final boolean repeatable )
+    {
+        super(contentType.withCharset(StandardCharsets.UTF_8), gzip ? GZIP : null, true);
+        // the output stream is closed by the HTTP client after the entity was written
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.body = body;
+        this.gzip = gzip;
+        this.repeatable = repeatable;
+    }
+
+    @Override
+    public void writeTo( @Nonnull final OutputStream outStream )
+        throws IOException
+    {
+        if( !repeatable && consumed ) {
+            throw new NonRepeatableRequestException("The request body is not repeatable and was already written.");
+        }
+        consumed = true;
+
+        if( gzip ) {
+            writeCompressed(outStream);
+        } else {
+            objectWriter.writeValue(outStream, body);
+        }
+        outStream.flush();
+    }
+
+    private void writeCompressed( @Nonnull final OutputStream outStream )
+        throws IOException
+    {
+        // raw deflate format, header and trailer are written by the entity
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            outStream.write(GZIP_HEADER);
+
+            final CRC32 checksum = new CRC32();
+            // the deflater stream is not closed, as this would close the output stream of the connection
+            final DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outStream, deflater, BUFFER_SIZE);
+            objectWriter.writeValue(new CheckedOutputStream(deflaterStream, checksum), body);
+            deflaterStream.finish();
+
+            writeIntLittleEndian(outStream, checksum.getValue());
+            writeIntLittleEndian(outStream, deflater.getBytesRead());
+        }
+        finally {
+            // releases the native memory of the deflater
+            deflater.end();
+        }
+    }
+
+    /**
+     * Serializes the object into memory. Only used by components that read the request body instead of writing it to
+     * the connection, e.g. for logging. A non-repeatable entity can not be written afterwards.
+     */
+    @Nonnull
+    @Override
+    public InputStream getContent()
+        throws IOException
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Override
+    public boolean isRepeatable()
+    {
+        return repeatable;
+    }
+
+    @Override
+    public long getContentLength()
+    {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming()
+    {
+        return false;
+    }
+
+    @Override
+    public void close()
+    {
+        // nothing to release, the object is serialized on demand
+    }
+
+    private static void writeIntLittleEndian( @Nonnull final OutputStream outStream, final long value )
+        throws IOException
+    {
+        outStream.write((int) value & 0xff);
+        outStream.write((int) (value >> 8) & 0xff);
+        outStream.write((int) (value >> 16) & 0xff);
+        outStream.write((int) (value >> 24) & 0xff);
+    }
+}
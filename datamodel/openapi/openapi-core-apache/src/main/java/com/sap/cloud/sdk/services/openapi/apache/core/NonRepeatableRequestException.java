@@ -0,0 +1,27 @@
+package com.sap.cloud.sdk.services.openapi.apache.core;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Thrown if the body of a request is not repeatable and the HTTP client tries to send it a second time, e.g. when
+ * retrying the request or following a redirect.
+ *
+ * @since 5.33.0
+ */
+public class NonRepeatableRequestException extends IOException
+{
+    private static final long serialVersionUID = 4563219781208524617L;
+
+    /**
+     * Thrown if the body of a request is not repeatable and was already sent.
+     *
+     * @param message
+     *            The message of this exception
+     */
+    public NonRepeatableRequestException( @Nonnull final String message )
+    {
+        super(message);
+    }
+}
@@ -9,6 +9,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
@@ -116,6 +118,62 @@ class ApacheApiClientResponseHandlingTest
         verify(1, postRequestedFor(urlEqualTo(TEST_POST_PATH)));
     }
 
+    @Test
+    void testEmptyJsonBody( final WireMockRuntimeInfo wmInfo )
+    {
+        stubFor(
+            get(urlEqualTo(TEST_PATH))
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("")));
+
+        final ApiClient apiClient = ApiClient.create().withBasePath(wmInfo.getHttpBaseUrl());
+
+        assertThat(new TestApi(apiClient).executeRequest()).isNull();
+    }
+
+    @Test
+    void testStreamJsonArray( final WireMockRuntimeInfo wmInfo )
+    {
+        stubFor(
+            get(urlEqualTo(TEST_PATH))
+                .willReturn(
+                    aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"message\": \"first\"}, {\"message\": \"second\"}]")));
+
+        final ApiClient apiClient = ApiClient.create().withBasePath(wmInfo.getHttpBaseUrl());
+
+        try( Stream<TestResponse> result = new TestApi(apiClient).executeStreamRequest() ) {
+            assertThat(result).extracting(TestResponse::getMessage).containsExactly("first", "second");
+        }
+    }
+
+    @Test
+    void testStreamEmptyBody( final WireMockRuntimeInfo wmInfo )
+    {
+        stubFor(get(urlEqualTo(TEST_PATH)).willReturn(aResponse().withStatus(200).withBody("")));
+
+        final ApiClient apiClient = ApiClient.create().withBasePath(wmInfo.getHttpBaseUrl());
+
+        try( Stream<TestResponse> result = new TestApi(apiClient).executeStreamRequest() ) {
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Test
+    void testStreamErrorResponse( final WireMockRuntimeInfo wmInfo )
+    {
+        stubFor(get(urlEqualTo(TEST_PATH)).willReturn(aResponse().withStatus(500).withBody("failure")));
+
+        final ApiClient apiClient = ApiClient.create().withBasePath(wmInfo.getHttpBaseUrl());
+
+        assertThatThrownBy(new TestApi(apiClient)::executeStreamRequest)
+            .isInstanceOfSatisfying(OpenApiRequestException.class, e -> {
+                assertThat(e.statusCode()).isEqualTo(500);
+                assertThat(e.responseBody()).isEqualTo("failure");
+            });
+    }
+
     private static class TestApi extends BaseApi
     {
         private final String path;
@@ -163,6 +221,34 @@ class ApacheApiClientResponseHandlingTest
                     localVarContentType,
                     localVarReturnType);
         }
+
+        Stream<TestResponse> executeStreamRequest()
+            throws OpenApiRequestException
+        {
+            final String[] localVarAccepts = { "application/json" };
+            final String localVarAccept = ApiClient.selectHeaderAccept(localVarAccepts);
+
+            final String[] localVarContentTypes = {};
+            final String localVarContentType = ApiClient.selectHeaderContentType(localVarContentTypes);
+
+            final TypeReference<TestResponse> localVarElementType = new TypeReference<>()
+            {
+            };
+
+            return apiClient
+                .invokeAPIAsStream(
+                    path,
+                    "GET",
+                    new ArrayList<>(),
+                    new ArrayList<>(),
+                    null,
+                    null,
+                    new HashMap<>(),
+                    new HashMap<>(),
+                    localVarAccept,
+                    localVarContentType,
+                    localVarElementType);
+        }
     }
 
     private static class TestPostApi extends BaseApi
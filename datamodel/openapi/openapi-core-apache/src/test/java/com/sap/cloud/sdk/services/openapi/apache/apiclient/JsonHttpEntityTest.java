@@ -0,0 +1,102 @@
+package com.sap.cloud.sdk.services.openapi.apache.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.hc.core5.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.cloud.sdk.services.openapi.apache.core.NonRepeatableRequestException;
+
+import lombok.SneakyThrows;
+
+class JsonHttpEntityTest
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Map<String, Object> BODY = Map.of("message", "Hello, World!");
+
+    @Test
+    @SneakyThrows
+    void testWriteTo()
+    {
+        final JsonHttpEntity entity = new JsonHttpEntity(OBJECT_MAPPER, BODY, ContentType.APPLICATION_JSON, false, true);
+
+        assertThat(entity.isChunked()).isTrue();
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(entity.isStreaming()).isFalse();
+        assertThat(entity.getContentLength()).isEqualTo(-1);
+        assertThat(entity.getContentEncoding()).isNull();
+        assertThat(entity.getContentType()).isEqualTo("application/json; charset=UTF-8");
+
+        // repeatable: every invocation writes the complete body
+        assertThat(write(entity)).isEqualTo("{\"message\":\"Hello, World!\"}");
+        assertThat(write(entity)).isEqualTo("{\"message\":\"Hello, World!\"}");
+        assertThat(entity.getContent()).hasContent("{\"message\":\"Hello, World!\"}");
+    }
+
+    @Test
+    @SneakyThrows
+    void testWriteToWithGzip()
+    {
+        final JsonHttpEntity entity = new JsonHttpEntity(OBJECT_MAPPER, BODY, ContentType.APPLICATION_JSON, true, true);
+
+        assertThat(entity.getContentEncoding()).isEqualTo("gzip");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+
+        final byte[] decompressed =
+            new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())).readAllBytes();
+        assertThat(new String(decompressed, StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"Hello, World!\"}");
+    }
+
+    @Test
+    @SneakyThrows
+    void testNonRepeatableEntityIsWrittenOnce()
+    {
+        final JsonHttpEntity entity = new JsonHttpEntity(OBJECT_MAPPER, BODY, ContentType.APPLICATION_JSON, true, false);
+
+        assertThat(entity.isRepeatable()).isFalse();
+        assertThat(entity.getContent()).isNotEmpty();
+        assertThatExceptionOfType(NonRepeatableRequestException.class)
+            .isThrownBy(() -> entity.writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testSerializationErrorIsThrownWhileWriting()
+    {
+        final Object body = new Object()
+        {
+            @SuppressWarnings( "unused" )
+            public String getMessage()
+            {
+                throw new IllegalStateException("Not serializable");
+            }
+        };
+
+        for( final boolean gzip : new boolean[] { false, true } ) {
+            final JsonHttpEntity entity =
+                new JsonHttpEntity(OBJECT_MAPPER, body, ContentType.APPLICATION_JSON, gzip, true);
+
+            assertThatExceptionOfType(JsonMappingException.class)
+                .isThrownBy(() -> entity.writeTo(new ByteArrayOutputStream()))
+                .withRootCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @SneakyThrows
+    private static String write( final JsonHttpEntity entity )
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
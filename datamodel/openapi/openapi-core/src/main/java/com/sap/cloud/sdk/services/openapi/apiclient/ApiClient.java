@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.TimeZone;
 
 import javax.annotation.Nonnull;
@@ -27,10 +28,13 @@ import org.springframework.http.RequestEntity.BodyBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.util.UriUtils;
@@ -41,6 +45,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sap.cloud.sdk.cloudplatform.connectivity.ApacheHttpClient5Accessor;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
+import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationProperty;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
 import com.sap.cloud.sdk.services.openapi.apiclient.auth.ApiKeyAuth;
 import com.sap.cloud.sdk.services.openapi.apiclient.auth.Authentication;
 import com.sap.cloud.sdk.services.openapi.apiclient.auth.HttpBasicAuth;
@@ -95,6 +102,12 @@ public final class ApiClient
         }
     }
 
+    // shared across all instances, so that the (de)serializers resolved by Jackson are cached only once
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = newDefaultObjectMapper();
+    private static final List<HttpMessageConverter<?>> DEFAULT_MESSAGE_CONVERTERS = newDefaultMessageConverters();
+    private static final StackWalker STACK_WALKER =
+        StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     private boolean debugging = false;
 
     private final HttpHeaders defaultHeaders = new HttpHeaders();
@@ -103,6 +116,9 @@ public final class ApiClient
 
     private final RestTemplate restTemplate;
 
+    @Nullable
+    private String destinationName;
+
     private Map<String, Authentication> authentications;
 
     private int statusCode;
@@ -141,7 +157,24 @@ public final class ApiClient
      */
     public ApiClient( @Nonnull final Destination destination )
     {
-        this.restTemplate = setRequestFactory(newDefaultRestTemplate(), destination);
+        this(destination, true);
+    }
+
+    /**
+     * Creates an instance of this class given an instance of {@link Destination}. The rest template will ignore getters
+     * and setters names for Jackson properties.
+     *
+     * @param destination
+     *            An instance of {@link Destination}
+     * @param bufferResponses
+     *            Whether response bodies are buffered in memory, so that they can be read repeatedly. Disable the
+     *            buffering to deserialize large responses directly from the response stream.
+     * @since 5.33.0
+     */
+    public ApiClient( @Nonnull final Destination destination, final boolean bufferResponses )
+    {
+        this.restTemplate = setRequestFactory(newDefaultRestTemplate(), destination, bufferResponses);
+        this.destinationName = destination.get(DestinationProperty.NAME).getOrNull();
         init();
     }
 
@@ -721,7 +754,7 @@ public final class ApiClient
 
         final RequestEntity<Object> requestEntity = requestBuilder.body(selectBody(body, formParams, contentType));
 
-        final ResponseEntity<T> responseEntity = restTemplate.exchange(requestEntity, returnType);
+        final ResponseEntity<T> responseEntity = exchange(requestEntity, returnType);
 
         statusCode = responseEntity.getStatusCode().value();
         responseHeaders = responseEntity.getHeaders();
@@ -737,6 +770,68 @@ public final class ApiClient
         }
     }
 
+    /**
+     * Equivalent to {@link RestTemplate#exchange(RequestEntity, ParameterizedTypeReference)}, while recording the
+     * durations of the request phases with a {@link RequestTimingRecorder}.
+     */
+    @Nonnull
+    private <T> ResponseEntity<T> exchange(
+        @Nonnull final RequestEntity<Object> requestEntity,
+        @Nonnull final ParameterizedTypeReference<T> returnType )
+    {
+        final HttpMethod method = Objects.requireNonNull(requestEntity.getMethod(), "HTTP method must not be null.");
+        final RequestTimingRecorder timing =
+            RequestTimingRecorder.start(destinationName, () -> getInvokingApiMethod(method.name()));
+        final long[] beginSend = { System.nanoTime() };
+
+        final RequestCallback entityCallback = restTemplate.httpEntityCallback(requestEntity, returnType.getType());
+        final RequestCallback requestCallback = request -> {
+            final long beginSerialization = System.nanoTime();
+            entityCallback.doWithRequest(request);
+            timing.recordSince(RequestTimingPhase.SERIALIZATION, beginSerialization);
+            beginSend[0] = System.nanoTime();
+        };
+
+        final ResponseExtractor<ResponseEntity<T>> entityExtractor =
+            restTemplate.responseEntityExtractor(returnType.getType());
+        final ResponseExtractor<ResponseEntity<T>> responseExtractor = response -> {
+            timing.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, beginSend[0]);
+            timing.recordResponseSize(response.getHeaders().getContentLength());
+            final long beginDeserialization = System.nanoTime();
+            final ResponseEntity<T> responseEntity = entityExtractor.extractData(response);
+            timing.recordSince(RequestTimingPhase.DESERIALIZATION, beginDeserialization);
+            return responseEntity;
+        };
+
+        try {
+            final ResponseEntity<T> responseEntity =
+                restTemplate.execute(requestEntity.getUrl(), method, requestCallback, responseExtractor);
+            timing.finish(false);
+            return Objects.requireNonNull(responseEntity, "No response entity was extracted.");
+        }
+        finally {
+            timing.finish(true);
+        }
+    }
+
+    /**
+     * Determines the method of the generated API class which invokes this client, e.g. {@code SodasApi.getSodaById},
+     * to be used as operation of the request timing. The request path is not used instead, as it already contains the
+     * values of the path parameters.
+     */
+    @Nonnull
+    private static String getInvokingApiMethod( @Nonnull final String fallback )
+    {
+        return STACK_WALKER
+            .walk(
+                frames -> frames
+                    .filter(frame -> !ApiClient.class.isAssignableFrom(frame.getDeclaringClass()))
+                    .filter(frame -> frame.getDeclaringClass() != RequestTimingRecorder.class)
+                    .findFirst())
+            .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+            .orElse(fallback);
+    }
+
     /**
      * Add headers to the request that is being built
      *
@@ -762,17 +857,21 @@ public final class ApiClient
     @Nonnull
     private static RestTemplate newDefaultRestTemplate()
     {
-        final RestTemplate restTemplate = new RestTemplate();
+        return new RestTemplate(DEFAULT_MESSAGE_CONVERTERS);
+    }
 
-        final ObjectMapper objectMapper = newDefaultObjectMapper();
-        restTemplate
-            .getMessageConverters()
+    @Nonnull
+    private static List<HttpMessageConverter<?>> newDefaultMessageConverters()
+    {
+        // the converters are stateless after their configuration, hence they can be shared by all rest templates
+        final List<HttpMessageConverter<?>> messageConverters = new RestTemplate().getMessageConverters();
+        messageConverters
             .stream()
             .filter(MappingJackson2HttpMessageConverter.class::isInstance)
             .map(MappingJackson2HttpMessageConverter.class::cast)
-            .forEach(converter -> converter.setObjectMapper(objectMapper));
+            .forEach(converter -> converter.setObjectMapper(DEFAULT_OBJECT_MAPPER));
 
-        return restTemplate;
+        return List.copyOf(messageConverters);
     }
 
     @Nonnull
@@ -786,11 +885,12 @@ public final class ApiClient
     }
 
     @Nonnull
-    private static
-        RestTemplate
-        setRequestFactory( @Nonnull final RestTemplate restTemplate, @Nonnull final Destination destination )
+    private static RestTemplate setRequestFactory(
+        @Nonnull final RestTemplate restTemplate,
+        @Nonnull final Destination destination,
+        final boolean bufferResponses )
     {
-        // instantiate template with prepared HttpClient, featuring repeated response reading
+        // instantiate template with prepared HttpClient, optionally featuring repeated response reading
         final HttpComponentsClientHttpRequestFactory httpRequestFactory = new HttpComponentsClientHttpRequestFactory();
 
         try {
@@ -800,7 +900,11 @@ public final class ApiClient
             throw new IllegalStateException("Unable to set the HttpClient for the RestTemplate.", e);
         }
 
-        restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(httpRequestFactory));
+        if( bufferResponses ) {
+            restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(httpRequestFactory));
+        } else {
+            restTemplate.setRequestFactory(httpRequestFactory);
+        }
 
         return restTemplate;
     }
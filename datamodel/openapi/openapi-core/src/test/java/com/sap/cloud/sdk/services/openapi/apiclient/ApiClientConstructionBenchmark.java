@@ -0,0 +1,114 @@
+package com.sap.cloud.sdk.services.openapi.apiclient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Benchmark of creating an {@link ApiClient} and deserializing a response with its object mapper, as done when an
+ * {@link ApiClient} is created per request. It compares the shared default object mapper and message converters to
+ * creating a new {@link RestTemplate} and {@link ObjectMapper} for every instance.
+ * <p>
+ * Run the benchmark after {@code mvn test-compile} with the test classpath of this module:
+ *
+ * <pre>
+ * <code>java -cp &lt;test classpath&gt; org.openjdk.jmh.Main ApiClientConstructionBenchmark</code>
+ * </pre>
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Benchmark )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ApiClientConstructionBenchmark
+{
+    private static final String PAYLOAD = """
+        {
+          "id": "4711",
+          "name": "Product",
+          "description": "A product with a description.",
+          "price": 12.5,
+          "tags": ["new", "popular"]
+        }
+        """;
+
+    @Benchmark
+    public Product sharedObjectMapper()
+        throws IOException
+    {
+        final ApiClient apiClient = new ApiClient();
+        return getObjectMapper(apiClient.getRestTemplate()).readValue(PAYLOAD, Product.class);
+    }
+
+    @Benchmark
+    public Product objectMapperPerInstance()
+        throws IOException
+    {
+        final ObjectMapper objectMapper =
+            new Jackson2ObjectMapperBuilder()
+                .modules(new JavaTimeModule())
+                .visibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.SETTER, JsonAutoDetect.Visibility.NONE)
+                .build();
+        final RestTemplate restTemplate = new RestTemplate();
+        restTemplate
+            .getMessageConverters()
+            .stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .forEach(converter -> converter.setObjectMapper(objectMapper));
+
+        final ApiClient apiClient = new ApiClient(restTemplate);
+        return getObjectMapper(apiClient.getRestTemplate()).readValue(PAYLOAD, Product.class);
+    }
+
+    private static ObjectMapper getObjectMapper( final RestTemplate restTemplate )
+    {
+        return restTemplate
+            .getMessageConverters()
+            .stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .findFirst()
+            .orElseThrow()
+            .getObjectMapper();
+    }
+
+    public static class Product
+    {
+        @JsonProperty( "id" )
+        private String id;
+
+        @JsonProperty( "name" )
+        private String name;
+
+        @JsonProperty( "description" )
+        private String description;
+
+        @JsonProperty( "price" )
+        private double price;
+
+        @JsonProperty( "tags" )
+        private List<String> tags;
+    }
+}
@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
@@ -40,6 +42,33 @@ class ApiClientFromDestinationTest
         assertThatExceptionOfType(IllegalAccessException.class).isThrownBy(springService::foo);
     }
 
+    @Test
+    void testResponseBuffering()
+    {
+        final HttpDestination testDestination = DefaultHttpDestination.builder(SERVER.baseUrl()).build();
+
+        final ApiClient buffered = new ApiClient(testDestination);
+        final ApiClient unbuffered = new ApiClient(testDestination, false);
+
+        assertThat(buffered.getRestTemplate().getRequestFactory())
+            .isInstanceOf(BufferingClientHttpRequestFactory.class);
+        assertThat(unbuffered.getRestTemplate().getRequestFactory())
+            .isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void testMessageConvertersAreShared()
+    {
+        final HttpDestination testDestination = DefaultHttpDestination.builder(SERVER.baseUrl()).build();
+
+        final ApiClient first = new ApiClient(testDestination);
+        final ApiClient second = new ApiClient(testDestination);
+
+        assertThat(first.getRestTemplate()).isNotSameAs(second.getRestTemplate());
+        assertThat(first.getRestTemplate().getMessageConverters())
+            .containsExactlyElementsOf(second.getRestTemplate().getMessageConverters());
+    }
+
     private static class MyTestAbstractOpenApiService extends AbstractOpenApiService
     {
         public MyTestAbstractOpenApiService( final Destination destination )
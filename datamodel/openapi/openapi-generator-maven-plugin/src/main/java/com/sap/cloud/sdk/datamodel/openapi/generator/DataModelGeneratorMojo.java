@@ -149,6 +149,13 @@ public class DataModelGeneratorMojo extends AbstractMojo
     @Parameter( property = "openapi.generate.additionalProperties" )
     private Map<String, String> additionalProperties;
 
+    /**
+     * Defines whether to skip the generation if neither the input specification nor the generator configuration
+     * changed since the last generation. Default is false.
+     */
+    @Parameter( property = "openapi.generate.incremental", defaultValue = "false" )
+    private boolean incremental;
+
     @Override
     public void execute()
         throws MojoExecutionException
@@ -208,6 +215,7 @@ public class DataModelGeneratorMojo extends AbstractMojo
                     .generateApis(generateApis)
                     .typeMappings(parseMapping(typeMappings))
                     .importMappings(parseMapping(importMappings))
+                    .incrementalGeneration(incremental)
                     .build());
     }
 
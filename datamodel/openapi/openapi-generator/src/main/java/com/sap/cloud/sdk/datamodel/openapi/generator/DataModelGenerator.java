@@ -6,8 +6,14 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
@@ -15,6 +21,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.function.IOConsumer;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.GlobalSettings;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sap.cloud.sdk.datamodel.openapi.generator.exception.OpenApiGeneratorException;
@@ -32,7 +39,6 @@ import lombok.extern.slf4j.Slf4j;
 public class DataModelGenerator
 {
     private final ClassPathResourceValidator classPathResourceValidator;
-    private PreprocessingStepOrchestrator preprocessingStepOrchestrator = null;
 
     DataModelGenerator( final ClassPathResourceValidator classPathResourceValidator )
     {
@@ -58,6 +64,16 @@ public class DataModelGenerator
     @Nonnull
     public Try<GenerationResult> generateDataModel( @Nonnull final GenerationConfiguration generationConfiguration )
     {
+        final Option<GenerationManifest> manifest = getManifestIfApplicable(generationConfiguration);
+        final Option<GenerationResult> upToDateResult = manifest.flatMap(GenerationManifest::getUpToDateResult);
+        if( upToDateResult.isDefined() ) {
+            log
+                .info(
+                    "Skipping the generation for \"{}\", as neither the specification nor the configuration changed.",
+                    generationConfiguration.getInputSpec());
+            return Try.success(upToDateResult.get());
+        }
+
         final Try<GenerationResult> codeGenerationTry = invokeCodeGeneration(generationConfiguration);
 
         final Try<Void> metadataGenerationTry =
@@ -77,15 +93,113 @@ public class DataModelGenerator
             return Try.failure(finalCause);
         }
 
+        manifest
+            .forEach(
+                generationManifest -> Try
+                    .run(() -> generationManifest.save(codeGenerationTry.get()))
+                    .onFailure(e -> log.warn("Failed to store the generation manifest.", e)));
         return codeGenerationTry;
     }
 
+    /**
+     * Generates the data models based on the provided generation configurations, processing up to
+     * {@code parallelism} configurations concurrently. The configurations must not generate into the same packages of
+     * the same output directory.
+     *
+     * @param generationConfigurations
+     *            The configurations for the code generation
+     * @param parallelism
+     *            The maximum number of configurations to process concurrently
+     * @return The results of {@link #generateDataModel(GenerationConfiguration)} for each configuration, in the order
+     *         of the given configurations.
+     * @throws IllegalArgumentException
+     *             If {@code parallelism} is less than 1.
+     * @since 5.33.0
+     */
+    @Nonnull
+    public List<Try<GenerationResult>> generateDataModels(
+        @Nonnull final List<GenerationConfiguration> generationConfigurations,
+        final int parallelism )
+    {
+        if( parallelism < 1 ) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, but was " + parallelism + ".");
+        }
+
+        final int threads = Math.min(parallelism, generationConfigurations.size());
+        if( threads <= 1 ) {
+            return generationConfigurations.stream().map(this::generateDataModel).collect(Collectors.toList());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Try<GenerationResult>>> futures = new ArrayList<>();
+            for( final GenerationConfiguration generationConfiguration : generationConfigurations ) {
+                futures.add(executor.submit(() -> generateDataModelInIsolation(generationConfiguration)));
+            }
+
+            final List<Try<GenerationResult>> results = new ArrayList<>();
+            for( final Future<Try<GenerationResult>> future : futures ) {
+                results.add(getResult(future));
+            }
+            return results;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Nonnull
+    private Try<GenerationResult> generateDataModelInIsolation( @Nonnull final GenerationConfiguration configuration )
+    {
+        // the GlobalSettings are inherited from the thread that created the pool thread, i.e. all pool threads would
+        // share and overwrite the same properties. Resetting them gives this thread its own copy of the properties.
+        GlobalSettings.reset();
+        try {
+            return generateDataModel(configuration);
+        }
+        finally {
+            GlobalSettings.reset();
+        }
+    }
+
+    @Nonnull
+    private static Try<GenerationResult> getResult( @Nonnull final Future<Try<GenerationResult>> future )
+    {
+        try {
+            return future.get();
+        }
+        catch( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            return Try.failure(new OpenApiGeneratorException("Interrupted while waiting for the generation.", e));
+        }
+        catch( final ExecutionException e ) {
+            return Try.failure(new OpenApiGeneratorException("Failure in the OpenAPI generator.", e.getCause()));
+        }
+    }
+
+    @Nonnull
+    private Option<GenerationManifest> getManifestIfApplicable( @Nonnull final GenerationConfiguration configuration )
+    {
+        if( !configuration.isIncrementalGeneration() ) {
+            return Option.none();
+        }
+        return Try.of(() -> {
+            assertRequiredFieldsAreFilled(configuration);
+            return GenerationManifest.of(configuration);
+        })
+            .onFailure(e -> log.debug("Incremental generation is not applicable, performing a full generation.", e))
+            .toOption();
+    }
+
     private Try<GenerationResult> invokeCodeGeneration( @Nonnull final GenerationConfiguration generationConfiguration )
     {
         return Try.of(() -> {
             assertRequiredFieldsAreFilled(generationConfiguration);
 
-            final OpenApiSpec inputSpec = performPreProcessingSteps(generationConfiguration);
+            final PreprocessingStepOrchestrator preprocessingStepOrchestrator =
+                new PreprocessingStepOrchestrator(Paths.get(generationConfiguration.getInputSpec()));
+            final OpenApiSpec inputSpec =
+                performPreProcessingSteps(generationConfiguration, preprocessingStepOrchestrator);
 
             final ClientOptInput clientOptInput =
                 GenerationConfigurationConverter
@@ -99,7 +213,7 @@ public class DataModelGenerator
 
             final List<File> generatedFiles = new DefaultGenerator().opts(clientOptInput).generate();
 
-            performPostGenerationSteps(generatedFiles);
+            performPostGenerationSteps(generatedFiles, preprocessingStepOrchestrator);
 
             return new GenerationResult(generatedFiles, getServiceName(inputSpec.getJsonNode()));
         });
@@ -123,17 +237,18 @@ public class DataModelGenerator
     }
 
     @Nonnull
-    private OpenApiSpec performPreProcessingSteps( @Nonnull final GenerationConfiguration generationConfiguration )
+    private OpenApiSpec performPreProcessingSteps(
+        @Nonnull final GenerationConfiguration generationConfiguration,
+        @Nonnull final PreprocessingStepOrchestrator preprocessingStepOrchestrator )
     {
-        this.preprocessingStepOrchestrator =
-            new PreprocessingStepOrchestrator(Paths.get(generationConfiguration.getInputSpec()));
-
         return preprocessingStepOrchestrator
             .enableAnyOfOneOfGeneration(generationConfiguration.isOneOfAnyOfGenerationEnabled())
             .performPreprocessingSteps();
     }
 
-    private void performPostGenerationSteps( @Nonnull final List<File> generatedFiles )
+    private void performPostGenerationSteps(
+        @Nonnull final List<File> generatedFiles,
+        @Nonnull final PreprocessingStepOrchestrator preprocessingStepOrchestrator )
         throws IOException
     {
         removeSwaggerImports(generatedFiles);
@@ -85,14 +85,21 @@ class GenerationConfigurationConverter
 
     private static void setGlobalSettings( @Nonnull final GenerationConfiguration configuration )
     {
+        // the settings are kept per thread, so clear the ones left over from a previous generation
         if( configuration.isGenerateApis() ) {
             GlobalSettings.setProperty(CodegenConstants.APIS, "");
+        } else {
+            GlobalSettings.clearProperty(CodegenConstants.APIS);
         }
         if( configuration.isGenerateModels() ) {
             GlobalSettings.setProperty(CodegenConstants.MODELS, "");
+        } else {
+            GlobalSettings.clearProperty(CodegenConstants.MODELS);
         }
         if( configuration.isDebugModels() ) {
             GlobalSettings.setProperty("debugModels", "true");
+        } else {
+            GlobalSettings.clearProperty("debugModels");
         }
         GlobalSettings.setProperty(CodegenConstants.MODEL_TESTS, Boolean.FALSE.toString());
         GlobalSettings.setProperty(CodegenConstants.MODEL_DOCS, Boolean.FALSE.toString());
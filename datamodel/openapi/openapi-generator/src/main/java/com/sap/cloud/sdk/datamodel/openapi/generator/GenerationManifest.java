@@ -0,0 +1,259 @@
+package com.sap.cloud.sdk.datamodel.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.cloud.sdk.datamodel.openapi.generator.exception.OpenApiGeneratorException;
+import com.sap.cloud.sdk.datamodel.openapi.generator.model.GenerationConfiguration;
+import com.sap.cloud.sdk.datamodel.openapi.generator.model.GenerationResult;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the hash of the input of a code generation together with the generated files in the output directory. This
+ * allows to skip the generation, if neither the input specification (including the files it references) nor the
+ * {@link GenerationConfiguration} changed since the last generation.
+ */
+@Slf4j
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+class GenerationManifest
+{
+    static final String DIRECTORY_NAME = ".openapi-generator-sdk";
+
+    private static final String RESOURCE_VERSION = "version.properties";
+    private static final String KEY_HASH = "hash";
+    private static final String KEY_SERVICE_NAME = "serviceName";
+    private static final String KEY_FILES = "files";
+
+    @Nonnull
+    private final Path outputDirectory;
+
+    @Nonnull
+    private final Path file;
+
+    @Nonnull
+    private final String hash;
+
+    /**
+     * Create the manifest for the given configuration and the current state of its input specification.
+     *
+     * @param configuration
+     *            The configuration with all required fields being filled.
+     * @return The manifest.
+     */
+    @Nonnull
+    static GenerationManifest of( @Nonnull final GenerationConfiguration configuration )
+    {
+        final Path outputDirectory = Paths.get(configuration.getOutputDirectory()).toAbsolutePath();
+
+        // one manifest per input specification and target packages, as they may share the same output directory
+        final MessageDigest keyDigest = newDigest();
+        update(keyDigest, Paths.get(configuration.getInputSpec()).toAbsolutePath().normalize().toString());
+        update(keyDigest, configuration.getApiPackage());
+        update(keyDigest, configuration.getModelPackage());
+        final String key = HexFormat.of().formatHex(keyDigest.digest(), 0, 8);
+
+        final Path file = outputDirectory.resolve(DIRECTORY_NAME).resolve(key + ".properties");
+        return new GenerationManifest(outputDirectory, file, hashInput(configuration));
+    }
+
+    /**
+     * Get the result of the last generation, if it was performed with the same input and all generated files still
+     * exist.
+     *
+     * @return The result of the last generation, or {@code Option.none()} if the generation needs to be performed.
+     */
+    @Nonnull
+    Option<GenerationResult> getUpToDateResult()
+    {
+        if( !Files.isRegularFile(file) ) {
+            return Option.none();
+        }
+
+        final Properties properties = new Properties();
+        try( InputStream stream = Files.newInputStream(file) ) {
+            properties.load(stream);
+        }
+        catch( final IOException e ) {
+            log.info("Unable to read the generation manifest {}. The generation will be performed.", file, e);
+            return Option.none();
+        }
+
+        if( !hash.equals(properties.getProperty(KEY_HASH)) ) {
+            return Option.none();
+        }
+
+        final List<File> files = new ArrayList<>();
+        for( final String relativePath : properties.getProperty(KEY_FILES, "").split(",") ) {
+            if( relativePath.isEmpty() ) {
+                continue;
+            }
+            final File generatedFile = outputDirectory.resolve(relativePath).toFile();
+            if( !generatedFile.isFile() ) {
+                return Option.none();
+            }
+            files.add(generatedFile);
+        }
+        return Option.some(new GenerationResult(files, properties.getProperty(KEY_SERVICE_NAME)));
+    }
+
+    /**
+     * Store the given result of a generation with the input this manifest was created for.
+     *
+     * @param result
+     *            The result of the generation.
+     */
+    void save( @Nonnull final GenerationResult result )
+    {
+        final List<String> files = new ArrayList<>();
+        for( final File generatedFile : result.getGeneratedFiles() ) {
+            final Path relativePath = outputDirectory.relativize(generatedFile.toPath().toAbsolutePath());
+            files.add(relativePath.toString().replace(File.separatorChar, '/'));
+        }
+
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_HASH, hash);
+        properties.setProperty(KEY_FILES, String.join(",", files));
+        result.getServiceName().forEach(serviceName -> properties.setProperty(KEY_SERVICE_NAME, serviceName));
+
+        try {
+            Files.createDirectories(file.getParent());
+            try( OutputStream stream = Files.newOutputStream(file) ) {
+                properties.store(stream, "Generated by the OpenAPI generator of SAP Cloud SDK, do not edit.");
+            }
+        }
+        catch( final IOException e ) {
+            throw new OpenApiGeneratorException("Could not write the generation manifest " + file + ".", e);
+        }
+    }
+
+    @Nonnull
+    private static String hashInput( @Nonnull final GenerationConfiguration configuration )
+    {
+        final MessageDigest digest = newDigest();
+        update(digest, loadGeneratorVersion());
+        update(digest, configuration.getApiPackage());
+        update(digest, configuration.getModelPackage());
+        update(digest, String.valueOf(configuration.getApiMaturity()));
+        update(
+            digest,
+            configuration.useSapCopyrightHeader()
+                ? GenerationConfigurationConverter.SAP_COPYRIGHT_HEADER
+                : configuration.getCopyrightHeader());
+        update(digest, String.valueOf(configuration.isOneOfAnyOfGenerationEnabled()));
+        update(digest, String.valueOf(configuration.isGenerateModels()));
+        update(digest, String.valueOf(configuration.isGenerateApis()));
+        update(digest, String.valueOf(configuration.isDebugModels()));
+        update(digest, sorted(configuration.getAdditionalProperties()));
+        update(digest, sorted(configuration.getTypeMappings()));
+        update(digest, sorted(configuration.getImportMappings()));
+
+        try {
+            updateWithSpecification(digest, Paths.get(configuration.getInputSpec()), new HashSet<>());
+        }
+        catch( final IOException e ) {
+            throw new OpenApiGeneratorException("Could not read the input specification.", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Specifications may reference other local files via "$ref", which are resolved during the generation.
+    private static void updateWithSpecification(
+        @Nonnull final MessageDigest digest,
+        @Nonnull final Path specification,
+        @Nonnull final Set<Path> visited )
+        throws IOException
+    {
+        final ObjectMapper objectMapper = OpenApiSpecUtil.getFileFormat(specification).getObjectMapperSupplier().get();
+        final JsonNode rootNode = OpenApiSpecUtil.getJsonNodeFromInputSpec(objectMapper, specification);
+        update(digest, String.valueOf(rootNode));
+
+        if( rootNode == null || !Files.isRegularFile(specification) ) {
+            return;
+        }
+
+        final Path directory = specification.toAbsolutePath().getParent();
+        for( final String reference : rootNode.findValuesAsText("$ref") ) {
+            final int fragmentStart = reference.indexOf('#');
+            final String location = fragmentStart < 0 ? reference : reference.substring(0, fragmentStart);
+            if( location.isEmpty() || location.contains("://") ) {
+                continue;
+            }
+
+            final Path referencedFile = directory.resolve(location).normalize();
+            if( !visited.add(referencedFile) || !Files.isRegularFile(referencedFile) ) {
+                continue;
+            }
+            if( Try.of(() -> OpenApiSpecUtil.getFileFormat(referencedFile)).isSuccess() ) {
+                updateWithSpecification(digest, referencedFile, visited);
+            } else {
+                digest.update(Files.readAllBytes(referencedFile));
+            }
+        }
+    }
+
+    private static void update( @Nonnull final MessageDigest digest, @Nullable final String value )
+    {
+        digest.update(Objects.toString(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    @Nonnull
+    private static String sorted( @Nonnull final Map<String, String> values )
+    {
+        return new TreeMap<>(values).toString();
+    }
+
+    @Nonnull
+    private static MessageDigest newDigest()
+    {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch( final NoSuchAlgorithmException e ) {
+            throw new OpenApiGeneratorException(e);
+        }
+    }
+
+    @Nullable
+    private static String loadGeneratorVersion()
+    {
+        try( InputStream stream = GenerationManifest.class.getClassLoader().getResourceAsStream(RESOURCE_VERSION) ) {
+            if( stream == null ) {
+                return null;
+            }
+            final Properties properties = new Properties();
+            properties.load(stream);
+            return properties.getProperty("version.sdk");
+        }
+        catch( final IOException e ) {
+            throw new OpenApiGeneratorException("Could not read the generator version.", e);
+        }
+    }
+}
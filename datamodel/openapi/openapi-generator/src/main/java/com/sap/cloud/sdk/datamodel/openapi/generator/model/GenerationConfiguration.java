@@ -67,6 +67,16 @@ public class GenerationConfiguration
     @Singular( ignoreNullCollections = true )
     Map<String, String> importMappings;
 
+    /**
+     * Indicates whether to skip the generation if neither the input specification nor this configuration changed
+     * since the last generation into the same output directory. The state of the last generation is stored in the
+     * output directory.
+     *
+     * @since 5.33.0
+     */
+    @Builder.Default
+    boolean incrementalGeneration = false;
+
     /**
      * Indicates whether to use the default SAP copyright header for generated files.
      *
@@ -7,6 +7,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -389,4 +392,94 @@ class DataModelGeneratorUnitTest
         // assert output directory was created implicitly
         assertThat(outputDirectory.toFile().exists()).isTrue();
     }
+
+    @Test
+    @SneakyThrows
+    void testIncrementalGenerationSkipsUnchangedInput()
+    {
+        final GenerationConfiguration.GenerationConfigurationBuilder configuration =
+            GenerationConfiguration
+                .builder()
+                .inputSpec(INPUT_FILE_PATH)
+                .modelPackage("model")
+                .apiPackage("api")
+                .outputDirectory(outputDirectory.toAbsolutePath().toString())
+                .incrementalGeneration(true);
+
+        final List<File> generatedFiles =
+            new DataModelGenerator().generateDataModel(configuration.build()).get().getGeneratedFiles();
+        final Path generatedFile = generatedFiles.get(0).toPath();
+        Files.writeString(generatedFile, "// modified", StandardOpenOption.APPEND);
+
+        final GenerationResult unchangedResult =
+            new DataModelGenerator().generateDataModel(configuration.build()).get();
+
+        assertThat(unchangedResult.getGeneratedFiles()).containsExactlyInAnyOrderElementsOf(generatedFiles);
+        assertThat(unchangedResult.getServiceName()).contains("Soda Store API");
+        assertThat(generatedFile).content().endsWith("// modified");
+
+        new DataModelGenerator().generateDataModel(configuration.apiMaturity(ApiMaturity.BETA).build()).get();
+
+        assertThat(generatedFile).content().doesNotEndWith("// modified");
+    }
+
+    @Test
+    void testGenerateMultipleDataModelsConcurrently()
+    {
+        final List<GenerationConfiguration> configurations =
+            Stream
+                .of("first", "second", "third")
+                .map(
+                    name -> GenerationConfiguration
+                        .builder()
+                        .inputSpec(INPUT_FILE_PATH)
+                        .modelPackage(name + ".model")
+                        .apiPackage(name + ".api")
+                        .outputDirectory(outputDirectory.toAbsolutePath().toString())
+                        .build())
+                .toList();
+
+        final List<Try<GenerationResult>> results = new DataModelGenerator().generateDataModels(configurations, 3);
+
+        assertThat(results).hasSize(3).allMatch(Try::isSuccess);
+        assertThat(results.get(1).get().getGeneratedFiles())
+            .isNotEmpty()
+            .allMatch(file -> file.getPath().contains("second"));
+    }
+
+    @Test
+    void testGenerateDataModelsWithDifferentGlobalSettingsConcurrently()
+    {
+        final GenerationConfiguration modelsOnly =
+            GenerationConfiguration
+                .builder()
+                .inputSpec(INPUT_FILE_PATH)
+                .modelPackage("models.model")
+                .apiPackage("models.api")
+                .outputDirectory(outputDirectory.toAbsolutePath().toString())
+                .generateApis(false)
+                .build();
+        final GenerationConfiguration apisOnly =
+            GenerationConfiguration
+                .builder()
+                .inputSpec(INPUT_FILE_PATH)
+                .modelPackage("apis.model")
+                .apiPackage("apis.api")
+                .outputDirectory(outputDirectory.toAbsolutePath().toString())
+                .generateModels(false)
+                .build();
+
+        for( int i = 0; i < 3; i++ ) {
+            final List<Try<GenerationResult>> results =
+                new DataModelGenerator().generateDataModels(List.of(modelsOnly, apisOnly), 2);
+
+            assertThat(results).hasSize(2).allMatch(Try::isSuccess);
+            assertThat(results.get(0).get().getGeneratedFiles())
+                .isNotEmpty()
+                .allMatch(file -> file.getPath().contains("models" + File.separator + "model"));
+            assertThat(results.get(1).get().getGeneratedFiles())
+                .isNotEmpty()
+                .allMatch(file -> file.getPath().contains("apis" + File.separator + "api"));
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package com.sap.cloud.sdk.s4hana.connectivity.soap;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.KeyManagementException;
@@ -10,10 +9,10 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.X509Certificate;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -21,14 +20,8 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
-import org.apache.axis2.AxisFault;
 import org.apache.axis2.client.Stub;
-import org.apache.axis2.context.ConfigurationContext;
-import org.apache.axis2.context.ConfigurationContextFactory;
 import org.apache.axis2.databinding.utils.ConverterUtil;
-import org.apache.axis2.description.TransportOutDescription;
-import org.apache.axis2.engine.AxisConfiguration;
-import org.apache.axis2.transport.TransportSender;
 import org.apache.axis2.transport.http.HTTPConstants;
 import org.apache.axis2.transport.http.HttpTransportProperties;
 import org.apache.http.NameValuePair;
@@ -56,6 +49,9 @@ import lombok.extern.slf4j.Slf4j;
  * This class instantiates a service class which extends {@link Stub} from the Axis2 framework and prepares the Axis2
  * configuration context according to the provided {@link Destination}.
  * <p>
+ * The Axis2 configuration context, including its HTTP connection pool, is shared by all requests of the same service
+ * class. Instances of the service class are pooled and reused by subsequent requests after an execution finished.
+ * <p>
  * Use the static method {@code registerCustomConverter} to register your own custom converter class which Axis2 uses
  * for converting values from the XSD types of the SOAP envelope to Java types.
  * <p>
@@ -72,13 +68,14 @@ public class SoapRequest<ServiceT extends Stub>
     private static final int DEFAULT_HTTP_PORT = 80;
     private static final int DEFAULT_HTTPS_PORT = 443;
 
-    private static final int MAX_TOTAL_CONNECTIONS = 200;
-    private static final int MAX_CONNECTIONS_PER_ROUTE = 100;
+    private static final String DEFAULT_TLS_VERSION = "TLSv1.2";
 
-    /**
-     * Returns the instance of the class {@code ServiceT} which was created by this {@code SoapQuery}.
-     */
-    private final ServiceT service;
+    private static final Map<String, org.apache.http.conn.ClientConnectionManager> TRUST_ALL_CONNECTION_MANAGERS =
+        new ConcurrentHashMap<>();
+
+    private final SoapServicePool<ServiceT> servicePool;
+
+    private final HttpDestination destination;
 
     /**
      * Use this method to register your own custom converter class which Axis2 uses for converting values from the SOAP
@@ -122,8 +119,9 @@ public class SoapRequest<ServiceT extends Stub>
 
     /**
      * Takes the class type of the SOAP service type {@code ServiceT} as {@code serviceClass} and an
-     * {@link Destination}, creates and prepares the Axis2 configuration context and instantiates the class
-     * {@code ServiceT}.
+     * {@link Destination}, and prepares the Axis2 configuration context of the service class. The context and the
+     * instances of the class {@code ServiceT} are taken from a pool that is shared by all requests of the same service
+     * class. An instance is only borrowed from the pool while {@link #execute(CheckedFunction1)} runs.
      *
      * @param serviceClass
      *            Class type of {@code ServiceT}
@@ -136,72 +134,23 @@ public class SoapRequest<ServiceT extends Stub>
     public SoapRequest( @Nonnull final Class<ServiceT> serviceClass, @Nonnull final Destination destination )
         throws SoapException
     {
-        service = instantiateServiceClass(serviceClass, getServiceConfigurationContext());
-        prepareSoapCall(service, destination.asHttp());
-    }
-
-    @Nonnull
-    private ServiceT instantiateServiceClass(
-        @Nonnull final Class<ServiceT> serviceClass,
-        @Nonnull final ConfigurationContext configurationContext )
-        throws SoapException
-    {
-        try {
-            return serviceClass.getConstructor(ConfigurationContext.class).newInstance(configurationContext);
-        }
-        catch( final
-            InstantiationException
-                | IllegalAccessException
-                | InvocationTargetException
-                | NoSuchMethodException e ) {
-            throw new SoapException(
-                "Error during constructor invocation of class " + serviceClass.getSimpleName() + ".",
-                e);
-        }
+        servicePool = SoapServicePool.of(serviceClass);
+        this.destination = destination.asHttp();
     }
 
     @Nonnull
-    private ConfigurationContext getServiceConfigurationContext()
+    private SoapServicePool.PooledService<ServiceT> borrowPreparedService()
         throws SoapException
     {
+        final SoapServicePool.PooledService<ServiceT> pooledService = servicePool.borrow();
         try {
-            final ConfigurationContext configurationContext =
-                ConfigurationContextFactory.createDefaultConfigurationContext();
-
-            specifyUsageOfHttpClient4(configurationContext);
-
-            return configurationContext;
+            prepareSoapCall(pooledService.service(), destination);
         }
-        catch( final Exception e ) {
-            throw new SoapException("Error while preparing Axis2 configuration context: " + e.getMessage() + ".", e);
-        }
-    }
-
-    private void specifyUsageOfHttpClient4( @Nonnull final ConfigurationContext configurationContext )
-        throws SoapException
-    {
-        final AxisConfiguration axisConfiguration = configurationContext.getAxisConfiguration();
-
-        axisConfiguration.getTransportsOut().get("https").setSender(new DefaultHttpClientTransportSender());
-        axisConfiguration.getTransportsOut().get("http").setSender(new DefaultHttpClientTransportSender());
-
-        final HashMap<String, TransportOutDescription> transportsOut = axisConfiguration.getTransportsOut();
-
-        for( final TransportOutDescription transportOut : transportsOut.values() ) {
-            final TransportSender sender = transportOut.getSender();
-            if( sender != null ) {
-                try {
-                    sender.init(configurationContext, transportOut);
-                }
-                catch( final AxisFault e ) {
-                    throw new SoapException("Error while initializing Axis2 library.", e);
-                }
-            }
-        }
-
-        if( log.isDebugEnabled() ) {
-            log.debug(DefaultHttpClientTransportSender.class.getSimpleName() + " set in Axis2 configuration.");
+        catch( final SoapException | RuntimeException e ) {
+            servicePool.release(pooledService);
+            throw e;
         }
+        return pooledService;
     }
 
     private void prepareSoapCall( @Nonnull final ServiceT service, @Nonnull final HttpDestination destination )
@@ -230,10 +179,8 @@ public class SoapRequest<ServiceT extends Stub>
             KeyManagementException
     {
         if( destination.isTrustingAllCertificates() ) {
-            final TrustAllSslSocketFactory socketFactory = new TrustAllSslSocketFactory(destination);
-
             final org.apache.http.conn.ClientConnectionManager connectionManager =
-                buildConnectionManager(socketFactory);
+                getTrustAllConnectionManager(destination);
 
             service
                 ._getServiceClient()
@@ -242,9 +189,37 @@ public class SoapRequest<ServiceT extends Stub>
         }
     }
 
+    // the connection managers are shared by all requests, so that their connections can be reused
     @SuppressWarnings( "deprecation" )
     @Nonnull
-    private org.apache.http.conn.ClientConnectionManager buildConnectionManager(
+    private org.apache.http.conn.ClientConnectionManager getTrustAllConnectionManager(
+        @Nonnull final HttpDestination destination )
+        throws UnrecoverableKeyException,
+            NoSuchAlgorithmException,
+            KeyStoreException,
+            KeyManagementException
+    {
+        final String tlsVersion = destination.getTlsVersion().getOrElse(DEFAULT_TLS_VERSION);
+        final org.apache.http.conn.ClientConnectionManager connectionManager =
+            TRUST_ALL_CONNECTION_MANAGERS.get(tlsVersion);
+        if( connectionManager != null ) {
+            return connectionManager;
+        }
+
+        final org.apache.http.conn.ClientConnectionManager newConnectionManager =
+            buildTrustAllConnectionManager(new TrustAllSslSocketFactory(destination));
+        final org.apache.http.conn.ClientConnectionManager existingConnectionManager =
+            TRUST_ALL_CONNECTION_MANAGERS.putIfAbsent(tlsVersion, newConnectionManager);
+        if( existingConnectionManager != null ) {
+            newConnectionManager.shutdown();
+            return existingConnectionManager;
+        }
+        return newConnectionManager;
+    }
+
+    @SuppressWarnings( "deprecation" )
+    @Nonnull
+    private org.apache.http.conn.ClientConnectionManager buildTrustAllConnectionManager(
         @Nonnull final TrustAllSslSocketFactory socketFactory )
     {
         final org.apache.http.conn.scheme.SchemeRegistry schemeRegistry =
@@ -258,13 +233,7 @@ public class SoapRequest<ServiceT extends Stub>
                     org.apache.http.conn.scheme.PlainSocketFactory.getSocketFactory()));
         schemeRegistry.register(new org.apache.http.conn.scheme.Scheme("https", DEFAULT_HTTPS_PORT, socketFactory));
 
-        final org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager connectionManager =
-            new org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager(schemeRegistry);
-
-        connectionManager.setMaxTotal(MAX_TOTAL_CONNECTIONS);
-        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
-
-        return connectionManager;
+        return SoapServicePool.buildConnectionManager(schemeRegistry);
     }
 
     @SuppressWarnings( "deprecation" )
@@ -280,7 +249,7 @@ public class SoapRequest<ServiceT extends Stub>
 
             final Option<String> tlsVersion = destination.getTlsVersion();
 
-            final SSLContext sslContext = SSLContext.getInstance(tlsVersion.getOrElse("TLSv1.2"));
+            final SSLContext sslContext = SSLContext.getInstance(tlsVersion.getOrElse(DEFAULT_TLS_VERSION));
 
             final TrustManager trustAllTrustManager = new TrustAllManager();
 
@@ -421,6 +390,9 @@ public class SoapRequest<ServiceT extends Stub>
 
     /**
      * Executes a request against a SOAP service based on the given function.
+     * <p>
+     * The service instance passed to the function is borrowed from a shared pool and prepared for the destination of
+     * this request. It is returned to the pool afterwards. Therefore, the function must not keep a reference to it.
      *
      * @param function
      *            The function that calls the SOAP service and returns the relevant result.
@@ -434,8 +406,9 @@ public class SoapRequest<ServiceT extends Stub>
     public <ReturnT> ReturnT execute( @Nonnull final CheckedFunction1<ServiceT, ReturnT> function )
         throws SoapException
     {
+        final SoapServicePool.PooledService<ServiceT> pooledService = borrowPreparedService();
         try {
-            return function.apply(service);
+            return function.apply(pooledService.service());
         }
         catch( final SoapException t ) {
             throw t;
@@ -443,5 +416,8 @@ public class SoapRequest<ServiceT extends Stub>
         catch( final Throwable t ) { // ALLOW CATCH THROWABLE
             throw new SoapException(t);
         }
+        finally {
+            servicePool.release(pooledService);
+        }
     }
 }
@@ -0,0 +1,244 @@
+package com.sap.cloud.sdk.s4hana.connectivity.soap;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import javax.annotation.Nonnull;
+
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.addressing.EndpointReference;
+import org.apache.axis2.client.Options;
+import org.apache.axis2.client.Stub;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.context.ConfigurationContextFactory;
+import org.apache.axis2.description.TransportOutDescription;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.apache.axis2.transport.TransportSender;
+import org.apache.axis2.transport.http.HTTPConstants;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool of instances of a SOAP service class, which all share the same Axis2 configuration context.
+ * <p>
+ * Creating the configuration context parses the Axis2 configuration and loads its modules, and every configuration
+ * context holds its own HTTP connection pool. Sharing the configuration context per service class and reusing idle
+ * service instances avoids this setup for every {@link SoapRequest} and allows to reuse keep-alive connections.
+ * <p>
+ * A borrowed service instance is used by a single {@link SoapRequest} only, until it is released again. On every
+ * borrow, the options of the service client are reset to the options of the newly instantiated service, so that no
+ * destination specific settings are passed on to the next borrower.
+ *
+ * @param <ServiceT>
+ *            Subtype of {@link Stub} representing the SOAP service.
+ */
+@Slf4j
+@RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+@Deprecated
+final class SoapServicePool<ServiceT extends Stub>
+{
+    private static final int MAX_IDLE_SERVICES = 32;
+    private static final int MAX_TOTAL_CONNECTIONS = 200;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 100;
+
+    private static final Map<Class<?>, SoapServicePool<?>> POOLS = new ConcurrentHashMap<>();
+
+    @Nonnull
+    private final Class<ServiceT> serviceClass;
+
+    @Nonnull
+    private final ConfigurationContext configurationContext;
+
+    private final BlockingDeque<PooledService<ServiceT>> idleServices = new LinkedBlockingDeque<>(MAX_IDLE_SERVICES);
+
+    /**
+     * A service instance together with the options of its service client right after instantiation.
+     *
+     * @param service
+     *            The service instance.
+     * @param defaultOptions
+     *            The options of the service client right after instantiation, which are used as parent of the options
+     *            of every borrower.
+     */
+    record PooledService<ServiceT extends Stub>( @Nonnull ServiceT service, @Nonnull Options defaultOptions )
+    {
+        private void resetOptions()
+        {
+            final Options options = new Options(defaultOptions);
+            options.setTo(new EndpointReference(defaultOptions.getTo().getAddress()));
+            service._getServiceClient().setOptions(options);
+        }
+    }
+
+    /**
+     * Get the pool of the given service class.
+     *
+     * @param serviceClass
+     *            Class type of {@code ServiceT}
+     * @param <ServiceT>
+     *            Subtype of {@link Stub} representing the SOAP service.
+     * @return The pool of the service class.
+     * @throws SoapException
+     *             Thrown in case the Axis2 configuration context could not be prepared.
+     */
+    @SuppressWarnings( "unchecked" )
+    @Nonnull
+    static <ServiceT extends Stub> SoapServicePool<ServiceT> of( @Nonnull final Class<ServiceT> serviceClass )
+        throws SoapException
+    {
+        final SoapServicePool<?> pool = POOLS.get(serviceClass);
+        if( pool != null ) {
+            return (SoapServicePool<ServiceT>) pool;
+        }
+
+        // the configuration context is created outside of the map, as its creation may fail with a checked exception
+        final SoapServicePool<ServiceT> newPool =
+            new SoapServicePool<>(serviceClass, createServiceConfigurationContext());
+        final SoapServicePool<?> existingPool = POOLS.putIfAbsent(serviceClass, newPool);
+        return existingPool != null ? (SoapServicePool<ServiceT>) existingPool : newPool;
+    }
+
+    /**
+     * Borrow an idle service instance or instantiate a new one, if there is no idle instance.
+     *
+     * @return The service instance, with options that inherit the options of a newly instantiated service.
+     * @throws SoapException
+     *             Thrown in case the service instance could not be instantiated.
+     */
+    @Nonnull
+    PooledService<ServiceT> borrow()
+        throws SoapException
+    {
+        final PooledService<ServiceT> idleService = idleServices.pollFirst();
+        if( idleService != null ) {
+            idleService.resetOptions();
+            return idleService;
+        }
+
+        final ServiceT service = instantiateServiceClass();
+        final PooledService<ServiceT> newService =
+            new PooledService<>(service, service._getServiceClient().getOptions());
+        // the borrower must not modify the default options, as they are inherited by all subsequent borrowers
+        newService.resetOptions();
+        return newService;
+    }
+
+    /**
+     * Return the given service instance to the pool. If the pool is full, the service instance is cleaned up instead.
+     *
+     * @param pooledService
+     *            The service instance, as returned by {@link #borrow()}.
+     */
+    void release( @Nonnull final PooledService<ServiceT> pooledService )
+    {
+        if( idleServices.offerFirst(pooledService) ) {
+            return;
+        }
+
+        // removes the service from the shared Axis2 configuration
+        try {
+            pooledService.service().cleanup();
+        }
+        catch( final AxisFault e ) {
+            log.debug("Failed to clean up instance of SOAP service class {}.", serviceClass.getSimpleName(), e);
+        }
+    }
+
+    @Nonnull
+    private ServiceT instantiateServiceClass()
+        throws SoapException
+    {
+        try {
+            return serviceClass.getConstructor(ConfigurationContext.class).newInstance(configurationContext);
+        }
+        catch( final
+            InstantiationException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException e ) {
+            throw new SoapException(
+                "Error during constructor invocation of class " + serviceClass.getSimpleName() + ".",
+                e);
+        }
+    }
+
+    @Nonnull
+    private static ConfigurationContext createServiceConfigurationContext()
+        throws SoapException
+    {
+        try {
+            final ConfigurationContext configurationContext =
+                ConfigurationContextFactory.createDefaultConfigurationContext();
+
+            specifyUsageOfHttpClient4(configurationContext);
+
+            // shared by all service instances of the configuration context, unless overridden per service instance
+            configurationContext
+                .setProperty(
+                    HTTPConstants.MULTITHREAD_HTTP_CONNECTION_MANAGER,
+                    buildConnectionManager(org.apache.http.impl.conn.SchemeRegistryFactory.createDefault()));
+
+            return configurationContext;
+        }
+        catch( final SoapException e ) {
+            throw e;
+        }
+        catch( final Exception e ) {
+            throw new SoapException("Error while preparing Axis2 configuration context: " + e.getMessage() + ".", e);
+        }
+    }
+
+    private static void specifyUsageOfHttpClient4( @Nonnull final ConfigurationContext configurationContext )
+        throws SoapException
+    {
+        final AxisConfiguration axisConfiguration = configurationContext.getAxisConfiguration();
+
+        axisConfiguration.getTransportsOut().get("https").setSender(new DefaultHttpClientTransportSender());
+        axisConfiguration.getTransportsOut().get("http").setSender(new DefaultHttpClientTransportSender());
+
+        final HashMap<String, TransportOutDescription> transportsOut = axisConfiguration.getTransportsOut();
+
+        for( final TransportOutDescription transportOut : transportsOut.values() ) {
+            final TransportSender sender = transportOut.getSender();
+            if( sender != null ) {
+                try {
+                    sender.init(configurationContext, transportOut);
+                }
+                catch( final AxisFault e ) {
+                    throw new SoapException("Error while initializing Axis2 library.", e);
+                }
+            }
+        }
+
+        if( log.isDebugEnabled() ) {
+            log.debug(DefaultHttpClientTransportSender.class.getSimpleName() + " set in Axis2 configuration.");
+        }
+    }
+
+    /**
+     * Build a connection manager that can be shared by all service instances of a configuration context.
+     *
+     * @param schemeRegistry
+     *            The registry of the socket factories per scheme.
+     * @return A new thread-safe connection manager.
+     */
+    @SuppressWarnings( "deprecation" )
+    @Nonnull
+    static org.apache.http.conn.ClientConnectionManager buildConnectionManager(
+        @Nonnull final org.apache.http.conn.scheme.SchemeRegistry schemeRegistry )
+    {
+        final org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager connectionManager =
+            new org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager(schemeRegistry);
+
+        connectionManager.setMaxTotal(MAX_TOTAL_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+
+        return connectionManager;
+    }
+}
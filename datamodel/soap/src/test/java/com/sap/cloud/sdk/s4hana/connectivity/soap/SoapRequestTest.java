@@ -0,0 +1,116 @@
+package com.sap.cloud.sdk.s4hana.connectivity.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.addressing.EndpointReference;
+import org.apache.axis2.client.Options;
+import org.apache.axis2.client.ServiceClient;
+import org.apache.axis2.client.Stub;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.description.AxisService;
+import org.apache.axis2.transport.http.HTTPConstants;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
+import com.sap.cloud.sdk.cloudplatform.connectivity.HttpDestination;
+
+@Deprecated
+class SoapRequestTest
+{
+    private static final HttpDestination DESTINATION = DefaultHttpDestination.builder("https://a.example.com").build();
+
+    @Test
+    void testServiceIsReusedByNextRequest()
+        throws SoapException
+    {
+        final TestService first = new SoapRequest<>(TestService.class, DESTINATION).execute(service -> service);
+        final TestService second = new SoapRequest<>(TestService.class, DESTINATION).execute(service -> service);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void testConcurrentExecutionsBorrowDifferentServices()
+        throws SoapException
+    {
+        final SoapRequest<TestService> request = new SoapRequest<>(TestService.class, DESTINATION);
+
+        final TestService outer = request.execute(service -> {
+            final TestService inner = request.execute(innerService -> innerService);
+            assertThat(inner).isNotSameAs(service);
+            return service;
+        });
+
+        assertThat(request.execute(service -> service)).isSameAs(outer);
+    }
+
+    @Test
+    void testServiceIsNotBorrowedBeforeExecution()
+        throws SoapException
+    {
+        final TestService idle = new SoapRequest<>(TestService.class, DESTINATION).execute(service -> service);
+
+        // a request that is never executed must not take the idle service from the pool
+        new SoapRequest<>(TestService.class, DESTINATION);
+
+        assertThat(new SoapRequest<>(TestService.class, DESTINATION).execute(service -> service)).isSameAs(idle);
+    }
+
+    @Test
+    void testDestinationSettingsAreResetForNextBorrower()
+        throws SoapException
+    {
+        final HttpDestination destinationWithAuthorization =
+            DefaultHttpDestination
+                .builder("https://a.example.com")
+                .header("Authorization", "Bearer secret")
+                .proxy("proxy.example.com", 8080)
+                .build();
+        final HttpDestination destinationWithoutAuthorization =
+            DefaultHttpDestination.builder("https://b.example.com").build();
+
+        final TestService first =
+            new SoapRequest<>(TestService.class, destinationWithAuthorization).execute(service -> {
+                final Options options = service._getServiceClient().getOptions();
+                assertThat(options.getProperty(HTTPConstants.HTTP_HEADERS))
+                    .asInstanceOf(MAP)
+                    .containsEntry("Authorization", "Bearer secret");
+                assertThat(options.getProperty(HTTPConstants.PROXY)).isNotNull();
+                assertThat(options.getTo().getAddress()).startsWith("https://a.example.com/sap/bc/srt/test");
+                return service;
+            });
+
+        final TestService second =
+            new SoapRequest<>(TestService.class, destinationWithoutAuthorization).execute(service -> {
+                final Options options = service._getServiceClient().getOptions();
+                assertThat(options.getProperty(HTTPConstants.HTTP_HEADERS))
+                    .asInstanceOf(MAP)
+                    .doesNotContainKey("Authorization");
+                assertThat(options.getProperty(HTTPConstants.PROXY)).isNull();
+                assertThat(options.getTo().getAddress()).startsWith("https://b.example.com/sap/bc/srt/test");
+                return service;
+            });
+
+        assertThat(second).isSameAs(first);
+    }
+
+    public static class TestService extends Stub
+    {
+        private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+        public TestService( @Nonnull final ConfigurationContext configurationContext )
+            throws AxisFault
+        {
+            // the service names must be unique within the shared Axis2 configuration, like in generated stubs
+            _service = new AxisService("TestService" + INSTANCE_COUNTER.incrementAndGet());
+            _serviceClient = new ServiceClient(configurationContext, _service);
+            _serviceClient.getOptions().setTo(new EndpointReference("http://localhost/sap/bc/srt/test"));
+        }
+    }
+}
@@ -5,28 +5,23 @@ import static java.util.Objects.requireNonNull;
 import static com.sap.cloud.sdk.s4hana.connectivity.rfc.AbapToSoapNameConverter.abapParameterNameToSoapParameterName;
 import static com.sap.cloud.sdk.s4hana.connectivity.rfc.AbapToSoapNameConverter.soapParameterNameToAbapParameterName;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.json.XML;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -34,8 +29,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.json.JsonSanitizer;
+import com.google.gson.JsonPrimitive;
 import com.sap.cloud.sdk.result.ResultElement;
 
 import lombok.RequiredArgsConstructor;
@@ -57,12 +51,17 @@ public class SoapRemoteFunctionRequestSerializer<RequestT extends AbstractRemote
     com.sap.cloud.sdk.s4hana.connectivity.AbstractRequestSerializer<RequestT, RequestResultT>
 {
     private static final String SOAP_NAMESPACE_URI = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SOAP_PREFIX = "soapenv";
 
-    private static final String FEATURE_EXTERNAL_GENERAL_ENTITIES =
-        "http://xml.org/sax/features/external-general-entities";
+    private static final String FUNCTIONS_NAMESPACE_URI = "urn:sap-com:document:sap:soap:functions:mc-style";
+    private static final String FUNCTIONS_PREFIX = "urn";
 
-    private static final String FEATURE_EXTERNAL_PARAMETER_ENTITIES =
-        "http://xml.org/sax/features/external-parameter-entities";
+    private static final String TABLE_ROW = "item";
+    private static final String XML_CONTENT = "content";
+
+    // thread-safe once configured, creating a factory involves a service lookup
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
 
     private final Class<RequestResultT> resultType;
 
@@ -73,70 +72,16 @@ public class SoapRemoteFunctionRequestSerializer<RequestT extends AbstractRemote
                 new com.sap.cloud.sdk.s4hana.serialization.LocalDateConverter("yyyy-MM-dd"),
                 new com.sap.cloud.sdk.s4hana.serialization.LocalTimeConverter("HH:mm:ss"));
 
-    private Document createNewSoapDocument()
-        throws ParserConfigurationException
-    {
-        final DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
-        docBuilderFactory.setNamespaceAware(true);
-        docBuilderFactory.setExpandEntityReferences(false);
-        docBuilderFactory.setFeature(FEATURE_EXTERNAL_GENERAL_ENTITIES, false);
-        docBuilderFactory.setFeature(FEATURE_EXTERNAL_PARAMETER_ENTITIES, false);
-
-        final DocumentBuilder docBuilder = docBuilderFactory.newDocumentBuilder();
-        return docBuilder.newDocument();
-    }
-
-    private Element createSoapServiceMessageElement( final Document soapDocument, final String functionName )
-    {
-        final Element envelopeRootElement = createEnvelopeRootDocument(soapDocument);
-        soapDocument.appendChild(envelopeRootElement);
-
-        final Element envelopeHeaderElement = createElementInSoapNamespace(soapDocument, "soapenv:Header");
-        envelopeRootElement.appendChild(envelopeHeaderElement);
-
-        final Element envelopeBodyElement = createElementInSoapNamespace(soapDocument, "soapenv:Body");
-        envelopeRootElement.appendChild(envelopeBodyElement);
-
-        final String functionNameInSoapFormat = AbapToSoapNameConverter.abapFunctionNameToSoapMessageName(functionName);
-        final Element soapServiceMessageElement = soapDocument.createElement("urn:" + functionNameInSoapFormat);
-        envelopeBodyElement.appendChild(soapServiceMessageElement);
-
-        return soapServiceMessageElement;
-    }
-
-    private String serializeSoapEnvelopeWithoutXmlHeaderLine( final Document soapDocument )
-        throws TransformerException
-    {
-        // explicitly specify factory to avoid override by container
-        final TransformerFactory tf =
-            TransformerFactory.newInstance("com.sun.org.apache.xalan.internal.xsltc.trax.TransformerFactoryImpl", null);
-
-        tf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        tf.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-        tf.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-
-        final Transformer transformer = tf.newTransformer();
-        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-        final StringWriter writer = new StringWriter();
-        transformer.transform(new DOMSource(soapDocument), new StreamResult(writer));
-
-        return writer.toString();
-    }
-
-    private Element createEnvelopeRootDocument( final Document doc )
-    {
-        final Element envelopeRootElement = doc.createElementNS(SOAP_NAMESPACE_URI, "soapenv:Envelope");
-        envelopeRootElement
-            .setAttributeNS(
-                "http://www.w3.org/2000/xmlns/",
-                "xmlns:urn",
-                "urn:sap-com:document:sap:soap:functions:mc-style");
-        return envelopeRootElement;
-    }
-
-    private Element createElementInSoapNamespace( final Document soapDocument, final String elementName )
+    @Nonnull
+    private static XMLInputFactory newXmlInputFactory()
     {
-        return soapDocument.createElementNS(SOAP_NAMESPACE_URI, elementName);
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        // response elements are matched by their qualified names, as configured in SoapNamespace
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
     }
 
     /**
@@ -168,65 +113,111 @@ public class SoapRemoteFunctionRequestSerializer<RequestT extends AbstractRemote
     @Override
     protected com.sap.cloud.sdk.s4hana.connectivity.SerializedRequest<RequestT> serializeRequest(
         @Nonnull final RequestT request )
-        throws ParserConfigurationException,
-            TransformerException
+        throws XMLStreamException
     {
-        final Document soapDocument = createNewSoapDocument();
-
-        final Element soapServiceMessageElement =
-            createSoapServiceMessageElement(soapDocument, request.getFunctionName());
-
+        final List<Value<?>> values = new ArrayList<>();
         for( final Parameter parameter : request.getParameters() ) {
             //Skip adding importing (output) parameters
-            if( ParameterKind.IMPORTING == parameter.getParameterKind() ) {
-                continue;
+            if( ParameterKind.IMPORTING != parameter.getParameterKind() ) {
+                values.add(parameter.getParameterValue());
             }
-            serializeValue(soapDocument, soapServiceMessageElement, parameter.getParameterValue());
         }
 
-        return new SoapSerializedRequestBuilder<>(request, serializeSoapEnvelopeWithoutXmlHeaderLine(soapDocument))
-            .build();
+        // the envelope is written without XML declaration, like the former DOM based serialization did
+        final StringWriter stringWriter = new StringWriter();
+        final XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+        try {
+            writer.writeStartElement(SOAP_PREFIX, "Envelope", SOAP_NAMESPACE_URI);
+            writer.writeNamespace(SOAP_PREFIX, SOAP_NAMESPACE_URI);
+            writer.writeNamespace(FUNCTIONS_PREFIX, FUNCTIONS_NAMESPACE_URI);
+            writer.writeEmptyElement(SOAP_PREFIX, "Header", SOAP_NAMESPACE_URI);
+            writer.writeStartElement(SOAP_PREFIX, "Body", SOAP_NAMESPACE_URI);
+
+            final String functionNameInSoapFormat =
+                AbapToSoapNameConverter.abapFunctionNameToSoapMessageName(request.getFunctionName());
+            writeValues(writer, FUNCTIONS_PREFIX + ":" + functionNameInSoapFormat, values);
+
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.flush();
+        }
+        finally {
+            writer.close();
+        }
+
+        return new SoapSerializedRequestBuilder<>(request, stringWriter.toString()).build();
     }
 
-    private void serializeValue(
-        @Nonnull final Document soapDocument,
-        @Nonnull final Element container,
-        @Nonnull final Value<?> value )
+    private void writeValue( @Nonnull final XMLStreamWriter writer, @Nonnull final Value<?> value )
+        throws XMLStreamException
     {
         final String currentParameterNameInSoapNamePattern =
             abapParameterNameToSoapParameterName(requireNonNull(value.getName()));
 
-        final Element currentParameterElement = soapDocument.createElement(currentParameterNameInSoapNamePattern);
-        container.appendChild(currentParameterElement);
-
         switch( value.getValueType() ) {
             case FIELD:
-                currentParameterElement.setTextContent(erpTypeSerializer.toErp(value.getValue()).orNull());
+                writeField(writer, currentParameterNameInSoapNamePattern, value);
                 break;
             case STRUCTURE:
-                for( final Value<?> item : value.getAsStructure() ) {
-                    serializeValue(soapDocument, currentParameterElement, item);
-                }
+                writeValues(writer, currentParameterNameInSoapNamePattern, value.getAsStructure());
                 break;
             case TABLE:
                 final List<List<Value<?>>> cells = value.getAsTable();
-                final boolean isTableVector =
-                    !cells.isEmpty() && cells.get(0).size() == 1 && cells.get(0).get(0).getName() == null;
+                if( cells.isEmpty() ) {
+                    writer.writeEmptyElement(currentParameterNameInSoapNamePattern);
+                    break;
+                }
+                final boolean isTableVector = cells.get(0).size() == 1 && cells.get(0).get(0).getName() == null;
+                writer.writeStartElement(currentParameterNameInSoapNamePattern);
                 for( final List<Value<?>> values : cells ) {
-                    final Element row = soapDocument.createElement("item");
-                    currentParameterElement.appendChild(row);
-                    for( final Value<?> item : values ) {
-                        if( isTableVector ) {
-                            row.setTextContent(erpTypeSerializer.toErp(item.getValue()).orNull());
-                        } else {
-                            serializeValue(soapDocument, row, item);
-                        }
+                    if( !isTableVector ) {
+                        writeValues(writer, TABLE_ROW, values);
+                    } else if( values.isEmpty() ) {
+                        writer.writeEmptyElement(TABLE_ROW);
+                    } else {
+                        // the row of a table vector holds the value of its last cell
+                        writeField(writer, TABLE_ROW, values.get(values.size() - 1));
                     }
                 }
+                writer.writeEndElement();
                 break;
         }
     }
 
+    private void writeValues(
+        @Nonnull final XMLStreamWriter writer,
+        @Nonnull final String elementName,
+        @Nonnull final List<Value<?>> values )
+        throws XMLStreamException
+    {
+        if( values.isEmpty() ) {
+            writer.writeEmptyElement(elementName);
+            return;
+        }
+        writer.writeStartElement(elementName);
+        for( final Value<?> value : values ) {
+            writeValue(writer, value);
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeField(
+        @Nonnull final XMLStreamWriter writer,
+        @Nonnull final String elementName,
+        @Nonnull final Value<?> value )
+        throws XMLStreamException
+    {
+        final String text = erpTypeSerializer.toErp(value.getValue()).orNull();
+        // elements without text are written as empty elements, like the former DOM based serialization did
+        if( text == null || text.isEmpty() ) {
+            writer.writeEmptyElement(elementName);
+            return;
+        }
+        writer.writeStartElement(elementName);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
     private JsonElement unpackNestedArrays( final JsonElement jsonElement )
     {
         if( jsonElement.isJsonObject() ) {
@@ -271,45 +262,157 @@ public class SoapRemoteFunctionRequestSerializer<RequestT extends AbstractRemote
         return jsonElement;
     }
 
+    /**
+     * Reads the response element of the SOAP envelope into a JSON tree. Elements outside of the response element are
+     * skipped without building a representation of them.
+     * <p>
+     * The tree equals the one of the former conversion of the whole payload via {@code org.json.XML}: Elements and
+     * attributes are keyed by their qualified names, repeated elements are collected into arrays, elements without
+     * attributes and child elements are represented by their trimmed text and all values are kept as strings.
+     */
+    @Nonnull
+    private static JsonElement readResponseElement( @Nonnull final String body, @Nonnull final String elementName )
+        throws XMLStreamException
+    {
+        final String[] path =
+            {
+                SoapNamespace.RESPONSE_PREFIX_SOAP_ENV + ":Envelope",
+                SoapNamespace.RESPONSE_PREFIX_SOAP_ENV + ":Body",
+                elementName };
+
+        final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(body));
+        try {
+            int depth = 0;
+            while( reader.hasNext() ) {
+                final int event = reader.next();
+                if( event == XMLStreamConstants.START_ELEMENT ) {
+                    if( !path[depth].equals(getQualifiedName(reader.getPrefix(), reader.getLocalName())) ) {
+                        skipElement(reader);
+                    } else if( ++depth == path.length ) {
+                        return readElement(reader);
+                    }
+                } else if( event == XMLStreamConstants.END_ELEMENT ) {
+                    // left an element of the path without finding the response element
+                    break;
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+        throw new XMLStreamException("SOAP response does not contain element " + String.join("/", path) + ".");
+    }
+
+    @Nonnull
+    private static JsonElement readElement( @Nonnull final XMLStreamReader reader )
+        throws XMLStreamException
+    {
+        final JsonObject jsonObject = new JsonObject();
+        for( int i = 0; i < reader.getAttributeCount(); ++i ) {
+            final String name = getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+            jsonObject.addProperty(name, reader.getAttributeValue(i));
+        }
+
+        final StringBuilder content = new StringBuilder();
+        while( reader.hasNext() ) {
+            final int event = reader.next();
+            if( event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA ) {
+                content.append(reader.getText());
+            } else if( event == XMLStreamConstants.START_ELEMENT ) {
+                accumulateContent(jsonObject, content);
+                final String name = getQualifiedName(reader.getPrefix(), reader.getLocalName());
+                accumulate(jsonObject, name, readElement(reader));
+            } else if( event == XMLStreamConstants.END_ELEMENT ) {
+                accumulateContent(jsonObject, content);
+                break;
+            }
+        }
+
+        if( jsonObject.size() == 0 ) {
+            return new JsonPrimitive("");
+        }
+        if( jsonObject.size() == 1 && jsonObject.has(XML_CONTENT) ) {
+            return jsonObject.get(XML_CONTENT);
+        }
+        return jsonObject;
+    }
+
+    private static void accumulateContent( @Nonnull final JsonObject jsonObject, @Nonnull final StringBuilder content )
+    {
+        final String text = content.toString().trim();
+        if( !text.isEmpty() ) {
+            accumulate(jsonObject, XML_CONTENT, new JsonPrimitive(text));
+        }
+        content.setLength(0);
+    }
+
+    private static void accumulate(
+        @Nonnull final JsonObject jsonObject,
+        @Nonnull final String name,
+        @Nonnull final JsonElement value )
+    {
+        final JsonElement existing = jsonObject.get(name);
+        if( existing == null ) {
+            jsonObject.add(name, value);
+        } else if( existing.isJsonArray() ) {
+            existing.getAsJsonArray().add(value);
+        } else {
+            final JsonArray jsonArray = new JsonArray();
+            jsonArray.add(existing);
+            jsonArray.add(value);
+            jsonObject.add(name, jsonArray);
+        }
+    }
+
+    private static void skipElement( @Nonnull final XMLStreamReader reader )
+        throws XMLStreamException
+    {
+        int depth = 1;
+        while( depth > 0 && reader.hasNext() ) {
+            final int event = reader.next();
+            if( event == XMLStreamConstants.START_ELEMENT ) {
+                ++depth;
+            } else if( event == XMLStreamConstants.END_ELEMENT ) {
+                --depth;
+            }
+        }
+    }
+
+    @Nonnull
+    private static String getQualifiedName( @Nullable final String prefix, @Nonnull final String localName )
+    {
+        // without namespace awareness, some parsers report the prefix as part of the local name
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    @Nonnull
+    private static Set<Entry<String, JsonElement>> getParameters( @Nonnull final JsonElement responseElement )
+    {
+        // an empty response element without namespace declaration is represented by an empty string
+        return responseElement.isJsonObject() ? responseElement.getAsJsonObject().entrySet() : Collections.emptySet();
+    }
+
     @Nonnull
     @Override
     protected RequestResultT deserializeRequestResult(
         @Nonnull final com.sap.cloud.sdk.s4hana.connectivity.SerializedRequestResult<RequestT> serializedRequestResult )
-        throws ParserConfigurationException
+        throws XMLStreamException
     {
         final RequestT request = serializedRequestResult.getRequest();
 
-        final JsonElement bodyAsJson =
-            JsonParser
-                .parseString(
-                    JsonSanitizer.sanitize(XML.toJSONObject(serializedRequestResult.getBody(), true).toString()));
-
         final String resultSoapElementName =
             SoapNamespace.RESPONSE_PREFIX_N0
                 + ":"
                 + AbapToSoapNameConverter.abapFunctionNameToSoapMessageName(request.getFunctionName())
                 + "Response";
 
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setExpandEntityReferences(false);
-        factory.setValidating(true);
-        factory.setFeature(FEATURE_EXTERNAL_GENERAL_ENTITIES, false);
-        factory.setFeature(FEATURE_EXTERNAL_PARAMETER_ENTITIES, false);
-
         final JsonElement json =
-            unpackNestedArrays(
-                bodyAsJson
-                    .getAsJsonObject()
-                    .get(SoapNamespace.RESPONSE_PREFIX_SOAP_ENV + ":Envelope")
-                    .getAsJsonObject()
-                    .get(SoapNamespace.RESPONSE_PREFIX_SOAP_ENV + ":Body")
-                    .getAsJsonObject()
-                    .get(resultSoapElementName));
+            unpackNestedArrays(readResponseElement(serializedRequestResult.getBody(), resultSoapElementName));
 
         final JsonObject resultObj = new JsonObject();
         final JsonArray array = new JsonArray();
         resultObj.add("RESULT", array);
-        for( final Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet() ) {
+        for( final Entry<String, JsonElement> entry : getParameters(json) ) {
             if( ("XMLNS:" + SoapNamespace.RESPONSE_PREFIX_N0).equalsIgnoreCase(entry.getKey()) ) {
                 continue;
             }
@@ -231,6 +231,34 @@ class BapiRequestSimpleFieldsParameterTest
                         fieldValueSuppliedFromOutside));
     }
 
+    @Test
+    void testSerializeEscapedAndEmptyFieldParameters()
+    {
+        final BapiRequest bapiRequest =
+            new BapiRequest(FUNCTION_NAME)
+                .withExporting("exname", "datatype", "<some & value>")
+                .withExporting("empty", "datatype", "")
+                .withImporting("imname", "datatype");
+
+        final com.sap.cloud.sdk.s4hana.connectivity.SerializedRequest<BapiRequest> serializedRequest =
+            new SoapRemoteFunctionRequestSerializer<>(BapiRequestResult.class).serialize(bapiRequest);
+
+        assertThat(serializedRequest.getRequestBody())
+            .isEqualTo(
+                """
+                    <soapenv:Envelope xmlns:soapenv="http://schemas.xmlsoap.org/soap/envelope/" \
+                    xmlns:urn="urn:sap-com:document:sap:soap:functions:mc-style">\
+                    <soapenv:Header/>\
+                    <soapenv:Body>\
+                    <urn:FunctionName>\
+                    <Exname>&lt;some &amp; value&gt;</Exname>\
+                    <Empty/>\
+                    </urn:FunctionName>\
+                    </soapenv:Body>\
+                    </soapenv:Envelope>\
+                    """);
+    }
+
     @Test
     void testSupplyStringParameter()
         throws RemoteFunctionException,
@@ -136,6 +136,67 @@ class SoapRemoteFunctionResultTableSerializationTest
         assertThat(fxRates.get(0).getMessages().get(0).getType()).isEqualTo("W");
     }
 
+    @Test
+    void testDeserializeTableWithMultipleRows()
+        throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestExecutionException
+    {
+        final String responsePayload = """
+            <soap-env:Envelope xmlns:soap-env="http://schemas.xmlsoap.org/soap/envelope/">
+               <soap-env:Header>
+                  <n0:Ignored xmlns:n0="urn:sap-com:document:sap:soap:functions:mc-style"><item/></n0:Ignored>
+               </soap-env:Header>
+               <soap-env:Body>
+                  <n0:FtbiGetFxRatesResponse xmlns:n0="urn:sap-com:document:sap:soap:functions:mc-style">
+                     <EtFxRates>
+                        <item>
+                           <Messages>
+                              <item>
+                                 <Type>W</Type>
+                              </item>
+                              <item>
+                                 <Type>E &amp; A</Type>
+                              </item>
+                              <item>
+                                 <Type><![CDATA[<I>]]></Type>
+                              </item>
+                           </Messages>
+                        </item>
+                        <item>
+                           <Messages/>
+                        </item>
+                     </EtFxRates>
+                     <EtMessagesGeneral/>
+                  </n0:FtbiGetFxRatesResponse>
+               </soap-env:Body>
+            </soap-env:Envelope>
+            """;
+
+        WireMock
+            .stubFor(
+                WireMock
+                    .post(WireMock.urlEqualTo("/sap/bc/srt/scs_ext/sap/7FTBI_GET_FX_RATES"))
+                    .willReturn(WireMock.okXml(responsePayload)));
+
+        final RfmRequest request = new RfmRequest("FTBI_GET_FX_RATES", CommitStrategy.NO_COMMIT);
+
+        final RfmRequestResult result =
+            request
+                .withExportingTable("IT_REQUEST", "FTBI_T_FX_RATES_REQUEST_EXT")
+                .row()
+                .end()
+                .withImporting("ET_FX_RATES", "FTBI_T_FX_RATES_RESPONSE_EXT")
+                .withImportingAsReturn("ET_MESSAGES_GENERAL", "BAPIRET2_T")
+                .execute(destination);
+
+        final List<FxRatesList> fxRates = result.get("ET_FX_RATES").getAsCollection().asList(FxRatesList.class);
+
+        assertThat(fxRates).hasSize(2);
+        assertThat(fxRates.get(0).getMessages())
+            .extracting(MessageListEntry::getType)
+            .containsExactly("W", "E & A", "<I>");
+        assertThat(fxRates.get(1).getMessages()).isEmpty();
+    }
+
     @Data
     private static class FxRatesList
     {
@@ -1,8 +1,5 @@
 package com.sap.cloud.sdk.s4hana.connectivity;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -10,7 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,6 +25,7 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
 
 import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationProperty;
@@ -35,11 +33,14 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.Header;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpDestination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpEntityUtil;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingPhase;
+import com.sap.cloud.sdk.cloudplatform.connectivity.RequestTimingRecorder;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationNotFoundException;
 import com.sap.cloud.sdk.cloudplatform.exception.ShouldNotHappenException;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,60 +57,67 @@ import lombok.extern.slf4j.Slf4j;
 @Deprecated
 public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestResultT>, RequestResultT extends RequestResult<RequestT, RequestResultT>>
 {
-    private static final int MAX_UNCOMPRESSED_PAYLOAD_LENGTH = 1400;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1400;
 
     @Getter
     private final RequestExecutionMeasurements measurements = new RequestExecutionMeasurements();
 
-    @Nonnull
-    private ByteArrayEntity getBodyAsCompressedEntity( @Nonnull final String body )
-        throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException
-    {
-        final ByteArrayEntity entity;
+    /**
+     * The maximum length in bytes of an UTF-8 encoded request body that is sent uncompressed. Longer request bodies are
+     * GZIP compressed while they are written to the connection. Defaults to 1400 bytes.
+     *
+     * @since 5.33.0
+     */
+    @Getter
+    @Setter
+    private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
 
-        final byte[] content;
-        try {
-            content = body.getBytes(StandardCharsets.UTF_8.toString());
-        }
-        catch( final UnsupportedEncodingException e ) {
-            throw new com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException(
-                "Failed to to convert payload from String to UTF8 byte[].",
-                e);
-        }
+    /**
+     * The compression level used for GZIP compressed request bodies, between 0 and 9, or
+     * {@link Deflater#DEFAULT_COMPRESSION}. Defaults to {@link Deflater#DEFAULT_COMPRESSION}.
+     *
+     * @since 5.33.0
+     */
+    @Getter
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
 
-        if( content.length > MAX_UNCOMPRESSED_PAYLOAD_LENGTH ) {
-            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    /**
+     * Sets the compression level used for GZIP compressed request bodies.
+     *
+     * @param compressionLevel
+     *            The compression level, between 0 and 9, or {@link Deflater#DEFAULT_COMPRESSION}.
+     * @throws IllegalArgumentException
+     *             If the compression level is invalid.
+     * @since 5.33.0
+     */
+    public void setCompressionLevel( final int compressionLevel )
+    {
+        if( (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)
+            && compressionLevel != Deflater.DEFAULT_COMPRESSION ) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel + ".");
+        }
+        this.compressionLevel = compressionLevel;
+    }
 
-            try( GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream) ) {
-                gzipOutputStream.write(content);
-            }
-            catch( final IOException e ) {
-                throw new com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException(
-                    "Failed to write to GZIP-compressed stream.",
-                    e);
-            }
+    @Nonnull
+    private AbstractHttpEntity getBodyAsCompressedEntity( @Nonnull final String body )
+    {
+        // an UTF-8 encoded string has at least as many bytes as characters, so only short bodies need to be encoded
+        if( body.length() > compressionThreshold ) {
+            return new GzipStringEntity(body, compressionLevel);
+        }
 
-            entity = new ByteArrayEntity(outputStream.toByteArray());
-            entity.setContentEncoding("gzip");
+        final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        if( content.length > compressionThreshold ) {
+            return new GzipStringEntity(body, compressionLevel);
+        }
 
-            if( log.isInfoEnabled() ) {
-                log
-                    .info(
-                        "Compressed length of ERP request body: "
-                            + entity.getContentLength()
-                            + " bytes, was "
-                            + content.length
-                            + " bytes.");
-            }
-        } else {
-            entity = new ByteArrayEntity(content);
-            entity.setContentEncoding(StandardCharsets.UTF_8.toString());
+        final ByteArrayEntity entity = new ByteArrayEntity(content);
+        entity.setContentEncoding(StandardCharsets.UTF_8.toString());
 
-            if( log.isInfoEnabled() ) {
-                log.info("Length of ERP request body: " + entity.getContentLength() + " bytes.");
-            }
+        if( log.isDebugEnabled() ) {
+            log.debug("Length of ERP request body: " + entity.getContentLength() + " bytes.");
         }
-
         return entity;
     }
 
@@ -361,20 +369,34 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
         measurements.resetMeasurements();
         measurements.setBeginTotal(System.nanoTime());
 
+        final RequestTimingRecorder timing = startTiming(destination, request);
         try {
-            final SerializedRequest<RequestT> serializedRequest = serializeRequest(request, requestSerializer);
-            final String responseBody = execute(destination, serializedRequest);
-            return deserializeRequest(request, requestSerializer, responseBody);
+            final SerializedRequest<RequestT> serializedRequest = serializeRequest(request, requestSerializer, timing);
+            final String responseBody = execute(destination, serializedRequest, timing);
+            final RequestResultT result = deserializeRequest(request, requestSerializer, responseBody, timing);
+            timing.finish(false);
+            return result;
         }
         finally {
+            timing.finish(true);
             measurements.setEndTotal(System.nanoTime());
         }
     }
 
+    @Nonnull
+    private RequestTimingRecorder startTiming(
+        @Nonnull final HttpDestination destination,
+        @Nonnull final RequestT request )
+    {
+        final String destinationName = destination.get(DestinationProperty.NAME).getOrNull();
+        return RequestTimingRecorder.start(destinationName, request.getClass().getSimpleName());
+    }
+
     @Nonnull
     private SerializedRequest<RequestT> serializeRequest(
         @Nonnull final RequestT request,
-        @Nonnull final RequestSerializer<RequestT, RequestResultT> requestSerializer )
+        @Nonnull final RequestSerializer<RequestT, RequestResultT> requestSerializer,
+        @Nonnull final RequestTimingRecorder timing )
         throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException,
             DestinationNotFoundException,
             DestinationAccessException
@@ -386,6 +408,7 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
         finally {
             final long endBuildReq = System.nanoTime();
             measurements.addBuildRequestDuration(Duration.ofNanos(endBuildReq - beginBuildReq));
+            timing.recordSince(RequestTimingPhase.SERIALIZATION, beginBuildReq);
         }
     }
 
@@ -393,7 +416,8 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
     private RequestResultT deserializeRequest(
         @Nonnull final RequestT request,
         @Nonnull final RequestSerializer<RequestT, RequestResultT> requestSerializer,
-        @Nonnull final String responseBody )
+        @Nonnull final String responseBody,
+        @Nonnull final RequestTimingRecorder timing )
         throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException,
             DestinationNotFoundException,
             DestinationAccessException
@@ -407,6 +431,7 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
         finally {
             final long endParseResp = System.nanoTime();
             measurements.addParseResponseDuration(Duration.ofNanos(endParseResp - beginParseResp));
+            timing.recordSince(RequestTimingPhase.DESERIALIZATION, beginParseResp);
         }
     }
 
@@ -459,7 +484,6 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
         @Nonnull final RequestMethod requestMethod,
         @Nonnull final URI requestUri,
         @Nonnull final RequestBodyWithHeader bodyWithHeader )
-        throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException
     {
         final long beginBuildRequest = System.nanoTime();
         try {
@@ -563,6 +587,27 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
             com.sap.cloud.sdk.s4hana.connectivity.exception.RequestExecutionException,
             DestinationNotFoundException,
             DestinationAccessException
+    {
+        final RequestTimingRecorder timing = startTiming(destination, serializedRequest.getRequest());
+        try {
+            final String responseBody = execute(destination, serializedRequest, timing);
+            timing.finish(false);
+            return responseBody;
+        }
+        finally {
+            timing.finish(true);
+        }
+    }
+
+    @Nonnull
+    private String execute(
+        @Nonnull final HttpDestination destination,
+        @Nonnull final SerializedRequest<RequestT> serializedRequest,
+        @Nonnull final RequestTimingRecorder timing )
+        throws com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException,
+            com.sap.cloud.sdk.s4hana.connectivity.exception.RequestExecutionException,
+            DestinationNotFoundException,
+            DestinationAccessException
     {
         final RequestT request = serializedRequest.getRequest();
 
@@ -592,13 +637,21 @@ public class ErpHttpRequestExecutor<RequestT extends Request<RequestT, RequestRe
             }
 
             logReadAccessAttempt(request, destination);
+            final long beginFirstByte = System.nanoTime();
             response = httpClient.execute(uriRequest);
+            timing.recordSince(RequestTimingPhase.TIME_TO_FIRST_BYTE, beginFirstByte);
 
             for( final org.apache.http.Header header : response.getAllHeaders() ) {
                 responseHeaders.add(new Header(header.getName(), header.getValue()));
             }
 
+            if( response.getEntity() != null ) {
+                timing.recordResponseSize(response.getEntity().getContentLength());
+            }
+
+            final long beginBodyRead = System.nanoTime();
             responseBody = HttpEntityUtil.getResponseBody(response);
+            timing.recordSince(RequestTimingPhase.BODY_READ, beginBodyRead);
         }
         catch( final com.sap.cloud.sdk.s4hana.connectivity.exception.RequestSerializationException e ) {
             if( log.isDebugEnabled() ) {
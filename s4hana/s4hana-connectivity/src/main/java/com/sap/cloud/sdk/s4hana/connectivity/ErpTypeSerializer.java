@@ -24,6 +24,20 @@ import lombok.extern.slf4j.Slf4j;
 @Deprecated
 public class ErpTypeSerializer
 {
+    /**
+     * Converters of frequently occurring types, which share the instances created for equal ERP values. They are used
+     * if no converter is registered for the type.
+     */
+    private static final Map<Class<?>, com.sap.cloud.sdk.s4hana.serialization.ErpTypeConverter<?>> INTERNED_TYPES =
+        Map
+            .of(
+                com.sap.cloud.sdk.s4hana.serialization.SapClient.class,
+                com.sap.cloud.sdk.s4hana.serialization.SapClientConverter.INSTANCE,
+                com.sap.cloud.sdk.s4hana.serialization.DistributionChannel.class,
+                com.sap.cloud.sdk.s4hana.serialization.DistributionChannelConverter.INSTANCE,
+                com.sap.cloud.sdk.s4hana.serialization.MessageClass.class,
+                com.sap.cloud.sdk.s4hana.serialization.MessageClassConverter.INSTANCE);
+
     private final Map<Class<?>, com.sap.cloud.sdk.s4hana.serialization.ErpTypeConverter<?>> typeConverters =
         Maps.newIdentityHashMap();
 
@@ -112,7 +126,8 @@ public class ErpTypeSerializer
     @Nullable
     private <T> com.sap.cloud.sdk.s4hana.serialization.ErpTypeConverter<T> getTypeConverter( final Class<T> type )
     {
-        return (com.sap.cloud.sdk.s4hana.serialization.ErpTypeConverter<T>) typeConverters.get(type);
+        return (com.sap.cloud.sdk.s4hana.serialization.ErpTypeConverter<T>) typeConverters
+            .getOrDefault(type, INTERNED_TYPES.get(type));
     }
 
     /**
@@ -199,7 +214,8 @@ public class ErpTypeSerializer
             return converter.fromDomain(erpObject);
         } else {
             try {
-                final Constructor<T> stringConstructor = resultType.getConstructor(String.class);
+                final Constructor<T> stringConstructor =
+                    com.sap.cloud.sdk.s4hana.serialization.StringConstructors.getStringConstructor(resultType);
                 return ConvertedObject.of(stringConstructor.newInstance(erpObject));
             }
             catch( final
@@ -0,0 +1,161 @@
+package com.sap.cloud.sdk.s4hana.connectivity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP entity that encodes a string body as UTF-8 and GZIP compresses it while writing it to the connection. Neither
+ * the encoded nor the compressed body is held in memory as a whole, the body is sent with chunked transfer encoding.
+ * <p>
+ * The entity is repeatable, because every invocation of {@link #writeTo(OutputStream)} compresses the body again.
+ * Deflaters are pooled across all entities, as every deflater allocates native memory that is only released when the
+ * deflater is ended.
+ *
+ * @deprecated This module will be discontinued, along with its classes and methods.
+ */
+@Slf4j
+@Deprecated
+class GzipStringEntity extends AbstractHttpEntity
+{
+    private static final int MAX_POOLED_DEFLATERS = 16;
+    private static final int BUFFER_SIZE = 8192;
+
+    // magic number, compression method, flags, modification time, extra flags and OS as written by GZIPOutputStream
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private static final BlockingQueue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+
+    @Nonnull
+    private final String body;
+
+    private final int compressionLevel;
+
+    /**
+     * Creates a new entity for the given body.
+     *
+     * @param body
+     *            The body to compress.
+     * @param compressionLevel
+     *            The compression level of the deflater, between 0 and 9, or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    GzipStringEntity( @Nonnull final String body, final int compressionLevel )
+    {
+        this.body = body;
+        this.compressionLevel = compressionLevel;
+        setContentEncoding("gzip");
+        setChunked(true);
+    }
+
+    @Override
+    public void writeTo( @Nonnull final OutputStream outStream )
+        throws IOException
+    {
+        final Deflater deflater = borrowDeflater(compressionLevel);
+        try {
+            outStream.write(GZIP_HEADER);
+
+            final CRC32 checksum = new CRC32();
+            // neither stream is closed, as this would close the output stream of the connection
+            final DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outStream, deflater, BUFFER_SIZE);
+            final Writer writer =
+                new OutputStreamWriter(new CheckedOutputStream(deflaterStream, checksum), StandardCharsets.UTF_8);
+            writer.write(body);
+            writer.flush();
+            deflaterStream.finish();
+
+            writeIntLittleEndian(outStream, checksum.getValue());
+            writeIntLittleEndian(outStream, deflater.getBytesRead());
+            outStream.flush();
+
+            if( log.isDebugEnabled() ) {
+                log
+                    .debug(
+                        "Compressed length of ERP request body: {} bytes, was {} bytes.",
+                        GZIP_HEADER.length + deflater.getBytesWritten() + 8,
+                        deflater.getBytesRead());
+            }
+        }
+        finally {
+            releaseDeflater(deflater);
+        }
+    }
+
+    /**
+     * Compresses the body into memory. Only used by components that read the request body instead of writing it to
+     * the connection, e.g. for logging.
+     */
+    @Nonnull
+    @Override
+    public InputStream getContent()
+        throws IOException
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Override
+    public boolean isRepeatable()
+    {
+        return true;
+    }
+
+    @Override
+    public long getContentLength()
+    {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming()
+    {
+        return false;
+    }
+
+    private static void writeIntLittleEndian( @Nonnull final OutputStream outStream, final long value )
+        throws IOException
+    {
+        outStream.write((int) value & 0xff);
+        outStream.write((int) (value >> 8) & 0xff);
+        outStream.write((int) (value >> 16) & 0xff);
+        outStream.write((int) (value >> 24) & 0xff);
+    }
+
+    @Nonnull
+    private static Deflater borrowDeflater( final int compressionLevel )
+    {
+        final Deflater deflater = DEFLATER_POOL.poll();
+        if( deflater == null ) {
+            // raw deflate format, header and trailer are written by the entity
+            return new Deflater(compressionLevel, true);
+        }
+        deflater.setLevel(compressionLevel);
+        return deflater;
+    }
+
+    private static void releaseDeflater( @Nonnull final Deflater deflater )
+    {
+        deflater.reset();
+        if( !DEFLATER_POOL.offer(deflater) ) {
+            deflater.end();
+        }
+    }
+}
@@ -84,6 +84,28 @@ class ErpTypeSerializerTest
         assertThat(serializer.fromErp(TIME_STRING_ISO, LocalTime.class).get()).isEqualTo(TIME);
     }
 
+    @Test
+    void testFromErpSharesInstancesOfFrequentTypes()
+    {
+        final ErpTypeSerializer serializer = new ErpTypeSerializer();
+
+        final Class<com.sap.cloud.sdk.s4hana.serialization.SapClient> sapClient =
+            com.sap.cloud.sdk.s4hana.serialization.SapClient.class;
+
+        final Object first = serializer.fromErp("1", sapClient).get();
+        final Object second = serializer.fromErp("1", sapClient).get();
+
+        assertThat(first).isEqualTo(new com.sap.cloud.sdk.s4hana.serialization.SapClient("001"));
+        assertThat(second).isSameAs(first);
+        assertThat(serializer.fromErp("1234", sapClient).isNotConvertible()).isTrue();
+
+        // other types are still instantiated via their String constructor
+        assertThat(serializer.fromErp("foo", TestEntity.class).get()).isEqualTo(new TestEntity("foo"));
+        assertThat(serializer.fromErp("foo", TestEntity.class).get())
+            .isNotSameAs(serializer.fromErp("foo", TestEntity.class).get());
+        assertThat(serializer.fromErp("12345678901", TestEntity.class).isNotConvertible()).isTrue();
+    }
+
     @Test
     void testGsonSerialization()
     {
@@ -0,0 +1,74 @@
+package com.sap.cloud.sdk.s4hana.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+@Deprecated
+class GzipStringEntityTest
+{
+    private static final String BODY = "<soapenv:Envelope>\u00e4\u00f6\u00fc \u20ac</soapenv:Envelope>".repeat(500);
+
+    @Test
+    void testWriteTo()
+    {
+        final GzipStringEntity entity = new GzipStringEntity(BODY, Deflater.DEFAULT_COMPRESSION);
+
+        assertThat(entity.isChunked()).isTrue();
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(entity.isStreaming()).isFalse();
+        assertThat(entity.getContentLength()).isEqualTo(-1);
+        assertThat(entity.getContentEncoding().getValue()).isEqualTo("gzip");
+
+        // repeatable: every invocation writes the complete body, reusing the pooled deflater
+        final byte[] compressed = write(entity);
+        assertThat(compressed.length).isLessThan(BODY.length());
+        assertThat(decompress(compressed)).isEqualTo(BODY);
+        assertThat(decompress(write(entity))).isEqualTo(BODY);
+    }
+
+    @Test
+    void testWriteToWithCompressionLevels()
+    {
+        final byte[] uncompressed = write(new GzipStringEntity(BODY, Deflater.NO_COMPRESSION));
+        final byte[] compressed = write(new GzipStringEntity(BODY, Deflater.BEST_COMPRESSION));
+
+        assertThat(decompress(uncompressed)).isEqualTo(BODY);
+        assertThat(decompress(compressed)).isEqualTo(BODY);
+        assertThat(uncompressed.length).isGreaterThan(BODY.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(compressed.length).isLessThan(uncompressed.length);
+    }
+
+    @Test
+    @SneakyThrows
+    void testGetContent()
+    {
+        final GzipStringEntity entity = new GzipStringEntity("", Deflater.DEFAULT_COMPRESSION);
+
+        assertThat(decompress(entity.getContent().readAllBytes())).isEmpty();
+    }
+
+    @SneakyThrows
+    private static byte[] write( final GzipStringEntity entity )
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entity.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @SneakyThrows
+    private static String decompress( final byte[] compressed )
+    {
+        try( GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed)) ) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class DistributionChannelConverter extends AbstractErpTypeConverter<Distr
      */
     public static final DistributionChannelConverter INSTANCE = new DistributionChannelConverter();
 
+    private static final ErpTypeInterner<DistributionChannel> INSTANCES = new ErpTypeInterner<>(DistributionChannel::new);
+
     @Nonnull
     @Override
     public Class<DistributionChannel> getType()
@@ -35,6 +37,6 @@ public class DistributionChannelConverter extends AbstractErpTypeConverter<Distr
     @Override
     public ConvertedObject<DistributionChannel> fromDomainNonNull( @Nonnull final String domainObject )
     {
-        return ConvertedObject.of(new DistributionChannel(domainObject));
+        return ConvertedObject.of(INSTANCES.intern(domainObject));
     }
 }
@@ -0,0 +1,57 @@
+package com.sap.cloud.sdk.s4hana.serialization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Shares the instances of an immutable ERP type that are created for the same ERP value. This is used for types that
+ * are contained in almost every row of a result table, but only have a few distinct values, e.g. {@link SapClient}.
+ * <p>
+ * At most {@value #MAX_SIZE} instances are kept. Further values are converted without being shared.
+ *
+ * @param <T>
+ *            The ERP type.
+ * @deprecated This module will be discontinued, along with its classes and methods.
+ */
+@RequiredArgsConstructor
+@Deprecated
+final class ErpTypeInterner<T>
+{
+    static final int MAX_SIZE = 1024;
+
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+
+    @Nonnull
+    private final Function<String, T> factory;
+
+    /**
+     * Returns the shared instance for the given ERP value, creating it if necessary.
+     *
+     * @param value
+     *            The ERP value.
+     * @return The instance representing the given value.
+     * @throws IllegalArgumentException
+     *             If the value cannot be converted to the ERP type.
+     */
+    @Nonnull
+    T intern( @Nonnull final String value )
+        throws IllegalArgumentException
+    {
+        final T instance = instances.get(value);
+        if( instance != null ) {
+            return instance;
+        }
+
+        final T created = factory.apply(value);
+        if( instances.size() >= MAX_SIZE ) {
+            return created;
+        }
+        final T previous = instances.putIfAbsent(value, created);
+        return previous != null ? previous : created;
+    }
+}
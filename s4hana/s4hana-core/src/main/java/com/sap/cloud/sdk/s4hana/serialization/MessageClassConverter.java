@@ -17,6 +17,8 @@ public class MessageClassConverter extends AbstractErpTypeConverter<MessageClass
      */
     public static final MessageClassConverter INSTANCE = new MessageClassConverter();
 
+    private static final ErpTypeInterner<MessageClass> INSTANCES = new ErpTypeInterner<>(MessageClass::new);
+
     @Nonnull
     @Override
     public Class<MessageClass> getType()
@@ -35,6 +37,6 @@ public class MessageClassConverter extends AbstractErpTypeConverter<MessageClass
     @Override
     public ConvertedObject<MessageClass> fromDomainNonNull( @Nonnull final String domainObject )
     {
-        return ConvertedObject.of(new MessageClass(domainObject));
+        return ConvertedObject.of(INSTANCES.intern(domainObject));
     }
 }
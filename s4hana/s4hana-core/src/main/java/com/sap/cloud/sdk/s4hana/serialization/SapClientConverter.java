@@ -17,6 +17,8 @@ public class SapClientConverter extends AbstractErpTypeConverter<SapClient>
      */
     public static final SapClientConverter INSTANCE = new SapClientConverter();
 
+    private static final ErpTypeInterner<SapClient> INSTANCES = new ErpTypeInterner<>(SapClient::new);
+
     @Nonnull
     @Override
     public Class<SapClient> getType()
@@ -35,6 +37,6 @@ public class SapClientConverter extends AbstractErpTypeConverter<SapClient>
     @Override
     public ConvertedObject<SapClient> fromDomainNonNull( @Nonnull final String domainObject )
     {
-        return ConvertedObject.of(new SapClient(domainObject));
+        return ConvertedObject.of(INSTANCES.intern(domainObject));
     }
 }
@@ -53,7 +53,7 @@ public class StringBasedErpTypeConverter<T extends StringBasedErpType<T>> extend
 
         T object;
         try {
-            object = type.getConstructor(String.class).newInstance(domainObject);
+            object = StringConstructors.getStringConstructor(type).newInstance(domainObject);
 
             // if input is only filling characters -> null
             switch( object.getFillCharStrategy() ) {
@@ -0,0 +1,56 @@
+package com.sap.cloud.sdk.s4hana.serialization;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Caches the constructors of types which take a single {@link String} parameter, so that they are looked up only once
+ * per type when converting ERP values.
+ *
+ * @deprecated This module will be discontinued, along with its classes and methods.
+ * @since 5.33.0
+ */
+@NoArgsConstructor( access = AccessLevel.PRIVATE )
+@Deprecated
+public final class StringConstructors
+{
+    private static final ClassValue<Optional<Constructor<?>>> STRING_CONSTRUCTORS = new ClassValue<>()
+    {
+        @Override
+        protected Optional<Constructor<?>> computeValue( @Nonnull final Class<?> type )
+        {
+            try {
+                return Optional.of(type.getConstructor(String.class));
+            }
+            catch( final NoSuchMethodException | SecurityException e ) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Returns the public constructor of the given type which takes a single {@link String} parameter.
+     *
+     * @param type
+     *            The type to be instantiated.
+     * @param <T>
+     *            The type to be instantiated.
+     * @return The constructor taking a {@link String}.
+     * @throws NoSuchMethodException
+     *             If the type has no such constructor.
+     */
+    @SuppressWarnings( "unchecked" )
+    @Nonnull
+    public static <T> Constructor<T> getStringConstructor( @Nonnull final Class<T> type )
+        throws NoSuchMethodException
+    {
+        final Optional<Constructor<?>> constructor = STRING_CONSTRUCTORS.get(type);
+        // resolve the constructor again to throw the original exception
+        return constructor.isPresent() ? (Constructor<T>) constructor.get() : type.getConstructor(String.class);
+    }
+}